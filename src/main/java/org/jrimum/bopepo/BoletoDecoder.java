@@ -0,0 +1,579 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+import org.jrimum.vallia.CalculadorDeModulo;
+
+/**
+ * <p>
+ * Decodificação em lote de códigos de barras e linhas digitáveis (ex:
+ * recebimento de pagamentos digitados ou lidos por scanner).
+ * </p>
+ *
+ * <p>
+ * Cada entrada pode ser um código de barras (44 dígitos), uma linha
+ * digitável numérica (47 dígitos) ou formatada
+ * ({@code ddddd.ddddd ddddd.dddddd ddddd.dddddd d dddddddddddddd}), com
+ * espaços nas extremidades. Em uma única passagem, sem expressões regulares
+ * e sem criar strings, o formato e todos os dígitos verificadores (os três
+ * campos da linha digitável e o geral) são conferidos e os componentes são
+ * escritos em um {@link Resultado} formado por arrays primitivos, uma
+ * posição por entrada.
+ * </p>
+ *
+ * <p>
+ * Entradas inválidas não interrompem o lote: apenas recebem um código de
+ * erro ({@linkplain Resultado#getErro(int)}). O lote pode ser dividido entre
+ * as threads de um {@link ForkJoinPool}
+ * ({@linkplain #decodeParallel(CharSequence[], ForkJoinPool)}).
+ * </p>
+ *
+ * @see BoletoUtil
+ *
+ * @since 0.2
+ */
+public final class BoletoDecoder {
+
+    /**
+     * Entrada válida.
+     */
+    public static final byte OK = 0;
+
+    /**
+     * Entrada nula ou vazia.
+     */
+    public static final byte ERRO_VAZIO = 1;
+
+    /**
+     * Tamanho, separadores ou caracteres fora dos formatos aceitos.
+     */
+    public static final byte ERRO_FORMATO = 2;
+
+    /**
+     * Dígito verificador do primeiro campo da linha digitável inválido.
+     */
+    public static final byte ERRO_DV_CAMPO1 = 3;
+
+    /**
+     * Dígito verificador do segundo campo da linha digitável inválido.
+     */
+    public static final byte ERRO_DV_CAMPO2 = 4;
+
+    /**
+     * Dígito verificador do terceiro campo da linha digitável inválido.
+     */
+    public static final byte ERRO_DV_CAMPO3 = 5;
+
+    /**
+     * Dígito verificador geral (do código de barras) inválido.
+     */
+    public static final byte ERRO_DV_GERAL = 6;
+
+    /**
+     * Entrada no formato de código de barras.
+     */
+    public static final byte TIPO_CODIGO_DE_BARRAS = 1;
+
+    /**
+     * Entrada no formato de linha digitável numérica.
+     */
+    public static final byte TIPO_LINHA_NUMERICA = 2;
+
+    /**
+     * Entrada no formato de linha digitável formatada.
+     */
+    public static final byte TIPO_LINHA_FORMATADA = 3;
+
+    /**
+     * Tamanho do campo livre em {@linkplain Resultado#getCamposLivres()}.
+     */
+    public static final int TAMANHO_CAMPO_LIVRE = CodigoDeBarrasCodec.TAMANHO_CAMPO_LIVRE;
+
+    /**
+     * Quantidade de entradas a partir da qual uma tarefa do fork-join é
+     * dividida.
+     */
+    static final int LIMITE_TAREFA = 4096;
+
+    private static final int TAMANHO_CODIGO = CodigoDeBarrasCodec.TAMANHO_CODIGO_DE_BARRAS;
+
+    private static final int TAMANHO_LINHA_NUMERICA = 47;
+
+    private static final int TAMANHO_LINHA_FORMATADA = CodigoDeBarrasCodec.TAMANHO_LINHA_DIGITAVEL;
+
+    /**
+     * Posições dos separadores na linha formatada:
+     * {@code ddddd.ddddd ddddd.dddddd ddddd.dddddd d dddddddddddddd}.
+     */
+    private static final char[] SEPARADORES = new char[TAMANHO_LINHA_FORMATADA];
+
+    static {
+        SEPARADORES[5] = '.';
+        SEPARADORES[11] = ' ';
+        SEPARADORES[17] = '.';
+        SEPARADORES[24] = ' ';
+        SEPARADORES[30] = '.';
+        SEPARADORES[37] = ' ';
+        SEPARADORES[39] = ' ';
+    }
+
+    private static final CalculadorDeModulo MODULO10 = CalculadorDeModulo.MODULO10;
+
+    private static final CalculadorDeModulo MODULO11 = CalculadorDeModulo.MODULO11;
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private BoletoDecoder() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * Decodifica as entradas na thread atual.
+     *
+     * @param entradas Códigos de barras ou linhas digitáveis
+     * @return Resultado, na ordem das entradas
+     */
+    public static Resultado decode(CharSequence[] entradas) {
+
+        Objects.checkNotNull(entradas, "Entradas nulas!");
+
+        Resultado resultado = new Resultado(entradas.length);
+
+        new Decodificador(resultado).decode(entradas, 0, entradas.length);
+
+        return resultado;
+    }
+
+    /**
+     * Decodifica as entradas na thread atual.
+     *
+     * @param entradas Códigos de barras ou linhas digitáveis
+     * @return Resultado, na ordem das entradas
+     */
+    public static Resultado decode(List<? extends CharSequence> entradas) {
+
+        Objects.checkNotNull(entradas, "Entradas nulas!");
+
+        return decode(entradas.toArray(new CharSequence[entradas.size()]));
+    }
+
+    /**
+     * Decodifica as entradas do stream, em paralelo no
+     * {@linkplain ForkJoinPool#commonPool() pool comum} caso o stream seja
+     * paralelo.
+     *
+     * @param entradas Códigos de barras ou linhas digitáveis
+     * @return Resultado, na ordem do stream
+     */
+    public static Resultado decode(Stream<? extends CharSequence> entradas) {
+
+        Objects.checkNotNull(entradas, "Entradas nulas!");
+
+        boolean paralelo = entradas.isParallel();
+
+        CharSequence[] array = entradas.toArray(new IntFunction<CharSequence[]>() {
+
+            @Override
+            public CharSequence[] apply(int tamanho) {
+                return new CharSequence[tamanho];
+            }
+        });
+
+        return paralelo ? decodeParallel(array, ForkJoinPool.commonPool()) : decode(array);
+    }
+
+    /**
+     * Decodifica as entradas dividindo-as entre as threads do pool.
+     *
+     * @param entradas Códigos de barras ou linhas digitáveis
+     * @param pool Pool de execução
+     * @return Resultado, na ordem das entradas
+     */
+    public static Resultado decodeParallel(CharSequence[] entradas, ForkJoinPool pool) {
+
+        Objects.checkNotNull(entradas, "Entradas nulas!");
+        Objects.checkNotNull(pool, "Pool nulo!");
+
+        Resultado resultado = new Resultado(entradas.length);
+
+        pool.invoke(new Tarefa(resultado, entradas, 0, entradas.length));
+
+        return resultado;
+    }
+
+    /**
+     * Divide o intervalo ao meio até o {@linkplain #LIMITE_TAREFA limite}.
+     * Cada tarefa escreve apenas as posições do seu intervalo.
+     */
+    @SuppressWarnings("serial")
+    private static final class Tarefa extends RecursiveAction {
+
+        private final Resultado resultado;
+
+        private final CharSequence[] entradas;
+
+        private final int inicio;
+
+        private final int fim;
+
+        Tarefa(Resultado resultado, CharSequence[] entradas, int inicio, int fim) {
+            this.resultado = resultado;
+            this.entradas = entradas;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMITE_TAREFA) {
+                new Decodificador(resultado).decode(entradas, inicio, fim);
+            } else {
+                int meio = (inicio + fim) >>> 1;
+                invokeAll(new Tarefa(resultado, entradas, inicio, meio), new Tarefa(resultado, entradas, meio, fim));
+            }
+        }
+    }
+
+    /**
+     * Decodificação de um intervalo, com as áreas de trabalho reaproveitadas
+     * entre as entradas.
+     */
+    private static final class Decodificador {
+
+        private final Resultado resultado;
+
+        /**
+         * Dígitos da linha digitável, sem separadores.
+         */
+        private final char[] linha = new char[TAMANHO_LINHA_NUMERICA];
+
+        /**
+         * Dígitos do código de barras.
+         */
+        private final char[] codigo = new char[TAMANHO_CODIGO];
+
+        Decodificador(Resultado resultado) {
+            this.resultado = resultado;
+        }
+
+        void decode(CharSequence[] entradas, int inicio, int fim) {
+            for (int i = inicio; i < fim; i++) {
+                resultado.erro[i] = decode(entradas[i], i);
+            }
+        }
+
+        private byte decode(CharSequence entrada, int i) {
+
+            if (entrada == null) {
+                return ERRO_VAZIO;
+            }
+
+            int inicio = 0;
+            int fim = entrada.length();
+
+            while (inicio < fim && Character.isWhitespace(entrada.charAt(inicio))) {
+                inicio++;
+            }
+            while (fim > inicio && Character.isWhitespace(entrada.charAt(fim - 1))) {
+                fim--;
+            }
+
+            byte erro;
+
+            switch (fim - inicio) {
+
+                case 0:
+                    return ERRO_VAZIO;
+
+                case TAMANHO_CODIGO:
+                    resultado.tipo[i] = TIPO_CODIGO_DE_BARRAS;
+                    if (!digitos(entrada, inicio, codigo)) {
+                        return ERRO_FORMATO;
+                    }
+                    break;
+
+                case TAMANHO_LINHA_NUMERICA:
+                    resultado.tipo[i] = TIPO_LINHA_NUMERICA;
+                    if (!digitos(entrada, inicio, linha)) {
+                        return ERRO_FORMATO;
+                    }
+                    erro = linha();
+                    if (erro != OK) {
+                        return erro;
+                    }
+                    break;
+
+                case TAMANHO_LINHA_FORMATADA:
+                    resultado.tipo[i] = TIPO_LINHA_FORMATADA;
+                    if (!formatada(entrada, inicio)) {
+                        return ERRO_FORMATO;
+                    }
+                    erro = linha();
+                    if (erro != OK) {
+                        return erro;
+                    }
+                    break;
+
+                default:
+                    return ERRO_FORMATO;
+            }
+
+            int soma = MODULO11.soma(codigo, 5, TAMANHO_CODIGO, 0) + MODULO11.soma(codigo, 0, 4, TAMANHO_CODIGO - 5);
+            int resto = soma % 11;
+            int dv = resto == 0 || resto == 1 || resto == 10 ? 1 : 11 - resto;
+
+            if (codigo[4] - '0' != dv) {
+                return ERRO_DV_GERAL;
+            }
+
+            resultado.banco[i] = (int) numero(codigo, 0, 3);
+            resultado.moeda[i] = codigo[3] - '0';
+            resultado.fator[i] = (int) numero(codigo, 5, 9);
+            resultado.valor[i] = numero(codigo, 9, 19);
+            System.arraycopy(codigo, 19, resultado.camposLivres, i * TAMANHO_CAMPO_LIVRE, TAMANHO_CAMPO_LIVRE);
+
+            return OK;
+        }
+
+        /**
+         * Confere os dígitos dos três primeiros campos e monta o código de
+         * barras a partir da linha.
+         */
+        private byte linha() {
+
+            if (dvModulo10(0, 9) != linha[9] - '0') {
+                return ERRO_DV_CAMPO1;
+            }
+            if (dvModulo10(10, 20) != linha[20] - '0') {
+                return ERRO_DV_CAMPO2;
+            }
+            if (dvModulo10(21, 31) != linha[31] - '0') {
+                return ERRO_DV_CAMPO3;
+            }
+
+            // banco e moeda, DV geral, fator e valor, campo livre
+            System.arraycopy(linha, 0, codigo, 0, 4);
+            codigo[4] = linha[32];
+            System.arraycopy(linha, 33, codigo, 5, 14);
+            System.arraycopy(linha, 4, codigo, 19, 5);
+            System.arraycopy(linha, 10, codigo, 24, 10);
+            System.arraycopy(linha, 21, codigo, 34, 10);
+
+            return OK;
+        }
+
+        private int dvModulo10(int inicio, int fim) {
+            int resto = MODULO10.soma(linha, inicio, fim, 0) % 10;
+            return resto == 0 ? 0 : 10 - resto;
+        }
+
+        /**
+         * Copia os dígitos da linha formatada, conferindo os separadores.
+         */
+        private boolean formatada(CharSequence entrada, int inicio) {
+
+            int j = 0;
+
+            for (int k = 0; k < TAMANHO_LINHA_FORMATADA; k++) {
+                char c = entrada.charAt(inicio + k);
+                if (SEPARADORES[k] != 0) {
+                    if (c != SEPARADORES[k]) {
+                        return false;
+                    }
+                } else if (c >= '0' && c <= '9') {
+                    linha[j++] = c;
+                } else {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static boolean digitos(CharSequence entrada, int inicio, char[] destino) {
+            for (int k = 0; k < destino.length; k++) {
+                char c = entrada.charAt(inicio + k);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+                destino[k] = c;
+            }
+            return true;
+        }
+
+        private static long numero(char[] digitos, int inicio, int fim) {
+            long numero = 0;
+            for (int k = inicio; k < fim; k++) {
+                numero = numero * 10 + (digitos[k] - '0');
+            }
+            return numero;
+        }
+    }
+
+    /**
+     * <p>
+     * Resultado de uma decodificação em lote, em arrays primitivos com uma
+     * posição por entrada. Os componentes só são preenchidos nas posições sem
+     * erro.
+     * </p>
+     *
+     * <p>
+     * Os campos livres ficam em sequência em um único {@code char[]}, o da
+     * entrada {@code i} a partir de {@linkplain #getCampoLivreOffset(int)}.
+     * </p>
+     */
+    public static final class Resultado {
+
+        private final byte[] erro;
+
+        private final byte[] tipo;
+
+        private final int[] banco;
+
+        private final int[] moeda;
+
+        private final int[] fator;
+
+        private final long[] valor;
+
+        private final char[] camposLivres;
+
+        Resultado(int tamanho) {
+            this.erro = new byte[tamanho];
+            this.tipo = new byte[tamanho];
+            this.banco = new int[tamanho];
+            this.moeda = new int[tamanho];
+            this.fator = new int[tamanho];
+            this.valor = new long[tamanho];
+            this.camposLivres = new char[tamanho * TAMANHO_CAMPO_LIVRE];
+        }
+
+        /**
+         * @return Quantidade de entradas
+         */
+        public int size() {
+            return erro.length;
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return {@link BoletoDecoder#OK} ou o código do erro
+         */
+        public byte getErro(int i) {
+            return erro[i];
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Indica se a entrada é válida
+         */
+        public boolean isValido(int i) {
+            return erro[i] == OK;
+        }
+
+        /**
+         * @return Quantidade de entradas válidas
+         */
+        public int getQuantidadeDeValidos() {
+            int validos = 0;
+            for (byte e : erro) {
+                if (e == OK) {
+                    validos++;
+                }
+            }
+            return validos;
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Formato da entrada ({@code TIPO_*}) ou zero caso não
+         * reconhecido
+         */
+        public byte getTipo(int i) {
+            return tipo[i];
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Código de compensação do banco
+         */
+        public int getBanco(int i) {
+            return banco[i];
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Código da moeda
+         */
+        public int getMoeda(int i) {
+            return moeda[i];
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Fator de vencimento
+         * @see FatorDeVencimento#toDate(int)
+         */
+        public int getFator(int i) {
+            return fator[i];
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Valor do título em centavos
+         */
+        public long getValorEmCentavos(int i) {
+            return valor[i];
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Posição inicial do campo livre da entrada em
+         * {@linkplain #getCamposLivres()}
+         */
+        public int getCampoLivreOffset(int i) {
+            return i * TAMANHO_CAMPO_LIVRE;
+        }
+
+        /**
+         * @return Campos livres de todas as entradas, em sequência (array
+         * interno, não deve ser alterado)
+         */
+        public char[] getCamposLivres() {
+            return camposLivres;
+        }
+
+        /**
+         * @param i Posição da entrada
+         * @return Campo livre da entrada
+         */
+        public String getCampoLivre(int i) {
+            return new String(camposLivres, getCampoLivreOffset(i), TAMANHO_CAMPO_LIVRE);
+        }
+    }
+}
@@ -31,7 +31,6 @@ package org.jrimum.bopepo;
 import java.math.BigDecimal;
 import java.util.Date;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.campolivre.CampoLivre;
 import org.jrimum.domkee.banco.ContaBancaria;
@@ -41,7 +40,6 @@ import org.jrimum.texgit.Fillers;
 import org.jrimum.texgit.FixedField;
 import org.jrimum.utilix.Objects;
 import org.jrimum.utilix.DecimalFormat;
-import org.jrimum.vallia.BoletoCodigoDeBarrasDV;
 
 /**
  * <p>
@@ -132,6 +130,13 @@ public class CodigoDeBarras extends BlockOfFields {
      */
     private static final Integer STRING_LENGTH = 44;
 
+    /**
+     * Código de barras composto por {@link CodigoDeBarrasCodec} ou
+     * {@code null} caso algum campo tenha sido substituído, quando então é
+     * escrito pelos campos.
+     */
+    private String codigo;
+
     /**
      * Código do Banco.
      */
@@ -167,11 +172,21 @@ public class CodigoDeBarras extends BlockOfFields {
      */
     private FixedField<String> campoLivre;
 
+    /**
+     * Valor do título usado na composição, mantido para os campos.
+     */
+    private final BigDecimal valor;
+
     /**
      * <p>
      * Cria um Código de Barras a partir do título e campo livre passados.
      * </p>
      *
+     * <p>
+     * O código é composto diretamente por {@link CodigoDeBarrasCodec}; os
+     * campos ({@link FixedField}) só são criados caso sejam acessados.
+     * </p>
+     *
      * @param titulo
      * @param campoLivre
      *
@@ -191,92 +206,91 @@ public class CodigoDeBarras extends BlockOfFields {
             log.debug("campoLivre instance : " + campoLivre);
         }
 
-        codigoDoBanco = new FixedField<String>("0", 3, Fillers.ZERO_LEFT);
-        codigoDaMoeda = new FixedField<Integer>(0, 1, Fillers.ZERO_LEFT);
-        digitoVerificadorGeral = new FixedField<Integer>(0, 1, Fillers.ZERO_LEFT);
-        fatorDeVencimento = new FixedField<Integer>(0, 4, Fillers.ZERO_LEFT);
-        valorNominalDoTitulo = new FixedField<BigDecimal>(new BigDecimal(0), 10, DecimalFormat.NUMBER_DD_BR.copy(), Fillers.ZERO_LEFT);
-        this.campoLivre = new FixedField<String>(StringUtils.EMPTY, 25);
+        ContaBancaria contaBancaria = titulo.getContaBancaria();
+        this.valor = titulo.getValor();
 
-        add(codigoDoBanco);
-        add(codigoDaMoeda);
-        add(digitoVerificadorGeral);
-        add(fatorDeVencimento);
-        add(valorNominalDoTitulo);
-        add(this.campoLivre);
+        char[] destino = new char[CodigoDeBarrasCodec.TAMANHO_CODIGO_DE_BARRAS];
 
-        ContaBancaria contaBancaria = titulo.getContaBancaria();
-        this.codigoDoBanco.setValue(contaBancaria.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado());
-        this.codigoDaMoeda.setValue(titulo.getTipoDeMoeda().getCodigo());
-        this.calculateAndSetFatorDeVencimento(titulo.getDataDoVencimento());
-        this.valorNominalDoTitulo.setValue(titulo.getValor());
-        this.campoLivre.setValue(campoLivre.write());
-        this.calculateAndSetDigitoVerificadorGeral();
+        CodigoDeBarrasCodec.codigoDeBarras(destino,
+                contaBancaria.getBanco().getCodigoDeCompensacaoBACEN().getCodigo(),
+                titulo.getTipoDeMoeda().getCodigo(),
+                FatorDeVencimento.toFator(titulo.getDataDoVencimento()),
+                CodigoDeBarrasCodec.centavos(valor),
+                campoLivre.write());
+
+        this.codigo = new String(destino);
 
         if (log.isDebugEnabled() || log.isTraceEnabled()) {
-            log.debug("codigoDeBarra instanciado : " + this);
+            log.debug("codigoDeBarra instanciado : " + codigo);
         }
     }
 
-    private void calculateAndSetDigitoVerificadorGeral() {
-
-        if (log.isTraceEnabled()) {
-            log.trace("Calculando Digito Verificador Geral");
+    /**
+     * Escreve o código de barras com 44 dígitos.
+     *
+     * @see org.jrimum.texgit.BlockOfFields#write()
+     */
+    @Override
+    public String write() {
+        if (Objects.isNotNull(codigo)) {
+            return codigo;
         }
+        return super.write();
+    }
 
-        // Instanciando o objeto irá calcular o dígito verificador do boleto.
-        BoletoCodigoDeBarrasDV calculadorDV = new BoletoCodigoDeBarrasDV();
-
-        // Preparando o conjunto de informações que será a base para o cálculo
-        // do dígito verificador, conforme normas da FEBRABAN.
-        StringBuilder toCalculateDV = new StringBuilder(codigoDoBanco.write())
-                .append(codigoDaMoeda.write())
-                .append(fatorDeVencimento.write())
-                .append(valorNominalDoTitulo.write())
-                .append(campoLivre.write());
+    /**
+     * Lê os campos, que passam a compor o código.
+     *
+     * @see org.jrimum.texgit.BlockOfFields#read(String)
+     */
+    @Override
+    public void read(String lineOfFields) {
+        campos();
+        super.read(lineOfFields);
+    }
 
-        // Realizando o cálculo dígito verificador e em seguida armazenando 
-        // a informação no campo "digitoVerificadorGeral".
-        digitoVerificadorGeral.setValue(
-                calculadorDV.calcule(toCalculateDV.toString())
-        );
+    /**
+     * Cria os campos a partir do código composto, uma única vez. Como os
+     * campos podem ser alterados por quem os obtém, a partir daí o código
+     * passa a ser escrito por eles.
+     */
+    private void campos() {
 
-        if (log.isDebugEnabled()) {
-            log.debug("Digito Verificador Geral calculado : "
-                    + digitoVerificadorGeral.getValue());
+        if (Objects.isNotNull(codigoDoBanco)) {
+            return;
         }
+
+        codigoDoBanco = new FixedField<String>(codigo.substring(0, 3), 3, Fillers.ZERO_LEFT);
+        codigoDaMoeda = new FixedField<Integer>(codigo.charAt(3) - '0', 1, Fillers.ZERO_LEFT);
+        digitoVerificadorGeral = new FixedField<Integer>(codigo.charAt(CodigoDeBarrasCodec.POSICAO_DV) - '0', 1, Fillers.ZERO_LEFT);
+        fatorDeVencimento = new FixedField<Integer>(Integer.valueOf(codigo.substring(5, 9)), 4, Fillers.ZERO_LEFT);
+        valorNominalDoTitulo = new FixedField<BigDecimal>(valor, 10, DecimalFormat.NUMBER_DD_BR.copy(), Fillers.ZERO_LEFT);
+        campoLivre = new FixedField<String>(codigo.substring(19), 25);
+
+        add(codigoDoBanco);
+        add(codigoDaMoeda);
+        add(digitoVerificadorGeral);
+        add(fatorDeVencimento);
+        add(valorNominalDoTitulo);
+        add(campoLivre);
+
+        codigo = null;
     }
 
     /**
-     * <p>
-     * Representa a quantidade de dias decorridos da data base à data de
-     * vencimento do título.
-     * </p>
-     * <p>
-     * É o resultado da subtração entre a data do vencimento do título e a DATA
-     * BASE, fixada em 07.10.1997 (03.07.2000 retrocedidos 1000 dias do in�cio
-     * do processo).
-     * </p>
-     * <p>
-     * Os bloquetos de cobrança emitidos a partir de primeiro de setembro de
-     * 2000 devem conter essas características, para que quando forem capturados
-     * pela rede bancária, os sistemas façam a operação inversa, ou seja,
-     * adicionar à data base o fator de vencimento capturado, obtendo, dessa
-     * forma, a data do vencimento do bloqueto.
-     * </p>
-     *
-     * @param vencimento
+     * Substitui o campo na posição do bloco.
      */
-    private void calculateAndSetFatorDeVencimento(Date vencimento) {
-
-        fatorDeVencimento.setValue(
-                FatorDeVencimento.toFator(vencimento));
+    private <G> FixedField<G> substitua(int posicao, FixedField<G> campo) {
+        campos();
+        set(posicao, campo);
+        return campo;
     }
 
     /**
      * @return the codigoDoBanco
      */
     FixedField<String> getCodigoDoBanco() {
+        campos();
         return codigoDoBanco;
     }
 
@@ -284,13 +298,14 @@ public class CodigoDeBarras extends BlockOfFields {
      * @param codigoDoBanco the codigoDoBanco to set
      */
     void setCodigoDoBanco(FixedField<String> codigoDoBanco) {
-        this.codigoDoBanco = codigoDoBanco;
+        this.codigoDoBanco = substitua(0, codigoDoBanco);
     }
 
     /**
      * @return the codigoDaMoeda
      */
     FixedField<Integer> getCodigoDaMoeda() {
+        campos();
         return codigoDaMoeda;
     }
 
@@ -298,13 +313,14 @@ public class CodigoDeBarras extends BlockOfFields {
      * @param codigoDaMoeda the codigoDaMoeda to set
      */
     void setCodigoDaMoeda(FixedField<Integer> codigoDaMoeda) {
-        this.codigoDaMoeda = codigoDaMoeda;
+        this.codigoDaMoeda = substitua(1, codigoDaMoeda);
     }
 
     /**
      * @return the digitoVerificadorGeral
      */
     FixedField<Integer> getDigitoVerificadorGeral() {
+        campos();
         return digitoVerificadorGeral;
     }
 
@@ -312,13 +328,14 @@ public class CodigoDeBarras extends BlockOfFields {
      * @param digitoVerificadorGeral the digitoVerificadorGeral to set
      */
     void setDigitoVerificadorGeral(FixedField<Integer> digitoVerificadorGeral) {
-        this.digitoVerificadorGeral = digitoVerificadorGeral;
+        this.digitoVerificadorGeral = substitua(2, digitoVerificadorGeral);
     }
 
     /**
      * @return the fatorDeVencimento
      */
     FixedField<Integer> getFatorDeVencimento() {
+        campos();
         return fatorDeVencimento;
     }
 
@@ -326,13 +343,14 @@ public class CodigoDeBarras extends BlockOfFields {
      * @param fatorDeVencimento the fatorDeVencimento to set
      */
     void setFatorDeVencimento(FixedField<Integer> fatorDeVencimento) {
-        this.fatorDeVencimento = fatorDeVencimento;
+        this.fatorDeVencimento = substitua(3, fatorDeVencimento);
     }
 
     /**
      * @return the valorNominalDoTitulo
      */
     FixedField<BigDecimal> getValorNominalDoTitulo() {
+        campos();
         return valorNominalDoTitulo;
     }
 
@@ -340,13 +358,14 @@ public class CodigoDeBarras extends BlockOfFields {
      * @param valorNominalDoTitulo the valorNominalDoTitulo to set
      */
     void setValorNominalDoTitulo(FixedField<BigDecimal> valorNominalDoTitulo) {
-        this.valorNominalDoTitulo = valorNominalDoTitulo;
+        this.valorNominalDoTitulo = substitua(4, valorNominalDoTitulo);
     }
 
     /**
      * @return the campoLivre
      */
     FixedField<String> getCampoLivre() {
+        campos();
         return campoLivre;
     }
 
@@ -354,7 +373,7 @@ public class CodigoDeBarras extends BlockOfFields {
      * @param campoLivre the campoLivre to set
      */
     void setCampoLivre(FixedField<String> campoLivre) {
-        this.campoLivre = campoLivre;
+        this.campoLivre = substitua(5, campoLivre);
     }
 
     @Override
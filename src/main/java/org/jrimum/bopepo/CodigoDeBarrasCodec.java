@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+import org.jrimum.vallia.CalculadorDeModulo;
+
+/**
+ * Composição do código de barras (44 dígitos) e da linha digitável (47
+ * dígitos, 54 caracteres com a formatação) do boleto diretamente a partir de
+ * valores primitivos, sem objetos intermediários.
+ *
+ * <p>
+ * O código de barras é escrito em um {@code char[]} e a linha digitável em um
+ * {@link StringBuilder}, ambos fornecidos (e reaproveitáveis) por quem chama.
+ * Os dígitos verificadores são os mesmos de
+ * {@link org.jrimum.vallia.BoletoCodigoDeBarrasDV} (módulo 11, pesos 2 a 9)
+ * e {@link org.jrimum.vallia.BoletoLinhaDigitavelDV} (módulo 10, pesos 2 e
+ * 1), calculados por {@link CalculadorDeModulo} sobre os próprios
+ * caracteres.
+ * </p>
+ *
+ * <p>
+ * Usado por {@link CodigoDeBarras} e {@link LinhaDigitavel}.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class CodigoDeBarrasCodec {
+
+    /**
+     * Tamanho do código de barras.
+     */
+    public static final int TAMANHO_CODIGO_DE_BARRAS = 44;
+
+    /**
+     * Tamanho da linha digitável formatada, ex:
+     * {@code 23791.23405 51234.567892 01000.678902 2 10000000010023}.
+     */
+    public static final int TAMANHO_LINHA_DIGITAVEL = 54;
+
+    /**
+     * Tamanho do campo livre.
+     */
+    public static final int TAMANHO_CAMPO_LIVRE = 25;
+
+    /**
+     * Posição do dígito verificador geral no código de barras.
+     */
+    static final int POSICAO_DV = 4;
+
+    private static final long MAX_VALOR = 9999999999L;
+
+    private static final CalculadorDeModulo MODULO10 = CalculadorDeModulo.MODULO10;
+
+    private static final CalculadorDeModulo MODULO11 = CalculadorDeModulo.MODULO11;
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private CodigoDeBarrasCodec() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * Escreve o código de barras, com o dígito verificador geral, nas 44
+     * primeiras posições do destino.
+     *
+     * @param destino Destino com pelo menos 44 posições
+     * @param banco Código de compensação do banco (0 a 999)
+     * @param moeda Código da moeda (0 a 9)
+     * @param fator Fator de vencimento (0 a 9999)
+     * @param valorEmCentavos Valor do título em centavos (até 10 dígitos)
+     * @param campoLivre Campo livre com 25 dígitos
+     *
+     * @throws IllegalArgumentException Caso algum valor esteja fora do
+     * intervalo permitido
+     */
+    public static void codigoDeBarras(char[] destino, int banco, int moeda, int fator, long valorEmCentavos, CharSequence campoLivre) {
+
+        Objects.checkNotNull(destino, "Destino nulo!");
+        Objects.checkArgument(destino.length >= TAMANHO_CODIGO_DE_BARRAS, "O destino deve ter pelo menos 44 posições!");
+        Objects.checkArgument(banco >= 0 && banco <= 999, "Código do banco inválido!");
+        Objects.checkArgument(moeda >= 0 && moeda <= 9, "Código da moeda inválido!");
+        Objects.checkArgument(fator >= 0 && fator <= 9999, "Fator de vencimento inválido!");
+        Objects.checkArgument(valorEmCentavos >= 0 && valorEmCentavos <= MAX_VALOR, "Valor do título inválido!");
+        Objects.checkNotNull(campoLivre, "Campo livre nulo!");
+        Objects.checkArgument(campoLivre.length() == TAMANHO_CAMPO_LIVRE, "O campo livre deve ter 25 dígitos!");
+
+        digitos(destino, 0, banco, 3);
+        destino[3] = (char) ('0' + moeda);
+        digitos(destino, 5, fator, 4);
+        digitos(destino, 9, valorEmCentavos, 10);
+
+        for (int i = 0; i < TAMANHO_CAMPO_LIVRE; i++) {
+            char c = campoLivre.charAt(i);
+            Objects.checkArgument(c >= '0' && c <= '9', "O campo livre deve conter apenas números!");
+            destino[19 + i] = c;
+        }
+
+        int soma = MODULO11.soma(destino, POSICAO_DV + 1, TAMANHO_CODIGO_DE_BARRAS, 0)
+                + MODULO11.soma(destino, 0, POSICAO_DV, TAMANHO_CODIGO_DE_BARRAS - POSICAO_DV - 1);
+
+        destino[POSICAO_DV] = (char) ('0' + dvModulo11(soma));
+    }
+
+    /**
+     * Calcula o dígito verificador geral de um código de barras com 44
+     * dígitos, ignorando a posição do próprio dígito (5ª).
+     *
+     * @param codigo Código de barras
+     * @return Dígito verificador (1 a 9)
+     */
+    public static int digitoVerificador(CharSequence codigo) {
+
+        checkCodigo(codigo);
+
+        int soma = MODULO11.soma(codigo, POSICAO_DV + 1, TAMANHO_CODIGO_DE_BARRAS, 0)
+                + MODULO11.soma(codigo, 0, POSICAO_DV, TAMANHO_CODIGO_DE_BARRAS - POSICAO_DV - 1);
+
+        return dvModulo11(soma);
+    }
+
+    /**
+     * Acrescenta ao destino a linha digitável formatada (54 caracteres)
+     * correspondente ao código de barras.
+     *
+     * @param codigo Código de barras com 44 dígitos
+     * @param destino Destino da linha digitável
+     * @return O próprio destino
+     */
+    public static StringBuilder linhaDigitavel(CharSequence codigo, StringBuilder destino) {
+
+        checkCodigo(codigo);
+        Objects.checkNotNull(destino, "Destino nulo!");
+
+        destino.ensureCapacity(destino.length() + TAMANHO_LINHA_DIGITAVEL);
+
+        // Campo 1: banco, moeda e posições 20 a 24 do código.
+        int inicio = destino.length();
+        destino.append(codigo, 0, 4).append(codigo, 19, 24);
+        destino.append((char) ('0' + dvModulo10(destino, inicio)));
+        destino.insert(inicio + 5, '.').append(' ');
+
+        // Campos 2 e 3: posições 25 a 34 e 35 a 44.
+        campo(codigo, 24, destino);
+        campo(codigo, 34, destino);
+
+        // Campo 4: dígito verificador geral.
+        destino.append(codigo.charAt(POSICAO_DV)).append(' ');
+
+        // Campo 5: fator de vencimento e valor.
+        destino.append(codigo, 5, 19);
+
+        return destino;
+    }
+
+    /**
+     * @param codigo Código de barras com 44 dígitos
+     * @return Linha digitável formatada
+     */
+    public static String linhaDigitavel(CharSequence codigo) {
+        return linhaDigitavel(codigo, new StringBuilder(TAMANHO_LINHA_DIGITAVEL)).toString();
+    }
+
+    /**
+     * @param valor Valor do título
+     * @return Valor em centavos, truncando casas decimais além da segunda
+     * como {@code Titulo.setValor}
+     */
+    public static long centavos(BigDecimal valor) {
+        Objects.checkNotNull(valor, "Valor nulo!");
+        return valor.setScale(2, RoundingMode.DOWN).unscaledValue().longValue();
+    }
+
+    private static void campo(CharSequence codigo, int inicio, StringBuilder destino) {
+        int posicao = destino.length();
+        destino.append(codigo, inicio, inicio + 10);
+        destino.append((char) ('0' + dvModulo10(destino, posicao)));
+        destino.insert(posicao + 5, '.').append(' ');
+    }
+
+    /**
+     * Módulo 10 dos dígitos do destino a partir da posição informada, com
+     * pesos 2 e 1 da direita para a esquerda.
+     */
+    private static int dvModulo10(StringBuilder digitos, int inicio) {
+
+        int resto = MODULO10.soma(digitos, inicio, digitos.length()) % 10;
+
+        return resto == 0 ? 0 : 10 - resto;
+    }
+
+    /**
+     * Segundo a FEBRABAN, restos 0, 1 e 10 resultam no dígito 1.
+     */
+    private static int dvModulo11(int soma) {
+        int resto = soma % 11;
+        return resto == 0 || resto == 1 || resto == 10 ? 1 : 11 - resto;
+    }
+
+    private static void digitos(char[] destino, int inicio, long valor, int tamanho) {
+        for (int i = inicio + tamanho - 1; i >= inicio; i--) {
+            destino[i] = (char) ('0' + (int) (valor % 10));
+            valor /= 10;
+        }
+    }
+
+    private static void checkCodigo(CharSequence codigo) {
+        Objects.checkNotNull(codigo, "Código de barras nulo!");
+        Objects.checkArgument(codigo.length() == TAMANHO_CODIGO_DE_BARRAS, "O código de barras deve ter 44 dígitos!");
+        for (int i = 0; i < TAMANHO_CODIGO_DE_BARRAS; i++) {
+            char c = codigo.charAt(i);
+            Objects.checkArgument(c >= '0' && c <= '9', "O código de barras deve conter apenas números!");
+        }
+    }
+}
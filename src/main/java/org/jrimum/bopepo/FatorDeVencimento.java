@@ -29,17 +29,18 @@
 package org.jrimum.bopepo;
 
 import static java.lang.String.format;
-import java.util.ArrayList;
 import static org.jrimum.utilix.Objects.isNull;
 import static org.jrimum.utilix.DateFormat.DDMMYYYY_B;
 
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.IsoChronology;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.TimeZone;
 
 import org.apache.commons.lang3.time.DateUtils;
-import org.jrimum.utilix.Dates;
 import org.jrimum.utilix.Exceptions;
 
 /**
@@ -48,6 +49,16 @@ import org.jrimum.utilix.Exceptions;
  * de vencimento de boletos.</code>
  * </p>
  *
+ * <p>
+ * As datas são tratadas como dias desde 01/01/1970 ({@linkplain
+ * LocalDate#toEpochDay() epoch day}) e as conversões entre o fator e a data
+ * são consultas a tabelas montadas uma única vez para todo o intervalo
+ * suportado (07/10/1997 a 21/02/2200). O cálculo do fator a partir de
+ * {@link LocalDate} ou de ano, mês e dia e a conversão do fator em
+ * {@code yyyyMMdd} não criam objetos; os métodos com {@link Date} são
+ * adaptadores que usam o fuso horário padrão, como antes.
+ * </p>
+ *
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L</a>
  * @author <a href="mailto:misaelbarreto@gmail.com">Misael Barreto</a>
  * @author <a href="mailto:romulomail@gmail.com">Rômulo Augusto</a>
@@ -66,7 +77,15 @@ public class FatorDeVencimento {
      * FEBRABAN.
      * </p>
      */
-    private static final Calendar BASE_DO_FATOR_DE_VENCIMENTO = new GregorianCalendar(1997, Calendar.OCTOBER, 7);
+    private static final LocalDate BASE_DO_FATOR_DE_VENCIMENTO = LocalDate.of(1997, 10, 7);
+
+    /**
+     * <p>
+     * Data máxima alcançada pelo fator de vencimento com base fixada em
+     * 21/02/2200. Anteriormente era 21/02/2025.
+     * </p>
+     */
+    private static final LocalDate LIMITE_DO_FATOR_DE_VENCIMENTO = LocalDate.of(2200, 2, 21);
 
     /**
      * <p>
@@ -74,7 +93,7 @@ public class FatorDeVencimento {
      * FEBRABAN.
      * </p>
      */
-    private static final Date DATA_BASE_DO_FATOR_DE_VENCIMENTO = BASE_DO_FATOR_DE_VENCIMENTO.getTime();
+    private static final Date DATA_BASE_DO_FATOR_DE_VENCIMENTO = toDate(BASE_DO_FATOR_DE_VENCIMENTO);
 
     /**
      * <p>
@@ -82,7 +101,7 @@ public class FatorDeVencimento {
      * 21/02/2200. Anteriormente era 21/02/2025.
      * </p>
      */
-    private static final Date DATA_LIMITE_DO_FATOR_DE_VENCIMENTO = new GregorianCalendar(2200, Calendar.FEBRUARY, 21).getTime();
+    private static final Date DATA_LIMITE_DO_FATOR_DE_VENCIMENTO = toDate(LIMITE_DO_FATOR_DE_VENCIMENTO);
 
     /**
      * <p>
@@ -100,7 +119,83 @@ public class FatorDeVencimento {
      */
     private static final int NUMERO_LIMITE_MAXIMO_DO_FATOR_DE_VENCIMENTO = 9999;
 
-   
+    /**
+     * <p>
+     * Dia (epoch day) da data base.
+     * </p>
+     */
+    private static final long DIA_BASE = BASE_DO_FATOR_DE_VENCIMENTO.toEpochDay();
+
+    /**
+     * <p>
+     * Fator de vencimento real da data limite (73916).
+     * </p>
+     */
+    public static final int FATOR_REAL_LIMITE = (int) (LIMITE_DO_FATOR_DE_VENCIMENTO.toEpochDay() - DIA_BASE);
+
+    private static final int ANO_BASE = BASE_DO_FATOR_DE_VENCIMENTO.getYear();
+
+    private static final int ANO_LIMITE = LIMITE_DO_FATOR_DE_VENCIMENTO.getYear();
+
+    /**
+     * <p>
+     * Dias do ano antes do primeiro dia de cada mês, em anos não bissextos.
+     * </p>
+     */
+    private static final int[] DIAS_ANTES_DO_MES = { 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334 };
+
+    /**
+     * <p>
+     * Data no formato {@code yyyyMMdd} de cada fator real, de 0 a
+     * {@link #FATOR_REAL_LIMITE}.
+     * </p>
+     */
+    private static final int[] ANO_MES_DIA_DO_FATOR = new int[FATOR_REAL_LIMITE + 1];
+
+    /**
+     * <p>
+     * Fator de 4 dígitos (ver {@linkplain #getValorTransformado(int)}) de cada
+     * fator real, de 0 a {@link #FATOR_REAL_LIMITE}.
+     * </p>
+     */
+    private static final short[] FATOR_TRANSFORMADO = new short[FATOR_REAL_LIMITE + 1];
+
+    /**
+     * <p>
+     * Fator real (negativo em 1997) do dia 01/01 de cada ano, de 1997 a 2200.
+     * </p>
+     */
+    private static final int[] FATOR_DO_INICIO_DO_ANO = new int[ANO_LIMITE - ANO_BASE + 1];
+
+    static {
+
+        int ano = ANO_BASE;
+        int mes = BASE_DO_FATOR_DE_VENCIMENTO.getMonthValue();
+        int dia = BASE_DO_FATOR_DE_VENCIMENTO.getDayOfMonth();
+
+        for (int fator = 0; fator <= FATOR_REAL_LIMITE; fator++) {
+
+            ANO_MES_DIA_DO_FATOR[fator] = ano * 10000 + mes * 100 + dia;
+            FATOR_TRANSFORMADO[fator] = (short) getValorTransformado(fator);
+
+            if (dia < diasDoMes(ano, mes)) {
+                dia++;
+            } else {
+                dia = 1;
+                if (mes < 12) {
+                    mes++;
+                } else {
+                    mes = 1;
+                    ano++;
+                }
+            }
+        }
+
+        for (ano = ANO_BASE; ano <= ANO_LIMITE; ano++) {
+            FATOR_DO_INICIO_DO_ANO[ano - ANO_BASE] = (int) (LocalDate.of(ano, 1, 1).toEpochDay() - DIA_BASE);
+        }
+    }
+
     /**
      * <p>
      * Calcula o fator de vencimento a partir da subtração entre a DATA DE
@@ -158,15 +253,86 @@ public class FatorDeVencimento {
 
         } else {
 
-            Date dataTruncada = DateUtils.truncate(data, Calendar.DATE);
+            return toFatorDoDia(toDia(data));
+        }
+    }
 
-            checkIntervalo(dataTruncada);
-            // retorno comentado para ajuste do fator de vencimento após 21/02/2025
-            //return (int) Dates.calculeDiferencaEmDias(DATA_BASE_DO_FATOR_DE_VENCIMENTO, dataTruncada);
-            return getFatorDeVencimentoTranformado(data);
+    /**
+     * <p>
+     * Calcula o fator de vencimento de uma data como em
+     * {@linkplain #toFator(Date)}.
+     * </p>
+     *
+     * @param data data de vencimento de um título
+     * @return fator de vencimento calculado
+     * @throws IllegalArgumentException
+     */
+    public static int toFatorDaData(LocalDate data) throws IllegalArgumentException {
+
+        if (isNull(data)) {
+
+            return (Integer) Exceptions.throwIllegalArgumentException("Impossível realizar o cálculo do fator de vencimento de uma data nula!");
+
+        } else {
+
+            return toFatorDoDia(data.toEpochDay());
         }
     }
 
+    /**
+     * <p>
+     * Calcula o fator de vencimento de uma data informada por ano, mês e dia
+     * como em {@linkplain #toFator(Date)}, sem criar objetos.
+     * </p>
+     *
+     * @param ano Ano da data de vencimento
+     * @param mes Mês (1 a 12) da data de vencimento
+     * @param dia Dia do mês da data de vencimento
+     * @return fator de vencimento calculado
+     * @throws IllegalArgumentException Caso a data não exista ou esteja fora do
+     * intervalo suportado
+     */
+    public static int toFator(int ano, int mes, int dia) throws IllegalArgumentException {
+
+        return FATOR_TRANSFORMADO[toFatorReal(ano, mes, dia)];
+    }
+
+    /**
+     * <p>
+     * Calcula o fator de vencimento real (sem a transformação para 4 dígitos)
+     * de uma data informada por ano, mês e dia, sem criar objetos.
+     * </p>
+     *
+     * @param ano Ano da data de vencimento
+     * @param mes Mês (1 a 12) da data de vencimento
+     * @param dia Dia do mês da data de vencimento
+     * @return fator de vencimento real, de 0 a {@link #FATOR_REAL_LIMITE}
+     * @throws IllegalArgumentException Caso a data não exista ou esteja fora do
+     * intervalo suportado
+     */
+    public static int toFatorReal(int ano, int mes, int dia) throws IllegalArgumentException {
+
+        if (mes < 1 || mes > 12 || dia < 1 || dia > diasDoMes(ano, mes)) {
+
+            Exceptions.throwIllegalArgumentException(format("Data inválida: %02d/%02d/%04d.", dia, mes, ano));
+        }
+
+        if (ano < ANO_BASE || ano > ANO_LIMITE) {
+
+            checkDia(ano < ANO_BASE ? Long.MIN_VALUE : Long.MAX_VALUE);
+        }
+
+        int fator = FATOR_DO_INICIO_DO_ANO[ano - ANO_BASE] + DIAS_ANTES_DO_MES[mes - 1] + dia - 1;
+
+        if (mes > 2 && IsoChronology.INSTANCE.isLeapYear(ano)) {
+            fator++;
+        }
+
+        checkDia(DIA_BASE + fator);
+
+        return fator;
+    }
+
     /**
      * <p>
      * Transforma um fator de vencimento em um objeto data da forma inversa
@@ -179,10 +345,46 @@ public class FatorDeVencimento {
      * > 9999
      */
     public static Date toDate(int fator) throws IllegalArgumentException {
+
+        return toDate(toLocalDate(fator));
+    }
+
+    /**
+     * <p>
+     * Transforma um fator de vencimento em uma data da forma inversa descrita
+     * em {@linkplain #toFator(Date)}.
+     * </p>
+     *
+     * @param fator - Número entre o intervalo (incluíndo) 0 e o fator real
+     * anterior ao {@link #FATOR_REAL_LIMITE}
+     * @return Data do vencimento
+     * @throws IllegalArgumentException Caso o {@code fator} esteja fora do
+     * intervalo
+     */
+    public static LocalDate toLocalDate(int fator) throws IllegalArgumentException {
+
         checkIntervalo(fator);
-        Calendar date = (Calendar) BASE_DO_FATOR_DE_VENCIMENTO.clone();
-        date.add(Calendar.DAY_OF_YEAR, fator);
-        return DateUtils.truncate(date.getTime(), Calendar.DATE);
+
+        return LocalDate.ofEpochDay(DIA_BASE + fator);
+    }
+
+    /**
+     * <p>
+     * Transforma um fator de vencimento na data de vencimento no formato
+     * {@code yyyyMMdd} (ex: 20000703 para o fator 1000), sem criar objetos.
+     * </p>
+     *
+     * @param fator - Número entre o intervalo (incluíndo) 0 e o fator real
+     * anterior ao {@link #FATOR_REAL_LIMITE}
+     * @return Data do vencimento no formato {@code yyyyMMdd}
+     * @throws IllegalArgumentException Caso o {@code fator} esteja fora do
+     * intervalo
+     */
+    public static int toAnoMesDia(int fator) throws IllegalArgumentException {
+
+        checkIntervalo(fator);
+
+        return ANO_MES_DIA_DO_FATOR[fator];
     }
 
     /**
@@ -201,40 +403,31 @@ public class FatorDeVencimento {
     public static List<Date> toDateList(int fator) throws IllegalArgumentException {
         checkIntervalo(fator);
         
-        List<Date> listaDeDatas = new ArrayList<>();
         List<Integer> listaDeFatores = getListaDeFatores(fator);
-        
-        // Versão do Java menor que a 8
-        /*
+        List<Date> listaDeDatas = new ArrayList<>(listaDeFatores.size());
+
         for (Integer fatorDaLista : listaDeFatores) {
             listaDeDatas.add(toDate(fatorDaLista));
         }
-        */
-        
-        // para Java 8 ou superior
-        listaDeFatores.forEach(f -> listaDeDatas.add(toDate(f)));
-                
+
         return listaDeDatas;
     }
 
     /**
      * <p>
-     * Lança exceção caso a {@code dataVencimentoTruncada} esteja fora do
-     * intervalo entre a {@linkplain #DATA_BASE_DO_FATOR_DE_VENCIMENTO} e a
+     * Lança exceção caso o {@code dia} esteja fora do intervalo entre a
+     * {@linkplain #DATA_BASE_DO_FATOR_DE_VENCIMENTO} e a
      * {@linkplain #DATA_LIMITE_DO_FATOR_DE_VENCIMENTO}.
      * </p>
      *
-     * @param dataVencimentoTruncada data de vencimento truncada com {@code
-     *            DateUtils.truncate(date, Calendar.DATE)}
-     * @throws IllegalArgumentException Caso a data esteja
-     * {@code dataVencimentoTruncada} esteja fora do intervalo entre a
-     * {@linkplain #DATA_BASE_DO_FATOR_DE_VENCIMENTO} e a
+     * @param dia data de vencimento em dias desde 01/01/1970
+     * @throws IllegalArgumentException Caso o {@code dia} esteja fora do
+     * intervalo entre a {@linkplain #DATA_BASE_DO_FATOR_DE_VENCIMENTO} e a
      * {@linkplain #DATA_LIMITE_DO_FATOR_DE_VENCIMENTO}
      */
-    private static void checkIntervalo(Date dataVencimentoTruncada) throws IllegalArgumentException {
+    private static void checkDia(long dia) throws IllegalArgumentException {
 
-        if (dataVencimentoTruncada.before(DATA_BASE_DO_FATOR_DE_VENCIMENTO)
-                || dataVencimentoTruncada.after(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)) {
+        if (dia < DIA_BASE || dia > DIA_BASE + FATOR_REAL_LIMITE) {
 
             Exceptions.throwIllegalArgumentException(
                     format("Para o cálculo do fator de vencimento se faz necessário informar uma data entre %s e %s.",
@@ -258,12 +451,57 @@ public class FatorDeVencimento {
             Exceptions.throwIllegalArgumentException("Impossível transformar em data um fator menor que zero!");
         }
 
-        if (fatorDeVencimento >= getFatorDeVencimentoReal(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)) {
+        if (fatorDeVencimento >= FATOR_REAL_LIMITE) {
 
             Exceptions.throwIllegalArgumentException("O fator de vencimento deve ser um número até " + NUMERO_LIMITE_MAXIMO_DO_FATOR_DE_VENCIMENTO + ".");
         }
     }
 
+    /**
+     * <p>
+     * Fator de 4 dígitos do {@code dia} (epoch day), após verificar o
+     * intervalo.
+     * </p>
+     */
+    private static int toFatorDoDia(long dia) {
+
+        checkDia(dia);
+
+        return FATOR_TRANSFORMADO[(int) (dia - DIA_BASE)];
+    }
+
+    /**
+     * <p>
+     * Dia (epoch day) da {@code data} no fuso horário padrão, equivalente a
+     * {@code DateUtils.truncate(data, Calendar.DATE)}.
+     * </p>
+     */
+    private static long toDia(Date data) {
+
+        long millis = data.getTime();
+
+        return Math.floorDiv(millis + TimeZone.getDefault().getOffset(millis), DateUtils.MILLIS_PER_DAY);
+    }
+
+    /**
+     * <p>
+     * Início do dia da {@code data} no fuso horário padrão.
+     * </p>
+     */
+    private static Date toDate(LocalDate data) {
+
+        return Date.from(data.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static int diasDoMes(int ano, int mes) {
+
+        if (mes == 2) {
+            return IsoChronology.INSTANCE.isLeapYear(ano) ? 29 : 28;
+        }
+
+        return mes == 4 || mes == 6 || mes == 9 || mes == 11 ? 30 : 31;
+    }
+
     /*
      * Os métodos abaixo são utilitários criados para sobrecarga dentro dos 
      * métodos originais da classe.
@@ -276,8 +514,7 @@ public class FatorDeVencimento {
      * @return fator de vencimento que poderá ter mais de 4 dígitos.
      */
     public static int getFatorDeVencimentoReal(Date data) {
-        Date dataTruncada = DateUtils.truncate(data, Calendar.DATE);
-        return (int) Dates.calculeDiferencaEmDias(DATA_BASE_DO_FATOR_DE_VENCIMENTO, dataTruncada);
+        return (int) Math.abs(toDia(data) - DIA_BASE);
     }
 
     /**
@@ -41,7 +41,7 @@ import org.jrimum.bopepo.campolivre.NotSupportedCampoLivreException;
 
 import org.jrimum.domkee.banco.Arrecadacao;
 import org.jrimum.domkee.banco.TipoSeguimento;
-import org.jrimum.utilix.DateUtil;
+import org.jrimum.utilix.DateFormatter;
 import org.jrimum.utilix.Objects;
 import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
@@ -247,7 +247,7 @@ public final class Guia {
         linhaDigitavel = new LinhaDigitavel(codigoDeBarras);
         dataDeProcessamento = new Date();
 
-        log.info("Data de Processamento da Guia: " + DateUtil.FORMAT_DD_MM_YYYY.format(dataDeProcessamento));
+        log.info("Data de Processamento da Guia: " + DateFormatter.DDMMYYYY_B.format(dataDeProcessamento));
     }
 
     /**
@@ -30,13 +30,9 @@
 
 package org.jrimum.bopepo;
 
-import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
 import org.jrimum.texgit.BlockOfFields;
-import org.jrimum.texgit.FixedField;
 import org.jrimum.utilix.Objects;
-import org.jrimum.utilix.Strings;
-import org.jrimum.vallia.BoletoLinhaDigitavelDV;
 
 
 /**
@@ -183,32 +179,12 @@ public class LinhaDigitavel extends BlockOfFields {
 	 */
 	private static final Integer STRING_LENGTH = 54;
 
-	/**
-	 * 
-	 */
-	private FixedField<InnerCampo1> innerCampo1;
-	
-	/**
-	 * 
-	 */
-	private FixedField<InnerCampo2> innerCampo2;
-	
-	/**
-	 * 
-	 */
-	private FixedField<InnerCampo3> innerCampo3;
-	
 	/**
 	 * <p>
-	 * Digito verificador geral.
+	 * Linha digitável formatada, composta por {@link CodigoDeBarrasCodec}.
 	 * </p>
 	 */
-	private FixedField<Integer> campo4;
-	
-	/**
-	 * 
-	 */
-	private FixedField<InnerCampo5> innerCampo5;
+	private final String linha;
 
 
 	/**
@@ -233,302 +209,28 @@ public class LinhaDigitavel extends BlockOfFields {
 		if(log.isDebugEnabled())
 			log.debug("codigoDeBarra instance : "+codigoDeBarras);
 		
-		innerCampo1 = new FixedField<InnerCampo1>(new InnerCampo1(4,11),11);
-		innerCampo2 = new FixedField<InnerCampo2>(new InnerCampo2(2,12),12);
-		innerCampo3 = new FixedField<InnerCampo3>(new InnerCampo3(2,12),12);
-		campo4 = new FixedField<Integer>(new Integer(0),1);
-		innerCampo5 = new FixedField<InnerCampo5>(new InnerCampo5(2,14),14);
-		
-		add(innerCampo1);
-		add(innerCampo2);
-		add(innerCampo3);
-		add(campo4);
-		add(innerCampo5);
-		
-		this.innerCampo1.getValue().load(codigoDeBarras);
-		this.innerCampo2.getValue().load(codigoDeBarras);
-		this.innerCampo3.getValue().load(codigoDeBarras);
-		
-		this.campo4.setValue(codigoDeBarras.getDigitoVerificadorGeral().getValue());
-		
-		if(log.isDebugEnabled())
-			log.debug("InnerCampo 4 da Linha Digitável : "+this.campo4.getValue());
-		
-		this.innerCampo5.getValue().load(codigoDeBarras);
+		this.linha = CodigoDeBarrasCodec.linhaDigitavel(codigoDeBarras.write());
 		
 		if(log.isDebugEnabled() || log.isTraceEnabled())
-			log.debug("linhaDigitavel instanciada : "+this.write());
+			log.debug("linhaDigitavel instanciada : "+this.linha);
 	}
 
 	/**
 	 * Escreve a linha digitável foramatada (com espaço entre os campos).
 	 * 
+	 * <p>
+	 * Aplicação do seguinte requisito da FEBRABAN: Em cada um dos três
+	 * primeiros campos, após a quinta (5) posição, deve ser inserido um ponto
+	 * “.”, a fim de facilitar a visualização, para a digitação, quando
+	 * necessário.
+	 * </p>
+	 * 
 	 * @see org.jrimum.texgit.type.component.BlockOfFields#write()
 	 */
 	@Override
 	public String write(){
 		
-		return new StringBuilder(innerCampo1.write()).
-		append(Strings.WHITE_SPACE).
-		append(innerCampo2.write()).
-		append(Strings.WHITE_SPACE).
-		append(innerCampo3.write()).
-		append(Strings.WHITE_SPACE).
-		append(campo4.write()).
-		append(Strings.WHITE_SPACE).
-		append(innerCampo5.write()).toString();
-
-	}
-
-	private abstract class InnerCampo extends BlockOfFields {
-		
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = 6746400538765124943L;
-		/**
-		 * 
-		 */
-		protected final BoletoLinhaDigitavelDV calculadorDV = new BoletoLinhaDigitavelDV();
-		
-		
-		protected InnerCampo(Integer fieldsLength, Integer stringLength) {
-			super();
-			setLength(stringLength);
-			setSize(fieldsLength);
-		}
-		
-	}
-	
-	private abstract class InnerCampoFormatado extends InnerCampo {
-		
-		
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = 3650450185403697045L;
-
-		protected InnerCampoFormatado(final Integer fieldsLength, final Integer stringLength) {
-			super(fieldsLength, stringLength);
-		}
-		
-		/**
-		 * <p>
-		 * 
-		 * Aplicação do seguinte requisito da FEBRABAN: 
-		 * Em cada um dos três primeiros campos, após a quinta (5) posição, deve ser
-		 * inserido um ponto “.”, a fim de facilitar a visualização, para a
-		 * digitação, quando necessário.
-		 * 
-		 * </p>
-		 * 
-		 * 
-		 * @see org.jrimum.texgit.type.component.BlockOfFields#write()
-		 */
-		@Override
-		public String write(){
-			
-			StringBuilder lineOfFields = new StringBuilder(StringUtils.EMPTY);
-			
-			for(FixedField<?> field : this){
-				lineOfFields.append(field.write());
-			}
-			
-			lineOfFields.insert(5, ".");
-			
-			return lineOfFields.toString();
-		}
-		
-	}
-	
-	/**
-	 * Componhe o campo 1 da linha digitável com os seguintes dados: 
-	 * <ul>
-	 * <li>Identificação do banco</li>
-	 * <li>Código de moeda (9 – Real)</li>
-	 * <li>Cinco primeiras posições do campo livre (posições 20 a 24 do código
-	 * de barras)</li>
-	 * <li>Dígito verificador do primeiro campo</li>
-	 * </ul>
-	 * 
-	 * @param titulo
-	 * @param codigoDeBarra
-	 * @param calculadorDV
-	 */
-	private class InnerCampo1 extends InnerCampoFormatado{
-		
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = 2948116051922000890L;
-
-		/**
-		 * @param fieldsLength
-		 * @param stringLength
-		 */
-		private InnerCampo1(Integer fieldsLength, Integer stringLength) {
-			super(fieldsLength, stringLength);
-		}
-		
-		/**
-		 * @param codigoDeBarras
-		 */
-		private void load(CodigoDeBarras codigoDeBarras){
-				
-				if(log.isTraceEnabled())
-					log.trace("Compondo campo 1 da Linha Digitável");
-
-				add(new FixedField<String>(codigoDeBarras.write().substring(0, 3),3));
-				add(new FixedField<String>(codigoDeBarras.write().substring(3, 4),1));
-				add(new FixedField<String>(codigoDeBarras.write().substring(19, 24),5));
-				add(new FixedField<Integer>(calculadorDV.calcule(get(0).write() + get(1).write() + get(2).write()),1));
-				
-				if(log.isDebugEnabled())
-					log.debug("Digito verificador do Field 1 da Linha Digitável : "+get(3).getValue());
-
-				
-				if(log.isDebugEnabled() || log.isTraceEnabled())
-					log.debug("Field 1 da Linha Digitável composto : "+write());
-		}
-		
-	}
-	
-	/**
-	 * Componhe o campo 2 da linha digitável com os seguintes dados: 
-	 * <ul>
-	 * <li>6ª a 15ª posições do campo livre (posições 25 a 34 do código de
-	 * barras)</li>
-	 * <li>Dígito verificador do segundo campo</li>
-	 * </ul>
-	 * 
-	 * @param codigoDeBarra
-	 * @param calculadorDV
-	 */
-	private class InnerCampo2 extends InnerCampoFormatado{
-
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = -2201847536243988819L;
-
-		/**
-		 * @param fieldsLength
-		 * @param stringLength
-		 */
-		private InnerCampo2(Integer fieldsLength, Integer stringLength) {
-			super(fieldsLength, stringLength);
-		}
-		
-		
-		/**
-		 * @param codigoDeBarras
-		 */
-		private void load(CodigoDeBarras codigoDeBarras){
-			
-			if(log.isTraceEnabled())
-				log.trace("Compondo campo 2 da Linha Digitável");
-			
-			add(new FixedField<String>(codigoDeBarras.write().substring(24, 34),10));				
-			add(new FixedField<Integer>(calculadorDV.calcule(get(0).write()),1));
-			
-			if(log.isDebugEnabled())
-				log.debug("Digito verificador do campo 2 da Linha Digitável : "+get(1).getValue());
-			
-			if(log.isDebugEnabled() || log.isTraceEnabled())
-				log.debug("InnerCampo 2 da Linha Digitável composto : "+write());
-		}
-		
-	}
-	
-	/**
-	 * Componhe o campo 3 da linha digitável com os seguintes dados: 
-	 * <ul>
-	 * <li>16ª a 25ª posições do campo livre (posições 35 a 44 do código de
-	 * barras)</li>
-	 * <li>Dígito verificador do terceiro campo</li>
-	 * </ul>
-	 * 
-	 * @param codigoDeBarra
-	 * @param calculadorDV
-	 */
-	private class InnerCampo3 extends InnerCampoFormatado{
-		
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = -4248472044788156665L;
-
-		/**
-		 * @param fieldsLength
-		 * @param stringLength
-		 */
-		private InnerCampo3(Integer fieldsLength, Integer stringLength) {
-			super(fieldsLength, stringLength);
-		}
-		
-		/**
-		 * @param codigoDeBarras
-		 */
-		private void load(CodigoDeBarras codigoDeBarras){
-			
-			if(log.isTraceEnabled())
-				log.trace("Compondo campo 3 da Linha Digitável");
-			
-			add(new FixedField<String>(codigoDeBarras.write().substring(34, 44),10));				
-			add(new FixedField<Integer>(calculadorDV.calcule(get(0).write()),1));
-			
-			if(log.isDebugEnabled())
-				log.debug("Digito verificador do campo 3 da Linha Digitável : "+get(1).getValue());
-			
-			if(log.isDebugEnabled() || log.isTraceEnabled())
-				log.debug("InnerCampo 3 da Linha Digitável composto : "+write());
-			
-		}
-		
-	}
-	
-	/**
-	 * Componhe o campo 5 da linha digitável com os seguintes dados: 
-	 * <ul>
-	 * <li>Posições 34 a 37 – fator de vencimento (posições 6 a 9 do código de
-	 * barras)</li>
-	 * <li>Posições 38 a 47 – valor nominal do título(posições 10 a 19 do
-	 * código de barras)</li>
-	 * </ul>
-	 * 
-	 * @param codigoDeBarra
-	 */
-	private class InnerCampo5 extends InnerCampo{
-
-		/**
-		 * 
-		 */
-		private static final long serialVersionUID = -8040082112684009827L;
-
-		/**
-		 * @param fieldsLength
-		 * @param stringLength
-		 */
-		private InnerCampo5(Integer fieldsLength, Integer stringLength) {
-			super(fieldsLength, stringLength);
-		}
-		
-		/**
-		 * @param codigoDeBarras
-		 */
-		private void load(CodigoDeBarras codigoDeBarras){
-			
-			if(log.isTraceEnabled())
-				log.trace("Compondo campo 5 da Linha Digitável");
-			
-			add(new FixedField<String>(codigoDeBarras.write().substring(5, 9),4));
-			add(new FixedField<String>(codigoDeBarras.write().substring(9, 19),10));
-			
-			if(log.isDebugEnabled() || log.isTraceEnabled())
-				log.debug("InnerCampo 5 da Linha Digitável composto : "+write());
-			
-		}
-		
+		return linha;
 	}
 
 	@Override
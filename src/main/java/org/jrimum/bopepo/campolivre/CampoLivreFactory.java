@@ -80,6 +80,28 @@ public final class CampoLivreFactory {
         return AbstractCampoLivre.create(titulo);
     }
 
+    /**
+     * <p>
+     * Devolve um gerador de campos livres para os títulos da mesma conta
+     * bancária (e carteira) do título modelo, que reaproveita as partes
+     * constantes do campo livre na emissão em lote.
+     * </p>
+     *
+     * @param modelo Título com a conta bancária do convênio
+     *
+     * @return Gerador de campos livres
+     * @throws NotSupportedBancoException
+     * @throws NotSupportedCampoLivreException
+     *
+     * @see CampoLivreGenerator
+     *
+     * @since 0.2
+     */
+    public static CampoLivreGenerator createGenerator(Titulo modelo)
+            throws NotSupportedBancoException, NotSupportedCampoLivreException {
+        return new CampoLivreGenerator(modelo);
+    }
+
     /**
      * Devolve um CampoLivre a partir de uma String.
      *
@@ -0,0 +1,1223 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.campolivre;
+
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN10;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN11;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN14;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN15;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN17;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN7;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN8;
+import static org.jrimum.bopepo.campolivre.AbstractCampoLivre.NN9;
+import static org.jrimum.bopepo.parametro.ParametroBancoDeBrasilia.CHAVE_ASBACE_DIGITO1;
+import static org.jrimum.bopepo.parametro.ParametroBancoDeBrasilia.CHAVE_ASBACE_DIGITO2;
+import static org.jrimum.bopepo.parametro.ParametroBancoRural.CODIGO_REDUZIDO;
+import static org.jrimum.bopepo.parametro.ParametroBancoRural.VALOR_IOS;
+import static org.jrimum.bopepo.parametro.ParametroBancoSantander.IOF_SEGURADORA;
+import static org.jrimum.bopepo.parametro.ParametroBancoSicredi.POSTO_DA_AGENCIA;
+import static org.jrimum.bopepo.parametro.ParametroBancoob.MODALIDADE_DE_COBRANCA;
+import static org.jrimum.bopepo.parametro.ParametroBancoob.NUMERO_DA_PARCELA;
+import static org.jrimum.bopepo.parametro.ParametroCaixaEconomicaFederal.CODIGO_OPERACAO;
+import static org.jrimum.bopepo.parametro.ParametroHSBC.IDENTIFICADOR_CNR;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import org.jrimum.bopepo.parametro.ParametroBancoDaycoval;
+import org.jrimum.bopepo.parametro.ParametroCECRED;
+import org.jrimum.domkee.banco.Agencia;
+import org.jrimum.domkee.banco.Carteira;
+import org.jrimum.domkee.banco.ContaBancaria;
+import org.jrimum.domkee.banco.IBanco;
+import org.jrimum.domkee.banco.NumeroDaConta;
+import org.jrimum.domkee.banco.ParametroBancario;
+import org.jrimum.domkee.banco.ParametrosBancariosMap;
+import org.jrimum.domkee.banco.Titulo;
+import org.jrimum.utilix.Objects;
+import org.jrimum.vallia.CalculadorDeModulo;
+import org.jrimum.vallia.TipoDeModulo;
+
+/**
+ * <p>
+ * Gerador de campos livres para a emissão em lote dos títulos de um mesmo
+ * convênio (conta bancária e carteira).
+ * </p>
+ *
+ * <p>
+ * Na criação, o título modelo passa uma única vez pelo caminho comum
+ * ({@linkplain CampoLivreFactory#create(Titulo)}), que valida a conta
+ * bancária e escolhe o leiaute do banco. O campo livre obtido, com as partes
+ * que variam por título zeradas, é guardado como modelo, junto com as somas
+ * dos módulos sobre as partes constantes. Para cada título, o modelo é
+ * copiado no destino e apenas o nosso número, os dígitos verificadores e os
+ * demais campos do título (parâmetros bancários, valor, vencimento, etc.) são
+ * escritos, sem a criação dos campos ({@code FixedField}) nem as validações
+ * da conta.
+ * </p>
+ *
+ * <p>
+ * O resultado é sempre igual ao do caminho comum: títulos de outra conta
+ * bancária, dados fora do formato exato do leiaute (ex: nosso número com
+ * tamanho diferente do esperado, parâmetro ausente, dígito verificador que
+ * não cabe no campo) e bancos sem leiaute próprio aqui (Citibank) são
+ * gerados pelo caminho comum, com as mesmas exceções. A conta bancária, a
+ * agência, o número da conta e a carteira não devem ser alterados enquanto o
+ * gerador estiver em uso.
+ * </p>
+ *
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ * </p>
+ *
+ * @see CampoLivreFactory#createGenerator(Titulo)
+ *
+ * @since 0.2
+ */
+public final class CampoLivreGenerator {
+
+    private static final int TAMANHO = CampoLivre.STRING_LENGTH;
+
+    private static final CalculadorDeModulo MODULO10 = CalculadorDeModulo.MODULO10;
+
+    private static final CalculadorDeModulo MODULO11 = CalculadorDeModulo.MODULO11;
+
+    /**
+     * Módulo 11 com pesos de 2 a 7, dos dígitos duplos do Banrisul, do
+     * Banestes e da chave ASBACE do Banco de Brasília.
+     */
+    private static final CalculadorDeModulo MODULO11_ATE_7 = CalculadorDeModulo.de(TipoDeModulo.MODULO11, 2, 7);
+
+    /**
+     * Desconto considerado ausente no campo livre do Mercantil do Brasil.
+     */
+    private static final BigDecimal SEM_DESCONTO = BigDecimal.ZERO.setScale(2, RoundingMode.DOWN);
+
+    /**
+     * Carteiras escriturais do Itaú, as mesmas de {@code CLItauPadrao}.
+     */
+    private static final int[] CARTEIRAS_ESCRITURAIS_ITAU = { 104, 105, 112, 113, 114, 147, 166, 212 };
+
+    /**
+     * Carteiras de modalidade direta do Itaú, as mesmas de
+     * {@code CLItauPadrao}.
+     */
+    private static final int[] CARTEIRAS_MODALIDADE_DIRETA_ITAU = { 126, 131, 146, 150, 168 };
+
+    private final ContaBancaria contaBancaria;
+
+    private final IBanco banco;
+
+    private final Agencia agencia;
+
+    private final NumeroDaConta numeroDaConta;
+
+    private final Carteira carteira;
+
+    /**
+     * Campo livre do título modelo com as partes variáveis zeradas.
+     */
+    private final char[] modelo;
+
+    /**
+     * Escrita das partes variáveis ou {@code null} quando todos os títulos
+     * passam pelo caminho comum.
+     */
+    private final Leiaute leiaute;
+
+    /**
+     * Escrita das partes variáveis de um título sobre o modelo já copiado no
+     * destino.
+     */
+    private abstract static class Leiaute {
+
+        /**
+         * @param titulo Título da mesma conta bancária do modelo
+         * @param destino Destino, com o modelo a partir de {@code i}
+         * @param i Posição inicial do campo livre no destino
+         * @return {@code false} caso o título não possa ser escrito
+         * exatamente como pelo caminho comum
+         */
+        abstract boolean escreva(Titulo titulo, char[] destino, int i);
+    }
+
+    /**
+     * @param modelo Título com a conta bancária e a carteira do convênio
+     *
+     * @throws CampoLivreException Caso o campo livre do modelo não possa ser
+     * gerado, como em {@linkplain CampoLivreFactory#create(Titulo)}
+     */
+    CampoLivreGenerator(Titulo modelo) {
+
+        CampoLivre campoLivre = AbstractCampoLivre.create(modelo);
+
+        this.contaBancaria = modelo.getContaBancaria();
+        this.banco = contaBancaria.getBanco();
+        this.agencia = contaBancaria.getAgencia();
+        this.numeroDaConta = contaBancaria.getNumeroDaConta();
+        this.carteira = contaBancaria.getCarteira();
+        this.modelo = campoLivre.write().toCharArray();
+        this.leiaute = crieLeiaute(campoLivre.getClass(), this.modelo, contaBancaria);
+    }
+
+    /**
+     * @param titulo Título do convênio
+     * @return Campo livre do título
+     *
+     * @throws CampoLivreException Nos mesmos casos de
+     * {@linkplain CampoLivreFactory#create(Titulo)}
+     */
+    public CampoLivre generate(Titulo titulo) {
+
+        char[] campo = new char[TAMANHO];
+
+        if (escreva(titulo, campo, 0)) {
+            return campoLivre(new String(campo));
+        }
+
+        return AbstractCampoLivre.create(titulo);
+    }
+
+    /**
+     * Escreve o campo livre do título nas 25 posições do destino a partir de
+     * {@code inicio}, ex: no {@code char[]} do código de barras.
+     *
+     * @param titulo Título do convênio
+     * @param destino Destino
+     * @param inicio Posição inicial no destino
+     *
+     * @throws CampoLivreException Nos mesmos casos de
+     * {@linkplain CampoLivreFactory#create(Titulo)}
+     */
+    public void generate(Titulo titulo, char[] destino, int inicio) {
+
+        Objects.checkNotNull(destino, "Destino nulo!");
+        Objects.checkArgument(inicio >= 0 && inicio <= destino.length - TAMANHO, "Posição inicial inválida!");
+
+        if (!escreva(titulo, destino, inicio)) {
+            AbstractCampoLivre.create(titulo).write().getChars(0, TAMANHO, destino, inicio);
+        }
+    }
+
+    /**
+     * @return {@code false} caso o título deva passar pelo caminho comum
+     */
+    boolean escreva(Titulo titulo, char[] destino, int inicio) {
+
+        if (isNull(leiaute) || isNull(titulo) || !isDaMesmaConta(titulo.getContaBancaria())) {
+            return false;
+        }
+
+        System.arraycopy(modelo, 0, destino, inicio, TAMANHO);
+
+        return leiaute.escreva(titulo, destino, inicio);
+    }
+
+    private boolean isDaMesmaConta(ContaBancaria conta) {
+
+        return conta == contaBancaria
+                && conta.getBanco() == banco
+                && conta.getAgencia() == agencia
+                && conta.getNumeroDaConta() == numeroDaConta
+                && conta.getCarteira() == carteira;
+    }
+
+    private static CampoLivre campoLivre(String valor) {
+
+        CampoLivre campoLivre = new CampoLivre() {
+
+            private static final long serialVersionUID = 3571593470962846128L;
+
+            private String campo;
+
+            public void read(String str) {
+                Objects.checkNotNull(str, "Campo livre nulo!");
+                Objects.checkArgument(str.length() == STRING_LENGTH, "O tamanho do Campo Livre [ " + str + " ] deve ser igual a 25 e não [" + str.length() + "]!");
+                campo = str;
+            }
+
+            public String write() {
+                return campo;
+            }
+        };
+        campoLivre.read(valor);
+        return campoLivre;
+    }
+
+    /**
+     * Escolhe a escrita do leiaute gerado para o modelo, zerando no modelo as
+     * partes variáveis e calculando as somas das partes constantes.
+     *
+     * @return Escrita ou {@code null} quando não há leiaute para o campo livre
+     */
+    private static Leiaute crieLeiaute(Class<?> tipo, char[] modelo, ContaBancaria conta) {
+
+        if (modelo.length != TAMANHO) {
+            return null;
+        }
+
+        if (tipo == CLBradesco.class) {
+            return nossoNumero(modelo, 6, 17, NN11);
+        }
+        if (tipo == CLBancoDoBrasilNN10.class) {
+            return nossoNumero(modelo, 13, 23, NN10);
+        }
+        if (tipo == CLBancoDoBrasilNN11.class) {
+            return nossoNumero(modelo, 0, 11, NN11);
+        }
+        if (tipo == CLBancoDoBrasilNN17Convenio6.class || tipo == CLBancoDoBrasilNN17Convenio7.class) {
+            return nossoNumero(modelo, 6, 23, NN17);
+        }
+        if (tipo == CLBancoIntermedium.class) {
+            return nossoNumero(modelo, 6, 17, 1);
+        }
+        if (tipo == CLBancoSafraCobrancaNaoRegistrada.class) {
+            return nossoNumero(modelo, 7, 24, NN17);
+        }
+        if (tipo == CLBancoSafraCobrancaRegistrada.class) {
+            return nossoNumero(modelo, 15, 24, NN9);
+        }
+        if (tipo == CLCaixaEconomicaFederalSICOBNossoNumero14.class) {
+            return nossoNumero(modelo, 11, 25, NN14);
+        }
+        if (tipo == CLCaixaEconomicaFederalSINCO.class) {
+            return nossoNumero(modelo, 8, 25, NN17);
+        }
+        if (tipo == CLBancoDaycoval.class) {
+            return daycoval(modelo);
+        }
+        if (tipo == CLBancoDeBrasilia.class) {
+            return bancoDeBrasilia(modelo);
+        }
+        if (tipo == CLBancoDoNordesteDoBrasil.class) {
+            return bancoDoNordeste(modelo);
+        }
+        if (tipo == CLBancoReal.class) {
+            return bancoReal(modelo);
+        }
+        if (tipo == CLBancoRuralCobrancaNaoRegistrada.class) {
+            return ruralNaoRegistrada(modelo);
+        }
+        if (tipo == CLBancoRuralCobrancaNaoRegistradaSeguradora.class) {
+            return ruralSeguradora(modelo);
+        }
+        if (tipo == CLBancoRuralCobrancaRegistrada.class) {
+            return ruralRegistrada(modelo);
+        }
+        if (tipo == CLBancoSantander.class) {
+            return santander(modelo);
+        }
+        if (tipo == CLBancoobCobrancaNaoRegistrada.class) {
+            return bancoob(modelo);
+        }
+        if (tipo == CLBanestes.class) {
+            return banestes(modelo);
+        }
+        if (tipo == CLBanrisulCobrancaNaoRegistrada.class || tipo == CLBanrisulCobrancaRegistrada.class) {
+            return banrisul(modelo);
+        }
+        if (tipo == CLCaixaEconomicaFederalSICOBNossoNumero10.class) {
+            return caixaSICOB(modelo, conta.getCarteira().getCodigo());
+        }
+        if (tipo == CLCaixaEconomicaFederalSIGCB.class) {
+            return caixaSIGCB(modelo);
+        }
+        if (tipo == CLCecred.class) {
+            return cecred(modelo);
+        }
+        if (tipo == CLHSBCCobrancaNaoRegistrada.class) {
+            return hsbcNaoRegistrada(modelo);
+        }
+        if (tipo == CLHSBCCobrancaRegistrada.class) {
+            return hsbcRegistrada(modelo);
+        }
+        if (tipo == CLItauPadrao.class) {
+            return itauPadrao(modelo, conta.getCarteira().getCodigo());
+        }
+        if (tipo == CLItauComCarteirasEspeciais.class) {
+            return itauCarteirasEspeciais(modelo);
+        }
+        if (tipo == CLMercantilDoBrasil.class) {
+            return mercantil(modelo);
+        }
+        if (tipo == CLSicredi.class) {
+            return sicredi(modelo);
+        }
+        if (tipo == CLUnicred.class) {
+            return unicred(modelo);
+        }
+        if (tipo == CLUnibancoCobrancaNaoRegistrada.class) {
+            return unibancoNaoRegistrada(modelo);
+        }
+        if (tipo == CLUnibancoCobrancaRegistrada.class) {
+            return unibancoRegistrada(modelo);
+        }
+
+        return null;
+    }
+
+    /*
+     * Leiautes. As posições são as do campo livre (0 a 24).
+     */
+
+    /**
+     * Leiautes em que só o nosso número, sem dígito, varia.
+     */
+    private static Leiaute nossoNumero(char[] modelo, final int inicio, final int fim, final int minimo) {
+
+        zere(modelo, inicio, fim);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return digitos(titulo.getNossoNumero(), minimo, fim - inicio, destino, i + fim);
+            }
+        };
+    }
+
+    private static Leiaute daycoval(char[] modelo) {
+
+        zere(modelo, 7, 25);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return numero(parametro(titulo, ParametroBancoDaycoval.OPERACAO), 7, destino, i + 14)
+                        && digitos(titulo.getNossoNumero(), NN10, NN10, destino, i + 24)
+                        && digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 25);
+            }
+        };
+    }
+
+    private static Leiaute bancoDeBrasilia(char[] modelo) {
+
+        zere(modelo, 14, 20);
+        zere(modelo, 23, 25);
+
+        final int soma10 = MODULO10.soma(modelo, 0, 23, 0);
+        final int soma11 = soma(MODULO11_ATE_7, modelo, 0, 0, 23, 24);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!digitos(titulo.getNossoNumero(), 6, 6, destino, i + 20)) {
+                    return false;
+                }
+
+                duploDigito(destino, i,
+                        soma10 + soma(MODULO10, destino, i, 14, 20, 23),
+                        soma11 + soma(MODULO11_ATE_7, destino, i, 14, 20, 24));
+
+                ParametrosBancariosMap parametros = titulo.getParametrosBancarios();
+
+                if (isNull(parametros)) {
+                    parametros = new ParametrosBancariosMap();
+                }
+
+                parametros.adicione(CHAVE_ASBACE_DIGITO1, Integer.valueOf(destino[i + 23] - '0'));
+                parametros.adicione(CHAVE_ASBACE_DIGITO2, Integer.valueOf(destino[i + 24] - '0'));
+                titulo.setParametrosBancarios(parametros);
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute bancoDoNordeste(char[] modelo) {
+
+        zere(modelo, 12, 20);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return digitos(titulo.getNossoNumero(), 1, NN7, destino, i + 19)
+                        && digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 20);
+            }
+        };
+    }
+
+    private static Leiaute bancoReal(char[] modelo) {
+
+        zere(modelo, 11, 25);
+
+        // Dígito sobre nosso número (13), agência (4) e conta (7).
+        final int soma = MODULO10.soma(modelo, 0, 11, 0);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!digitos(titulo.getNossoNumero(), 1, 13, destino, i + 25)) {
+                    return false;
+                }
+
+                int resto = (soma + MODULO10.soma(destino, i + 12, i + 25, 11)) % 10;
+                destino[i + 11] = digito(resto == 0 ? 0 : 10 - resto);
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute ruralNaoRegistrada(char[] modelo) {
+
+        zere(modelo, 4, 22);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return numero(parametro(titulo, CODIGO_REDUZIDO), 3, destino, i + 7)
+                        && digitos(titulo.getNossoNumero(), NN15, NN15, destino, i + 22);
+            }
+        };
+    }
+
+    private static Leiaute ruralSeguradora(char[] modelo) {
+
+        zere(modelo, 4, 25);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return numero(parametro(titulo, CODIGO_REDUZIDO), 3, destino, i + 7)
+                        && digitos(titulo.getNossoNumero(), NN10, NN10, destino, i + 17)
+                        && digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 18)
+                        && centavos(parametro(titulo, VALOR_IOS), 7, destino, i + 25);
+            }
+        };
+    }
+
+    private static Leiaute ruralRegistrada(char[] modelo) {
+
+        zere(modelo, 14, 22);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return digitos(titulo.getNossoNumero(), 1, NN7, destino, i + 21)
+                        && digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 22);
+            }
+        };
+    }
+
+    private static Leiaute santander(char[] modelo) {
+
+        zere(modelo, 8, 22);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!nossoNumeroComDigito(titulo, 13, destino, i + 21)) {
+                    return false;
+                }
+
+                if (titulo.hasParametrosBancarios()) {
+                    Number iof = titulo.getParametrosBancarios().getValor(IOF_SEGURADORA);
+                    if (!isNull(iof)) {
+                        return numero(iof, 1, destino, i + 22);
+                    }
+                }
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute bancoob(char[] modelo) {
+
+        zere(modelo, 5, 7);
+        zere(modelo, 14, 25);
+
+        final Integer umaParcela = Integer.valueOf(1);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                Number modalidade = umaParcela;
+                Number parcela = umaParcela;
+
+                if (titulo.hasParametrosBancarios()) {
+                    ParametrosBancariosMap parametros = titulo.getParametrosBancarios();
+                    if (parametros.contemComNome(MODALIDADE_DE_COBRANCA)) {
+                        modalidade = parametros.getValor(MODALIDADE_DE_COBRANCA);
+                    }
+                    if (parametros.contemComNome(NUMERO_DA_PARCELA)) {
+                        parcela = parametros.getValor(NUMERO_DA_PARCELA);
+                    }
+                }
+
+                return numero(modalidade, 2, destino, i + 7)
+                        && digitos(titulo.getNossoNumero(), NN7, NN7, destino, i + 21)
+                        && digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 22)
+                        && numero(parcela, 3, destino, i + 25);
+            }
+        };
+    }
+
+    private static Leiaute banestes(char[] modelo) {
+
+        zere(modelo, 0, 8);
+        zere(modelo, 23, 25);
+
+        final int soma10 = MODULO10.soma(modelo, 0, 23, 0);
+        final int soma11 = soma(MODULO11_ATE_7, modelo, 0, 0, 23, 24);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!inteiro(titulo.getNossoNumero(), 8, destino, i + 8)) {
+                    return false;
+                }
+
+                int resto = (soma10 + soma(MODULO10, destino, i, 0, 8, 23)) % 10;
+                int primeiro = resto == 0 ? 0 : 10 - resto;
+                int soma = soma11 + soma(MODULO11_ATE_7, destino, i, 0, 8, 24);
+
+                destino[i + 23] = digito(primeiro);
+                resto = (soma + MODULO11_ATE_7.soma(destino, i + 23, i + 24, 0)) % 11;
+
+                int segundo;
+
+                if (resto == 0) {
+                    segundo = 0;
+                } else if (resto == 1) {
+                    destino[i + 23] = digito(primeiro == 9 ? 0 : primeiro + 1);
+                    // Como em CLBanestes, o segundo dígito é o próprio resto.
+                    segundo = (soma + MODULO11_ATE_7.soma(destino, i + 23, i + 24, 0)) % 11;
+                    if (segundo > 9) {
+                        return false;
+                    }
+                } else {
+                    segundo = 11 - resto;
+                }
+
+                destino[i + 24] = digito(segundo);
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute banrisul(char[] modelo) {
+
+        zere(modelo, 13, 21);
+        zere(modelo, 23, 25);
+
+        final int soma10 = MODULO10.soma(modelo, 0, 23, 0);
+        final int soma11 = soma(MODULO11_ATE_7, modelo, 0, 0, 23, 24);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!inteiro(titulo.getNossoNumero(), 8, destino, i + 21)) {
+                    return false;
+                }
+
+                duploDigito(destino, i,
+                        soma10 + soma(MODULO10, destino, i, 13, 21, 23),
+                        soma11 + soma(MODULO11_ATE_7, destino, i, 13, 21, 24));
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute caixaSICOB(char[] modelo, Integer codigoDaCarteira) {
+
+        zere(modelo, 0, 10);
+        zere(modelo, 14, 17);
+
+        // Prefixos do nosso número aceitos pela carteira, como em
+        // CLCaixaEconomicaFederalSICOBNossoNumero10.
+        final String[] prefixos;
+
+        if (isNull(codigoDaCarteira)) {
+            prefixos = new String[] { "3", "9", "80", "81", "82" };
+        } else {
+            switch (codigoDaCarteira) {
+                case 11:
+                    prefixos = new String[] { "3" };
+                    break;
+                case 12:
+                    prefixos = new String[] { "9" };
+                    break;
+                case 14:
+                    prefixos = new String[] { "80", "81", "82" };
+                    break;
+                default:
+                    prefixos = new String[] { "3", "9", "80", "81", "82" };
+            }
+        }
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                String nossoNumero = titulo.getNossoNumero();
+
+                if (isNull(titulo.getParametrosBancarios()) || !digitos(nossoNumero, NN10, NN10, destino, i + 10)
+                        || !comecaCom(nossoNumero, prefixos)) {
+                    return false;
+                }
+
+                return numero(parametro(titulo, CODIGO_OPERACAO), 3, destino, i + 17);
+            }
+        };
+    }
+
+    private static Leiaute caixaSIGCB(char[] modelo) {
+
+        zere(modelo, 7, 10);
+        zere(modelo, 11, 14);
+        zere(modelo, 15, 25);
+
+        final int soma = MODULO11.soma(modelo, 0, 24, 0);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                String nossoNumero = titulo.getNossoNumero();
+
+                // Nosso número dividido em 3, 3 e 9 posições.
+                if (isNull(nossoNumero) || nossoNumero.length() != NN15
+                        || !copie(nossoNumero, 0, 3, destino, i + 7)
+                        || !copie(nossoNumero, 3, 6, destino, i + 11)
+                        || !copie(nossoNumero, 6, 15, destino, i + 15)) {
+                    return false;
+                }
+
+                int total = soma
+                        + soma(MODULO11, destino, i, 7, 10, 24)
+                        + soma(MODULO11, destino, i, 11, 14, 24)
+                        + soma(MODULO11, destino, i, 15, 24, 24);
+
+                int dv;
+
+                if (total < 11) {
+                    dv = 11 - total;
+                } else {
+                    dv = 11 - total % 11;
+                    if (dv > 9) {
+                        dv = 0;
+                    }
+                }
+
+                if (dv > 9) {
+                    return false;
+                }
+
+                destino[i + 24] = digito(dv);
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute cecred(char[] modelo) {
+
+        zere(modelo, 0, 23);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return numero(parametro(titulo, ParametroCECRED.CODIGO_DO_CONVENIO), 6, destino, i + 6)
+                        && digitos(titulo.getNossoNumero(), NN17, NN17, destino, i + 23);
+            }
+        };
+    }
+
+    private static Leiaute hsbcNaoRegistrada(char[] modelo) {
+
+        zere(modelo, 7, 24);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                Number identificador = parametro(titulo, IDENTIFICADOR_CNR);
+
+                if (!(identificador instanceof Integer) || !digitos(titulo.getNossoNumero(), 1, 13, destino, i + 20)) {
+                    return false;
+                }
+
+                switch (identificador.intValue()) {
+
+                    case 5:
+                        // Sem vencimento: "0000".
+                        return true;
+
+                    case 4:
+                        Date vencimento = titulo.getDataDoVencimento();
+                        if (isNull(vencimento)) {
+                            return false;
+                        }
+                        // Dia do ano seguido do último algarismo do ano.
+                        Calendar c = Calendar.getInstance();
+                        c.setTime(vencimento);
+                        int ano = c.get(Calendar.YEAR);
+                        return ano >= 0 && numero(c.get(Calendar.DAY_OF_YEAR) * 10L + ano % 10, 4, destino, i + 24);
+
+                    default:
+                        return false;
+                }
+            }
+        };
+    }
+
+    private static Leiaute hsbcRegistrada(char[] modelo) {
+
+        zere(modelo, 0, 11);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+                return digitos(titulo.getNossoNumero(), 1, NN10, destino, i + 10)
+                        && digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 11);
+            }
+        };
+    }
+
+    private static Leiaute itauPadrao(char[] modelo, int codigoDaCarteira) {
+
+        zere(modelo, 3, 12);
+
+        // DAC sobre agência (4) e conta (5), exceto nas carteiras escriturais
+        // e de modalidade direta, carteira (3) e nosso número (8).
+        boolean comAgenciaEConta = Arrays.binarySearch(CARTEIRAS_ESCRITURAIS_ITAU, codigoDaCarteira) < 0
+                && Arrays.binarySearch(CARTEIRAS_MODALIDADE_DIRETA_ITAU, codigoDaCarteira) < 0;
+
+        final int soma = MODULO10.soma(modelo, 0, 3, 8) + (comAgenciaEConta ? MODULO10.soma(modelo, 12, 21, 11) : 0);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!digitos(titulo.getNossoNumero(), 1, NN8, destino, i + 11)) {
+                    return false;
+                }
+
+                destino[i + 11] = dacItau(soma + MODULO10.soma(destino, i + 3, i + 11, 0));
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute itauCarteirasEspeciais(char[] modelo) {
+
+        zere(modelo, 3, 18);
+        zere(modelo, 23, 24);
+
+        final int soma = MODULO10.soma(modelo, 0, 23, 0);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!digitos(titulo.getNossoNumero(), 1, NN8, destino, i + 11)
+                        || !digitos(titulo.getNumeroDoDocumento(), 1, 7, destino, i + 18)) {
+                    return false;
+                }
+
+                destino[i + 23] = dacItau(soma + soma(MODULO10, destino, i, 3, 18, 23));
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute mercantil(char[] modelo) {
+
+        zere(modelo, 4, 15);
+        zere(modelo, 24, 25);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!nossoNumeroComDigito(titulo, 11, destino, i + 15)) {
+                    return false;
+                }
+
+                BigDecimal desconto = titulo.getDesconto();
+                destino[i + 24] = isNull(desconto) || desconto.equals(SEM_DESCONTO) ? '2' : '0';
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute sicredi(char[] modelo) {
+
+        zere(modelo, 2, 11);
+        zere(modelo, 15, 17);
+        zere(modelo, 22, 23);
+        zere(modelo, 24, 25);
+
+        final int soma = MODULO11.soma(modelo, 0, 24, 0);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!digitos(titulo.getNossoNumero(), NN8, NN8, destino, i + 10)
+                        || !digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 11)
+                        || !numero(parametro(titulo, POSTO_DA_AGENCIA), 2, destino, i + 17)
+                        || !indicadorDeValor(titulo, destino, i + 22)) {
+                    return false;
+                }
+
+                destino[i + 24] = dvSicredi(soma
+                        + soma(MODULO11, destino, i, 2, 11, 24)
+                        + soma(MODULO11, destino, i, 15, 17, 24)
+                        + soma(MODULO11, destino, i, 22, 23, 24));
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute unicred(char[] modelo) {
+
+        zere(modelo, 2, 13);
+        zere(modelo, 22, 23);
+        zere(modelo, 24, 25);
+
+        final int soma = MODULO11.soma(modelo, 0, 24, 0);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                if (!digitos(titulo.getNossoNumero(), NN10, NN10, destino, i + 12)
+                        || !digitos(titulo.getDigitoDoNossoNumero(), 1, 1, destino, i + 13)
+                        || !indicadorDeValor(titulo, destino, i + 22)) {
+                    return false;
+                }
+
+                destino[i + 24] = dvSicredi(soma
+                        + soma(MODULO11, destino, i, 2, 13, 24)
+                        + soma(MODULO11, destino, i, 22, 23, 24));
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute unibancoNaoRegistrada(char[] modelo) {
+
+        zere(modelo, 10, 25);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                String nossoNumero = titulo.getNossoNumero();
+
+                if (!digitos(nossoNumero, 1, NN14, destino, i + 24) || isZerado(nossoNumero)) {
+                    return false;
+                }
+
+                destino[i + 24] = dvUnibanco(MODULO11.soma(destino, i + 10, i + 24, 0));
+
+                return true;
+            }
+        };
+    }
+
+    private static Leiaute unibancoRegistrada(char[] modelo) {
+
+        zere(modelo, 2, 8);
+        zere(modelo, 13, 25);
+
+        return new Leiaute() {
+            @Override
+            boolean escreva(Titulo titulo, char[] destino, int i) {
+
+                String nossoNumero = titulo.getNossoNumero();
+                Date vencimento = titulo.getDataDoVencimento();
+
+                if (isNull(vencimento) || !digitos(nossoNumero, 1, NN11, destino, i + 24) || isZerado(nossoNumero)) {
+                    return false;
+                }
+
+                // Vencimento "yyMMdd" como o SimpleDateFormat, que usa o
+                // mesmo calendário padrão.
+                Calendar c = Calendar.getInstance();
+
+                if (c.getClass() != GregorianCalendar.class) {
+                    return false;
+                }
+
+                c.setTime(vencimento);
+                numero(c.get(Calendar.YEAR) % 100, 2, destino, i + 4);
+                numero(c.get(Calendar.MONTH) + 1, 2, destino, i + 6);
+                numero(c.get(Calendar.DAY_OF_MONTH), 2, destino, i + 8);
+
+                // Super dígito: módulo 11 de "1" seguido do nosso número.
+                destino[i + 24] = dvUnibanco(MODULO11.soma(destino, i + 13, i + 24, 0) + MODULO11.soma("1", 0, 1, nossoNumero.length()));
+
+                return true;
+            }
+        };
+    }
+
+    /*
+     * Dígitos verificadores.
+     */
+
+    /**
+     * Dígitos da chave ASBACE do Banco de Brasília e do Banrisul, nas
+     * posições 23 e 24.
+     *
+     * @param soma10 Soma do módulo 10 das posições 0 a 22
+     * @param soma11 Soma do módulo 11 (pesos 2 a 7) das posições 0 a 22,
+     * seguidas do primeiro dígito
+     */
+    private static void duploDigito(char[] destino, int i, int soma10, int soma11) {
+
+        int resto = soma10 % 10;
+        int primeiro = resto == 0 ? 0 : 10 - resto;
+
+        destino[i + 23] = digito(primeiro);
+        resto = (soma11 + MODULO11_ATE_7.soma(destino, i + 23, i + 24, 0)) % 11;
+
+        while (resto == 1) {
+            primeiro = primeiro == 9 ? 0 : primeiro + 1;
+            destino[i + 23] = digito(primeiro);
+            resto = (soma11 + MODULO11_ATE_7.soma(destino, i + 23, i + 24, 0)) % 11;
+        }
+
+        destino[i + 24] = digito(resto == 0 ? 0 : 11 - resto);
+    }
+
+    private static char dacItau(int soma) {
+
+        int dac = 10 - soma % 10;
+
+        return digito(dac > 9 ? 0 : dac);
+    }
+
+    private static char dvSicredi(int soma) {
+
+        int resto = soma % 11;
+
+        return digito(resto == 0 || resto == 1 ? 0 : 11 - resto);
+    }
+
+    private static char dvUnibanco(int soma) {
+
+        int resto = soma * 10 % 11;
+
+        return digito(resto == 10 ? 0 : resto);
+    }
+
+    /*
+     * Escrita dos campos.
+     */
+
+    /**
+     * Indicador de valor do Sicredi e da Unicred: "1" para valores maiores
+     * que zero, "0" para zero.
+     */
+    private static boolean indicadorDeValor(Titulo titulo, char[] destino, int posicao) {
+
+        BigDecimal valor = titulo.getValor();
+
+        if (isNull(valor) || valor.signum() < 0) {
+            return false;
+        }
+
+        destino[posicao] = valor.signum() > 0 ? '1' : '0';
+
+        return true;
+    }
+
+    /**
+     * Nosso número seguido do dígito, alinhados à direita e completados com
+     * zeros em um campo de {@code tamanho} posições que termina em
+     * {@code fim}.
+     */
+    private static boolean nossoNumeroComDigito(Titulo titulo, int tamanho, char[] destino, int fim) {
+
+        String nossoNumero = titulo.getNossoNumero();
+        String digito = titulo.getDigitoDoNossoNumero();
+
+        return !isNull(nossoNumero) && !isNull(digito)
+                && digitos(digito, 0, tamanho, destino, fim)
+                && digitos(nossoNumero, 0, tamanho - digito.length(), destino, fim - digito.length());
+    }
+
+    /**
+     * Escreve os dígitos de {@code valor} alinhados à direita, terminando em
+     * {@code fim}; as posições à esquerda já estão zeradas pelo modelo.
+     *
+     * @return {@code false} caso o valor seja nulo, tenha tamanho fora de
+     * {@code minimo} a {@code maximo} ou algo diferente de '0' a '9'
+     */
+    private static boolean digitos(String valor, int minimo, int maximo, char[] destino, int fim) {
+
+        if (isNull(valor) || valor.length() < minimo || valor.length() > maximo) {
+            return false;
+        }
+
+        return copie(valor, 0, valor.length(), destino, fim - valor.length());
+    }
+
+    private static boolean copie(String valor, int de, int ate, char[] destino, int inicio) {
+
+        for (int k = de, p = inicio; k < ate; k++, p++) {
+            char c = valor.charAt(k);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            destino[p] = c;
+        }
+
+        return true;
+    }
+
+    /**
+     * Como {@code Integer.valueOf(valor)} escrito com {@code tamanho}
+     * posições: zeros à esquerda além do tamanho são descartados.
+     */
+    private static boolean inteiro(String valor, int tamanho, char[] destino, int fim) {
+
+        if (isNull(valor) || valor.isEmpty()) {
+            return false;
+        }
+
+        for (int k = valor.length() - 1, p = fim - 1; k >= 0; k--, p--) {
+            char c = valor.charAt(k);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            if (p >= fim - tamanho) {
+                destino[p] = c;
+            } else if (c != '0') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Escreve um parâmetro bancário inteiro com zeros à esquerda.
+     *
+     * @return {@code false} caso o parâmetro não seja um {@code Integer} de 0
+     * até o maior número com {@code tamanho} dígitos
+     */
+    private static boolean numero(Number valor, int tamanho, char[] destino, int fim) {
+
+        return valor instanceof Integer && numero(valor.longValue(), tamanho, destino, fim);
+    }
+
+    private static boolean numero(long valor, int tamanho, char[] destino, int fim) {
+
+        if (valor < 0) {
+            return false;
+        }
+
+        for (int p = fim - 1; p >= fim - tamanho; p--) {
+            destino[p] = (char) ('0' + valor % 10);
+            valor /= 10;
+        }
+
+        return valor == 0;
+    }
+
+    /**
+     * Valor em centavos como no campo com {@code DecimalFormat.NUMBER_DD_BR}:
+     * valores com mais de duas casas decimais ou negativos vão para o caminho
+     * comum.
+     */
+    private static boolean centavos(Number valor, int tamanho, char[] destino, int fim) {
+
+        if (!(valor instanceof BigDecimal)) {
+            return false;
+        }
+
+        BigDecimal decimal = (BigDecimal) valor;
+
+        if (decimal.signum() < 0 || decimal.scale() > 2) {
+            return false;
+        }
+
+        BigDecimal centavos = decimal.movePointRight(2);
+
+        return centavos.precision() <= tamanho && numero(centavos.longValue(), tamanho, destino, fim);
+    }
+
+    private static Number parametro(Titulo titulo, ParametroBancario<?> nome) {
+
+        ParametrosBancariosMap parametros = titulo.getParametrosBancarios();
+
+        return isNull(parametros) ? null : parametros.<Number>getValor(nome);
+    }
+
+    private static boolean comecaCom(String numero, String[] prefixos) {
+
+        for (String prefixo : prefixos) {
+            if (numero.startsWith(prefixo)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isZerado(String numero) {
+
+        for (int k = 0; k < numero.length(); k++) {
+            if (numero.charAt(k) != '0') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Soma do intervalo {@code [inicio, fim)} do campo livre como parte dos
+     * dígitos {@code [0, limite)}.
+     */
+    private static int soma(CalculadorDeModulo calculador, char[] campo, int i, int inicio, int fim, int limite) {
+
+        return calculador.soma(campo, i + inicio, i + fim, limite - fim);
+    }
+
+    private static void zere(char[] modelo, int inicio, int fim) {
+
+        Arrays.fill(modelo, inicio, fim, '0');
+    }
+
+    private static char digito(int valor) {
+
+        return (char) ('0' + valor);
+    }
+}
@@ -37,6 +37,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.security.MessageDigest;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -229,6 +230,28 @@ public class Files {
         return output.toByteArray();
     }
 
+    /**
+     * Calcula o hash SHA-256 do conteúdo, usado como identificador de
+     * templates e imagens.
+     *
+     * @param bytes Conteúdo
+     * @return Hash em hexadecimal
+     */
+    public static String sha256Hex(byte[] bytes) {
+        Objects.checkNotNull(bytes);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+                hex.append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException(e);
+        }
+    }
+
     public static File zip(File f) {
 
         return zip(f.getName(), f);
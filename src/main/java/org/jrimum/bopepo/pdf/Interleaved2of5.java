@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static java.lang.String.format;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * Geometria do código de barras Intercalado 2 de 5 (ITF) usado nos boletos e
+ * guias no padrão FEBRABAN, independente da forma de desenho (PDF, SVG, etc).
+ *
+ * <p>
+ * As larguras de barras e espaços de cada par de dígitos (00 a 99) são
+ * pré-calculadas, de forma que a geração consiste apenas em percorrer a tabela
+ * e informar cada barra ao {@link BarHandler}. As posições e larguras são
+ * expressas em módulos (largura da barra estreita).
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class Interleaved2of5 {
+
+    /**
+     * Razão entre barra larga e estreita usada pelo Bopepo (mesma do
+     * {@code BarcodeInter25.setN(3)} utilizado anteriormente).
+     */
+    public static final float DEFAULT_N = 3f;
+
+    /**
+     * Padrão de cada dígito: 1 para elemento largo e 0 para estreito.
+     */
+    private static final byte[][] DIGITS = {
+        {0, 0, 1, 1, 0},
+        {1, 0, 0, 0, 1},
+        {0, 1, 0, 0, 1},
+        {1, 1, 0, 0, 0},
+        {0, 0, 1, 0, 1},
+        {1, 0, 1, 0, 0},
+        {0, 1, 1, 0, 0},
+        {0, 0, 0, 1, 1},
+        {1, 0, 0, 1, 0},
+        {0, 1, 0, 1, 0}
+    };
+
+    /**
+     * Para cada par de dígitos, os 10 elementos intercalados (barra, espaço,
+     * barra, ...): barras do primeiro dígito e espaços do segundo.
+     */
+    private static final byte[][] PAIRS = new byte[100][10];
+
+    static {
+        for (int d1 = 0; d1 < 10; d1++) {
+            for (int d2 = 0; d2 < 10; d2++) {
+                byte[] pair = PAIRS[d1 * 10 + d2];
+                for (int k = 0; k < 5; k++) {
+                    pair[2 * k] = DIGITS[d1][k];
+                    pair[2 * k + 1] = DIGITS[d2][k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Recebe as barras (elementos pretos) do código, da esquerda para a
+     * direita.
+     */
+    public interface BarHandler {
+
+        /**
+         * @param x Início da barra em módulos
+         * @param width Largura da barra em módulos
+         */
+        void bar(float x, float width);
+    }
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private Interleaved2of5() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * Largura total, em módulos, de um código com a quantidade de dígitos
+     * informada (incluindo start e stop). Quantidades ímpares são completadas
+     * com um zero à esquerda.
+     *
+     * @param length Quantidade de dígitos
+     * @param n Razão entre barra larga e estreita
+     * @return Largura em módulos
+     */
+    public static float widthInModules(int length, float n) {
+        int pairs = (length + 1) / 2;
+        return 4 + pairs * (4 * n + 6) + n + 2;
+    }
+
+    /**
+     * Percorre as barras do código informando posição e largura de cada uma ao
+     * {@code handler}.
+     *
+     * @param code Código numérico
+     * @param n Razão entre barra larga e estreita
+     * @param handler Destino das barras
+     * @return Largura total do código em módulos
+     *
+     * @throws IllegalArgumentException Caso o código seja nulo, vazio ou
+     * contenha caracteres não numéricos
+     */
+    public static float forEachBar(CharSequence code, float n, BarHandler handler) {
+
+        checkCode(code);
+
+        final int length = code.length();
+        float x = 0;
+
+        // start: barra, espaço, barra, espaço estreitos
+        handler.bar(x, 1);
+        x += 2;
+        handler.bar(x, 1);
+        x += 2;
+
+        int i = 0;
+        if ((length & 1) == 1) {
+            x = pair(0, digit(code, 0), n, x, handler);
+            i = 1;
+        }
+        for (; i < length; i += 2) {
+            x = pair(digit(code, i), digit(code, i + 1), n, x, handler);
+        }
+
+        // stop: barra larga, espaço estreito, barra estreita
+        handler.bar(x, n);
+        x += n + 1;
+        handler.bar(x, 1);
+
+        return x + 1;
+    }
+
+    private static float pair(int d1, int d2, float n, float x, BarHandler handler) {
+        final byte[] elements = PAIRS[d1 * 10 + d2];
+        for (int k = 0; k < 10; k += 2) {
+            float bar = elements[k] == 1 ? n : 1;
+            handler.bar(x, bar);
+            x += bar + (elements[k + 1] == 1 ? n : 1);
+        }
+        return x;
+    }
+
+    private static int digit(CharSequence code, int index) {
+        return code.charAt(index) - '0';
+    }
+
+    private static void checkCode(CharSequence code) {
+        Objects.checkNotNull(code, "Código nulo!");
+        Objects.checkArgument(code.length() > 0, "Código ausente!");
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                Exceptions.throwIllegalArgumentException(format("Código não contém apenas números! str = \"%s\"", code));
+            }
+        }
+    }
+}
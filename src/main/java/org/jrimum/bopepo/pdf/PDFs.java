@@ -29,14 +29,12 @@
  */
 package org.jrimum.bopepo.pdf;
 
-import com.itextpdf.text.Document;
+import com.itextpdf.text.BaseColor;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Image;
+import com.itextpdf.text.Rectangle;
 import com.itextpdf.text.pdf.PdfContentByte;
-import com.itextpdf.text.pdf.PdfCopy;
-import com.itextpdf.text.pdf.PdfReader;
 import com.itextpdf.text.pdf.PdfStamper;
-import java.io.ByteArrayOutputStream;
 import java.util.Collection;
 
 import org.jrimum.utilix.Exceptions;
@@ -116,6 +114,68 @@ public class PDFs {
         return rect;
     }
 
+    /**
+     * <p>
+     * Muda um input field para um código de barras Intercalado 2 de 5 desenhado
+     * em forma vetorial, ocupando as dimensões e posição do field.
+     * </p>
+     *
+     * @param stamper
+     * @param rect
+     * @param code Código numérico
+     * @return rectanglePDF
+     *
+     * @see Interleaved2of5
+     *
+     * @since 0.2
+     */
+    public static PdfRectangle changeFieldToBarcode(PdfStamper stamper,
+            PdfRectangle rect, String code) {
+
+        int page = rect.getPage();
+        PdfContentByte overContent = stamper.getOverContent(page);
+        //Tentar a proxima pagina
+        if (overContent == null) {
+            overContent = stamper.getOverContent(page + 1);
+        }
+        drawBarcode(overContent, rect, code);
+        return rect;
+    }
+
+    /**
+     * <p>
+     * Desenha um código de barras Intercalado 2 de 5 como retângulos
+     * preenchidos no conteúdo informado, esticado para ocupar todo o
+     * {@code rect}.
+     * </p>
+     *
+     * @param cb Conteúdo de destino
+     * @param rect Área do código
+     * @param code Código numérico
+     *
+     * @since 0.2
+     */
+    public static void drawBarcode(final PdfContentByte cb, final Rectangle rect, String code) {
+
+        final float module = rect.getWidth()
+                / Interleaved2of5.widthInModules(code.length(), Interleaved2of5.DEFAULT_N);
+        final float x0 = rect.getLeft();
+        final float y0 = rect.getBottom();
+        final float height = rect.getHeight();
+
+        cb.saveState();
+        cb.setColorFill(BaseColor.BLACK);
+        Interleaved2of5.forEachBar(code, Interleaved2of5.DEFAULT_N, new Interleaved2of5.BarHandler() {
+
+            @Override
+            public void bar(float x, float width) {
+                cb.rectangle(x0 + x * module, y0, width * module, height);
+            }
+        });
+        cb.fill();
+        cb.restoreState();
+    }
+
     /**
      * Junta varios arquivos pdf em um só.
      *
@@ -142,45 +202,48 @@ public class PDFs {
      */
     public static byte[] mergeFiles(Collection<byte[]> pdfFiles, PdfDocInfo info) {
 
-        try {
-
-            ByteArrayOutputStream byteOS = new ByteArrayOutputStream();
-
-            Document document = new Document();
+        return mergeFiles(pdfFiles, info, false);
+    }
 
-            PdfCopy copy = new PdfCopy(document, byteOS);
+    /**
+     * Junta varios arquivos pdf em um só, opcionalmente compacto: os objetos
+     * idênticos entre os arquivos (fontes, imagens, conteúdo estático) são
+     * escritos uma única vez e o resultado usa "full compression".
+     *
+     * @param pdfFiles Coleção de array de bytes
+     * @param info Usa somente as informações
+     * (title,subject,keywords,author,creator)
+     * @param compact Indica se o resultado deve ser compacto
+     *
+     * @return Arquivo PDF em forma de byte
+     *
+     * @see PdfStreamMerger#withSmartCopy(boolean)
+     *
+     * @since 0.2
+     */
+    public static byte[] mergeFiles(Collection<byte[]> pdfFiles, PdfDocInfo info, boolean compact) {
 
-            document.open();
+        try {
 
-            for (byte[] f : pdfFiles) {
+            PdfOutputBuffer byteOS = PdfOutputBuffer.acquire();
 
-                PdfReader reader = new PdfReader(f);
+            try {
 
-                for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+                PdfStreamMerger merger = new PdfStreamMerger(byteOS).withDocInfo(info)
+                        .withSmartCopy(compact).withFullCompression(compact);
 
-                    copy.addPage(copy.getImportedPage(reader, page));
+                for (byte[] f : pdfFiles) {
+                    merger.add(f);
                 }
 
-                reader.close();
-            }
-
-            document.addCreationDate();
+                merger.close();
 
-            if (info != null) {
+                return byteOS.toByteArray();
 
-                document.addAuthor(info.author());
-                document.addCreator(info.creator());
-                document.addTitle(info.title());
-                document.addSubject(info.subject());
-                document.addKeywords(info.keywords());
+            } finally {
+                byteOS.release();
             }
 
-            copy.close();
-            document.close();
-            byteOS.close();
-
-            return byteOS.toByteArray();
-
         } catch (Exception e) {
             return Exceptions.throwIllegalStateException(e);
         }
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jrimum.utilix.Collections;
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.io.RandomAccessSourceFactory;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfStamper;
+import com.itextpdf.text.pdf.RandomAccessFileOrArray;
+
+/**
+ * Acrescenta documentos PDF (ex: boletos) ao final de um PDF existente por
+ * atualização incremental, sem gerar o arquivo novamente.
+ *
+ * <p>
+ * O arquivo existente é aberto em modo parcial (apenas xref e trailer) e as
+ * novas páginas, seus recursos, a nova tabela de referências e o novo
+ * trailer são escritos no fim do arquivo ({@link PdfStamper} em modo
+ * "append"). As páginas existentes não são interpretadas nem reescritas.
+ * </p>
+ *
+ * <p>
+ * Custo: o modo "append" do {@link PdfStamper} sempre copia o arquivo
+ * original para a saída antes da atualização. Essa cópia é descartada (nada
+ * é reescrito no disco), mas o arquivo inteiro ainda é lido sequencialmente
+ * a cada chamada, então cada acréscimo custa E/S proporcional ao tamanho do
+ * arquivo, além da geração dos documentos acrescentados. Para acrescentar
+ * muitos documentos, prefira agrupá-los em uma única chamada de
+ * {@link #append(Path, Collection)}; para gerar o arquivo de uma só vez, use
+ * {@linkplain PDFs#mergeFiles(Collection)}.
+ * </p>
+ *
+ * <p>
+ * Cada página acrescentada é importada como form XObject: o conteúdo é
+ * preservado, mas campos de formulário e anotações do documento de origem
+ * não são copiados (boletos gerados com campos "flattened" não os têm). O
+ * arquivo é bloqueado ({@link FileLock}) durante o acréscimo e, em caso de
+ * falha, volta ao tamanho original. O bloqueio protege contra outros
+ * processos; acréscimos concorrentes ao mesmo arquivo dentro da mesma JVM
+ * não esperam um pelo outro e são rejeitados. Cada acréscimo aumenta o arquivo com uma
+ * nova seção de atualização; um arquivo com muitos acréscimos pode ser
+ * compactado ocasionalmente com {@link PdfStreamMerger}.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class PdfAppender {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private PdfAppender() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * Acrescenta as páginas de um documento ao final do arquivo.
+     *
+     * @param file Arquivo PDF de destino; caso não exista ou esteja vazio, o
+     * documento é copiado para ele
+     * @param pdf Documento a ser acrescentado
+     * @return Quantidade de páginas do arquivo após o acréscimo
+     *
+     * @throws IOException Caso o arquivo não possa ser lido ou escrito
+     * @throws IllegalStateException Caso outro acréscimo ao mesmo arquivo
+     * esteja em andamento nesta JVM
+     */
+    public static int append(Path file, byte[] pdf) throws IOException {
+
+        Objects.checkNotNull(pdf, "Documento nulo!");
+
+        return append(file, java.util.Collections.singletonList(pdf));
+    }
+
+    /**
+     * Acrescenta as páginas dos documentos, na ordem da coleção, ao final do
+     * arquivo em uma única atualização incremental.
+     *
+     * @param file Arquivo PDF de destino; caso não exista ou esteja vazio, o
+     * primeiro documento é copiado para ele
+     * @param pdfs Documentos a serem acrescentados
+     * @return Quantidade de páginas do arquivo após o acréscimo
+     *
+     * @throws IOException Caso o arquivo não possa ser lido ou escrito
+     * @throws IllegalStateException Caso outro acréscimo ao mesmo arquivo
+     * esteja em andamento nesta JVM
+     */
+    public static int append(Path file, Collection<byte[]> pdfs) throws IOException {
+
+        Objects.checkNotNull(file, "Arquivo nulo!");
+        Collections.checkNotEmpty(pdfs, "Documentos não informados!");
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            FileLock lock = lock(channel, file);
+
+            try {
+                long size = channel.size();
+
+                try {
+                    int pages = appendTo(channel, file, size, new ArrayList<byte[]>(pdfs));
+                    channel.force(true);
+                    return pages;
+                } catch (IOException e) {
+                    channel.truncate(size);
+                    throw e;
+                } catch (RuntimeException e) {
+                    channel.truncate(size);
+                    throw e;
+                }
+
+            } finally {
+                lock.release();
+            }
+
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static FileLock lock(FileChannel channel, Path file) throws IOException {
+
+        try {
+            return channel.lock();
+        } catch (OverlappingFileLockException e) {
+            // O FileLock é por processo: um segundo bloqueio na mesma JVM
+            // falha em vez de esperar.
+            return Exceptions.throwIllegalStateException("Acréscimo ao arquivo " + file + " já em andamento!", e);
+        }
+    }
+
+    private static int appendTo(FileChannel channel, Path file, long size, List<byte[]> pdfs) throws IOException {
+
+        OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel.position(size)), BUFFER_SIZE);
+
+        if (size == 0) {
+            // Arquivo novo: o primeiro documento é copiado como está.
+            byte[] first = pdfs.get(0);
+            output.write(first);
+            output.flush();
+            if (pdfs.size() == 1) {
+                PdfReader reader = new PdfReader(first);
+                try {
+                    return reader.getNumberOfPages();
+                } finally {
+                    reader.close();
+                }
+            }
+            return appendTo(channel, file, channel.size(), pdfs.subList(1, pdfs.size()));
+        }
+
+        // Leitura parcial: as páginas existentes não são interpretadas.
+        PdfReader reader = new PdfReader(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createBestSource(file.toString())), null);
+
+        try {
+            // O modo "append" do stamper copia o arquivo original antes da
+            // atualização; essa cópia é descartada e apenas a atualização é
+            // escrita no fim do arquivo.
+            SkipOutputStream increment = new SkipOutputStream(output, size);
+
+            PdfStamper stamper = new PdfStamper(reader, increment, '\0', true);
+
+            int page = reader.getNumberOfPages();
+
+            for (byte[] pdf : pdfs) {
+                PdfReader source = new PdfReader(pdf);
+                try {
+                    for (int i = 1; i <= source.getNumberOfPages(); i++) {
+                        Rectangle pageSize = source.getPageSize(i);
+                        stamper.insertPage(++page, pageSize);
+                        stamper.getOverContent(page).addTemplate(stamper.getImportedPage(source, i), 0, 0);
+                    }
+                    stamper.getWriter().freeReader(source);
+                } finally {
+                    source.close();
+                }
+            }
+
+            stamper.close();
+            output.flush();
+
+            Objects.checkState(increment.skipped == size, "Cópia do arquivo original incompleta!");
+
+            return page;
+
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException("Erro ao acrescentar ao PDF! Causado por " + e.getLocalizedMessage(), e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Descarta os primeiros {@code skip} bytes escritos.
+     */
+    private static final class SkipOutputStream extends OutputStream {
+
+        private final OutputStream out;
+
+        private final long skip;
+
+        private long skipped;
+
+        SkipOutputStream(OutputStream out, long skip) {
+            this.out = out;
+            this.skip = skip;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (skipped < skip) {
+                int n = (int) Math.min(len, skip - skipped);
+                skipped += n;
+                off += n;
+                len -= n;
+            }
+            if (len > 0) {
+                out.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // O canal é fechado por PdfAppender.
+            out.flush();
+        }
+    }
+}
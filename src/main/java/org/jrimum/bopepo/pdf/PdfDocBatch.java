@@ -0,0 +1,513 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.jrimum.utilix.Collections.hasElement;
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Image;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.ColumnText;
+import com.itextpdf.text.pdf.PdfContentByte;
+import com.itextpdf.text.pdf.PdfImportedPage;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfWriter;
+
+/**
+ * Gera vários documentos (ex: boletos) em um único PDF reaproveitando o
+ * conteúdo estático dos templates ou dos layouts ({@link PdfLayout}).
+ *
+ * <p>
+ * Cada página de um template é importada uma única vez como form XObject e
+ * todas as páginas geradas a partir dele apenas a referenciam; sobre ela são
+ * desenhados somente os textos, imagens e códigos de barras nos retângulos dos
+ * campos do template. Diferente do {@link PdfDocMix} seguido de
+ * {@link PdfStreamMerger}, não há preenchimento de formulário nem nova
+ * interpretação do PDF gerado, e o conteúdo do template aparece uma única vez
+ * no arquivo. As páginas são escritas no destino à medida que são geradas.
+ * </p>
+ *
+ * <p>
+ * Os textos são desenhados em Helvetica com o tamanho e alinhamento definidos
+ * no campo do template ({@linkplain PdfTemplate.Field}). Instâncias não são
+ * thread-safe.
+ * </p>
+ *
+ * @since 0.2
+ */
+public class PdfDocBatch implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Margem interna dos campos de texto, como na aparência gerada pelo iText.
+     */
+    private static final float PADDING = 2f;
+
+    /**
+     * Tamanho máximo de fonte para campos com tamanho automático.
+     */
+    private static final float MAX_AUTO_FONT_SIZE = 12f;
+
+    private static final float MIN_AUTO_FONT_SIZE = 4f;
+
+    private static final float LEADING = 1.15f;
+
+    private static final BaseFont FONT = createFont();
+
+    private static final float FONT_ASCENT = FONT.getFontDescriptor(BaseFont.ASCENT, 1f);
+
+    private static final float FONT_DESCENT = FONT.getFontDescriptor(BaseFont.DESCENT, 1f);
+
+    private final OutputStream output;
+
+    private final Document document;
+
+    private final PdfWriter writer;
+
+    /**
+     * Páginas já importadas de cada template.
+     */
+    private final Map<PdfTemplate, PdfImportedPage[]> importedTemplates = new IdentityHashMap<PdfTemplate, PdfImportedPage[]>();
+
+    /**
+     * Conteúdo estático já desenhado de cada layout.
+     */
+    private final Map<PdfLayout, com.itextpdf.text.pdf.PdfTemplate> drawnLayouts = new IdentityHashMap<PdfLayout, com.itextpdf.text.pdf.PdfTemplate>();
+
+    /**
+     * Imagens já convertidas, compartilhadas entre as páginas (mesmo XObject).
+     */
+    private final Map<java.awt.Image, Image> images = new WeakHashMap<java.awt.Image, Image>();
+
+    private PdfDocInfo docInfo;
+
+    private int numberOfDocuments;
+
+    private boolean opened;
+
+    private boolean closed;
+
+    /**
+     * @param output Destino do documento gerado
+     *
+     * @throws IllegalArgumentException Caso o {@code output} seja nulo
+     */
+    public PdfDocBatch(OutputStream output) {
+
+        Objects.checkNotNull(output, "Destino do PDF nulo!");
+
+        try {
+
+            this.output = new BufferedOutputStream(output, BUFFER_SIZE);
+            this.document = new Document();
+            this.writer = PdfWriter.getInstance(document, this.output);
+            this.writer.setCloseStream(false);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("Erro ao iniciar o PDF! Causado por " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Usa somente as informações (title,subject,keywords,author,creator) no
+     * documento gerado.
+     *
+     * @param info Informações do documento
+     * @return Esta instância após a operação
+     */
+    public PdfDocBatch withDocInfo(PdfDocInfo info) {
+        this.docInfo = info;
+        return this;
+    }
+
+    /**
+     * Adiciona um documento com todas as páginas do template e os valores dos
+     * campos informados. Campos inexistentes no template são ignorados.
+     *
+     * @param template Template compilado
+     * @param texts Campos de texto (nome,valor), pode ser nulo
+     * @param imgs Campos de imagem (nome,imagem), pode ser nulo
+     * @param barcodes Campos de código de barras (nome,código), pode ser nulo
+     * @return Esta instância após a operação
+     */
+    public PdfDocBatch add(PdfTemplate template, Map<String, String> texts, Map<String, java.awt.Image> imgs, Map<String, String> barcodes) {
+        return add(template, null, null, texts, imgs, barcodes);
+    }
+
+    /**
+     * Adiciona um documento com todas as páginas do template, os textos
+     * informados por posição de um vínculo pré-compilado e os demais valores
+     * por nome de campo.
+     *
+     * @param template Template compilado
+     * @param binding Vínculo obtido por {@linkplain PdfTemplate#bind(String[])}
+     * deste template, pode ser nulo
+     * @param values Textos nas posições do {@code binding}, valores nulos ou
+     * em branco são ignorados
+     * @param texts Demais campos de texto (nome,valor), pode ser nulo
+     * @param imgs Campos de imagem (nome,imagem), pode ser nulo
+     * @param barcodes Campos de código de barras (nome,código), pode ser nulo
+     * @return Esta instância após a operação
+     *
+     * @throws IllegalArgumentException Caso o vínculo seja de outro template
+     */
+    public PdfDocBatch add(PdfTemplate template, PdfFieldBinding binding, String[] values, Map<String, String> texts, Map<String, java.awt.Image> imgs, Map<String, String> barcodes) {
+
+        Objects.checkNotNull(template, "Template nulo!");
+        checkBinding(binding, values, template.getFields());
+        Objects.checkState(!closed, "Documento já finalizado!");
+
+        try {
+
+            PdfImportedPage[] pages = importTemplate(template);
+
+            for (int page = 1; page <= pages.length; page++) {
+
+                newPage(new Rectangle(pages[page - 1].getWidth(), pages[page - 1].getHeight()));
+
+                PdfContentByte cb = writer.getDirectContent();
+
+                cb.addTemplate(pages[page - 1], 0, 0);
+
+                drawFields(cb, template.getFields(), page, binding, values, texts, imgs, barcodes);
+            }
+
+            numberOfDocuments++;
+
+            return this;
+
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    /**
+     * Adiciona um documento de uma página com o layout e os valores dos campos
+     * informados. O conteúdo estático do layout é desenhado apenas na
+     * primeira vez em que o layout é usado neste documento. Campos
+     * inexistentes no layout são ignorados.
+     *
+     * @param layout Layout definido em código
+     * @param texts Campos de texto (nome,valor), pode ser nulo
+     * @param imgs Campos de imagem (nome,imagem), pode ser nulo
+     * @param barcodes Campos de código de barras (nome,código), pode ser nulo
+     * @return Esta instância após a operação
+     */
+    public PdfDocBatch add(PdfLayout layout, Map<String, String> texts, Map<String, java.awt.Image> imgs, Map<String, String> barcodes) {
+        return add(layout, null, null, texts, imgs, barcodes);
+    }
+
+    /**
+     * Adiciona um documento de uma página com o layout, os textos informados
+     * por posição de um vínculo pré-compilado e os demais valores por nome de
+     * campo.
+     *
+     * @param layout Layout definido em código
+     * @param binding Vínculo obtido por {@linkplain PdfLayout#bind(String[])}
+     * deste layout, pode ser nulo
+     * @param values Textos nas posições do {@code binding}, valores nulos ou
+     * em branco são ignorados
+     * @param texts Demais campos de texto (nome,valor), pode ser nulo
+     * @param imgs Campos de imagem (nome,imagem), pode ser nulo
+     * @param barcodes Campos de código de barras (nome,código), pode ser nulo
+     * @return Esta instância após a operação
+     *
+     * @throws IllegalArgumentException Caso o vínculo seja de outro layout
+     */
+    public PdfDocBatch add(PdfLayout layout, PdfFieldBinding binding, String[] values, Map<String, String> texts, Map<String, java.awt.Image> imgs, Map<String, String> barcodes) {
+
+        Objects.checkNotNull(layout, "Layout nulo!");
+        checkBinding(binding, values, layout.getFields());
+        Objects.checkState(!closed, "Documento já finalizado!");
+
+        try {
+
+            newPage(layout.getPageSize());
+
+            PdfContentByte cb = writer.getDirectContent();
+
+            cb.addTemplate(drawLayout(layout), 0, 0);
+
+            drawFields(cb, layout.getFields(), 1, binding, values, texts, imgs, barcodes);
+
+            numberOfDocuments++;
+
+            return this;
+
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return Quantidade de documentos adicionados
+     */
+    public int getNumberOfDocuments() {
+        return numberOfDocuments;
+    }
+
+    /**
+     * Finaliza o documento gerado e descarrega o destino sem fechá-lo.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        Objects.checkState(opened, "Nenhum documento adicionado!");
+
+        document.addCreationDate();
+
+        if (isNotNull(docInfo)) {
+            docInfo.addTo(document);
+        }
+
+        document.close();
+        output.flush();
+    }
+
+    private PdfImportedPage[] importTemplate(PdfTemplate template) {
+
+        PdfImportedPage[] pages = importedTemplates.get(template);
+
+        if (isNull(pages)) {
+            PdfReader reader = template.newReader();
+            pages = new PdfImportedPage[reader.getNumberOfPages()];
+            for (int page = 1; page <= pages.length; page++) {
+                pages[page - 1] = writer.getImportedPage(reader, page);
+            }
+            importedTemplates.put(template, pages);
+        }
+
+        return pages;
+    }
+
+    private com.itextpdf.text.pdf.PdfTemplate drawLayout(PdfLayout layout) {
+
+        com.itextpdf.text.pdf.PdfTemplate content = drawnLayouts.get(layout);
+
+        if (isNull(content)) {
+            Rectangle size = layout.getPageSize();
+            content = writer.getDirectContent().createTemplate(size.getWidth(), size.getHeight());
+            layout.drawStaticContent(content);
+            drawnLayouts.put(layout, content);
+        }
+
+        return content;
+    }
+
+    private void newPage(Rectangle pageSize) {
+
+        document.setPageSize(pageSize);
+
+        if (opened) {
+            document.newPage();
+        } else {
+            document.open();
+            opened = true;
+        }
+
+        writer.setPageEmpty(false);
+    }
+
+    private static void checkBinding(PdfFieldBinding binding, String[] values, Map<String, PdfTemplate.Field> fields) {
+        if (isNotNull(binding)) {
+            Objects.checkArgument(binding.isBoundTo(fields), "Vínculo de campos de outro template!");
+            Objects.checkArgument(isNull(values) || values.length == binding.size(), "Quantidade de valores diferente do vínculo de campos!");
+        }
+    }
+
+    private void drawFields(PdfContentByte cb, Map<String, PdfTemplate.Field> fields, int page, PdfFieldBinding binding, String[] values,
+            Map<String, String> texts, Map<String, java.awt.Image> imgs, Map<String, String> barcodes) throws Exception {
+        drawTexts(cb, binding, page, values);
+        drawTexts(cb, fields, page, texts);
+        drawImages(cb, fields, page, imgs);
+        drawBarcodes(cb, fields, page, barcodes);
+    }
+
+    private void drawTexts(PdfContentByte cb, Map<String, PdfTemplate.Field> fields, int page, Map<String, String> texts) throws Exception {
+        if (hasElement(texts)) {
+            for (Entry<String, String> e : texts.entrySet()) {
+                PdfTemplate.Field field = fields.get(e.getKey());
+                if (isNotNull(field) && isNotBlank(e.getValue())) {
+                    for (PdfRectangle rect : field.getPositions()) {
+                        if (rect.getPage() == page) {
+                            drawText(cb, field, rect, e.getValue());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void drawTexts(PdfContentByte cb, PdfFieldBinding binding, int page, String[] values) throws Exception {
+        if (isNotNull(binding) && isNotNull(values)) {
+            for (int slot = 0; slot < values.length; slot++) {
+                PdfTemplate.Field field = binding.get(slot);
+                if (isNotNull(field) && isNotBlank(values[slot])) {
+                    for (PdfRectangle rect : field.getPositions()) {
+                        if (rect.getPage() == page) {
+                            drawText(cb, field, rect, values[slot]);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void drawImages(PdfContentByte cb, Map<String, PdfTemplate.Field> fields, int page, Map<String, java.awt.Image> imgs) throws Exception {
+        if (hasElement(imgs)) {
+            for (Entry<String, java.awt.Image> e : imgs.entrySet()) {
+                PdfTemplate.Field field = fields.get(e.getKey());
+                if (isNotNull(field) && isNotNull(e.getValue())) {
+                    for (PdfRectangle rect : field.getPositions()) {
+                        if (rect.getPage() == page) {
+                            drawImage(cb, rect, e.getValue());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void drawBarcodes(PdfContentByte cb, Map<String, PdfTemplate.Field> fields, int page, Map<String, String> barcodes) {
+        if (hasElement(barcodes)) {
+            for (Entry<String, String> e : barcodes.entrySet()) {
+                PdfTemplate.Field field = fields.get(e.getKey());
+                if (isNotNull(field) && isNotBlank(e.getValue())) {
+                    for (PdfRectangle rect : field.getPositions()) {
+                        if (rect.getPage() == page) {
+                            PDFs.drawBarcode(cb, rect, e.getValue());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void drawText(PdfContentByte cb, PdfTemplate.Field field, Rectangle rect, String text) throws Exception {
+
+        float size = field.getFontSize();
+
+        if (field.isMultiline()) {
+
+            if (size == PdfTemplate.Field.AUTO_SIZE) {
+                size = MAX_AUTO_FONT_SIZE;
+            }
+
+            ColumnText ct = new ColumnText(cb);
+            ct.setSimpleColumn(rect.getLeft() + PADDING, rect.getBottom() + PADDING,
+                    rect.getRight() - PADDING, rect.getTop() - PADDING);
+            ct.setLeading(0, LEADING);
+            ct.setAlignment(field.getAlignment());
+            ct.setText(new Phrase(text, new Font(FONT, size)));
+            ct.go();
+
+        } else {
+
+            String line = text.replace('\n', ' ').replace('\r', ' ');
+
+            if (size == PdfTemplate.Field.AUTO_SIZE) {
+                size = autoSize(rect, line);
+            }
+
+            float x;
+            switch (field.getAlignment()) {
+                case PdfTemplate.Field.ALIGN_CENTER:
+                    x = (rect.getLeft() + rect.getRight()) / 2;
+                    break;
+                case PdfTemplate.Field.ALIGN_RIGHT:
+                    x = rect.getRight() - PADDING;
+                    break;
+                default:
+                    x = rect.getLeft() + PADDING;
+            }
+
+            // Linha centralizada verticalmente no campo.
+            float y = rect.getBottom() + (rect.getHeight() - (FONT_ASCENT - FONT_DESCENT) * size) / 2 - FONT_DESCENT * size;
+
+            cb.beginText();
+            cb.setFontAndSize(FONT, size);
+            cb.showTextAligned(field.getAlignment(), line, x, y, 0);
+            cb.endText();
+        }
+    }
+
+    private static float autoSize(Rectangle rect, String line) {
+
+        float size = Math.min(MAX_AUTO_FONT_SIZE, (rect.getHeight() - 2 * PADDING) / (FONT_ASCENT - FONT_DESCENT));
+
+        float width = FONT.getWidthPoint(line, size);
+        float available = rect.getWidth() - 2 * PADDING;
+
+        if (width > available) {
+            size = size * available / width;
+        }
+
+        return Math.max(MIN_AUTO_FONT_SIZE, size);
+    }
+
+    private void drawImage(PdfContentByte cb, Rectangle rect, java.awt.Image awtImage) throws Exception {
+
+        // A cópia mantém a mesma referência interna, logo o mesmo XObject.
+        Image image = PdfImageRegistry.getPdfImage(awtImage);
+
+        if (isNull(image)) {
+            Image prototype = images.get(awtImage);
+            if (isNull(prototype)) {
+                prototype = Image.getInstance(awtImage, null);
+                images.put(awtImage, prototype);
+            }
+            image = Image.getInstance(prototype);
+        }
+
+        image.scaleAbsolute(rect.getWidth(), rect.getHeight());
+        image.setAbsolutePosition(rect.getLeft(), rect.getBottom());
+
+        cb.addImage(image);
+    }
+
+    private static BaseFont createFont() {
+        try {
+            return BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -28,16 +28,21 @@
  */
 package org.jrimum.bopepo.pdf;
 
+import com.itextpdf.text.Document;
 import com.itextpdf.text.pdf.PdfDate;
 import static org.jrimum.utilix.Objects.checkNotNull;
 import static org.jrimum.utilix.Objects.isNotNull;
 
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.jrimum.utilix.Exceptions;
 import org.jrimum.utilix.Objects;
+import org.jrimum.utilix.Strings;
 
 /**
  * Pricipais informações de um documento PDF: Título, Autor, Assunto,
@@ -87,6 +92,13 @@ public class PdfDocInfo {
      */
     private static final String DOC_PRODUCER = "Producer";
 
+    /**
+     * Chaves padrão, que não podem ser usadas como informações
+     * personalizadas.
+     */
+    private static final Set<String> DOC_KEYS = new HashSet<String>(Arrays.asList(DOC_TITLE, DOC_AUTHOR,
+            DOC_SUBJECT, DOC_KEYWORDS, DOC_CREATOR, DOC_CREATION_DATE, DOC_MODIFACTION_DATE, DOC_PRODUCER, "Trapped"));
+
     /**
      * Map com informações sobre o documento: Title, Author, Subject, etc.
      */
@@ -253,6 +265,43 @@ public class PdfDocInfo {
         return this;
     }
 
+    /**
+     * Define uma informação personalizada do documento, gravada no dicionário
+     * de informações junto com as informações padrão e legível sem analisar
+     * as páginas do documento.
+     *
+     * @param name Nome da informação (ex: {@code "NossoNumero"}), diferente
+     * das chaves padrão (Title, Author, etc)
+     * @param value Valor da informação ou {@code null} para removê-la
+     *
+     * @return Esta instância após a operação
+     *
+     * @throws IllegalArgumentException Caso o nome seja vazio ou uma chave
+     * padrão
+     */
+    public PdfDocInfo custom(String name, String value) {
+
+        Strings.checkNotBlank(name, "Nome da informação não informado!");
+        Objects.checkArgument(!DOC_KEYS.contains(name), "Chave padrão não permitida: " + name);
+
+        if (isNotNull(value)) {
+            docInfo.put(name, value);
+        } else {
+            docInfo.remove(name);
+        }
+
+        return this;
+    }
+
+    /**
+     * @param name Nome da informação personalizada
+     * @return Valor da informação ou {@code null} caso não exista
+     */
+    public String custom(String name) {
+
+        return docInfo.get(name);
+    }
+
     /**
      * @return Título do documento
      */
@@ -347,6 +396,37 @@ public class PdfDocInfo {
         return docInfo.get(DOC_PRODUCER);
     }
 
+    /**
+     * Adiciona as informações (title,subject,keywords,author,creator e
+     * personalizadas) definidas ao documento em construção, ignorando as não
+     * informadas.
+     *
+     * @param document Documento em construção
+     */
+    void addTo(Document document) {
+
+        if (isNotNull(author())) {
+            document.addAuthor(author());
+        }
+        if (isNotNull(creator())) {
+            document.addCreator(creator());
+        }
+        if (isNotNull(title())) {
+            document.addTitle(title());
+        }
+        if (isNotNull(subject())) {
+            document.addSubject(subject());
+        }
+        if (isNotNull(keywords())) {
+            document.addKeywords(keywords());
+        }
+        for (Map.Entry<String, String> e : docInfo.entrySet()) {
+            if (!DOC_KEYS.contains(e.getKey())) {
+                document.addHeader(e.getKey(), e.getValue());
+            }
+        }
+    }
+
     /**
      * Transforma as informações do documento em um novo Map a cada chamada.
      *
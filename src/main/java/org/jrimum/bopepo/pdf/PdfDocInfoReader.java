@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+import com.itextpdf.text.io.RandomAccessSource;
+import com.itextpdf.text.io.RandomAccessSourceFactory;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.RandomAccessFileOrArray;
+
+/**
+ * Leitura apenas do dicionário de informações ({@link PdfDocInfo}) de
+ * documentos PDF, incluindo as informações personalizadas gravadas com
+ * {@linkplain PdfDocMix#withCustomInfo(String, String)}.
+ *
+ * <p>
+ * O documento é aberto em modo parcial: somente a tabela de referências, o
+ * trailer e o dicionário de informações são lidos, sem analisar páginas,
+ * formulários ou conteúdo. Arquivos são acessados sem carregá-los por
+ * inteiro em memória.
+ * </p>
+ *
+ * @see #readAll(Path, int, Handler)
+ *
+ * @since 0.2
+ */
+public final class PdfDocInfoReader {
+
+    /**
+     * Padrão dos arquivos lidos em um diretório.
+     */
+    public static final String PDF_GLOB = "*.{pdf,PDF}";
+
+    /**
+     * Recebe as informações dos documentos lidos em
+     * {@linkplain PdfDocInfoReader#readAll(Path, int, Handler)}. Os métodos
+     * são chamados pelas threads de leitura e devem ser thread-safe.
+     */
+    public interface Handler {
+
+        /**
+         * @param file Documento lido
+         * @param info Informações do documento
+         */
+        void read(Path file, PdfDocInfo info);
+
+        /**
+         * @param file Documento que não pôde ser lido
+         * @param e Causa
+         */
+        void failed(Path file, Exception e);
+    }
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private PdfDocInfoReader() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * @param pdf Documento em bytes
+     * @return Informações do documento
+     *
+     * @throws IOException Caso o documento não seja um PDF válido
+     */
+    public static PdfDocInfo read(byte[] pdf) throws IOException {
+
+        Objects.checkNotNull(pdf, "Documento nulo!");
+
+        return readInfo(new RandomAccessSourceFactory().createSource(pdf));
+    }
+
+    /**
+     * @param file Arquivo do documento
+     * @return Informações do documento
+     *
+     * @throws IOException Caso o arquivo não possa ser lido ou não seja um
+     * PDF válido
+     */
+    public static PdfDocInfo read(Path file) throws IOException {
+
+        Objects.checkNotNull(file, "Arquivo nulo!");
+
+        return readInfo(new RandomAccessSourceFactory().createBestSource(file.toString()));
+    }
+
+    private static PdfDocInfo readInfo(RandomAccessSource source) throws IOException {
+
+        // Leitura parcial: apenas xref e trailer; objetos sob demanda.
+        PdfReader reader = new PdfReader(new RandomAccessFileOrArray(source), null);
+
+        try {
+            return PdfDocInfo.create(reader.getInfo());
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Lê as informações de todos os PDFs ({@value #PDF_GLOB}) de um
+     * diretório, sem recursão, com {@code threads} leituras em paralelo. A
+     * quantidade de leituras pendentes é limitada, de forma que a memória
+     * usada não depende da quantidade de arquivos.
+     *
+     * @param dir Diretório dos documentos
+     * @param threads Quantidade de leituras em paralelo
+     * @param handler Destino das informações, chamado pelas threads de leitura
+     * @return Quantidade de arquivos lidos, inclusive os que falharam
+     *
+     * @throws IOException Caso o diretório não possa ser listado
+     * @throws InterruptedIOException Caso a thread seja interrompida
+     */
+    public static int readAll(Path dir, int threads, final Handler handler) throws IOException {
+
+        Objects.checkNotNull(dir, "Diretório nulo!");
+        Objects.checkArgument(threads > 0, "Quantidade de threads inválida: " + threads);
+        Objects.checkNotNull(handler, "Handler nulo!");
+
+        final Semaphore pending = new Semaphore(threads * 4);
+        final AtomicInteger count = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            DirectoryStream<Path> files = java.nio.file.Files.newDirectoryStream(dir, PDF_GLOB);
+
+            try {
+                for (final Path file : files) {
+
+                    pending.acquire();
+                    count.incrementAndGet();
+
+                    executor.execute(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            try {
+                                handler.read(file, read(file));
+                            } catch (Exception e) {
+                                handler.failed(file, e);
+                            } finally {
+                                pending.release();
+                            }
+                        }
+                    });
+                }
+            } finally {
+                files.close();
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Leitura interrompida!");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return count.get();
+    }
+
+    /**
+     * Lê as informações de todos os PDFs de um diretório com uma leitura em
+     * paralelo por processador.
+     *
+     * @see #readAll(Path, int, Handler)
+     */
+    public static int readAll(Path dir, Handler handler) throws IOException {
+        return readAll(dir, Runtime.getRuntime().availableProcessors(), handler);
+    }
+}
@@ -42,15 +42,20 @@ import static org.jrimum.utilix.Objects.checkNotNull;
 import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Calendar;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.WeakHashMap;
@@ -75,12 +80,12 @@ public class PdfDocMix {
 
     private static final Logger LOG = Logger.getLogger(PdfDocMix.class);
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private PdfReader reader;
     private PdfStamper stamper;
     private AcroFields form;
 
-    private ByteArrayOutputStream outputStream;
-
     private Map<java.awt.Image, Image> imagesInUseMap = new WeakHashMap<java.awt.Image, Image>();
 
     /**
@@ -88,6 +93,12 @@ public class PdfDocMix {
      */
     private byte[] template;
 
+    /**
+     * Template compilado, obtido do {@linkplain PdfTemplateCache} na primeira
+     * geração do documento.
+     */
+    private PdfTemplate compiledTemplate;
+
     /**
      * Informações sobre o documento.
      */
@@ -104,11 +115,18 @@ public class PdfDocMix {
     private Map<String, java.awt.Image> imgMap;
 
     /**
-     * Modo full compression do PDF, default = true.
+     * Map dos campos de código de barras do documento com nome e código
+     * numérico.
+     */
+    private Map<String, String> barcodeMap;
+
+    /**
+     * Modo full compression do PDF (PDF 1.5 com object streams), default =
+     * false para manter o PDF 1.4 legível por qualquer visualizador.
      *
      * @since 0.2
      */
-    private boolean fullCompression = true;
+    private boolean fullCompression = false;
 
     /**
      * Remove todos os campos do PDF, default = true.
@@ -390,6 +408,25 @@ public class PdfDocMix {
         return setTemplate(templateFile);
     }
 
+    /**
+     * Define o template, já compilado, que será utilizado para construir o
+     * documento.
+     *
+     * @param template Template compilado
+     *
+     * @since 0.2
+     *
+     * @return Esta instância após a operação
+     *
+     * @throws IllegalArgumentException Caso o {@code template} seja nulo
+     */
+    public PdfDocMix withTemplate(PdfTemplate template) {
+        checkTemplateFile(template);
+        this.template = template.bytes();
+        this.compiledTemplate = template;
+        return this;
+    }
+
     /**
      * Retorna um {@code Map} com os campos e seus respectivos textos
      * adicionados nessa instância.
@@ -500,6 +537,68 @@ public class PdfDocMix {
         return this;
     }
 
+    /**
+     * Retorna um {@code Map} com os campos e seus respectivos códigos de
+     * barras adicionados nessa instância.
+     *
+     * @return Map de campo,código
+     *
+     * @since 0.2
+     */
+    public Map<String, String> getBarcodeFields() {
+        return this.barcodeMap;
+    }
+
+    /**
+     * Coloca todos chave-valor na instância, caso uma chave existe o valor será
+     * substituído. Caso a instância não contenha valores ainda, atribui o
+     * {@code Map} informado para uso no preenchimento de campos de código de
+     * barras na instância.
+     *
+     * @param barcodeMap Map com os campos(key) e códigos numéricos(value)
+     * @return Esta instância após a operação
+     *
+     * @see #putBarcode(String, String)
+     *
+     * @since 0.2
+     */
+    public PdfDocMix putAllBarcodes(Map<String, String> barcodeMap) {
+        Collections.checkNotEmpty(barcodeMap, "Campos ausentes!");
+        if (isNull(this.barcodeMap)) {
+            this.barcodeMap = barcodeMap;
+        } else {
+            this.barcodeMap.putAll(barcodeMap);
+        }
+        return this;
+    }
+
+    /**
+     * Coloca um par {@code key,value} para uso no preenchimento de campos de
+     * código de barras na instância. O código é desenhado como Intercalado 2
+     * de 5 em forma vetorial, ocupando toda a área do campo.
+     *
+     * @param name Nome do campo
+     * @param code Código numérico
+     *
+     * @return Esta instância após a operação
+     *
+     * @see Interleaved2of5
+     *
+     * @since 0.2
+     */
+    public PdfDocMix putBarcode(String name, String code) {
+
+        Strings.checkNotBlank(name, "Nome do campo ausente!");
+
+        if (isNull(barcodeMap)) {
+            this.barcodeMap = new WeakHashMap<String, String>();
+        }
+
+        this.barcodeMap.put(name, code);
+
+        return this;
+    }
+
     /**
      * Habilita/Desabilita o modo full compression do PDF veja
      * {@link com.lowagie.text.pdf.PdfStamper#setFullCompression()}.
@@ -612,6 +711,23 @@ public class PdfDocMix {
         return this;
     }
 
+    /**
+     * Define uma informação personalizada do documento, gravada no dicionário
+     * de informações e legível sem analisar as páginas.
+     *
+     * @param name Nome da informação
+     * @param value Valor da informação
+     *
+     * @return Esta instância após a operação
+     *
+     * @see PdfDocInfo#custom(String, String)
+     * @see PdfDocInfoReader
+     */
+    public PdfDocMix withCustomInfo(String name, String value) {
+        docInfo.custom(name, value);
+        return this;
+    }
+
     /**
      * Redefine as meta-informações do documento, ex: título, autor, data de
      * criação, etc.
@@ -637,6 +753,17 @@ public class PdfDocMix {
         return this;
     }
 
+    /**
+     * Retorna as informações do documento definidas até o momento.
+     *
+     * @return Informações sobre o documento
+     *
+     * @since 0.2
+     */
+    public PdfDocInfo getDocInfo() {
+        return docInfo;
+    }
+
     /**
      * Define se o título do documento será exibido na barra superior do PDF.
      *
@@ -717,9 +844,9 @@ public class PdfDocMix {
 
         try {
 
-            process();
+            writeTo(destFile.toPath());
 
-            return Files.bytesToFile(destFile, outputStream.toByteArray());
+            return destFile;
 
         } catch (Exception e) {
 
@@ -745,9 +872,20 @@ public class PdfDocMix {
 
         try {
 
-            process();
+            PdfOutputBuffer buffer = PdfOutputBuffer.acquire();
+
+            try {
+
+                process(buffer);
+
+                ByteArrayOutputStream stream = new ByteArrayOutputStream(buffer.size());
+                buffer.writeTo(stream);
 
-            return Files.bytesToStream(outputStream.toByteArray());
+                return stream;
+
+            } finally {
+                buffer.release();
+            }
 
         } catch (Exception e) {
 
@@ -773,9 +911,17 @@ public class PdfDocMix {
 
         try {
 
-            process();
+            PdfOutputBuffer buffer = PdfOutputBuffer.acquire();
+
+            try {
+
+                process(buffer);
+
+                return buffer.toByteArray();
 
-            return outputStream.toByteArray();
+            } finally {
+                buffer.release();
+            }
 
         } catch (Exception e) {
 
@@ -789,6 +935,90 @@ public class PdfDocMix {
         }
     }
 
+    /**
+     * Escreve o documento PDF diretamente no destino informado, sem cópias
+     * intermediárias em memória. O destino não é fechado ao final.
+     *
+     * @param output Destino do documento
+     *
+     * @throws IllegalArgumentException Caso o {@code output} seja nulo
+     * @throws IllegalStateException Caso ocorra algum problema imprevisto
+     *
+     * @since 0.2
+     */
+    public void writeTo(OutputStream output) {
+
+        checkDestStream(output);
+
+        try {
+
+            OutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+
+            process(buffered);
+
+            buffered.flush();
+
+        } catch (Exception e) {
+
+            LOG.error(
+                    "Erro durante a escrita do documento! "
+                    + e.getLocalizedMessage(), e);
+
+            Exceptions.throwIllegalStateException(
+                    "Erro durante a escrita do documento! " + "Causado por "
+                    + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Escreve o documento PDF diretamente no canal informado. O canal não é
+     * fechado ao final.
+     *
+     * @param channel Destino do documento
+     *
+     * @see #writeTo(OutputStream)
+     *
+     * @since 0.2
+     */
+    public void writeTo(WritableByteChannel channel) {
+
+        checkDestStream(channel);
+
+        writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Escreve o documento PDF diretamente no arquivo informado, criando-o ou
+     * substituindo seu conteúdo.
+     *
+     * @param path Arquivo de destino
+     *
+     * @see #writeTo(OutputStream)
+     *
+     * @since 0.2
+     */
+    public void writeTo(Path path) {
+
+        checkDestStream(path);
+
+        try {
+
+            OutputStream output = java.nio.file.Files.newOutputStream(path);
+
+            try {
+                writeTo(output);
+            } finally {
+                output.close();
+            }
+
+        } catch (IOException e) {
+
+            Exceptions.throwIllegalStateException(
+                    "Erro ao tentar criar arquivo! " + "Causado por "
+                    + e.getLocalizedMessage(), e);
+        }
+    }
+
     /**
      * Retorna o uma cópia do template atual do viewer em array de bytes.
      *
@@ -812,10 +1042,26 @@ public class PdfDocMix {
      *
      */
     private PdfDocMix setTemplate(byte[] template) {
-        this.template = template;
+        if (template != this.template) {
+            this.template = template;
+            this.compiledTemplate = null;
+        }
         return this;
     }
 
+    /**
+     * Retorna o template compilado, obtendo-o do cache caso ainda não tenha
+     * sido resolvido para o template atual.
+     *
+     * @return Template compilado
+     */
+    private PdfTemplate getCompiledTemplate() {
+        if (isNull(compiledTemplate)) {
+            compiledTemplate = PdfTemplateCache.get(template);
+        }
+        return compiledTemplate;
+    }
+
     /**
      * Define o template que será utilizado para construir o documento.
      *
@@ -919,30 +1165,32 @@ public class PdfDocMix {
     /**
      * Executa os seguintes métodos na sequência:
      * <ol>
-     * <li>{@linkplain #init()}</li>
+     * <li>{@linkplain #init(OutputStream)}</li>
      * <li>{@linkplain #fillFields()}</li>
      * <li>{@linkplain #end()}</li>
      * </ol>
      *
      * @since 0.2
      */
-    private void process() {
-        init();
+    private void process(OutputStream output) {
+        init(output);
         fillFields();
         end();
     }
 
     /**
      * Inicializa os principais objetos para a escrita dos dados do documento no
-     * template PDF: {@code stamper}, {@code reader} e {@code outputStream}.
+     * template PDF: {@code stamper} e {@code reader}.
+     *
+     * @param output Destino do documento, não é fechado pelo {@code stamper}
      *
      * @since 0.2
      */
-    private void init() {
+    private void init(OutputStream output) {
         try {
-            reader = new PdfReader(getTemplate());
-            outputStream = new ByteArrayOutputStream();
-            stamper = new PdfStamper(reader, outputStream);
+            reader = getCompiledTemplate().newReader();
+            stamper = new PdfStamper(reader, output);
+            stamper.getWriter().setCloseStream(false);
 
             final String JRIMUM = "jrimum.org/bopepo";
             String creator = docInfo.creator();
@@ -977,6 +1225,7 @@ public class PdfDocMix {
     private void fillFields() {
         setTextFields();
         setImageFields();
+        setBarcodeFields();
     }
 
     /**
@@ -1022,11 +1271,11 @@ public class PdfDocMix {
      */
     private void setImage(String fieldName, java.awt.Image image) {
         if (isNotBlank(fieldName)) {
-            List<AcroFields.FieldPosition> posImgField = form.getFieldPositions(fieldName);
-            if (isNotNull(posImgField)) {
+            PdfTemplate.Field field = getCompiledTemplate().getField(fieldName);
+            if (isNotNull(field)) {
                 try {
-                    for (AcroFields.FieldPosition pos : posImgField) {
-                        PDFs.changeFieldToImage(stamper, new PdfRectangle(pos.position), getPdfImage(image));
+                    for (PdfRectangle rect : field.getPositions()) {
+                        PDFs.changeFieldToImage(stamper, rect, getPdfImage(image));
                     }
                 } catch (Exception e) {
                     e.printStackTrace();
@@ -1038,8 +1287,51 @@ public class PdfDocMix {
         }
     }
 
+    /**
+     * Desenha os códigos de barras nos campos de acordo com o nome dos campos
+     * do documento atribuídos no map e templante.
+     *
+     * @since 0.2
+     */
+    private void setBarcodeFields() {
+        if (hasElement(barcodeMap)) {
+            for (Entry<String, String> e : barcodeMap.entrySet()) {
+                setBarcode(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Desenha um código de barras no pdf de acordo com o nome do field no
+     * templante.
+     *
+     * @param fieldName
+     * @param code
+     *
+     * @since 0.2
+     */
+    private void setBarcode(String fieldName, String code) {
+        if (isNotBlank(fieldName) && isNotBlank(code)) {
+            PdfTemplate.Field field = getCompiledTemplate().getField(fieldName);
+            if (isNotNull(field)) {
+                for (PdfRectangle rect : field.getPositions()) {
+                    PDFs.changeFieldToBarcode(stamper, rect, code);
+                }
+            } else {
+                LOG.warn("Posicionamento do campo de codigo de barras nao encontrado! CAMPO: " + fieldName);
+            }
+        }
+    }
+
     public Image getPdfImage(java.awt.Image image) {
 
+        // Imagens do registro global (ex: logotipos) já estão na forma final.
+        Image registered = PdfImageRegistry.getPdfImage(image);
+
+        if (isNotNull(registered)) {
+            return registered;
+        }
+
         Image pdfImage = imagesInUseMap.get(image);
 
         if (isNull(pdfImage)) {
@@ -1055,19 +1347,19 @@ public class PdfDocMix {
 
     /**
      * Finaliza a escrita de dados no template através do fechamento do
-     * {@code stamper}, {@code reader} e {@code outputStream}.
+     * {@code stamper} e {@code reader}.
      *
      * @since 0.2
      */
     private void end() {
-        /*
+
         if (isFullCompression()) {
             try {
                 stamper.setFullCompression();
-            } catch (DocumentException ex) {
-                throw new RuntimeException(ex);
+            } catch (DocumentException e) {
+                Exceptions.throwIllegalStateException(e);
             }
-        }*/
+        }
 
         if (isRemoveFields()) {
             stamper.setFreeTextFlattening(true);
@@ -1122,4 +1414,9 @@ public class PdfDocMix {
         Objects.checkNotNull(file,
                 "Arquivo destinado a geração do(s) documentos(s) nulo!");
     }
+
+    private static void checkDestStream(Object stream) {
+        Objects.checkNotNull(stream,
+                "Destino da geração do(s) documentos(s) nulo!");
+    }
 }
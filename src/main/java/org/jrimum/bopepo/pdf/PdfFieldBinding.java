@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import java.util.Map;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * Vínculo pré-compilado entre uma lista fixa de nomes de campos (ex: os
+ * campos de {@code BoletoCampo}, na ordem dos ordinais) e os campos de um
+ * {@link PdfTemplate} ou {@link PdfLayout}.
+ *
+ * <p>
+ * Cada posição da lista de nomes corresponde a uma posição do vínculo, que
+ * guarda o campo do template (com seus retângulos) ou {@code null} caso o
+ * template não o contenha. Os valores de cada documento são então informados
+ * em um {@code String[]} com as mesmas posições
+ * ({@linkplain PdfDocBatch#add(PdfTemplate, PdfFieldBinding, String[], Map, Map, Map)}),
+ * sem nenhuma busca por nome.
+ * </p>
+ *
+ * <p>
+ * Instâncias são imutáveis e obtidas por {@linkplain PdfTemplate#bind(String[])}
+ * ou {@linkplain PdfLayout#bind(String[])}, que compilam o vínculo uma única
+ * vez por template.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class PdfFieldBinding {
+
+    private final String[] names;
+
+    private final Map<String, PdfTemplate.Field> fields;
+
+    private final PdfTemplate.Field[] slots;
+
+    private PdfFieldBinding(String[] names, Map<String, PdfTemplate.Field> fields) {
+        this.names = names;
+        this.fields = fields;
+        this.slots = new PdfTemplate.Field[names.length];
+        for (int i = 0; i < names.length; i++) {
+            slots[i] = fields.get(names[i]);
+        }
+    }
+
+    static PdfFieldBinding compile(String[] names, Map<String, PdfTemplate.Field> fields) {
+        Objects.checkNotNull(names, "Nomes dos campos nulos!");
+        return new PdfFieldBinding(names, fields);
+    }
+
+    /**
+     * @return Quantidade de posições, igual à quantidade de nomes
+     */
+    public int size() {
+        return slots.length;
+    }
+
+    /**
+     * @param slot Posição
+     * @return Campo do template na posição ou {@code null} caso o template não
+     * o contenha
+     */
+    public PdfTemplate.Field get(int slot) {
+        return slots[slot];
+    }
+
+    /**
+     * Indica se o vínculo foi compilado para a mesma lista de nomes
+     * (instância).
+     */
+    boolean isFor(String[] names) {
+        return this.names == names;
+    }
+
+    /**
+     * Indica se o vínculo foi compilado para os campos informados (instância).
+     */
+    boolean isBoundTo(Map<String, PdfTemplate.Field> fields) {
+        return this.fields == fields;
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static java.lang.String.format;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.imageio.ImageIO;
+
+import org.jrimum.utilix.ClassLoaders;
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+import org.jrimum.utilix.Strings;
+
+import com.itextpdf.text.Image;
+
+/**
+ * Registro global (por processo) das imagens usadas nos documentos: logotipos
+ * dos bancos, carregados do resource {@code /img/{codigo}.png}, e imagens
+ * fornecidas pelo usuário (ex: logotipo do cedente), identificadas pelo hash
+ * do conteúdo.
+ *
+ * <p>
+ * Cada imagem é lida uma única vez e mantida tanto em {@link java.awt.Image}
+ * (sempre a mesma instância, para uso nos campos do boleto) quanto na forma
+ * final do PDF. As imagens do PDF obtidas por
+ * {@linkplain #getPdfImage(java.awt.Image)} são cópias de um mesmo protótipo,
+ * de forma que um mesmo documento referencia um único XObject da imagem em
+ * todas as páginas. Imagens PNG/JPEG são embutidas com a compressão original,
+ * sem nova conversão de pixels.
+ * </p>
+ *
+ * <p>
+ * Os logotipos dos bancos são mantidos enquanto o processo durar (um por
+ * banco). As imagens fornecidas pelo usuário são mantidas em um cache LRU
+ * limitado por quantidade ({@linkplain #setMaxImages(int)}); uma imagem
+ * removida do cache continua reconhecida por
+ * {@linkplain #getPdfImage(java.awt.Image)} enquanto a instância estiver em
+ * uso (ex: em um boleto), já que o índice por instância usa referências
+ * fracas.
+ * </p>
+ *
+ * <p>
+ * Todos os métodos são thread-safe. As imagens registradas não devem ser
+ * alteradas.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class PdfImageRegistry {
+
+    private static final String BANK_LOGO_PATH = "/img/%s.png";
+
+    private static final String BANK_PREFIX = "banco:";
+
+    /**
+     * Limite padrão de imagens do usuário mantidas no registro.
+     */
+    public static final int DEFAULT_MAX_IMAGES = 64;
+
+    private static final ConcurrentMap<String, Entry> BANK_LOGOS = new ConcurrentHashMap<String, Entry>();
+
+    /**
+     * Imagens do usuário em ordem de acesso (LRU), protegidas pelo próprio
+     * mapa.
+     */
+    private static final Map<String, Entry> IMAGES = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+
+    /**
+     * Índice pela instância da imagem ({@code java.awt.Image} não sobrescreve
+     * {@code equals}, logo a busca é por identidade), com chaves fracas. Os
+     * valores não referenciam a imagem, senão ela nunca seria coletada.
+     */
+    private static final Map<java.awt.Image, PdfSource> BY_IMAGE = Collections.synchronizedMap(new WeakHashMap<java.awt.Image, PdfSource>());
+
+    private static int maxImages = DEFAULT_MAX_IMAGES;
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private PdfImageRegistry() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * Retorna o logotipo do banco, carregando-o do resource na primeira
+     * chamada.
+     *
+     * @param codigo Código de compensação do banco (ex: "001")
+     * @return Logotipo do banco, sempre a mesma instância
+     *
+     * @throws IllegalArgumentException Caso o código não seja informado ou o
+     * logotipo não exista
+     */
+    public static java.awt.Image getBankLogo(String codigo) {
+
+        Strings.checkNotBlank(codigo, "Codigo do banco não informado!");
+
+        final String key = BANK_PREFIX + codigo;
+
+        Entry entry = BANK_LOGOS.get(key);
+
+        if (isNull(entry)) {
+            entry = new Entry(loadBankLogo(codigo), key);
+            Entry existing = BANK_LOGOS.putIfAbsent(key, entry);
+            if (isNull(existing)) {
+                BY_IMAGE.put(entry.image, entry.source);
+            } else {
+                entry = existing;
+            }
+        }
+
+        return entry.image;
+    }
+
+    /**
+     * Registra uma imagem (PNG, JPEG, GIF, etc) fornecida pelo usuário, como o
+     * logotipo do cedente. Imagens com o mesmo conteúdo são registradas uma
+     * única vez.
+     *
+     * @param image Imagem codificada em bytes
+     * @return Imagem registrada, sempre a mesma instância para o mesmo
+     * conteúdo enquanto ela permanecer no registro
+     *
+     * @see #keyOf(byte[])
+     */
+    public static java.awt.Image register(byte[] image) {
+
+        Objects.checkNotNull(image, "Imagem nula!");
+
+        final String key = keyOf(image);
+
+        Entry entry = lookup(key);
+
+        if (isNull(entry)) {
+            // Leitura fora do lock: no pior caso duas threads leem a mesma
+            // imagem e apenas uma das instâncias permanece no registro.
+            entry = store(key, new Entry(image.clone(), key));
+        }
+
+        return entry.image;
+    }
+
+    /**
+     * Define a quantidade máxima de imagens do usuário mantidas no registro,
+     * removendo as usadas há mais tempo. Os logotipos dos bancos não entram
+     * no limite.
+     *
+     * @param max Quantidade máxima
+     */
+    public static void setMaxImages(int max) {
+        Objects.checkArgument(max >= 0, "O limite do registro não pode ser negativo!");
+        synchronized (IMAGES) {
+            maxImages = max;
+            evict();
+        }
+    }
+
+    public static int getMaxImages() {
+        synchronized (IMAGES) {
+            return maxImages;
+        }
+    }
+
+    /**
+     * @param image Imagem codificada em bytes
+     * @return Chave (hash do conteúdo) usada no registro da imagem
+     */
+    public static String keyOf(byte[] image) {
+        return Files.sha256Hex(image);
+    }
+
+    /**
+     * @param key Chave da imagem
+     * @return Imagem registrada ou {@code null} caso não exista
+     */
+    public static java.awt.Image get(String key) {
+        Entry entry = BANK_LOGOS.get(key);
+        if (isNull(entry)) {
+            entry = lookup(key);
+        }
+        return isNull(entry) ? null : entry.image;
+    }
+
+    /**
+     * @param image Imagem
+     * @return true caso a imagem tenha sido obtida deste registro
+     */
+    public static boolean isRegistered(java.awt.Image image) {
+        return !isNull(image) && BY_IMAGE.containsKey(image);
+    }
+
+    /**
+     * Retorna a imagem na forma do PDF caso a imagem informada tenha sido
+     * obtida deste registro. A imagem retornada é uma cópia que pode ser
+     * redimensionada e posicionada livremente, compartilhando o mesmo conteúdo
+     * (XObject) com as demais cópias.
+     *
+     * @param image Imagem registrada
+     * @return Cópia da imagem do PDF ou {@code null} caso a imagem não esteja
+     * registrada
+     */
+    public static Image getPdfImage(java.awt.Image image) {
+
+        if (isNull(image)) {
+            return null;
+        }
+
+        PdfSource source = BY_IMAGE.get(image);
+
+        if (isNull(source)) {
+            return null;
+        }
+
+        try {
+            return Image.getInstance(source.pdfImage(image));
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return Quantidade de imagens registradas
+     */
+    public static int size() {
+        synchronized (IMAGES) {
+            return BANK_LOGOS.size() + IMAGES.size();
+        }
+    }
+
+    /**
+     * Remove todas as imagens do registro.
+     */
+    public static void clear() {
+        synchronized (IMAGES) {
+            BANK_LOGOS.clear();
+            IMAGES.clear();
+            BY_IMAGE.clear();
+        }
+    }
+
+    private static Entry lookup(String key) {
+        synchronized (IMAGES) {
+            return IMAGES.get(key);
+        }
+    }
+
+    private static Entry store(String key, Entry entry) {
+        synchronized (IMAGES) {
+            Entry existing = IMAGES.get(key);
+            if (!isNull(existing)) {
+                return existing;
+            }
+            IMAGES.put(key, entry);
+            BY_IMAGE.put(entry.image, entry.source);
+            evict();
+            return entry;
+        }
+    }
+
+    private static void evict() {
+        // A imagem removida sai do índice por instância quando não for mais
+        // referenciada.
+        Iterator<Entry> lru = IMAGES.values().iterator();
+        while (IMAGES.size() > maxImages && lru.hasNext()) {
+            lru.next();
+            lru.remove();
+        }
+    }
+
+    private static byte[] loadBankLogo(String codigo) {
+
+        final String logo = format(BANK_LOGO_PATH, codigo);
+
+        URL url = ClassLoaders.getResource(logo, PdfImageRegistry.class);
+
+        Objects.checkNotNull(url, format("Logo não \"%s\" não encontrada!", logo));
+
+        try {
+            InputStream is = url.openStream();
+            return Files.toByteArray(is);
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException("Erro ao tentar ler a imagem logotipo do banco " + codigo, e);
+        }
+    }
+
+    private static BufferedImage decode(String key, byte[] encoded) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(encoded));
+            Objects.checkNotNull(image, "Formato de imagem não suportado! " + key);
+            return image;
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException("Erro ao tentar ler a imagem " + key, e);
+        }
+    }
+
+    /**
+     * Imagem registrada nas formas AWT e PDF.
+     */
+    private static final class Entry {
+
+        private final java.awt.Image image;
+
+        private final PdfSource source;
+
+        private Entry(byte[] encoded, String key) {
+            this.image = decode(key, encoded);
+            this.source = new PdfSource(encoded);
+        }
+    }
+
+    /**
+     * Conteúdo da imagem e sua forma no PDF, criada na primeira utilização.
+     * Não guarda a imagem AWT, que é a chave fraca do índice por instância.
+     */
+    private static final class PdfSource {
+
+        private final byte[] encoded;
+
+        private Image pdfImage;
+
+        private PdfSource(byte[] encoded) {
+            this.encoded = encoded;
+        }
+
+        private synchronized Image pdfImage(java.awt.Image image) throws Exception {
+            if (isNull(pdfImage)) {
+                try {
+                    pdfImage = Image.getInstance(encoded);
+                } catch (Exception e) {
+                    // Formato não suportado pelo iText: converte os pixels.
+                    pdfImage = Image.getInstance(image, null);
+                }
+            }
+            return pdfImage;
+        }
+    }
+}
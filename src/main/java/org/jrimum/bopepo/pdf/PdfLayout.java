@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jrimum.utilix.Objects;
+import org.jrimum.utilix.Strings;
+
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.AcroFields;
+import com.itextpdf.text.pdf.PdfContentByte;
+
+/**
+ * Layout de página definido em código, alternativo ao template PDF com
+ * campos de formulário.
+ *
+ * <p>
+ * O conteúdo estático (linhas, caixas, rótulos) é desenhado por
+ * {@linkplain #drawStaticContent(PdfContentByte)} uma única vez por documento
+ * gerado e referenciado por todas as páginas; os campos definidos por
+ * {@linkplain #addField(String, float, float, float, float, float, int, boolean)}
+ * têm o mesmo papel dos campos de um {@link PdfTemplate} e são desenhados
+ * pelo {@link PdfDocBatch}. Não há análise de formulário, geração de
+ * aparências nem "flattening".
+ * </p>
+ *
+ * <p>
+ * Os campos devem ser definidos no construtor da subclasse; após a construção
+ * a instância não muda e pode ser compartilhada entre threads.
+ * </p>
+ *
+ * @since 0.2
+ */
+public abstract class PdfLayout {
+
+    private final Rectangle pageSize;
+
+    private final Map<String, PdfTemplate.Field> fields = new LinkedHashMap<String, PdfTemplate.Field>();
+
+    private final Map<String, PdfTemplate.Field> readOnlyFields = Collections.unmodifiableMap(fields);
+
+    private volatile PdfFieldBinding binding;
+
+    /**
+     * @param pageSize Tamanho da página (ex: {@code PageSize.A4})
+     */
+    protected PdfLayout(Rectangle pageSize) {
+        Objects.checkNotNull(pageSize, "Tamanho da página nulo!");
+        this.pageSize = new Rectangle(pageSize.getWidth(), pageSize.getHeight());
+    }
+
+    /**
+     * Desenha o conteúdo comum a todas as páginas. As coordenadas têm origem
+     * no canto inferior esquerdo da página.
+     *
+     * @param cb Conteúdo a ser desenhado, do tamanho da página
+     */
+    protected abstract void drawStaticContent(PdfContentByte cb);
+
+    /**
+     * Define um campo de uma linha.
+     *
+     * @see #addField(String, float, float, float, float, float, int, boolean)
+     */
+    protected final void addField(String name, float llx, float lly, float urx, float ury, float fontSize, int alignment) {
+        addField(name, llx, lly, urx, ury, fontSize, alignment, false);
+    }
+
+    /**
+     * Define um campo do layout. Um mesmo nome pode ser usado mais de uma vez,
+     * e o valor é desenhado em todas as posições.
+     *
+     * @param name Nome do campo
+     * @param llx Coordenada x do canto inferior esquerdo
+     * @param lly Coordenada y do canto inferior esquerdo
+     * @param urx Coordenada x do canto superior direito
+     * @param ury Coordenada y do canto superior direito
+     * @param fontSize Tamanho da fonte ou {@linkplain PdfTemplate.Field#AUTO_SIZE}
+     * @param alignment Alinhamento ({@code PdfTemplate.Field.ALIGN_*})
+     * @param multiline Indica se o texto pode ocupar várias linhas
+     */
+    protected final void addField(String name, float llx, float lly, float urx, float ury, float fontSize, int alignment, boolean multiline) {
+
+        Strings.checkNotBlank(name, "Nome do campo não informado!");
+
+        PdfTemplate.Field field = fields.get(name);
+
+        List<PdfRectangle> positions = new ArrayList<PdfRectangle>();
+
+        if (isNotNull(field)) {
+            positions.addAll(field.getPositions());
+        }
+
+        positions.add(new PdfRectangle(1, new Rectangle(llx, lly, urx, ury)));
+
+        fields.put(name, new PdfTemplate.Field(name, AcroFields.FIELD_TYPE_TEXT, positions, fontSize, alignment, multiline));
+    }
+
+    /**
+     * @return Tamanho da página
+     */
+    public Rectangle getPageSize() {
+        return new Rectangle(pageSize);
+    }
+
+    /**
+     * @param name Nome do campo
+     * @return true caso o layout contenha o campo
+     */
+    public boolean hasField(String name) {
+        return fields.containsKey(name);
+    }
+
+    /**
+     * @param name Nome do campo
+     * @return O campo ou {@code null} caso o layout não o contenha
+     */
+    public PdfTemplate.Field getField(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * @return Todos os campos do layout
+     */
+    public Map<String, PdfTemplate.Field> getFields() {
+        return readOnlyFields;
+    }
+
+    /**
+     * Obtém o vínculo pré-compilado entre os nomes informados e os campos
+     * deste layout. O vínculo é compilado na primeira chamada e reaproveitado
+     * enquanto a mesma lista de nomes (instância) for usada.
+     *
+     * @param names Nomes dos campos, na ordem das posições do vínculo
+     * @return Vínculo dos campos
+     */
+    public PdfFieldBinding bind(String[] names) {
+        PdfFieldBinding b = binding;
+        if (isNull(b) || !b.isFor(names)) {
+            b = PdfFieldBinding.compile(names, readOnlyFields);
+            binding = b;
+        }
+        return b;
+    }
+}
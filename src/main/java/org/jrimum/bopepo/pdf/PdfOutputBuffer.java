@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * Buffer de saída reutilizável para a geração de documentos em memória.
+ *
+ * <p>
+ * Diferente do {@link java.io.ByteArrayOutputStream}, o conteúdo pode ser
+ * escrito em outro destino sem cópias intermediárias
+ * ({@linkplain #writeTo(OutputStream)}, {@linkplain #writeTo(WritableByteChannel)})
+ * e o array interno é mantido entre usos: os buffers obtidos por
+ * {@linkplain #acquire()} e devolvidos por {@linkplain #release()} ficam em um
+ * pequeno pool compartilhado entre as threads, de forma que, após os
+ * primeiros documentos, a geração não realoca nem copia o array ao crescer.
+ * </p>
+ *
+ * <p>
+ * O pool mantém no máximo {@value #MAX_POOLED_BUFFERS} buffers de até
+ * {@value #MAX_POOLED_CAPACITY} bytes cada (o suficiente para um lote de
+ * boletos usual), independente da quantidade de threads: buffers devolvidos
+ * com o pool cheio são descartados e os maiores que o limite são trocados por
+ * um novo, com a capacidade inicial.
+ * </p>
+ *
+ * <p>
+ * Instâncias não são thread-safe.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class PdfOutputBuffer extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    /**
+     * Capacidade máxima de um buffer mantido para reutilização.
+     */
+    public static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+
+    /**
+     * Quantidade máxima de buffers mantidos para reutilização.
+     */
+    public static final int MAX_POOLED_BUFFERS = 16;
+
+    /**
+     * Buffers livres, do devolvido mais recentemente (com o array ainda em
+     * cache) ao mais antigo. Protegido pelo próprio deque.
+     */
+    private static final Deque<PdfOutputBuffer> POOL = new ArrayDeque<PdfOutputBuffer>(MAX_POOLED_BUFFERS);
+
+    private byte[] buf;
+
+    private int count;
+
+    /**
+     * Cria um buffer fora do pool.
+     */
+    public PdfOutputBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Cria um buffer fora do pool.
+     *
+     * @param capacity Capacidade inicial em bytes
+     */
+    public PdfOutputBuffer(int capacity) {
+        Objects.checkArgument(capacity > 0, "Capacidade deve ser maior que zero!");
+        this.buf = new byte[capacity];
+    }
+
+    /**
+     * Obtém um buffer do pool, ou um novo caso o pool esteja vazio. Deve ser
+     * devolvido com {@linkplain #release()} ao final.
+     *
+     * @return Buffer vazio
+     */
+    public static PdfOutputBuffer acquire() {
+
+        PdfOutputBuffer buffer;
+
+        synchronized (POOL) {
+            buffer = POOL.pollFirst();
+        }
+
+        return isNull(buffer) ? new PdfOutputBuffer() : buffer;
+    }
+
+    /**
+     * Descarta o conteúdo e devolve o buffer ao pool. O buffer não deve ser
+     * usado após esta chamada.
+     */
+    public void release() {
+
+        reset();
+
+        if (buf.length > MAX_POOLED_CAPACITY) {
+            buf = new byte[INITIAL_CAPACITY];
+        }
+
+        synchronized (POOL) {
+            if (POOL.size() < MAX_POOLED_BUFFERS) {
+                POOL.addFirst(this);
+            }
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    /**
+     * Escreve o conteúdo do buffer no destino informado.
+     *
+     * @param out Destino
+     * @throws IOException Caso ocorra algum erro na escrita
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, count);
+    }
+
+    /**
+     * Escreve o conteúdo do buffer no canal informado.
+     *
+     * @param channel Destino
+     * @throws IOException Caso ocorra algum erro na escrita
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+
+        ByteBuffer content = ByteBuffer.wrap(buf, 0, count);
+
+        while (content.hasRemaining()) {
+            channel.write(content);
+        }
+    }
+
+    /**
+     * @return Cópia do conteúdo do buffer
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    /**
+     * @return Quantidade de bytes escritos
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return Capacidade atual em bytes
+     */
+    int capacity() {
+        return buf.length;
+    }
+
+    /**
+     * Descarta o conteúdo mantendo a capacidade atual.
+     */
+    public void reset() {
+        count = 0;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Documento maior que o suportado!");
+        }
+
+        if (minCapacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(minCapacity, buf.length << 1));
+        }
+    }
+}
@@ -84,6 +84,18 @@ public class PdfRectangle extends Rectangle {
         super(rect);
     }
 
+    /**
+     * Cria um retângulo a partir do objeto <code>Rectangle</code> na página
+     * informada.
+     *
+     * @param page
+     * @param rect
+     */
+    public PdfRectangle(int page, Rectangle rect) {
+        super(rect);
+        this.page = page;
+    }
+
     /**
      * @return page
      */
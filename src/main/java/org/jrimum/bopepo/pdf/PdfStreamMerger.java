@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.PdfCopy;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfSmartCopy;
+
+/**
+ * Junta documentos PDF em um único documento escrito diretamente no destino
+ * informado, à medida que cada documento é adicionado.
+ *
+ * <p>
+ * As páginas de cada documento são copiadas e liberadas imediatamente
+ * ({@linkplain PdfCopy#freeReader(PdfReader)}), de forma que a memória usada
+ * independe da quantidade de documentos: apenas o documento corrente e os
+ * buffers de escrita ficam no heap. O destino não é fechado por esta classe,
+ * apenas descarregado (flush) em {@linkplain #close()}.
+ * </p>
+ *
+ * <p>
+ * Com {@linkplain #withSmartCopy(boolean)} os objetos idênticos entre as
+ * páginas (fontes, logotipos, imagens e o conteúdo estático do template) são
+ * escritos uma única vez e referenciados pelas demais páginas, ao custo de
+ * calcular o hash de cada objeto copiado. Com
+ * {@linkplain #withFullCompression(boolean)} os objetos são agrupados em
+ * "object streams" comprimidos (PDF 1.5).
+ * </p>
+ *
+ * <p>
+ * Instâncias não são thread-safe.
+ * </p>
+ *
+ * @since 0.2
+ */
+public class PdfStreamMerger implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream output;
+
+    private final Document document;
+
+    private PdfCopy copy;
+
+    private PdfDocInfo docInfo;
+
+    private boolean smartCopy;
+
+    private boolean fullCompression;
+
+    private int numberOfDocuments;
+
+    private boolean closed;
+
+    /**
+     * @param output Destino do documento resultante
+     *
+     * @throws IllegalArgumentException Caso o {@code output} seja nulo
+     */
+    public PdfStreamMerger(OutputStream output) {
+
+        Objects.checkNotNull(output, "Destino do PDF nulo!");
+
+        this.output = new BufferedOutputStream(output, BUFFER_SIZE);
+        this.document = new Document();
+    }
+
+    /**
+     * @param channel Destino do documento resultante
+     *
+     * @throws IllegalArgumentException Caso o {@code channel} seja nulo
+     */
+    public PdfStreamMerger(WritableByteChannel channel) {
+        this(Channels.newOutputStream(checkChannel(channel)));
+    }
+
+    /**
+     * Usa somente as informações (title,subject,keywords,author,creator) no
+     * documento resultante.
+     *
+     * @param info Informações do documento
+     * @return Esta instância após a operação
+     */
+    public PdfStreamMerger withDocInfo(PdfDocInfo info) {
+        this.docInfo = info;
+        return this;
+    }
+
+    /**
+     * Habilita/Desabilita a escrita única de objetos idênticos entre os
+     * documentos adicionados ({@link PdfSmartCopy}). Deve ser informado antes
+     * da adição do primeiro documento.
+     *
+     * @param option Escolha de deduplicação
+     * @return Esta instância após a operação
+     */
+    public PdfStreamMerger withSmartCopy(boolean option) {
+        checkNotStarted();
+        this.smartCopy = option;
+        return this;
+    }
+
+    /**
+     * Habilita/Desabilita o modo full compression (PDF 1.5, com "object
+     * streams" e "xref streams"). Deve ser informado antes da adição do
+     * primeiro documento.
+     *
+     * @param option Escolha de compressão
+     * @return Esta instância após a operação
+     */
+    public PdfStreamMerger withFullCompression(boolean option) {
+        checkNotStarted();
+        this.fullCompression = option;
+        return this;
+    }
+
+    /**
+     * Adiciona todas as páginas do documento informado ao final do documento
+     * resultante.
+     *
+     * @param pdf Documento PDF em bytes
+     * @return Esta instância após a operação
+     */
+    public PdfStreamMerger add(byte[] pdf) {
+
+        Objects.checkNotNull(pdf, "PDF nulo!");
+        checkNotClosed();
+
+        try {
+
+            start();
+
+            PdfReader reader = new PdfReader(pdf);
+
+            try {
+
+                for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+                    copy.addPage(copy.getImportedPage(reader, page));
+                }
+
+                copy.freeReader(reader);
+
+            } finally {
+                reader.close();
+            }
+
+            numberOfDocuments++;
+
+            return this;
+
+        } catch (Exception e) {
+            return Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return Quantidade de documentos adicionados
+     */
+    public int getNumberOfDocuments() {
+        return numberOfDocuments;
+    }
+
+    /**
+     * Finaliza o documento resultante e descarrega o destino sem fechá-lo.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            start();
+        } catch (DocumentException e) {
+            throw new IOException(e);
+        }
+
+        document.addCreationDate();
+
+        if (isNotNull(docInfo)) {
+            docInfo.addTo(document);
+        }
+
+        document.close();
+        output.flush();
+    }
+
+    /**
+     * Inicia o documento resultante, caso ainda não iniciado, com as opções
+     * informadas.
+     */
+    private void start() throws DocumentException {
+
+        if (isNotNull(copy)) {
+            return;
+        }
+
+        copy = smartCopy ? new PdfSmartCopy(document, output) : new PdfCopy(document, output);
+        copy.setCloseStream(false);
+
+        if (fullCompression) {
+            copy.setFullCompression();
+        }
+
+        document.open();
+    }
+
+    private void checkNotStarted() {
+        Objects.checkState(isNull(copy), "Opção deve ser informada antes da adição do primeiro documento!");
+    }
+
+    private void checkNotClosed() {
+        Objects.checkState(!closed, "Documento já finalizado!");
+    }
+
+    private static WritableByteChannel checkChannel(WritableByteChannel channel) {
+        Objects.checkNotNull(channel, "Destino do PDF nulo!");
+        return channel;
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import com.itextpdf.text.pdf.AcroFields;
+import com.itextpdf.text.pdf.PdfDictionary;
+import com.itextpdf.text.pdf.PdfFormField;
+import com.itextpdf.text.pdf.PdfName;
+import com.itextpdf.text.pdf.PdfNumber;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfString;
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * Template PDF compilado: o documento é analisado uma única vez e as
+ * informações dos campos (nomes, retângulos e aparência) ficam disponíveis
+ * para todos os documentos gerados a partir dele.
+ *
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads. Cada
+ * documento gerado obtém seu próprio {@link PdfReader} através de
+ * {@linkplain #newReader()}, que duplica a estrutura já analisada sem precisar
+ * interpretar o template novamente.
+ * </p>
+ *
+ * @see PdfTemplateCache
+ *
+ * @since 0.2
+ */
+public final class PdfTemplate {
+
+    private final byte[] template;
+
+    private final String hash;
+
+    /**
+     * Reader com o template completamente analisado, usado apenas como fonte
+     * para as duplicações.
+     */
+    private final PdfReader master;
+
+    private final int numberOfPages;
+
+    private final Map<String, Field> fields;
+
+    private volatile PdfFieldBinding binding;
+
+    private PdfTemplate(byte[] template, String hash) {
+        try {
+            this.template = template;
+            this.hash = hash;
+            this.master = new PdfReader(template);
+            this.numberOfPages = master.getNumberOfPages();
+            this.fields = Collections.unmodifiableMap(readFields(master.getAcroFields()));
+        } catch (Exception e) {
+            throw new IllegalStateException("Template PDF inválido! Causado por " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Analisa o template e retorna sua forma compilada. Prefira
+     * {@linkplain PdfTemplateCache#get(byte[])} para aproveitar templates já
+     * compilados.
+     *
+     * @param template Template em bytes
+     * @return Template compilado
+     *
+     * @throws IllegalArgumentException Caso o {@code template} seja nulo
+     * @throws IllegalStateException Caso o {@code template} não seja um PDF
+     * válido
+     */
+    public static PdfTemplate compile(byte[] template) {
+        Objects.checkNotNull(template, "Arquivo de template nulo!");
+        return new PdfTemplate(template, hashOf(template));
+    }
+
+    static PdfTemplate compile(byte[] template, String hash) {
+        return new PdfTemplate(template, hash);
+    }
+
+    /**
+     * Calcula o hash (SHA-256) do conteúdo do template, usado como chave no
+     * cache.
+     *
+     * @param template Template em bytes
+     * @return Hash em hexadecimal
+     */
+    public static String hashOf(byte[] template) {
+        return Files.sha256Hex(template);
+    }
+
+    /**
+     * Cria um reader independente para a geração de um documento, a partir da
+     * estrutura já analisada do template.
+     *
+     * @return Novo reader
+     */
+    public PdfReader newReader() {
+        synchronized (master) {
+            return new PdfReader(master);
+        }
+    }
+
+    /**
+     * @return Cópia do template em bytes
+     */
+    public byte[] getBytes() {
+        return template.clone();
+    }
+
+    /**
+     * Para uso interno do pacote: template em bytes sem cópia.
+     */
+    byte[] bytes() {
+        return template;
+    }
+
+    /**
+     * @return Hash do conteúdo do template
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    /**
+     * @return Tamanho do template em bytes
+     */
+    public int size() {
+        return template.length;
+    }
+
+    public int getNumberOfPages() {
+        return numberOfPages;
+    }
+
+    /**
+     * @return Nomes de todos os campos do template
+     */
+    public Set<String> getFieldNames() {
+        return fields.keySet();
+    }
+
+    /**
+     * @param name Nome do campo
+     * @return true caso o template contenha o campo
+     */
+    public boolean hasField(String name) {
+        return fields.containsKey(name);
+    }
+
+    /**
+     * @param name Nome do campo
+     * @return O campo ou {@code null} caso o template não o contenha
+     */
+    public Field getField(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * @return Todos os campos do template
+     */
+    public Map<String, Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * Obtém o vínculo pré-compilado entre os nomes informados e os campos
+     * deste template. O vínculo é compilado na primeira chamada e reaproveitado
+     * enquanto a mesma lista de nomes (instância) for usada.
+     *
+     * @param names Nomes dos campos, na ordem das posições do vínculo
+     * @return Vínculo dos campos
+     */
+    public PdfFieldBinding bind(String[] names) {
+        PdfFieldBinding b = binding;
+        if (isNull(b) || !b.isFor(names)) {
+            b = PdfFieldBinding.compile(names, fields);
+            binding = b;
+        }
+        return b;
+    }
+
+    private static Map<String, Field> readFields(AcroFields form) {
+        Map<String, Field> fields = new LinkedHashMap<String, Field>();
+        for (String name : form.getFields().keySet()) {
+            List<PdfRectangle> rects = new ArrayList<PdfRectangle>();
+            List<AcroFields.FieldPosition> positions = form.getFieldPositions(name);
+            if (isNotNull(positions)) {
+                for (AcroFields.FieldPosition pos : positions) {
+                    rects.add(new PdfRectangle(pos.page, pos.position));
+                }
+            }
+            fields.put(name, new Field(name, form.getFieldType(name), rects, readFontSize(form, name), readAlignment(form, name), readMultiline(form, name)));
+        }
+        return fields;
+    }
+
+    private static float readFontSize(AcroFields form, String name) {
+        PdfDictionary merged = mergedOf(form, name);
+        if (isNotNull(merged)) {
+            PdfString da = merged.getAsString(PdfName.DA);
+            if (isNotNull(da)) {
+                Object[] dab = AcroFields.splitDAelements(da.toUnicodeString());
+                if (isNotNull(dab[AcroFields.DA_SIZE])) {
+                    return ((Float) dab[AcroFields.DA_SIZE]).floatValue();
+                }
+            }
+        }
+        return Field.AUTO_SIZE;
+    }
+
+    private static int readAlignment(AcroFields form, String name) {
+        PdfDictionary merged = mergedOf(form, name);
+        if (isNotNull(merged)) {
+            PdfNumber q = merged.getAsNumber(PdfName.Q);
+            if (isNotNull(q)) {
+                return q.intValue();
+            }
+        }
+        return Field.ALIGN_LEFT;
+    }
+
+    private static boolean readMultiline(AcroFields form, String name) {
+        PdfDictionary merged = mergedOf(form, name);
+        if (isNotNull(merged)) {
+            PdfNumber ff = merged.getAsNumber(PdfName.FF);
+            if (isNotNull(ff)) {
+                return (ff.intValue() & PdfFormField.FF_MULTILINE) != 0;
+            }
+        }
+        return false;
+    }
+
+    private static PdfDictionary mergedOf(AcroFields form, String name) {
+        AcroFields.Item item = form.getFieldItem(name);
+        if (isNotNull(item) && item.size() > 0) {
+            return item.getMerged(0);
+        }
+        return null;
+    }
+
+    /**
+     * Informações de um campo do template.
+     */
+    public static final class Field {
+
+        /**
+         * Tamanho de fonte automático (zero no DA do campo).
+         */
+        public static final float AUTO_SIZE = 0f;
+
+        public static final int ALIGN_LEFT = 0;
+        public static final int ALIGN_CENTER = 1;
+        public static final int ALIGN_RIGHT = 2;
+
+        private final String name;
+        private final int type;
+        private final List<PdfRectangle> positions;
+        private final float fontSize;
+        private final int alignment;
+        private final boolean multiline;
+
+        Field(String name, int type, List<PdfRectangle> positions, float fontSize, int alignment, boolean multiline) {
+            this.name = name;
+            this.type = type;
+            this.positions = Collections.unmodifiableList(positions);
+            this.fontSize = fontSize;
+            this.alignment = alignment;
+            this.multiline = multiline;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Tipo do campo conforme {@code AcroFields.FIELD_TYPE_*}
+         */
+        public int getType() {
+            return type;
+        }
+
+        /**
+         * @return Retângulos (widgets) do campo no documento
+         */
+        public List<PdfRectangle> getPositions() {
+            return positions;
+        }
+
+        public float getFontSize() {
+            return fontSize;
+        }
+
+        /**
+         * @return Alinhamento do texto (0 esquerda, 1 centro e 2 direita)
+         */
+        public int getAlignment() {
+            return alignment;
+        }
+
+        /**
+         * @return true caso o campo de texto aceite várias linhas
+         */
+        public boolean isMultiline() {
+            return multiline;
+        }
+    }
+}
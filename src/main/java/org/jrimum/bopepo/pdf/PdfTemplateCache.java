@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * Cache global (por processo) de templates PDF compilados, indexado pelo hash
+ * do conteúdo do template.
+ *
+ * <p>
+ * A política de remoção é LRU limitada pela soma do tamanho, em bytes, dos
+ * templates mantidos. Todos os métodos são thread-safe.
+ * </p>
+ *
+ * @see PdfTemplate
+ *
+ * @since 0.2
+ */
+public final class PdfTemplateCache {
+
+    private static final Logger LOG = Logger.getLogger(PdfTemplateCache.class);
+
+    /**
+     * Limite padrão: 32 MB de templates.
+     */
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 32L * 1024 * 1024;
+
+    private static final Map<String, PdfTemplate> TEMPLATES = new LinkedHashMap<String, PdfTemplate>(16, 0.75f, true);
+
+    private static long maxSizeInBytes = DEFAULT_MAX_SIZE_IN_BYTES;
+
+    private static long sizeInBytes;
+
+    /**
+     * Utility class pattern: classe não instanciável
+     *
+     * @throws IllegalStateException Caso haja alguma tentativa de utilização
+     * deste construtor.
+     */
+    private PdfTemplateCache() {
+        Exceptions.throwIllegalStateException("Instanciação não permitida!");
+    }
+
+    /**
+     * Retorna o template compilado correspondente ao conteúdo informado,
+     * compilando-o e armazenando-o no cache caso ainda não exista.
+     *
+     * @param template Template em bytes
+     * @return Template compilado
+     *
+     * @throws IllegalArgumentException Caso o {@code template} seja nulo
+     */
+    public static PdfTemplate get(byte[] template) {
+
+        Objects.checkNotNull(template, "Arquivo de template nulo!");
+
+        final String hash = PdfTemplate.hashOf(template);
+
+        PdfTemplate compiled = lookup(hash);
+
+        if (isNotNull(compiled)) {
+            return compiled;
+        }
+
+        // Compilação fora do lock: no pior caso duas threads compilam o mesmo
+        // template e apenas uma das instâncias permanece no cache.
+        compiled = PdfTemplate.compile(template.clone(), hash);
+
+        return store(compiled);
+    }
+
+    /**
+     * Define o limite, em bytes, da soma dos templates mantidos no cache.
+     *
+     * @param maxSize Limite em bytes
+     */
+    public static void setMaxSizeInBytes(long maxSize) {
+        Objects.checkArgument(maxSize >= 0, "O limite do cache não pode ser negativo!");
+        synchronized (TEMPLATES) {
+            maxSizeInBytes = maxSize;
+            evict();
+        }
+    }
+
+    public static long getMaxSizeInBytes() {
+        synchronized (TEMPLATES) {
+            return maxSizeInBytes;
+        }
+    }
+
+    /**
+     * @return Soma do tamanho dos templates mantidos no cache
+     */
+    public static long getSizeInBytes() {
+        synchronized (TEMPLATES) {
+            return sizeInBytes;
+        }
+    }
+
+    /**
+     * @return Quantidade de templates no cache
+     */
+    public static int size() {
+        synchronized (TEMPLATES) {
+            return TEMPLATES.size();
+        }
+    }
+
+    /**
+     * Remove todos os templates do cache.
+     */
+    public static void clear() {
+        synchronized (TEMPLATES) {
+            TEMPLATES.clear();
+            sizeInBytes = 0;
+        }
+    }
+
+    private static PdfTemplate lookup(String hash) {
+        synchronized (TEMPLATES) {
+            return TEMPLATES.get(hash);
+        }
+    }
+
+    private static PdfTemplate store(PdfTemplate compiled) {
+        synchronized (TEMPLATES) {
+            PdfTemplate existing = TEMPLATES.get(compiled.getHash());
+            if (isNotNull(existing)) {
+                return existing;
+            }
+            TEMPLATES.put(compiled.getHash(), compiled);
+            sizeInBytes += compiled.size();
+            evict();
+            return compiled;
+        }
+    }
+
+    private static void evict() {
+        Iterator<PdfTemplate> lru = TEMPLATES.values().iterator();
+        while (sizeInBytes > maxSizeInBytes && lru.hasNext()) {
+            PdfTemplate eldest = lru.next();
+            lru.remove();
+            sizeInBytes -= eldest.size();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Template removido do cache: " + eldest.getHash());
+            }
+        }
+    }
+}
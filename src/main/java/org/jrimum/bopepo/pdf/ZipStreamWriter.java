@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jrimum.utilix.Objects;
+import org.jrimum.utilix.Strings;
+
+/**
+ * Escreve um arquivo ZIP diretamente no destino informado, entrada por
+ * entrada, a partir de entradas já comprimidas.
+ *
+ * <p>
+ * A compressão ({@linkplain #deflate(String, byte[], int)}) é independente da
+ * escrita e pode ser feita em paralelo, por exemplo na mesma thread que gerou
+ * o PDF; a escrita ({@linkplain #add(Entry)}) apenas copia os bytes
+ * comprimidos para o destino, na ordem em que as entradas são adicionadas.
+ * Nenhuma entrada fica em memória após ser escrita: apenas os dados do
+ * diretório central (nome, tamanhos, CRC e posição) são mantidos até
+ * {@linkplain #close()}.
+ * </p>
+ *
+ * <p>
+ * Entradas cuja compressão não reduz o tamanho (o conteúdo de um PDF já é em
+ * grande parte comprimido) são armazenadas sem compressão. Os nomes são
+ * gravados em UTF-8 e o formato ZIP64 é usado automaticamente para mais de
+ * 65535 entradas ou arquivos maiores que 4 GB.
+ * </p>
+ *
+ * <p>
+ * Instâncias não são thread-safe; {@linkplain #deflate(String, byte[], int)}
+ * é.
+ * </p>
+ *
+ * @see org.jrimum.bopepo.view.BoletoBatchRenderer#zip(java.util.List, OutputStream, String, String)
+ *
+ * @since 0.2
+ */
+public class ZipStreamWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+
+    private static final int CENTRAL_HEADER = 0x02014b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+
+    private static final short STORED = 0;
+
+    private static final short DEFLATED = 8;
+
+    /**
+     * Nomes em UTF-8.
+     */
+    private static final short FLAG_UTF8 = 0x0800;
+
+    private static final short VERSION = 20;
+
+    private static final short VERSION_ZIP64 = 45;
+
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private final OutputStream output;
+
+    private final ByteBuffer header = ByteBuffer.allocate(128).order(ByteOrder.LITTLE_ENDIAN);
+
+    private final List<Central> entries = new ArrayList<Central>();
+
+    private final Set<String> names = new HashSet<String>();
+
+    private final int dosTime;
+
+    private long position;
+
+    private boolean closed;
+
+    /**
+     * Entrada já comprimida, pronta para a escrita. Imutável.
+     */
+    public static final class Entry {
+
+        private final String name;
+
+        private final byte[] data;
+
+        private final int length;
+
+        private final long size;
+
+        private final long crc;
+
+        private final short method;
+
+        private Entry(String name, byte[] data, int length, long size, long crc, short method) {
+            this.name = name;
+            this.data = data;
+            this.length = length;
+            this.size = size;
+            this.crc = crc;
+            this.method = method;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Tamanho original da entrada
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * @return Tamanho da entrada no ZIP
+         */
+        public long getCompressedSize() {
+            return length;
+        }
+    }
+
+    /**
+     * Dados de uma entrada escrita, para o diretório central.
+     */
+    private static final class Central {
+
+        private final byte[] name;
+
+        private final long size;
+
+        private final long compressedSize;
+
+        private final long crc;
+
+        private final short method;
+
+        private final long offset;
+
+        private Central(byte[] name, Entry entry, long offset) {
+            this.name = name;
+            this.size = entry.size;
+            this.compressedSize = entry.length;
+            this.crc = entry.crc;
+            this.method = entry.method;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * @param output Destino do ZIP, não é fechado por esta classe
+     *
+     * @throws IllegalArgumentException Caso o {@code output} seja nulo
+     */
+    public ZipStreamWriter(OutputStream output) {
+
+        Objects.checkNotNull(output, "Destino do ZIP nulo!");
+
+        this.output = new BufferedOutputStream(output, BUFFER_SIZE);
+        this.dosTime = dosTime(LocalDateTime.now());
+    }
+
+    /**
+     * @param channel Destino do ZIP, não é fechado por esta classe
+     *
+     * @throws IllegalArgumentException Caso o {@code channel} seja nulo
+     */
+    public ZipStreamWriter(WritableByteChannel channel) {
+        this(Channels.newOutputStream(checkChannel(channel)));
+    }
+
+    /**
+     * Comprime o conteúdo de uma entrada. Pode ser chamado por qualquer
+     * thread.
+     *
+     * @param name Nome da entrada no ZIP
+     * @param data Conteúdo da entrada
+     * @param level Nível de compressão ({@code Deflater.BEST_SPEED} a
+     * {@code Deflater.BEST_COMPRESSION}, ou {@code Deflater.DEFAULT_COMPRESSION})
+     * @return Entrada pronta para a escrita
+     */
+    public static Entry deflate(String name, byte[] data, int level) {
+
+        Strings.checkNotBlank(name, "Nome da entrada não informado!");
+        Objects.checkNotNull(data, "Conteúdo da entrada nulo!");
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+
+        Deflater deflater = new Deflater(level, true);
+
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+
+            byte[] out = new byte[data.length + (data.length >> 12) + 64];
+            int length = 0;
+
+            while (!deflater.finished()) {
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+                length += deflater.deflate(out, length, out.length - length);
+            }
+
+            if (length >= data.length) {
+                return new Entry(name, data, data.length, data.length, crc.getValue(), STORED);
+            }
+
+            return new Entry(name, out, length, data.length, crc.getValue(), DEFLATED);
+
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Comprime e escreve uma entrada na thread corrente, com o nível de
+     * compressão padrão.
+     *
+     * @param name Nome da entrada no ZIP
+     * @param data Conteúdo da entrada
+     *
+     * @throws IOException Caso ocorra erro na escrita
+     */
+    public void add(String name, byte[] data) throws IOException {
+        add(deflate(name, data, Deflater.DEFAULT_COMPRESSION));
+    }
+
+    /**
+     * Escreve a entrada já comprimida.
+     *
+     * @param entry Entrada obtida por {@linkplain #deflate(String, byte[], int)}
+     *
+     * @throws IOException Caso ocorra erro na escrita
+     * @throws IllegalArgumentException Caso já exista uma entrada com o mesmo
+     * nome
+     * @throws IllegalStateException Caso o ZIP já tenha sido finalizado
+     */
+    public void add(Entry entry) throws IOException {
+
+        Objects.checkNotNull(entry, "Entrada nula!");
+        Objects.checkState(!closed, "ZIP já finalizado!");
+        Objects.checkArgument(names.add(entry.name), "Entrada duplicada: " + entry.name);
+
+        byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+
+        entries.add(new Central(name, entry, position));
+
+        header.clear();
+        header.putInt(LOCAL_HEADER);
+        header.putShort(VERSION);
+        header.putShort(FLAG_UTF8);
+        header.putShort(entry.method);
+        header.putInt(dosTime);
+        header.putInt((int) entry.crc);
+        header.putInt(entry.length);
+        header.putInt((int) entry.size);
+        header.putShort((short) name.length);
+        header.putShort((short) 0);
+
+        writeHeader();
+        write(name, name.length);
+        write(entry.data, entry.length);
+    }
+
+    /**
+     * @return Quantidade de entradas escritas
+     */
+    public int getNumberOfEntries() {
+        return entries.size();
+    }
+
+    /**
+     * Escreve o diretório central e descarrega o destino sem fechá-lo.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        long start = position;
+
+        for (Central entry : entries) {
+            writeCentral(entry);
+        }
+
+        long size = position - start;
+        long count = entries.size();
+
+        boolean zip64 = count >= 0xFFFF || start >= ZIP64_MAGIC || size >= ZIP64_MAGIC;
+
+        if (zip64) {
+            long zip64End = position;
+
+            header.clear();
+            header.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY);
+            header.putLong(44);
+            header.putShort(VERSION_ZIP64);
+            header.putShort(VERSION_ZIP64);
+            header.putInt(0);
+            header.putInt(0);
+            header.putLong(count);
+            header.putLong(count);
+            header.putLong(size);
+            header.putLong(start);
+            writeHeader();
+
+            header.clear();
+            header.putInt(ZIP64_LOCATOR);
+            header.putInt(0);
+            header.putLong(zip64End);
+            header.putInt(1);
+            writeHeader();
+        }
+
+        header.clear();
+        header.putInt(END_OF_CENTRAL_DIRECTORY);
+        header.putShort((short) 0);
+        header.putShort((short) 0);
+        header.putShort((short) (zip64 ? 0xFFFF : count));
+        header.putShort((short) (zip64 ? 0xFFFF : count));
+        header.putInt((int) (zip64 ? ZIP64_MAGIC : size));
+        header.putInt((int) (zip64 ? ZIP64_MAGIC : start));
+        header.putShort((short) 0);
+        writeHeader();
+
+        output.flush();
+    }
+
+    private void writeCentral(Central entry) throws IOException {
+
+        boolean zip64 = entry.offset >= ZIP64_MAGIC;
+
+        header.clear();
+        header.putInt(CENTRAL_HEADER);
+        header.putShort(zip64 ? VERSION_ZIP64 : VERSION);
+        header.putShort(zip64 ? VERSION_ZIP64 : VERSION);
+        header.putShort(FLAG_UTF8);
+        header.putShort(entry.method);
+        header.putInt(dosTime);
+        header.putInt((int) entry.crc);
+        header.putInt((int) entry.compressedSize);
+        header.putInt((int) entry.size);
+        header.putShort((short) entry.name.length);
+        header.putShort((short) (zip64 ? 12 : 0));
+        header.putShort((short) 0);
+        header.putShort((short) 0);
+        header.putShort((short) 0);
+        header.putInt(0);
+        header.putInt((int) (zip64 ? ZIP64_MAGIC : entry.offset));
+
+        writeHeader();
+        write(entry.name, entry.name.length);
+
+        if (zip64) {
+            header.clear();
+            header.putShort((short) 0x0001);
+            header.putShort((short) 8);
+            header.putLong(entry.offset);
+            writeHeader();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        write(header.array(), header.position());
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        output.write(bytes, 0, length);
+        position += length;
+    }
+
+    /**
+     * Data e hora no formato do MS-DOS usado no ZIP: hora nos 16 bits baixos
+     * e data nos altos.
+     */
+    private static int dosTime(LocalDateTime t) {
+
+        if (t.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+
+        return (t.getYear() - 1980) << 25 | t.getMonthValue() << 21 | t.getDayOfMonth() << 16
+                | t.getHour() << 11 | t.getMinute() << 5 | t.getSecond() >> 1;
+    }
+
+    private static WritableByteChannel checkChannel(WritableByteChannel channel) {
+        Objects.checkNotNull(channel, "Destino do ZIP nulo!");
+        return channel;
+    }
+}
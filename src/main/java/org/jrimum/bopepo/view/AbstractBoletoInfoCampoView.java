@@ -40,8 +40,6 @@ import static org.jrimum.bopepo.view.BoletoInfoCampoNossoNumero.getTextoNossoNum
 import static org.jrimum.bopepo.view.BoletoInfoCampoPessoa.getTextoNomeCprfDaPessoa;
 import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.whenNull;
-import static org.jrimum.utilix.DateFormat.DDMMYYYY_B;
-import static org.jrimum.utilix.DecimalFormat.MONEY_DD_BR;
 
 import java.awt.Image;
 import java.math.BigDecimal;
@@ -52,7 +50,9 @@ import org.jrimum.bopepo.Boleto;
 import org.jrimum.bopepo.LinhaDigitavel;
 import org.jrimum.bopepo.pdf.CodigoDeBarras;
 import org.jrimum.domkee.banco.TipoDeTitulo;
+import org.jrimum.utilix.DateFormatter;
 import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.MoneyFormatter;
 import org.jrimum.utilix.Objects;
 
 /**
@@ -333,14 +333,14 @@ public abstract class AbstractBoletoInfoCampoView implements BoletoInfoCampoView
 
     private String getValue(Date value) {
         if (isNotNull(value)) {
-            return DDMMYYYY_B.format(value);
+            return DateFormatter.DDMMYYYY_B.format(value);
         }
         return EMPTY;
     }
 
     private String getValue(BigDecimal value) {
         if (isNotNull(value)) {
-            return MONEY_DD_BR.format(value);
+            return MoneyFormatter.REAL_COM_PREFIXO.format(value);
         }
         return EMPTY;
     }
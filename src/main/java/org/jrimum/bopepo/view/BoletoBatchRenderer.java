@@ -0,0 +1,530 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PdfOutputBuffer;
+import org.jrimum.bopepo.pdf.PdfStreamMerger;
+import org.jrimum.bopepo.pdf.ZipStreamWriter;
+import org.jrimum.utilix.Collections;
+import org.jrimum.utilix.Exceptions;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Gera boletos em lote distribuindo a geração de cada boleto entre as threads
+ * de um {@link ExecutorService} (pool fixo, {@code ForkJoinPool}, etc).
+ * </p>
+ *
+ * <p>
+ * Cada geração usa um {@link BoletoViewer} (e portanto um {@code PdfDocMix})
+ * exclusivo da thread durante o uso, obtido de um pool interno de viewers. Os
+ * resultados são entregues sempre na ordem da lista de entrada, tanto no
+ * agrupamento em um único PDF quanto em um PDF por boleto. A quantidade de
+ * boletos em geração ou aguardando a vez de serem entregues é limitada por
+ * {@linkplain #withMaxInFlight(int)}, o que mantém a memória constante
+ * independente do tamanho do lote.
+ * </p>
+ *
+ * <p>
+ * A configuração ({@code with*}) deve ser feita antes da geração. As gerações
+ * em si podem ser chamadas por várias threads.
+ * </p>
+ *
+ * @see BoletoViewer#groupInOnePDF(List, OutputStream)
+ *
+ * @since 0.2
+ */
+public class BoletoBatchRenderer implements Closeable {
+
+    private static final Logger LOG = Logger.getLogger(BoletoBatchRenderer.class);
+
+    /**
+     * Boletos em geração, por thread, quando o limite não é informado.
+     */
+    public static final int DEFAULT_IN_FLIGHT_PER_THREAD = 4;
+
+    private final ExecutorService executor;
+
+    private final boolean ownExecutor;
+
+    private int maxInFlight;
+
+    private byte[] template;
+
+    private final Queue<BoletoViewer> viewers = new ConcurrentLinkedQueue<BoletoViewer>();
+
+    /**
+     * Usa um pool próprio com uma thread por processador disponível.
+     */
+    public BoletoBatchRenderer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Usa um pool próprio com a quantidade de threads informada, encerrado em
+     * {@linkplain #close()}.
+     *
+     * @param threads Quantidade de threads de geração
+     */
+    public BoletoBatchRenderer(int threads) {
+        this(newPool(threads), threads, true);
+    }
+
+    /**
+     * Usa o executor informado, que não é encerrado em {@linkplain #close()}.
+     *
+     * @param executor Executor das gerações
+     * @param parallelism Paralelismo do executor, usado no limite padrão de
+     * boletos em geração
+     */
+    public BoletoBatchRenderer(ExecutorService executor, int parallelism) {
+        this(executor, parallelism, false);
+    }
+
+    private BoletoBatchRenderer(ExecutorService executor, int parallelism, boolean ownExecutor) {
+        Objects.checkNotNull(executor, "Executor nulo!");
+        Objects.checkArgument(parallelism > 0, "O paralelismo deve ser maior que zero!");
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+        this.maxInFlight = parallelism * DEFAULT_IN_FLIGHT_PER_THREAD;
+    }
+
+    /**
+     * Define o template usado na geração de todos os boletos.
+     *
+     * @param template Template em bytes ou {@code null} para o template padrão
+     * @return Esta instância após a operação
+     */
+    public BoletoBatchRenderer withTemplate(byte[] template) {
+        this.template = template;
+        this.viewers.clear();
+        return this;
+    }
+
+    /**
+     * Define o limite de boletos em geração ou aguardando a entrega ordenada.
+     * Ao atingir o limite, a submissão de novos boletos espera a entrega do
+     * boleto mais antigo.
+     *
+     * @param maxInFlight Limite de boletos em andamento
+     * @return Esta instância após a operação
+     */
+    public BoletoBatchRenderer withMaxInFlight(int maxInFlight) {
+        Objects.checkArgument(maxInFlight > 0, "O limite de boletos em andamento deve ser maior que zero!");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Agrupa os boletos da lista em um único arquivo PDF, na ordem da lista.
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @return Arquivo PDF em array de bytes gerado com os boletos da lista
+     */
+    public byte[] groupInOnePDF(List<Boleto> boletos) {
+        PdfOutputBuffer out = PdfOutputBuffer.acquire();
+        try {
+            groupInOnePDF(boletos, out);
+            return out.toByteArray();
+        } finally {
+            out.release();
+        }
+    }
+
+    /**
+     * Agrupa os boletos da lista em um único documento PDF escrito no destino
+     * informado, na ordem da lista. O destino não é fechado.
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param out Destino do PDF gerado
+     */
+    public void groupInOnePDF(List<Boleto> boletos, OutputStream out) {
+
+        checkBoletosList(boletos);
+        Objects.checkNotNull(out, "Destino da geração do(s) boleto(s) nulo!");
+
+        final PdfStreamMerger merger = new PdfStreamMerger(out);
+
+        render(boletos, new Sink<byte[]>() {
+
+            @Override
+            public void accept(int index, byte[] pdf) {
+                merger.add(pdf);
+            }
+        });
+
+        try {
+            merger.close();
+        } catch (Exception e) {
+            Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Gera um arquivo PDF para cada boleto contido na lista.
+     *
+     * @param boletos Lista com os boletos a serem gerados
+     * @return Lista com os PDFs em array de bytes, na ordem da lista
+     */
+    public List<byte[]> onePerPDF(List<Boleto> boletos) {
+
+        checkBoletosList(boletos);
+
+        final List<byte[]> arquivos = new ArrayList<byte[]>(boletos.size());
+
+        render(boletos, new Sink<byte[]>() {
+
+            @Override
+            public void accept(int index, byte[] pdf) {
+                arquivos.add(pdf);
+            }
+        });
+
+        return arquivos;
+    }
+
+    /**
+     * Gera um arquivo PDF para cada boleto contido na lista. O nome do arquivo
+     * segue a forma de
+     * {@linkplain BoletoViewer#onePerPDF(List, File, String, String)}. A
+     * escrita dos arquivos também é feita em paralelo.
+     *
+     * @param boletos Lista com os boletos a serem gerados
+     * @param destDir Diretório o qual os boletos serão criados
+     * @param prefixo Prefixo do nome do arquivo
+     * @param sufixo Sufixo do nome do arquivo
+     * @return Lista contendo os arquivos PDF gerados, na ordem da lista
+     */
+    public List<File> onePerPDF(List<Boleto> boletos, final File destDir, final String prefixo, final String sufixo) {
+
+        checkBoletosList(boletos);
+        Objects.checkNotNull(destDir, "Diretório destinado a geração do(s) boleto(s) nulo!");
+        Objects.checkArgument(destDir.isDirectory(), "Isto não é um diretório válido!");
+
+        final List<File> arquivos = new ArrayList<File>(boletos.size());
+
+        process(boletos, new Task<File>() {
+
+            @Override
+            public File call(BoletoViewer viewer, int index, Boleto boleto) throws Exception {
+                File file = new File(destDir, prefixo + (index + 1) + sufixo + ".pdf");
+                return Files.bytesToFile(file, viewer.setBoleto(boleto).getPdfAsByteArray());
+            }
+        }, new Sink<File>() {
+
+            @Override
+            public void accept(int index, File file) {
+                arquivos.add(file);
+            }
+        });
+
+        return arquivos;
+    }
+
+    /**
+     * Gera um arquivo ZIP com um PDF por boleto, escrito no destino à medida
+     * que os boletos são gerados. Cada PDF é gerado e comprimido na mesma
+     * thread de geração e escrito no ZIP na ordem da lista; apenas os boletos
+     * dentro do limite de {@linkplain #withMaxInFlight(int)} ficam em
+     * memória. O nome de cada entrada segue a forma de
+     * {@linkplain #onePerPDF(List, File, String, String)}. O destino não é
+     * fechado.
+     *
+     * @param boletos Lista com os boletos a serem gerados
+     * @param out Destino do ZIP
+     * @param prefixo Prefixo do nome de cada PDF
+     * @param sufixo Sufixo do nome de cada PDF
+     *
+     * @see ZipStreamWriter
+     */
+    public void zip(List<Boleto> boletos, OutputStream out, final String prefixo, final String sufixo) {
+
+        checkBoletosList(boletos);
+        Objects.checkNotNull(out, "Destino da geração do(s) boleto(s) nulo!");
+
+        final ZipStreamWriter zip = new ZipStreamWriter(out);
+
+        process(boletos, new Task<ZipStreamWriter.Entry>() {
+
+            @Override
+            public ZipStreamWriter.Entry call(BoletoViewer viewer, int index, Boleto boleto) {
+                byte[] pdf = viewer.setBoleto(boleto).getPdfAsByteArray();
+                return ZipStreamWriter.deflate(prefixo + (index + 1) + sufixo + ".pdf", pdf, Deflater.DEFAULT_COMPRESSION);
+            }
+        }, new Sink<ZipStreamWriter.Entry>() {
+
+            @Override
+            public void accept(int index, ZipStreamWriter.Entry entry) throws IOException {
+                zip.add(entry);
+            }
+        });
+
+        try {
+            zip.close();
+        } catch (IOException e) {
+            Exceptions.throwIllegalStateException("Erro durante geração do ZIP! Causado por " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Agrupa os boletos em vários PDFs, na ordem da lista, escritos pelo
+     * {@code chunks} à medida que são gerados. Cada parte é finalizada assim
+     * que atinge o limite do {@code chunks}, que é fechado ao final.
+     *
+     * <p>
+     * Os boletos já concluídos pelo {@code chunks} (obtido por
+     * {@linkplain BoletoChunkWriter#resume(java.io.File, String)} após uma
+     * interrupção) não são gerados novamente: a geração continua a partir do
+     * boleto seguinte da lista, que deve ser a mesma da geração interrompida.
+     * </p>
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param chunks Destino das partes
+     * @return Partes geradas, na ordem da lista
+     *
+     * @see BoletoChunkWriter
+     */
+    public List<File> groupInChunks(List<Boleto> boletos, final BoletoChunkWriter chunks) {
+
+        checkBoletosList(boletos);
+        Objects.checkNotNull(chunks, "Destino da geração do(s) boleto(s) nulo!");
+
+        int concluidos = chunks.getTotalDeBoletos();
+
+        Objects.checkArgument(concluidos <= boletos.size(), "A lista tem menos boletos que os já concluídos!");
+
+        if (concluidos > 0) {
+            LOG.info("Retomando a geração a partir do boleto " + (concluidos + 1) + " do lote.");
+        }
+
+        process(boletos.subList(concluidos, boletos.size()), concluidos, new Task<Rendered>() {
+
+            @Override
+            public Rendered call(BoletoViewer viewer, int index, Boleto boleto) {
+                return new Rendered(boleto, viewer.setBoleto(boleto).getPdfAsByteArray());
+            }
+        }, new Sink<Rendered>() {
+
+            @Override
+            public void accept(int index, Rendered rendered) throws IOException {
+                chunks.add(rendered.boleto, rendered.pdf);
+            }
+        });
+
+        try {
+            chunks.close();
+        } catch (IOException e) {
+            Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+        }
+
+        return chunks.getArquivos();
+    }
+
+    /**
+     * Gera os boletos em paralelo entregando cada PDF ao {@code sink} na
+     * ordem da lista, sempre pela thread que chamou este método.
+     *
+     * @param boletos Lista com os boletos a serem gerados
+     * @param sink Destino de cada PDF gerado
+     */
+    public void render(List<Boleto> boletos, Sink<byte[]> sink) {
+
+        checkBoletosList(boletos);
+        Objects.checkNotNull(sink, "Destino da geração do(s) boleto(s) nulo!");
+
+        process(boletos, new Task<byte[]>() {
+
+            @Override
+            public byte[] call(BoletoViewer viewer, int index, Boleto boleto) {
+                return viewer.setBoleto(boleto).getPdfAsByteArray();
+            }
+        }, sink);
+    }
+
+    /**
+     * Encerra o pool de threads caso tenha sido criado por esta instância.
+     */
+    @Override
+    public void close() {
+        viewers.clear();
+        if (ownExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Recebe os resultados da geração na ordem da lista de entrada.
+     *
+     * @param <T> Tipo do resultado
+     */
+    public interface Sink<T> {
+
+        /**
+         * @param index Posição do boleto na lista
+         * @param result Resultado da geração
+         * @throws Exception Qualquer falha interrompe o lote
+         */
+        void accept(int index, T result) throws Exception;
+    }
+
+    private static final class Rendered {
+
+        private final Boleto boleto;
+
+        private final byte[] pdf;
+
+        Rendered(Boleto boleto, byte[] pdf) {
+            this.boleto = boleto;
+            this.pdf = pdf;
+        }
+    }
+
+    private interface Task<T> {
+
+        T call(BoletoViewer viewer, int index, Boleto boleto) throws Exception;
+    }
+
+    private <T> void process(List<Boleto> boletos, Task<T> task, Sink<T> sink) {
+        process(boletos, 0, task, sink);
+    }
+
+    /**
+     * @param primeiro Posição no lote do primeiro boleto da lista, somada aos
+     * índices entregues e às mensagens de erro (ex: boletos já concluídos de
+     * uma geração retomada)
+     */
+    private <T> void process(List<Boleto> boletos, int primeiro, final Task<T> task, Sink<T> sink) {
+
+        final Deque<Future<T>> window = new ArrayDeque<Future<T>>(maxInFlight);
+
+        int delivered = 0;
+
+        try {
+
+            int index = 0;
+
+            for (final Boleto boleto : boletos) {
+
+                if (window.size() >= maxInFlight) {
+                    sink.accept(primeiro + delivered, window.removeFirst().get());
+                    delivered++;
+                }
+
+                final int i = primeiro + index++;
+
+                window.addLast(executor.submit(new Callable<T>() {
+
+                    @Override
+                    public T call() throws Exception {
+                        BoletoViewer viewer = acquireViewer();
+                        T result = task.call(viewer, i, boleto);
+                        // Viewer com falha é descartado para não reaproveitar
+                        // um PdfDocMix em estado inconsistente.
+                        viewers.offer(viewer);
+                        return result;
+                    }
+                }));
+            }
+
+            while (!window.isEmpty()) {
+                sink.accept(primeiro + delivered, window.removeFirst().get());
+                delivered++;
+            }
+
+        } catch (ExecutionException e) {
+            cancel(window);
+            Throwable cause = isNotNull(e.getCause()) ? e.getCause() : e;
+            Exceptions.throwIllegalStateException("Erro durante a geração do boleto " + (primeiro + delivered + 1) + " do lote! Causado por " + cause.getLocalizedMessage(), cause);
+        } catch (InterruptedException e) {
+            cancel(window);
+            Thread.currentThread().interrupt();
+            Exceptions.throwIllegalStateException("Geração do lote interrompida!", e);
+        } catch (RuntimeException e) {
+            cancel(window);
+            throw e;
+        } catch (Exception e) {
+            cancel(window);
+            Exceptions.throwIllegalStateException("Erro durante a entrega do boleto " + (primeiro + delivered + 1) + " do lote! Causado por " + e.getLocalizedMessage(), e);
+        }
+    }
+
+    private BoletoViewer acquireViewer() {
+        BoletoViewer viewer = viewers.poll();
+        if (isNull(viewer)) {
+            viewer = new BoletoViewer();
+            if (isNotNull(template)) {
+                viewer.setTemplate(template);
+            }
+        }
+        return viewer;
+    }
+
+    private static <T> void cancel(Deque<Future<T>> window) {
+        for (Future<T> future : window) {
+            future.cancel(true);
+        }
+        window.clear();
+    }
+
+    private static void checkBoletosList(List<Boleto> boletos) {
+        Objects.checkNotNull(boletos, "Lista de boletos nula!");
+        Collections.checkNotEmpty(boletos, "A Lista de boletos está vazia!");
+    }
+
+    private static ExecutorService newPool(int threads) {
+        Objects.checkArgument(threads > 0, "A quantidade de threads deve ser maior que zero!");
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "bopepo-render-" + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.PdfDocInfoReader;
+import org.jrimum.bopepo.pdf.PdfStreamMerger;
+import org.jrimum.utilix.Objects;
+
+/**
+ * Agrupa boletos em vários PDFs ("partes") em um diretório, iniciando uma
+ * nova parte a cada {@linkplain #withMaxBoletos(int) N boletos} ou
+ * {@linkplain #withMaxBytes(long) M bytes}, o que ocorrer primeiro.
+ *
+ * <p>
+ * Cada parte é escrita à medida que os boletos são adicionados
+ * ({@link PdfStreamMerger}) em um arquivo temporário ({@code .part}). Quando
+ * a parte enche, ela é finalizada, sincronizada com o disco (fsync) e
+ * renomeada para o nome definitivo, e uma linha é acrescentada ao manifesto
+ * ({@value #MANIFESTO}):
+ * </p>
+ *
+ * <pre>
+ * arquivo;primeiro;ultimo;nossoNumeroInicial;nossoNumeroFinal;bytes
+ * boletos-00001.pdf;1;1000;00000000001;00000001000;2345678
+ * </pre>
+ *
+ * <p>
+ * As posições são as dos boletos na ordem em que foram adicionados (a partir
+ * de 1) e os nossos números são o do primeiro e o do último boleto da parte.
+ * Assim, arquivos com o nome definitivo e listados no manifesto estão
+ * completos e podem ser consumidos (impressão, upload) antes do término do
+ * lote. Apenas a parte corrente fica aberta; a memória usada não depende do
+ * tamanho do lote.
+ * </p>
+ *
+ * <p>
+ * O manifesto é também o registro (journal) da geração: só recebe novas
+ * linhas e cada linha é sincronizada com o disco. Caso a geração seja
+ * interrompida, {@linkplain #resume(File, String)} retoma a partir da última
+ * parte registrada, descartando o trabalho incompleto, e
+ * {@linkplain #getTotalDeBoletos()} indica quantos boletos da lista já foram
+ * concluídos.
+ * </p>
+ *
+ * <p>
+ * Pode ser usado diretamente com um {@link BoletoViewer}:
+ * </p>
+ *
+ * <pre>
+ * BoletoChunkWriter partes = new BoletoChunkWriter(dir, "boletos-").withMaxBoletos(1000);
+ * for (Boleto boleto : boletos) {
+ *     partes.add(boleto, viewer.setBoleto(boleto).getPdfAsByteArray());
+ * }
+ * partes.close();
+ * </pre>
+ *
+ * <p>
+ * ou com a geração paralela de
+ * {@linkplain BoletoBatchRenderer#groupInChunks(List, BoletoChunkWriter)}.
+ * Instâncias não são thread-safe.
+ * </p>
+ *
+ * @since 0.2
+ */
+public class BoletoChunkWriter implements Closeable {
+
+    /**
+     * Nome do arquivo de manifesto no diretório de destino.
+     */
+    public static final String MANIFESTO = "manifesto.csv";
+
+    /**
+     * Boletos por parte quando o limite não é informado.
+     */
+    public static final int DEFAULT_MAX_BOLETOS = 1000;
+
+    private static final Logger LOG = Logger.getLogger(BoletoChunkWriter.class);
+
+    private static final String CABECALHO = "arquivo;primeiro;ultimo;nossoNumeroInicial;nossoNumeroFinal;bytes";
+
+    private static final String PARTE = ".part";
+
+    private final File destDir;
+
+    private final String prefixo;
+
+    private int maxBoletos = DEFAULT_MAX_BOLETOS;
+
+    private long maxBytes = Long.MAX_VALUE;
+
+    private boolean smartCopy;
+
+    private final List<File> arquivos = new ArrayList<File>();
+
+    private final File manifestoFile;
+
+    private FileOutputStream manifesto;
+
+    private Writer manifestoWriter;
+
+    /*
+     * Parte corrente.
+     */
+
+    private FileOutputStream file;
+
+    private CountingOutputStream counter;
+
+    private PdfStreamMerger merger;
+
+    private File parte;
+
+    private int primeiro;
+
+    private int boletosNaParte;
+
+    private String nossoNumeroInicial;
+
+    private String nossoNumeroFinal;
+
+    private int total;
+
+    private boolean closed;
+
+    /**
+     * @param destDir Diretório de destino das partes e do manifesto
+     * @param prefixo Prefixo do nome das partes, seguido do número da parte
+     *
+     * @throws IllegalArgumentException Caso o diretório seja nulo ou inválido
+     */
+    public BoletoChunkWriter(File destDir, String prefixo) {
+        Objects.checkNotNull(destDir, "Diretório destinado a geração do(s) boleto(s) nulo!");
+        Objects.checkArgument(destDir.isDirectory(), "Isto não é um diretório válido!");
+        this.destDir = destDir;
+        this.prefixo = isNull(prefixo) ? "" : prefixo;
+        this.manifestoFile = new File(destDir, MANIFESTO);
+    }
+
+    /**
+     * Retoma uma geração interrompida no diretório informado, a partir do
+     * manifesto existente. Caso não haja manifesto, equivale ao construtor.
+     *
+     * <p>
+     * As partes registradas no manifesto são verificadas pelo tamanho e a
+     * última, que é a única que pode ter sido afetada pela interrupção, também
+     * pela leitura do PDF. A partir da primeira parte inválida, as partes e as
+     * linhas do manifesto são descartadas, assim como partes não finalizadas
+     * ({@code .part}) e uma eventual linha incompleta no fim do manifesto. O
+     * custo da retomada depende apenas do trabalho perdido.
+     * </p>
+     *
+     * @param destDir Diretório da geração interrompida
+     * @param prefixo Prefixo usado na geração interrompida
+     * @return Instância pronta para continuar a partir do boleto
+     * {@linkplain #getTotalDeBoletos()} + 1 da lista original
+     *
+     * @throws IOException Caso o manifesto não possa ser lido ou corrigido
+     */
+    public static BoletoChunkWriter resume(File destDir, String prefixo) throws IOException {
+
+        BoletoChunkWriter writer = new BoletoChunkWriter(destDir, prefixo);
+
+        writer.recuperar();
+
+        return writer;
+    }
+
+    /**
+     * @param maxBoletos Quantidade máxima de boletos por parte
+     * @return Esta instância após a operação
+     */
+    public BoletoChunkWriter withMaxBoletos(int maxBoletos) {
+        Objects.checkArgument(maxBoletos > 0, "A quantidade de boletos por parte deve ser maior que zero!");
+        this.maxBoletos = maxBoletos;
+        return this;
+    }
+
+    /**
+     * Tamanho a partir do qual a parte é finalizada. Como a parte só é
+     * finalizada entre boletos, ela pode ultrapassar o limite em até um
+     * boleto.
+     *
+     * @param maxBytes Tamanho máximo aproximado de cada parte em bytes
+     * @return Esta instância após a operação
+     */
+    public BoletoChunkWriter withMaxBytes(long maxBytes) {
+        Objects.checkArgument(maxBytes > 0, "O tamanho máximo da parte deve ser maior que zero!");
+        this.maxBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * @see PdfStreamMerger#withSmartCopy(boolean)
+     */
+    public BoletoChunkWriter withSmartCopy(boolean option) {
+        this.smartCopy = option;
+        return this;
+    }
+
+    /**
+     * Adiciona o PDF de um boleto à parte corrente, finalizando-a caso atinja
+     * algum dos limites.
+     *
+     * @param boleto Boleto gerado, usado no manifesto
+     * @param pdf PDF do boleto
+     *
+     * @throws IOException Caso ocorra erro na escrita
+     */
+    public void add(Boleto boleto, byte[] pdf) throws IOException {
+
+        Objects.checkNotNull(boleto, "Boleto nulo!");
+        Objects.checkNotNull(pdf, "PDF do boleto nulo!");
+        Objects.checkState(!closed, "Geração já finalizada!");
+
+        if (isNull(merger)) {
+            abrirParte();
+        }
+
+        String nossoNumero = boleto.getTitulo().getNossoNumero();
+
+        if (boletosNaParte == 0) {
+            nossoNumeroInicial = nossoNumero;
+        }
+        nossoNumeroFinal = nossoNumero;
+
+        merger.add(pdf);
+        boletosNaParte++;
+        total++;
+
+        if (boletosNaParte >= maxBoletos || counter.count >= maxBytes) {
+            fecharParte();
+        }
+    }
+
+    /**
+     * @return Partes finalizadas até o momento, na ordem de geração
+     */
+    public List<File> getArquivos() {
+        return Collections.unmodifiableList(arquivos);
+    }
+
+    /**
+     * @return Quantidade de boletos adicionados, incluindo os concluídos antes
+     * de uma retomada
+     */
+    public int getTotalDeBoletos() {
+        return total;
+    }
+
+    /**
+     * Finaliza a parte corrente, caso exista, e o manifesto.
+     */
+    @Override
+    public void close() throws IOException {
+
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            if (isNotNull(merger)) {
+                fecharParte();
+            }
+        } finally {
+            if (isNotNull(manifestoWriter)) {
+                manifestoWriter.close();
+            }
+        }
+    }
+
+    private void recuperar() throws IOException {
+
+        for (File parcial : destDir.listFiles()) {
+            if (parcial.getName().startsWith(prefixo) && parcial.getName().endsWith(PARTE)) {
+                LOG.warn("Descartando parte não finalizada " + parcial);
+                java.nio.file.Files.delete(parcial.toPath());
+            }
+        }
+
+        if (!manifestoFile.isFile()) {
+            return;
+        }
+
+        byte[] conteudo = java.nio.file.Files.readAllBytes(manifestoFile.toPath());
+
+        List<String[]> linhas = new ArrayList<String[]>();
+        List<Integer> fins = new ArrayList<Integer>();
+
+        int inicio = 0;
+        for (int i = 0; i < conteudo.length; i++) {
+            if (conteudo[i] == '\n') {
+                String linha = new String(conteudo, inicio, i - inicio, StandardCharsets.UTF_8);
+                if (inicio > 0) {
+                    linhas.add(linha.split(";", -1));
+                    fins.add(i + 1);
+                }
+                inicio = i + 1;
+            }
+        }
+
+        int validas = 0;
+        int proximo = 1;
+        while (validas < linhas.size() && parteValida(linhas.get(validas), proximo, validas == linhas.size() - 1)) {
+            proximo = Integer.parseInt(linhas.get(validas)[2]) + 1;
+            validas++;
+        }
+
+        for (int i = validas; i < linhas.size(); i++) {
+            LOG.warn("Descartando parte inválida " + linhas.get(i)[0]);
+            java.nio.file.Files.deleteIfExists(new File(destDir, linhas.get(i)[0]).toPath());
+        }
+
+        if (validas == 0) {
+            java.nio.file.Files.delete(manifestoFile.toPath());
+            return;
+        }
+
+        for (int i = 0; i < validas; i++) {
+            arquivos.add(new File(destDir, linhas.get(i)[0]));
+        }
+        total = Integer.parseInt(linhas.get(validas - 1)[2]);
+
+        manifesto = new FileOutputStream(manifestoFile, true);
+        manifesto.getChannel().truncate(fins.get(validas - 1));
+        manifesto.getFD().sync();
+        manifestoWriter = new OutputStreamWriter(manifesto, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verifica uma linha do manifesto: a parte deve começar no boleto
+     * seguinte ao da parte anterior e ter o tamanho registrado.
+     */
+    private boolean parteValida(String[] linha, int esperado, boolean ultima) {
+
+        if (linha.length < 6) {
+            return false;
+        }
+
+        File arquivo = new File(destDir, linha[0]);
+
+        try {
+            if (Integer.parseInt(linha[1]) != esperado || Integer.parseInt(linha[2]) < esperado
+                    || !arquivo.isFile() || arquivo.length() != Long.parseLong(linha[5])) {
+                return false;
+            }
+            if (ultima) {
+                PdfDocInfoReader.read(arquivo.toPath());
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void abrirParte() throws IOException {
+
+        parte = new File(destDir, nomeDaParte(arquivos.size() + 1) + PARTE);
+        file = new FileOutputStream(parte);
+        counter = new CountingOutputStream(file);
+        merger = new PdfStreamMerger(counter).withSmartCopy(smartCopy);
+        primeiro = total + 1;
+        boletosNaParte = 0;
+    }
+
+    private void fecharParte() throws IOException {
+
+        File destino = new File(destDir, nomeDaParte(arquivos.size() + 1));
+
+        try {
+            merger.close();
+            file.getFD().sync();
+        } finally {
+            merger = null;
+            file.close();
+        }
+
+        java.nio.file.Files.move(parte.toPath(), destino.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        arquivos.add(destino);
+
+        escreverManifesto(destino, counter.count);
+    }
+
+    private void escreverManifesto(File destino, long bytes) throws IOException {
+
+        if (isNull(manifestoWriter)) {
+            manifesto = new FileOutputStream(manifestoFile);
+            manifestoWriter = new OutputStreamWriter(manifesto, StandardCharsets.UTF_8);
+            manifestoWriter.write(CABECALHO + "\n");
+        }
+
+        manifestoWriter.write(destino.getName() + ";" + primeiro + ";" + (primeiro + boletosNaParte - 1) + ";"
+                + valor(nossoNumeroInicial) + ";" + valor(nossoNumeroFinal) + ";" + bytes + "\n");
+        manifestoWriter.flush();
+        manifesto.getFD().sync();
+    }
+
+    private String nomeDaParte(int numero) {
+        return prefixo + String.format("%05d", numero) + ".pdf";
+    }
+
+    private static String valor(String s) {
+        return isNull(s) ? "" : s;
+    }
+
+    /**
+     * Conta os bytes efetivamente escritos na parte.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Map;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.Interleaved2of5;
+import org.jrimum.utilix.Objects;
+
+/**
+ * Gera o boleto como um fragmento HTML autocontido, com o código de barras
+ * em SVG embutido, para exibição em páginas web.
+ *
+ * <p>
+ * Os textos são os mesmos do PDF ({@linkplain BoletoInfoViewBuilder#texts()})
+ * e a disposição dos quadros segue o {@link BoletoLayout}. O código de barras
+ * é desenhado com a geometria do {@link Interleaved2of5}, nas dimensões
+ * padrão (103 x 13 mm). Não há geração de PDF: o fragmento é escrito
+ * diretamente no {@link Writer} informado. O logotipo do banco é substituído
+ * pelo nome do banco.
+ * </p>
+ *
+ * <p>
+ * O PDF ({@link BoletoViewer}) continua sendo o formato para download e
+ * impressão.
+ * </p>
+ *
+ * @since 0.2
+ */
+public class BoletoHtmlViewer {
+
+    /**
+     * Folha de estilo do fragmento. Todas as classes usam o prefixo
+     * {@code bpp-}.
+     */
+    public static final String ESTILO = "<style>"
+            + ".bpp-boleto{width:190mm;font:9pt Helvetica,Arial,sans-serif;color:#000}"
+            + ".bpp-boleto table{width:100%;border-collapse:collapse;table-layout:fixed}"
+            + ".bpp-boleto td{border:1px solid #3465a4;padding:1px 3px;vertical-align:top;overflow:hidden;white-space:nowrap}"
+            + ".bpp-boleto .bpp-rotulo{display:block;font-size:6pt}"
+            + ".bpp-boleto .bpp-cabecalho td{border-color:#000;vertical-align:bottom;font-weight:bold}"
+            + ".bpp-boleto .bpp-banco{width:10%;font-size:14pt;text-align:center}"
+            + ".bpp-boleto .bpp-nome{width:23%;font-size:10pt}"
+            + ".bpp-boleto .bpp-linha{font-size:11pt;text-align:right}"
+            + ".bpp-boleto .bpp-titulo{font-size:8pt;font-weight:bold;text-align:right;margin:4px 0}"
+            + ".bpp-boleto .bpp-corte{border-top:1px dashed #000;margin:12px 0 20px;font-size:6pt;text-align:right}"
+            + ".bpp-boleto .bpp-barras{display:block;margin-top:4px}"
+            + "</style>";
+
+    private static final BoletoCampo[] INSTRUCOES = {
+        BoletoCampo.txtFcInstrucaoAoCaixa1, BoletoCampo.txtFcInstrucaoAoCaixa2,
+        BoletoCampo.txtFcInstrucaoAoCaixa3, BoletoCampo.txtFcInstrucaoAoCaixa4,
+        BoletoCampo.txtFcInstrucaoAoCaixa5, BoletoCampo.txtFcInstrucaoAoCaixa6,
+        BoletoCampo.txtFcInstrucaoAoCaixa7, BoletoCampo.txtFcInstrucaoAoCaixa8 };
+
+    /**
+     * Altura das barras no {@code viewBox} do SVG, em módulos.
+     */
+    private static final int ALTURA_BARRAS = 50;
+
+    private final Boleto boleto;
+
+    private final ResourceBundle resourceBundle;
+
+    private boolean comEstilo = true;
+
+    /**
+     * @param boleto Boleto a ser exibido
+     *
+     * @throws IllegalArgumentException Caso o boleto seja nulo
+     */
+    public BoletoHtmlViewer(Boleto boleto) {
+        Objects.checkNotNull(boleto, "Boleto nulo!");
+        this.boleto = boleto;
+        this.resourceBundle = new ResourceBundle();
+    }
+
+    /**
+     * Indica se o fragmento inclui a folha de estilo ({@linkplain #ESTILO}).
+     * Ao exibir vários boletos na mesma página, basta incluí-la uma vez.
+     *
+     * @param comEstilo true (padrão) para incluir o estilo no fragmento
+     * @return Esta instância após a operação
+     */
+    public BoletoHtmlViewer withEstilo(boolean comEstilo) {
+        this.comEstilo = comEstilo;
+        return this;
+    }
+
+    /**
+     * @return O fragmento HTML do boleto
+     */
+    public String getHtml() {
+
+        StringWriter out = new StringWriter(8 * 1024);
+
+        try {
+            writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return out.toString();
+    }
+
+    /**
+     * Escreve o fragmento HTML do boleto. O {@code out} não é fechado.
+     *
+     * @param out Destino do fragmento
+     *
+     * @throws IOException Caso ocorra erro na escrita
+     * @throws IllegalArgumentException Caso o destino seja nulo
+     */
+    public void writeTo(Writer out) throws IOException {
+
+        Objects.checkNotNull(out, "Destino nulo!");
+
+        BoletoInfoViewBuilder builder = new BoletoInfoViewBuilder(resourceBundle, boleto).build();
+
+        Map<String, String> textos = builder.texts();
+        String codigoDeBarras = builder.barcodes().get(BoletoCampo.txtFcCodigoBarra.name());
+
+        String nomeDoBanco = textos.containsKey(BoletoCampo.txtFcLogoBanco.name())
+                ? textos.get(BoletoCampo.txtFcLogoBanco.name())
+                : boleto.getTitulo().getContaBancaria().getBanco().getNome();
+
+        if (comEstilo) {
+            out.write(ESTILO);
+        }
+
+        out.write("<div class=\"bpp-boleto\">");
+
+        escreverReciboDoPagador(out, textos, nomeDoBanco);
+
+        out.write("<div class=\"bpp-corte\">Corte na linha abaixo</div>");
+
+        escreverFichaDeCompensacao(out, textos, nomeDoBanco, codigoDeBarras);
+
+        out.write("</div>");
+    }
+
+    private void escreverReciboDoPagador(Writer out, Map<String, String> textos, String nomeDoBanco) throws IOException {
+
+        out.write("<div class=\"bpp-titulo\">RECIBO DO PAGADOR</div>");
+
+        cabecalho(out, nomeDoBanco, textos.get(BoletoCampo.txtRsCodBanco.name()), textos.get(BoletoCampo.txtRsLinhaDigitavel.name()));
+
+        out.write("<table>");
+
+        linha(out);
+        quadro(out, 46, "Beneficiário", textos, BoletoCampo.txtRsCedente);
+        quadro(out, 20, "Agência / Código do Beneficiário", textos, BoletoCampo.txtRsAgenciaCodigoCedente);
+        quadro(out, 7, "Espécie", textos, BoletoCampo.txtRsEspecie);
+        quadro(out, 8, "Quantidade", textos, BoletoCampo.txtRsQuantidade);
+        quadro(out, 19, "Nosso número", textos, BoletoCampo.txtRsNossoNumero);
+        out.write("</tr></table><table>");
+
+        linha(out);
+        quadro(out, 31, "Número do documento", textos, BoletoCampo.txtRsNumeroDocumento);
+        quadro(out, 21, "CPF / CNPJ", textos, BoletoCampo.txtRsCpfCnpj);
+        quadro(out, 21, "Data de Vencimento", textos, BoletoCampo.txtRsDataVencimento);
+        quadro(out, 27, "Valor Documento", textos, BoletoCampo.txtRsValorDocumento);
+        out.write("</tr></table><table>");
+
+        linha(out);
+        quadro(out, 21, "(-) Descontos / Abatimentos", textos, BoletoCampo.txtRsDescontoAbatimento);
+        quadro(out, 17, "(-) Outras deduções", textos, BoletoCampo.txtRsOutraDeducao);
+        quadro(out, 17, "(+) Mora / Multa", textos, BoletoCampo.txtRsMoraMulta);
+        quadro(out, 18, "(+) Outros acréscimos", textos, BoletoCampo.txtRsOutroAcrescimo);
+        quadro(out, 27, "(=) Valor Cobrado", textos, BoletoCampo.txtRsValorCobrado);
+        out.write("</tr></table><table>");
+
+        linha(out);
+        quadro(out, 100, "Pagador", textos, BoletoCampo.txtRsSacado);
+        out.write("</tr></table><table>");
+
+        linha(out);
+        quadro(out, 77, "Instruções", textos, BoletoCampo.txtRsInstrucaoAoSacado);
+        quadro(out, 23, "Autenticação Mecânica", textos);
+        out.write("</tr></table>");
+    }
+
+    private void escreverFichaDeCompensacao(Writer out, Map<String, String> textos, String nomeDoBanco, String codigoDeBarras) throws IOException {
+
+        cabecalho(out, nomeDoBanco, textos.get(BoletoCampo.txtFcCodBanco.name()), textos.get(BoletoCampo.txtFcLinhaDigitavel.name()));
+
+        out.write("<table>");
+
+        linha(out);
+        quadro(out, 76, "Local de pagamento", textos, BoletoCampo.txtFcLocalPagamento);
+        quadro(out, 24, "Vencimento", textos, BoletoCampo.txtFcDataVencimento);
+        out.write("</tr>");
+
+        linha(out);
+        quadro(out, 76, "Beneficiário", textos, BoletoCampo.txtFcCedente);
+        quadro(out, 24, "Agência / Código do Beneficiário", textos, BoletoCampo.txtFcAgenciaCodigoCedente);
+        out.write("</tr></table><table>");
+
+        linha(out);
+        quadro(out, 13, "Data do Documento", textos, BoletoCampo.txtFcDataDocumento);
+        quadro(out, 16, "Nº do Documento", textos, BoletoCampo.txtFcNumeroDocumento);
+        quadro(out, 16, "Espécie Doc.", textos, BoletoCampo.txtFcEspecieDocumento);
+        quadro(out, 10, "Aceite", textos, BoletoCampo.txtFcAceite);
+        quadro(out, 21, "Data Processamento", textos, BoletoCampo.txtFcDataProcessamento);
+        quadro(out, 24, "Nosso Número", textos, BoletoCampo.txtFcNossoNumero);
+        out.write("</tr>");
+
+        linha(out);
+        quadro(out, 13, "Uso do Banco", textos, BoletoCampo.txtFcUsoBanco);
+        quadro(out, 10, "Carteira", textos, BoletoCampo.txtFcCarteira);
+        quadro(out, 14, "Espécie", textos, BoletoCampo.txtFcEspecie);
+        quadro(out, 18, "Quantidade", textos, BoletoCampo.txtFcQuantidade);
+        quadro(out, 21, "Valor", textos, BoletoCampo.txtFcValor);
+        quadro(out, 24, "(=) Valor Documento", textos, BoletoCampo.txtFcValorDocumento);
+        out.write("</tr></table><table>");
+
+        linha(out);
+        out.write("<td style=\"width:76%\" rowspan=\"5\"><span class=\"bpp-rotulo\">Instruções (texto de responsabilidade do Beneficiário)</span>");
+        for (BoletoCampo instrucao : INSTRUCOES) {
+            texto(out, textos.get(instrucao.name()));
+            out.write("<br>");
+        }
+        out.write("</td>");
+        quadro(out, 24, "(-) Descontos / Abatimentos", textos, BoletoCampo.txtFcDescontoAbatimento);
+        out.write("</tr>");
+        valor(out, "(-) Outras deduções", textos, BoletoCampo.txtFcOutraDeducao);
+        valor(out, "(+) Mora / Multa", textos, BoletoCampo.txtFcMoraMulta);
+        valor(out, "(+) Outros acréscimos", textos, BoletoCampo.txtFcOutroAcrescimo);
+        valor(out, "(=) Valor Cobrado", textos, BoletoCampo.txtFcValorCobrado);
+        out.write("</table><table>");
+
+        linha(out);
+        quadro(out, 100, "Pagador", textos, BoletoCampo.txtFcSacadoL1, BoletoCampo.txtFcSacadoL2, BoletoCampo.txtFcSacadoL3);
+        out.write("</tr>");
+
+        if (boleto.getTitulo().hasSacadorAvalista()) {
+            linha(out);
+            quadro(out, 100, "Sacador / Avalista", textos, BoletoCampo.txtFcSacadorAvalistaL1, BoletoCampo.txtFcSacadorAvalistaL2, BoletoCampo.txtFcSacadorAvalistaL3);
+            out.write("</tr>");
+        }
+
+        out.write("</table>");
+
+        out.write("<div class=\"bpp-titulo\">Autenticação Mecânica - FICHA DE COMPENSAÇÃO</div>");
+
+        // Ausente quando substituído por uma imagem extra do boleto.
+        if (isNotNull(codigoDeBarras)) {
+            codigoDeBarras(out, codigoDeBarras);
+        }
+    }
+
+    private static void cabecalho(Writer out, String nomeDoBanco, String codigoDoBanco, String linhaDigitavel) throws IOException {
+
+        out.write("<table class=\"bpp-cabecalho\"><tr><td class=\"bpp-nome\">");
+        texto(out, nomeDoBanco);
+        out.write("</td><td class=\"bpp-banco\">");
+        texto(out, codigoDoBanco);
+        out.write("</td><td class=\"bpp-linha\">");
+        texto(out, linhaDigitavel);
+        out.write("</td></tr></table>");
+    }
+
+    private static void linha(Writer out) throws IOException {
+        out.write("<tr>");
+    }
+
+    /**
+     * Quadro com rótulo e o texto dos campos, um por linha.
+     */
+    private static void quadro(Writer out, int largura, String rotulo, Map<String, String> textos, BoletoCampo... campos) throws IOException {
+
+        out.write("<td style=\"width:");
+        out.write(Integer.toString(largura));
+        out.write("%\"><span class=\"bpp-rotulo\">");
+        texto(out, rotulo);
+        out.write("</span>");
+
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                out.write("<br>");
+            }
+            texto(out, textos.get(campos[i].name()));
+        }
+
+        if (campos.length == 0) {
+            out.write("&nbsp;");
+        }
+
+        out.write("</td>");
+    }
+
+    /**
+     * Linha da coluna de valores ao lado das instruções.
+     */
+    private static void valor(Writer out, String rotulo, Map<String, String> textos, BoletoCampo campo) throws IOException {
+        linha(out);
+        quadro(out, 24, rotulo, textos, campo);
+        out.write("</tr>");
+    }
+
+    /**
+     * Código de barras em um único {@code path}, em módulos no
+     * {@code viewBox} e esticado para a largura padrão.
+     */
+    static void codigoDeBarras(final Writer out, String codigo) throws IOException {
+
+        final StringBuilder path = new StringBuilder(codigo.length() * 64);
+
+        float largura = Interleaved2of5.forEachBar(codigo, Interleaved2of5.DEFAULT_N, new Interleaved2of5.BarHandler() {
+
+            @Override
+            public void bar(float x, float width) {
+                path.append('M').append(numero(x)).append(" 0h").append(numero(width))
+                        .append('v').append(ALTURA_BARRAS).append('h').append('-').append(numero(width)).append('z');
+            }
+        });
+
+        out.write("<svg class=\"bpp-barras\" xmlns=\"http://www.w3.org/2000/svg\" width=\"103mm\" height=\"13mm\" viewBox=\"0 0 ");
+        out.write(numero(largura));
+        out.write(" ");
+        out.write(Integer.toString(ALTURA_BARRAS));
+        out.write("\" preserveAspectRatio=\"none\" shape-rendering=\"crispEdges\"><path d=\"");
+        out.write(path.toString());
+        out.write("\"/></svg>");
+    }
+
+    private static String numero(float valor) {
+        return valor == (int) valor ? Integer.toString((int) valor) : Float.toString(valor);
+    }
+
+    /**
+     * Escreve o texto com os caracteres especiais do HTML escapados.
+     */
+    static void texto(Writer out, String texto) throws IOException {
+
+        if (isNull(texto)) {
+            return;
+        }
+
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+            case '&':
+                out.write("&amp;");
+                break;
+            case '<':
+                out.write("&lt;");
+                break;
+            case '>':
+                out.write("&gt;");
+                break;
+            case '"':
+                out.write("&quot;");
+                break;
+            case '\'':
+                out.write("&#39;");
+                break;
+            default:
+                out.write(c);
+            }
+        }
+    }
+}
@@ -32,6 +32,7 @@ package org.jrimum.bopepo.view;
 import static org.jrimum.utilix.Objects.isNotNull;
 
 import java.awt.Image;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.WeakHashMap;
@@ -45,8 +46,16 @@ import org.jrimum.utilix.Exceptions;
 import org.jrimum.utilix.Objects;
 
 /**
- * Lê os dados do Boleto e monta-os para uso em {@linkplain #texts()} e
- * {@linkplain #images()}.
+ * Lê os dados do Boleto e monta-os para uso em {@linkplain #texts()},
+ * {@linkplain #images()} e {@linkplain #barcodes()}.
+ *
+ * <p>
+ * Os textos dos campos padrão ({@link BoletoCampo}) são guardados por ordinal
+ * em um {@code String[]}; somente os textos extras do boleto que não são
+ * campos padrão ficam em um map. Na geração em lote os textos são desenhados
+ * diretamente a partir do array, através de um vínculo pré-compilado com os
+ * campos do template ({@linkplain #CAMPOS}).
+ * </p>
  *
  * @author <a href="http://gilmatryx.googlepages.com/">Gilmar P.S.L.</a>
  *
@@ -58,14 +67,34 @@ public class BoletoInfoViewBuilder {
 
     private static Logger log = Logger.getLogger(BoletoInfoViewBuilder.class);
 
+    /**
+     * Nomes dos campos padrão por ordinal, usados para compilar o vínculo com
+     * os campos do template ({@code PdfTemplate.bind(String[])}). Não deve
+     * ser alterado.
+     */
+    static final String[] CAMPOS = nomesDosCampos();
+
+    private static final Map<String, BoletoCampo> CAMPOS_POR_NOME = camposPorNome();
+
+    /**
+     * Textos dos campos padrão por ordinal.
+     */
+    private final String[] campos;
+
+    /**
+     * Textos extras que não são campos padrão.
+     */
     private final Map<String, String> text;
     private final Map<String, Image> image;
+    private final Map<String, String> barcode;
 
     private final Map<String, String> boletoTextosExtra;
     private final Map<String, Image> boletoImagensExtra;
 
     private final BoletoInfoCampoView boletoInfoCampo;
 
+    private final Boleto boleto;
+
     /**
      * Modo de instanciação não permitido.
      *
@@ -75,19 +104,25 @@ public class BoletoInfoViewBuilder {
     @SuppressWarnings("unused")
     private BoletoInfoViewBuilder() {
         Exceptions.throwIllegalStateException("Instanciação não permitida!");
+        campos = null;
         text = null;
         image = null;
+        barcode = null;
         boletoTextosExtra = null;
         boletoImagensExtra = null;
         boletoInfoCampo = null;
+        boleto = null;
     }
 
     public BoletoInfoViewBuilder(ResourceBundle resourceBundle, Boleto boleto) {
         Objects.checkNotNull(resourceBundle);
         Objects.checkNotNull(boleto);
-        text = new WeakHashMap<String, String>();
+        campos = new String[CAMPOS.length];
+        text = new HashMap<String, String>();
         image = new WeakHashMap<String, Image>();
+        barcode = new WeakHashMap<String, String>();
 
+        this.boleto = boleto;
         this.boletoTextosExtra = boleto.getTextosExtras();
         this.boletoImagensExtra = boleto.getImagensExtras();
         this.boletoInfoCampo = BoletoInfoCampoViewFactory.create(resourceBundle, boleto);
@@ -95,11 +130,72 @@ public class BoletoInfoViewBuilder {
 
     public Map<String, String> texts() {
 
-        return new WeakHashMap<String, String>(text);
+        Map<String, String> texts = new HashMap<String, String>((campos.length + text.size()) * 4 / 3 + 1);
+
+        for (int i = 0; i < campos.length; i++) {
+            if (isNotNull(campos[i])) {
+                texts.put(CAMPOS[i], campos[i]);
+            }
+        }
+
+        texts.putAll(text);
+
+        return texts;
+    }
+
+    /**
+     * Textos dos campos padrão por ordinal de {@link BoletoCampo}, sem cópia.
+     * Campos não preenchidos são nulos.
+     *
+     * @return Array com as mesmas posições de {@linkplain #CAMPOS}
+     */
+    String[] campos() {
+        return campos;
+    }
+
+    /**
+     * Textos extras do boleto que não são campos padrão, sem cópia.
+     */
+    Map<String, String> textosExtras() {
+        return text;
     }
 
+    /**
+     * Retorna as imagens dos campos, incluindo o código de barras em forma de
+     * imagem (raster) para compatibilidade. Para a geração do PDF prefira
+     * {@linkplain #barcodes()}, que é desenhado em forma vetorial.
+     *
+     * @return Map de campo,imagem
+     */
     public Map<String, Image> images() {
 
+        Map<String, Image> images = imageFields();
+
+        if (barcode.containsKey(BoletoCampo.txtFcCodigoBarra.name())) {
+            images.put(BoletoCampo.txtFcCodigoBarra.name(), boletoInfoCampo.getImagemFcCodigoBarra());
+        }
+
+        return images;
+    }
+
+    /**
+     * Retorna os códigos de barras dos campos, com o código numérico a ser
+     * desenhado no campo.
+     *
+     * @return Map de campo,código
+     *
+     * @since 0.2
+     */
+    public Map<String, String> barcodes() {
+
+        return new WeakHashMap<String, String>(barcode);
+    }
+
+    /**
+     * Imagens dos campos sem o código de barras em forma de imagem.
+     */
+    Map<String, Image> imageFields() {
+
         return new WeakHashMap<String, Image>(image);
     }
 
@@ -143,125 +239,205 @@ public class BoletoInfoViewBuilder {
         return this;
     }
 
+    /**
+     * Preenche somente os campos que um carnê obtém da primeira parcela
+     * (logotipo e código do banco, cedente, agência/código do cedente,
+     * carteira, sacado, instruções e local de pagamento), sem os campos
+     * extras do boleto, que pertencem somente à própria parcela.
+     *
+     * @return Esta instância após operação
+     *
+     * @since 0.2
+     */
+    BoletoInfoViewBuilder buildComum() {
+        setLogotipoDoBanco();
+        setCodigoDoBanco();
+        setCedente();
+        setAgenciaCodigoCedente();
+        setCprfCedente();
+        setInstrucaoAoSacado();
+        setInstrucaoAoCaixa();
+        setSacado();
+        setLocalPagamento();
+        setCarteira();
+        return this;
+    }
+
+    /**
+     * Preenche somente os campos próprios de cada parcela de um carnê
+     * (vencimento, valores, nosso número, número, data, espécie e aceite do
+     * documento, data de processamento, espécie da moeda, sacador avalista,
+     * linha digitável e código de barras), além dos campos extras do boleto.
+     * Os demais campos (cedente, sacado, logotipo, instruções, etc) devem ser
+     * obtidos de uma parcela preenchida com {@linkplain #buildComum()}.
+     *
+     * @return Esta instância após operação
+     *
+     * @since 0.2
+     */
+    BoletoInfoViewBuilder buildParcela() {
+        setLinhaDigitavel();
+        setNossoNumero();
+        setNumeroDocumento();
+        setDataVencimeto();
+        setDataDocumento();
+        setEspecieDoc();
+        setAceite();
+        setDataProcessamento();
+        setEspecie();
+        setSacadorAvalista();
+        setValorDocumento();
+        setDescontoAbatimento();
+        setOutraDeducao();
+        setMoraMulta();
+        setOutroAcrescimo();
+        setValorCobrado();
+        setCodigoDeBarras();
+        setTodosOsCamposTexto();
+        setTodosOsCamposImagem();
+        return this;
+    }
+
+    private void put(BoletoCampo campo, String texto) {
+        campos[campo.ordinal()] = texto;
+    }
+
+    private static String[] nomesDosCampos() {
+        BoletoCampo[] values = BoletoCampo.values();
+        String[] nomes = new String[values.length];
+        for (BoletoCampo campo : values) {
+            nomes[campo.ordinal()] = campo.name();
+        }
+        return nomes;
+    }
+
+    private static Map<String, BoletoCampo> camposPorNome() {
+        Map<String, BoletoCampo> campos = new HashMap<String, BoletoCampo>();
+        for (BoletoCampo campo : BoletoCampo.values()) {
+            campos.put(campo.name(), campo);
+        }
+        return campos;
+    }
+
     private void setInstrucaoAoSacado() {
-        text.put(BoletoCampo.txtRsInstrucaoAoSacado.name(), boletoInfoCampo.getTextoRsInstrucaoAoSacado());
+        put(BoletoCampo.txtRsInstrucaoAoSacado, boletoInfoCampo.getTextoRsInstrucaoAoSacado());
     }
 
     private void setCprfCedente() {
-        text.put(BoletoCampo.txtRsCpfCnpj.name(), boletoInfoCampo.getTextoRsCpfCnpj());
+        put(BoletoCampo.txtRsCpfCnpj, boletoInfoCampo.getTextoRsCpfCnpj());
     }
 
     private void setDataProcessamento() {
-        text.put(BoletoCampo.txtFcDataProcessamento.name(), boletoInfoCampo.getTextoFcDataProcessamento());
+        put(BoletoCampo.txtFcDataProcessamento, boletoInfoCampo.getTextoFcDataProcessamento());
     }
 
     private void setLocalPagamento() {
-        text.put(BoletoCampo.txtFcLocalPagamento.name(), boletoInfoCampo.getTextoFcLocalPagamento());
+        put(BoletoCampo.txtFcLocalPagamento, boletoInfoCampo.getTextoFcLocalPagamento());
     }
 
     private void setAceite() {
-        text.put(BoletoCampo.txtFcAceite.name(), boletoInfoCampo.getTextoFcAceite());
+        put(BoletoCampo.txtFcAceite, boletoInfoCampo.getTextoFcAceite());
     }
 
     private void setEspecieDoc() {
-        text.put(BoletoCampo.txtFcEspecieDocumento.name(), boletoInfoCampo.getTextoFcEspecieDocumento());
+        put(BoletoCampo.txtFcEspecieDocumento, boletoInfoCampo.getTextoFcEspecieDocumento());
     }
 
     private void setDataDocumento() {
-        text.put(BoletoCampo.txtFcDataDocumento.name(), boletoInfoCampo.getTextoFcDataDocumento());
+        put(BoletoCampo.txtFcDataDocumento, boletoInfoCampo.getTextoFcDataDocumento());
     }
 
     private void setCarteira() {
-        text.put(BoletoCampo.txtFcCarteira.name(), boletoInfoCampo.getTextoFcCarteira());
+        put(BoletoCampo.txtFcCarteira, boletoInfoCampo.getTextoFcCarteira());
     }
 
     private void setSacado() {
-        text.put(BoletoCampo.txtRsSacado.name(), boletoInfoCampo.getTextoRsSacado());
-        text.put(BoletoCampo.txtFcSacadoL1.name(), boletoInfoCampo.getTextoFcSacadoL1());
-        text.put(BoletoCampo.txtFcSacadoL2.name(), boletoInfoCampo.getTextoFcSacadoL2());
-        text.put(BoletoCampo.txtFcSacadoL3.name(), boletoInfoCampo.getTextoFcSacadoL3());
+        put(BoletoCampo.txtRsSacado, boletoInfoCampo.getTextoRsSacado());
+        put(BoletoCampo.txtFcSacadoL1, boletoInfoCampo.getTextoFcSacadoL1());
+        put(BoletoCampo.txtFcSacadoL2, boletoInfoCampo.getTextoFcSacadoL2());
+        put(BoletoCampo.txtFcSacadoL3, boletoInfoCampo.getTextoFcSacadoL3());
     }
 
     private void setSacadorAvalista() {
-        text.put(BoletoCampo.txtFcSacadorAvalistaL1.name(), boletoInfoCampo.getTextoFcSacadorAvalistaL1());
-        text.put(BoletoCampo.txtFcSacadorAvalistaL2.name(), boletoInfoCampo.getTextoFcSacadorAvalistaL2());
-        text.put(BoletoCampo.txtFcSacadorAvalistaL3.name(), boletoInfoCampo.getTextoFcSacadorAvalistaL3());
+        put(BoletoCampo.txtFcSacadorAvalistaL1, boletoInfoCampo.getTextoFcSacadorAvalistaL1());
+        put(BoletoCampo.txtFcSacadorAvalistaL2, boletoInfoCampo.getTextoFcSacadorAvalistaL2());
+        put(BoletoCampo.txtFcSacadorAvalistaL3, boletoInfoCampo.getTextoFcSacadorAvalistaL3());
     }
 
     private void setInstrucaoAoCaixa() {
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa1.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa1());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa2.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa2());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa3.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa3());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa4.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa4());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa5.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa5());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa6.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa6());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa7.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa7());
-        text.put(BoletoCampo.txtFcInstrucaoAoCaixa8.name(), boletoInfoCampo.getTextoFcInstrucaoAoCaixa8());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa1, boletoInfoCampo.getTextoFcInstrucaoAoCaixa1());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa2, boletoInfoCampo.getTextoFcInstrucaoAoCaixa2());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa3, boletoInfoCampo.getTextoFcInstrucaoAoCaixa3());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa4, boletoInfoCampo.getTextoFcInstrucaoAoCaixa4());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa5, boletoInfoCampo.getTextoFcInstrucaoAoCaixa5());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa6, boletoInfoCampo.getTextoFcInstrucaoAoCaixa6());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa7, boletoInfoCampo.getTextoFcInstrucaoAoCaixa7());
+        put(BoletoCampo.txtFcInstrucaoAoCaixa8, boletoInfoCampo.getTextoFcInstrucaoAoCaixa8());
     }
 
     private void setMoraMulta() {
-        text.put(BoletoCampo.txtRsMoraMulta.name(), boletoInfoCampo.getTextoRsMoraMulta());
-        text.put(BoletoCampo.txtFcMoraMulta.name(), boletoInfoCampo.getTextoFcMoraMulta());
+        put(BoletoCampo.txtRsMoraMulta, boletoInfoCampo.getTextoRsMoraMulta());
+        put(BoletoCampo.txtFcMoraMulta, boletoInfoCampo.getTextoFcMoraMulta());
     }
 
     private void setOutroAcrescimo() {
-        text.put(BoletoCampo.txtRsOutroAcrescimo.name(), boletoInfoCampo.getTextoRsOutroAcrescimo());
-        text.put(BoletoCampo.txtFcOutroAcrescimo.name(), boletoInfoCampo.getTextoFcOutroAcrescimo());
+        put(BoletoCampo.txtRsOutroAcrescimo, boletoInfoCampo.getTextoRsOutroAcrescimo());
+        put(BoletoCampo.txtFcOutroAcrescimo, boletoInfoCampo.getTextoFcOutroAcrescimo());
     }
 
     private void setOutraDeducao() {
-        text.put(BoletoCampo.txtRsOutraDeducao.name(), boletoInfoCampo.getTextoRsOutraDeducao());
-        text.put(BoletoCampo.txtFcOutraDeducao.name(), boletoInfoCampo.getTextoFcOutraDeducao());
+        put(BoletoCampo.txtRsOutraDeducao, boletoInfoCampo.getTextoRsOutraDeducao());
+        put(BoletoCampo.txtFcOutraDeducao, boletoInfoCampo.getTextoFcOutraDeducao());
     }
 
     private void setDescontoAbatimento() {
-        text.put(BoletoCampo.txtRsDescontoAbatimento.name(), boletoInfoCampo.getTextoRsDescontoAbatimento());
-        text.put(BoletoCampo.txtFcDescontoAbatimento.name(), boletoInfoCampo.getTextoFcDescontoAbatimento());
+        put(BoletoCampo.txtRsDescontoAbatimento, boletoInfoCampo.getTextoRsDescontoAbatimento());
+        put(BoletoCampo.txtFcDescontoAbatimento, boletoInfoCampo.getTextoFcDescontoAbatimento());
     }
 
     private void setValorDocumento() {
-        text.put(BoletoCampo.txtRsValorDocumento.name(), boletoInfoCampo.getTextoRsValorDocumento());
-        text.put(BoletoCampo.txtFcValorDocumento.name(), boletoInfoCampo.getTextoFcValorDocumento());
+        put(BoletoCampo.txtRsValorDocumento, boletoInfoCampo.getTextoRsValorDocumento());
+        put(BoletoCampo.txtFcValorDocumento, boletoInfoCampo.getTextoFcValorDocumento());
     }
 
     private void setValorCobrado() {
-        text.put(BoletoCampo.txtRsValorCobrado.name(), boletoInfoCampo.getTextoRsValorCobrado());
-        text.put(BoletoCampo.txtFcValorCobrado.name(), boletoInfoCampo.getTextoFcValorCobrado());
+        put(BoletoCampo.txtRsValorCobrado, boletoInfoCampo.getTextoRsValorCobrado());
+        put(BoletoCampo.txtFcValorCobrado, boletoInfoCampo.getTextoFcValorCobrado());
     }
 
     private void setDataVencimeto() {
-        text.put(BoletoCampo.txtRsDataVencimento.name(), boletoInfoCampo.getTextoRsDataVencimento());
-        text.put(BoletoCampo.txtFcDataVencimento.name(), boletoInfoCampo.getTextoFcDataVencimento());
+        put(BoletoCampo.txtRsDataVencimento, boletoInfoCampo.getTextoRsDataVencimento());
+        put(BoletoCampo.txtFcDataVencimento, boletoInfoCampo.getTextoFcDataVencimento());
     }
 
     private void setNumeroDocumento() {
-        text.put(BoletoCampo.txtRsNumeroDocumento.name(), boletoInfoCampo.getTextoRsNumeroDocumento());
-        text.put(BoletoCampo.txtFcNumeroDocumento.name(), boletoInfoCampo.getTextoFcNumeroDocumento());
+        put(BoletoCampo.txtRsNumeroDocumento, boletoInfoCampo.getTextoRsNumeroDocumento());
+        put(BoletoCampo.txtFcNumeroDocumento, boletoInfoCampo.getTextoFcNumeroDocumento());
     }
 
     private void setCedente() {
-        text.put(BoletoCampo.txtRsCedente.name(), boletoInfoCampo.getTextoRsCedente());
-        text.put(BoletoCampo.txtFcCedente.name(), boletoInfoCampo.getTextoFcCedente());
+        put(BoletoCampo.txtRsCedente, boletoInfoCampo.getTextoRsCedente());
+        put(BoletoCampo.txtFcCedente, boletoInfoCampo.getTextoFcCedente());
     }
 
     private void setEspecie() {
-        text.put(BoletoCampo.txtRsEspecie.name(), boletoInfoCampo.getTextoRsEspecie());
-        text.put(BoletoCampo.txtFcEspecie.name(), boletoInfoCampo.getTextoFcEspecie());
+        put(BoletoCampo.txtRsEspecie, boletoInfoCampo.getTextoRsEspecie());
+        put(BoletoCampo.txtFcEspecie, boletoInfoCampo.getTextoFcEspecie());
     }
 
     private void setCodigoDoBanco() {
-        text.put(BoletoCampo.txtRsCodBanco.name(), boletoInfoCampo.getTextoRsCodigoBanco());
-        text.put(BoletoCampo.txtFcCodBanco.name(), boletoInfoCampo.getTextoFcCodigoBanco());
+        put(BoletoCampo.txtRsCodBanco, boletoInfoCampo.getTextoRsCodigoBanco());
+        put(BoletoCampo.txtFcCodBanco, boletoInfoCampo.getTextoFcCodigoBanco());
     }
 
     private void setAgenciaCodigoCedente() {
-        text.put(BoletoCampo.txtRsAgenciaCodigoCedente.name(), boletoInfoCampo.getTextoRsAgenciaCodigoCedente());
-        text.put(BoletoCampo.txtFcAgenciaCodigoCedente.name(), boletoInfoCampo.getTextoFcAgenciaCodigoCedente());
+        put(BoletoCampo.txtRsAgenciaCodigoCedente, boletoInfoCampo.getTextoRsAgenciaCodigoCedente());
+        put(BoletoCampo.txtFcAgenciaCodigoCedente, boletoInfoCampo.getTextoFcAgenciaCodigoCedente());
     }
 
     private void setNossoNumero() {
-        text.put(BoletoCampo.txtRsNossoNumero.name(), boletoInfoCampo.getTextoRsNossoNumero());
-        text.put(BoletoCampo.txtFcNossoNumero.name(), boletoInfoCampo.getTextoFcNossoNumero());
+        put(BoletoCampo.txtRsNossoNumero, boletoInfoCampo.getTextoRsNossoNumero());
+        put(BoletoCampo.txtFcNossoNumero, boletoInfoCampo.getTextoFcNossoNumero());
     }
 
     private void setLogotipoDoBanco() {
@@ -270,24 +446,29 @@ public class BoletoInfoViewBuilder {
             image.put(BoletoCampo.txtFcLogoBanco.name(), boletoInfoCampo.getImagemFcLogoBanco());
         } else {
             log.warn("Banco sem imagem definida. O nome da instituição será usado como logo.");
-            text.put(BoletoCampo.txtRsLogoBanco.name(), boletoInfoCampo.getTextoRsLogoBanco());
-            text.put(BoletoCampo.txtFcLogoBanco.name(), boletoInfoCampo.getTextoFcLogoBanco());
+            put(BoletoCampo.txtRsLogoBanco, boletoInfoCampo.getTextoRsLogoBanco());
+            put(BoletoCampo.txtFcLogoBanco, boletoInfoCampo.getTextoFcLogoBanco());
         }
     }
 
     private void setLinhaDigitavel() {
-        text.put(BoletoCampo.txtRsLinhaDigitavel.name(), boletoInfoCampo.getTextoRsLinhaDigitavel());
-        text.put(BoletoCampo.txtFcLinhaDigitavel.name(), boletoInfoCampo.getTextoFcLinhaDigitavel());
+        put(BoletoCampo.txtRsLinhaDigitavel, boletoInfoCampo.getTextoRsLinhaDigitavel());
+        put(BoletoCampo.txtFcLinhaDigitavel, boletoInfoCampo.getTextoFcLinhaDigitavel());
     }
 
     private void setCodigoDeBarras() {
-        image.put(BoletoCampo.txtFcCodigoBarra.name(), boletoInfoCampo.getImagemFcCodigoBarra());
+        barcode.put(BoletoCampo.txtFcCodigoBarra.name(), boleto.getCodigoDeBarras().write());
     }
 
     private void setTodosOsCamposTexto() {
         if (Collections.hasElement(this.boletoTextosExtra)) {
             for (Entry<String, String> entry : boletoTextosExtra.entrySet()) {
-                text.put(entry.getKey(), entry.getValue());
+                BoletoCampo campo = CAMPOS_POR_NOME.get(entry.getKey());
+                if (isNotNull(campo)) {
+                    put(campo, entry.getValue());
+                } else {
+                    text.put(entry.getKey(), entry.getValue());
+                }
             }
         }
     }
@@ -296,6 +477,7 @@ public class BoletoInfoViewBuilder {
         if (Collections.hasElement(boletoImagensExtra)) {
             for (Entry<String, Image> entry : boletoImagensExtra.entrySet()) {
                 image.put(entry.getKey(), entry.getValue());
+                barcode.remove(entry.getKey());
             }
         }
     }
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.bopepo.pdf.PdfTemplate.Field.ALIGN_CENTER;
+import static org.jrimum.bopepo.pdf.PdfTemplate.Field.ALIGN_LEFT;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.PdfLayout;
+import org.jrimum.utilix.Objects;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.BaseFont;
+import com.itextpdf.text.pdf.PdfContentByte;
+
+/**
+ * Layout padrão FEBRABAN do boleto (recibo do pagador e ficha de compensação)
+ * definido em código, com a mesma disposição e os mesmos campos
+ * ({@link BoletoCampo}) dos templates padrão.
+ *
+ * <p>
+ * Usado no lugar do template quando selecionado no {@link BoletoViewer}: as
+ * linhas e rótulos são desenhados diretamente no conteúdo da página e os
+ * dados do boleto são escritos nos retângulos dos campos, sem preenchimento
+ * de formulário.
+ * </p>
+ *
+ * @see BoletoViewer#setLayoutPadrao()
+ *
+ * @since 0.2
+ */
+public class BoletoLayout extends PdfLayout {
+
+    private static final BaseColor COR_BORDA = new BaseColor(52, 101, 164);
+
+    static final BaseColor COR_RODAPE = new BaseColor(179, 179, 179);
+
+    private static final float ESPESSURA_BORDA = 1.15f;
+
+    static final float TAMANHO_ROTULO = 6f;
+
+    static final float TAMANHO_TITULO = 8f;
+
+    private static final float TAMANHO_TEXTO = 9f;
+
+    private static final float TAMANHO_PAGADOR = 8f;
+
+    static final BaseFont FONTE = createFont(BaseFont.HELVETICA);
+
+    static final BaseFont FONTE_NEGRITO = createFont(BaseFont.HELVETICA_BOLD);
+
+    /**
+     * Layout para boletos sem sacador avalista.
+     */
+    public static final BoletoLayout SEM_SACADOR_AVALISTA = new BoletoLayout(false);
+
+    /**
+     * Layout para boletos com sacador avalista.
+     */
+    public static final BoletoLayout COM_SACADOR_AVALISTA = new BoletoLayout(true);
+
+    private final boolean comSacadorAvalista;
+
+    /**
+     * Topo do código de barras, abaixo do quadro do pagador (e do sacador
+     * avalista).
+     */
+    private final float topoCodigoBarras;
+
+    /**
+     * @param comSacadorAvalista Indica se o layout tem o quadro do sacador
+     * avalista
+     */
+    protected BoletoLayout(boolean comSacadorAvalista) {
+
+        super(PageSize.A4);
+
+        this.comSacadorAvalista = comSacadorAvalista;
+        this.topoCodigoBarras = comSacadorAvalista ? 54.7f : 97.1f;
+
+        definirCamposDoReciboDoPagador();
+        definirCamposDaFichaDeCompensacao();
+    }
+
+    /**
+     * Retorna o layout adequado ao boleto, com ou sem sacador avalista.
+     *
+     * @param boleto Boleto
+     * @return Layout padrão
+     */
+    public static BoletoLayout of(Boleto boleto) {
+
+        Objects.checkNotNull(boleto, "Boleto nulo!");
+
+        return boleto.getTitulo().hasSacadorAvalista() ? COM_SACADOR_AVALISTA : SEM_SACADOR_AVALISTA;
+    }
+
+    /**
+     * @return true caso o layout tenha o quadro do sacador avalista
+     */
+    public boolean isComSacadorAvalista() {
+        return comSacadorAvalista;
+    }
+
+    private void definirCamposDoReciboDoPagador() {
+
+        campo(BoletoCampo.txtRsLogoBanco, 32.7f, 525.3f, 149.8f, 552.2f, 10f, ALIGN_CENTER);
+        campo(BoletoCampo.txtRsCodBanco, 156.8f, 525.4f, 209.5f, 552.2f, 18f, ALIGN_CENTER);
+        campo(BoletoCampo.txtRsLinhaDigitavel, 216.5f, 525.3f, 565.0f, 552.2f, 12f, ALIGN_CENTER);
+
+        campo(BoletoCampo.txtRsCedente, 31.4f, 501.8f, 278.2f, 512.9f);
+        campo(BoletoCampo.txtRsAgenciaCodigoCedente, 284.2f, 501.8f, 384.4f, 512.9f);
+        campo(BoletoCampo.txtRsEspecie, 391.7f, 501.8f, 418.3f, 512.9f);
+        campo(BoletoCampo.txtRsQuantidade, 424.3f, 501.8f, 460.7f, 512.9f);
+        campo(BoletoCampo.txtRsNossoNumero, 466.0f, 501.7f, 567.0f, 512.9f);
+
+        campo(BoletoCampo.txtRsNumeroDocumento, 31.4f, 480.6f, 193.1f, 491.7f);
+        campo(BoletoCampo.txtRsCpfCnpj, 199.5f, 480.6f, 304.1f, 491.7f);
+        campo(BoletoCampo.txtRsDataVencimento, 310.6f, 480.6f, 418.4f, 491.7f);
+        campo(BoletoCampo.txtRsValorDocumento, 424.2f, 480.6f, 566.9f, 491.7f);
+
+        campo(BoletoCampo.txtRsDescontoAbatimento, 31.4f, 459.3f, 139.2f, 470.4f);
+        campo(BoletoCampo.txtRsOutraDeducao, 145.1f, 459.3f, 232.8f, 470.4f);
+        campo(BoletoCampo.txtRsMoraMulta, 238.1f, 459.3f, 324.8f, 470.4f);
+        campo(BoletoCampo.txtRsOutroAcrescimo, 330.6f, 459.3f, 417.3f, 470.4f);
+        campo(BoletoCampo.txtRsValorCobrado, 423.2f, 459.3f, 566.9f, 470.4f);
+
+        campo(BoletoCampo.txtRsSacado, 31.4f, 438.1f, 565.5f, 449.2f);
+        campo(BoletoCampo.txtRsInstrucaoAoSacado, 31.4f, 416.8f, 443.7f, 427.9f);
+    }
+
+    private void definirCamposDaFichaDeCompensacao() {
+
+        campo(BoletoCampo.txtFcLogoBanco, 32.7f, 356.1f, 149.8f, 383.0f, 10f, ALIGN_CENTER);
+        campo(BoletoCampo.txtFcCodBanco, 156.8f, 356.1f, 209.5f, 382.9f, 18f, ALIGN_CENTER);
+        campo(BoletoCampo.txtFcLinhaDigitavel, 216.5f, 356.1f, 565.0f, 383.0f, 12f, ALIGN_CENTER);
+
+        campo(BoletoCampo.txtFcLocalPagamento, 31.4f, 332.4f, 437.3f, 343.5f);
+        campo(BoletoCampo.txtFcDataVencimento, 443.3f, 332.4f, 565.8f, 343.5f);
+        campo(BoletoCampo.txtFcCedente, 31.4f, 311.3f, 437.3f, 322.4f);
+        campo(BoletoCampo.txtFcAgenciaCodigoCedente, 443.3f, 311.3f, 565.8f, 322.4f);
+
+        campo(BoletoCampo.txtFcDataDocumento, 31.4f, 290.8f, 96.0f, 301.9f);
+        campo(BoletoCampo.txtFcNumeroDocumento, 102.3f, 290.8f, 179.9f, 301.9f);
+        campo(BoletoCampo.txtFcEspecieDocumento, 185.8f, 290.8f, 265.0f, 301.9f);
+        campo(BoletoCampo.txtFcAceite, 271.4f, 290.8f, 324.2f, 301.9f);
+        campo(BoletoCampo.txtFcDataProcessamento, 330.6f, 290.8f, 437.8f, 301.9f);
+        campo(BoletoCampo.txtFcNossoNumero, 443.8f, 290.8f, 566.4f, 301.9f);
+
+        campo(BoletoCampo.txtFcUsoBanco, 31.4f, 268.7f, 96.0f, 279.8f);
+        campo(BoletoCampo.txtFcCarteira, 102.1f, 268.6f, 150.3f, 279.8f);
+        campo(BoletoCampo.txtFcEspecie, 157.2f, 268.6f, 222.8f, 279.8f);
+        campo(BoletoCampo.txtFcQuantidade, 230.5f, 268.6f, 324.3f, 279.8f);
+        campo(BoletoCampo.txtFcValor, 330.6f, 268.6f, 438.4f, 279.8f);
+        campo(BoletoCampo.txtFcValorDocumento, 443.8f, 268.7f, 566.4f, 279.8f);
+
+        campo(BoletoCampo.txtFcDescontoAbatimento, 443.8f, 247.6f, 566.4f, 258.7f);
+        campo(BoletoCampo.txtFcOutraDeducao, 443.8f, 226.3f, 566.4f, 237.4f);
+        campo(BoletoCampo.txtFcMoraMulta, 443.8f, 205.1f, 566.4f, 216.2f);
+        campo(BoletoCampo.txtFcOutroAcrescimo, 443.8f, 183.8f, 566.4f, 194.9f);
+        campo(BoletoCampo.txtFcValorCobrado, 443.8f, 162.1f, 566.4f, 173.2f);
+
+        BoletoCampo[] instrucoes = {
+            BoletoCampo.txtFcInstrucaoAoCaixa1, BoletoCampo.txtFcInstrucaoAoCaixa2,
+            BoletoCampo.txtFcInstrucaoAoCaixa3, BoletoCampo.txtFcInstrucaoAoCaixa4,
+            BoletoCampo.txtFcInstrucaoAoCaixa5, BoletoCampo.txtFcInstrucaoAoCaixa6,
+            BoletoCampo.txtFcInstrucaoAoCaixa7, BoletoCampo.txtFcInstrucaoAoCaixa8 };
+
+        for (int i = 0; i < instrucoes.length; i++) {
+            float topo = 257.8f - i * 11.85f;
+            campo(instrucoes[i], 31.4f, topo - 11.1f, 436.8f, topo);
+        }
+
+        campo(BoletoCampo.txtFcSacadoL1, 31.4f, 140.8f, 566.4f, 152.0f, TAMANHO_PAGADOR, ALIGN_LEFT);
+        campo(BoletoCampo.txtFcSacadoL2, 31.4f, 128.7f, 566.4f, 139.9f, TAMANHO_PAGADOR, ALIGN_LEFT);
+        campo(BoletoCampo.txtFcSacadoL3, 31.4f, 116.8f, 566.4f, 128.0f, TAMANHO_PAGADOR, ALIGN_LEFT);
+
+        if (comSacadorAvalista) {
+            campo(BoletoCampo.txtFcSacadorAvalistaL1, 31.4f, 93.2f, 566.4f, 104.4f, TAMANHO_PAGADOR, ALIGN_LEFT);
+            campo(BoletoCampo.txtFcSacadorAvalistaL2, 31.4f, 81.2f, 566.4f, 92.4f, TAMANHO_PAGADOR, ALIGN_LEFT);
+            campo(BoletoCampo.txtFcSacadorAvalistaL3, 31.4f, 69.2f, 566.4f, 80.4f, TAMANHO_PAGADOR, ALIGN_LEFT);
+        }
+
+        campo(BoletoCampo.txtFcCodigoBarra, 26.9f, topoCodigoBarras - 36.7f, 335.9f, topoCodigoBarras, 10f, ALIGN_CENTER);
+    }
+
+    @Override
+    protected void drawStaticContent(PdfContentByte cb) {
+
+        desenharReciboDoPagador(cb);
+        desenharLinhaDeCorte(cb);
+        desenharFichaDeCompensacao(cb);
+
+        texto(cb, FONTE, TAMANHO_ROTULO + 1, COR_RODAPE, 411.9f, 21.2f, "Gerado por Bopepo – http://www.jrimum.org/bopepo");
+    }
+
+    private void desenharReciboDoPagador(PdfContentByte cb) {
+
+        texto(cb, FONTE_NEGRITO, TAMANHO_TITULO, BaseColor.BLACK, 481.4f, 561.7f, "RECIBO DO PAGADOR");
+
+        cabecalho(cb, 521.6f);
+
+        quadro(cb, 27.0f, 500.3f, 280.3f, 521.6f, "Beneficiário");
+        quadro(cb, 280.3f, 500.3f, 387.6f, 521.6f, "Agência / Código do Beneficiário");
+        quadro(cb, 387.6f, 500.3f, 420.4f, 521.6f, "Espécie");
+        quadro(cb, 420.4f, 500.3f, 462.7f, 521.6f, "Quantidade");
+        quadro(cb, 462.7f, 500.3f, 569.1f, 521.6f, "Nosso número");
+
+        quadro(cb, 27.0f, 479.1f, 196.0f, 500.3f, "Número do documento");
+        quadro(cb, 196.0f, 479.1f, 307.0f, 500.3f, "CPF / CNPJ");
+        quadro(cb, 307.0f, 479.1f, 420.4f, 500.3f, "Data de Vencimento");
+        quadro(cb, 420.4f, 479.1f, 569.1f, 500.3f, "Valor Documento");
+
+        quadro(cb, 27.0f, 457.8f, 141.5f, 479.1f, "(-) Descontos / Abatimentos");
+        quadro(cb, 141.5f, 457.8f, 235.4f, 479.1f, "(-) Outras deduções");
+        quadro(cb, 235.4f, 457.8f, 327.2f, 479.1f, "(+) Mora / Multa");
+        quadro(cb, 327.2f, 457.8f, 420.4f, 479.1f, "(+) Outros acréscimos");
+        quadro(cb, 420.4f, 457.8f, 569.1f, 479.1f, "(=) Valor Cobrado");
+
+        quadro(cb, 27.0f, 436.6f, 569.3f, 457.8f, "Pagador");
+
+        quadro(cb, 27.0f, 415.3f, 446.9f, 436.6f, "Instruções");
+        quadro(cb, 446.9f, 415.3f, 569.3f, 436.6f, "Autenticação Mecânica");
+    }
+
+    private void desenharLinhaDeCorte(PdfContentByte cb) {
+
+        texto(cb, FONTE, TAMANHO_ROTULO, BaseColor.BLACK, 512.6f, 402.2f, "Corte na linha abaixo");
+
+        linhaDeCorte(cb, 27.0f, 400.1f, 569.3f, 400.1f);
+    }
+
+    private void desenharFichaDeCompensacao(PdfContentByte cb) {
+
+        cabecalho(cb, 352.4f);
+
+        quadro(cb, 27.0f, 331.1f, 440.2f, 352.3f, "Local de pagamento");
+        quadro(cb, 440.2f, 331.1f, 569.3f, 352.3f, "Vencimento");
+        quadro(cb, 27.0f, 309.8f, 440.2f, 331.1f, "Beneficiário");
+        quadro(cb, 440.2f, 309.8f, 569.3f, 331.1f, "Agência / Código do Beneficiário");
+
+        quadro(cb, 27.0f, 288.6f, 98.8f, 309.8f, "Data do Documento");
+        quadro(cb, 98.8f, 288.6f, 182.4f, 309.8f, "Nº do Documento");
+        quadro(cb, 182.4f, 288.6f, 267.3f, 309.8f, "Espécie Doc.");
+        quadro(cb, 267.3f, 288.6f, 326.7f, 309.8f, "Aceite");
+        quadro(cb, 326.7f, 288.6f, 440.2f, 309.8f, "Data Processamento");
+        quadro(cb, 440.2f, 288.6f, 569.3f, 309.8f, "Nosso Número");
+
+        quadro(cb, 27.0f, 267.3f, 98.8f, 288.6f, "Uso do Banco");
+        quadro(cb, 98.8f, 267.3f, 153.1f, 288.6f, "Carteira");
+        quadro(cb, 153.1f, 267.3f, 225.8f, 288.6f, "Espécie");
+        quadro(cb, 225.8f, 267.3f, 326.7f, 288.6f, "Quantidade");
+        quadro(cb, 326.7f, 267.3f, 440.2f, 288.6f, "Valor");
+        quadro(cb, 440.2f, 267.3f, 569.3f, 288.6f, "(=) Valor Documento");
+
+        quadro(cb, 27.0f, 161.0f, 440.2f, 267.3f, "Instruções (texto de responsabilidade do Beneficiário)");
+        quadro(cb, 440.2f, 246.1f, 569.3f, 267.3f, "(-) Descontos / Abatimentos");
+        quadro(cb, 440.2f, 224.8f, 569.3f, 246.1f, "(-) Outras deduções");
+        quadro(cb, 440.2f, 203.6f, 569.3f, 224.8f, "(+) Mora / Multa");
+        quadro(cb, 440.2f, 182.3f, 569.3f, 203.6f, "(+) Outros acréscimos");
+        quadro(cb, 440.2f, 161.0f, 569.3f, 182.3f, "(=) Valor Cobrado");
+
+        if (comSacadorAvalista) {
+            quadro(cb, 27.0f, 113.0f, 569.3f, 161.0f, "Pagador");
+            quadro(cb, 27.0f, 66.0f, 569.3f, 113.0f, "Sacador / Avalista");
+        } else {
+            quadro(cb, 27.0f, 102.6f, 569.3f, 161.0f, "Pagador");
+        }
+
+        float base = topoCodigoBarras - 5.4f;
+
+        texto(cb, FONTE, TAMANHO_ROTULO, BaseColor.BLACK, 373.8f, base, "Autenticação Mecânica");
+        texto(cb, FONTE_NEGRITO, TAMANHO_TITULO, BaseColor.BLACK, 465.6f, base - 1f, "FICHA DE COMPENSAÇÃO");
+    }
+
+    /**
+     * Quadros do logotipo, código do banco e linha digitável.
+     */
+    private static void cabecalho(PdfContentByte cb, float base) {
+
+        moldura(cb, 27.0f, base, 153.9f, base + 35.0f, BaseColor.BLACK);
+        moldura(cb, 154.9f, base, 211.2f, base + 35.0f, BaseColor.BLACK);
+        moldura(cb, 212.3f, base, 569.2f, base + 35.0f, BaseColor.BLACK);
+    }
+
+    /**
+     * Quadro com borda azul e rótulo no canto superior esquerdo.
+     */
+    static void quadro(PdfContentByte cb, float llx, float lly, float urx, float ury, String rotulo) {
+
+        moldura(cb, llx, lly, urx, ury, COR_BORDA);
+
+        texto(cb, FONTE, TAMANHO_ROTULO, BaseColor.BLACK, llx + 3.4f, ury - 6.3f, rotulo);
+    }
+
+    static void moldura(PdfContentByte cb, float llx, float lly, float urx, float ury, BaseColor cor) {
+
+        cb.saveState();
+        cb.setLineWidth(ESPESSURA_BORDA);
+        cb.setColorStroke(cor);
+        cb.rectangle(llx, lly, urx - llx, ury - lly);
+        cb.stroke();
+        cb.restoreState();
+    }
+
+    static void linhaDeCorte(PdfContentByte cb, float x0, float y0, float x1, float y1) {
+
+        cb.saveState();
+        cb.setLineWidth(0.5f);
+        cb.setLineDash(3f, 2f, 0f);
+        cb.setColorStroke(BaseColor.BLACK);
+        cb.moveTo(x0, y0);
+        cb.lineTo(x1, y1);
+        cb.stroke();
+        cb.restoreState();
+    }
+
+    static void texto(PdfContentByte cb, BaseFont fonte, float tamanho, BaseColor cor, float x, float y, String texto) {
+
+        cb.saveState();
+        cb.setColorFill(cor);
+        cb.beginText();
+        cb.setFontAndSize(fonte, tamanho);
+        cb.showTextAligned(PdfContentByte.ALIGN_LEFT, texto, x, y, 0);
+        cb.endText();
+        cb.restoreState();
+    }
+
+    private void campo(BoletoCampo campo, float llx, float lly, float urx, float ury) {
+        campo(campo, llx, lly, urx, ury, TAMANHO_TEXTO, ALIGN_LEFT);
+    }
+
+    private void campo(BoletoCampo campo, float llx, float lly, float urx, float ury, float tamanho, int alinhamento) {
+        addField(campo.name(), llx, lly, urx, ury, tamanho, alinhamento);
+    }
+
+    private static BaseFont createFont(String name) {
+        try {
+            return BaseFont.createFont(name, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.PdfDocInfo;
+import org.jrimum.domkee.banco.Titulo;
+import org.jrimum.utilix.DateFormatter;
+import org.jrimum.utilix.Objects;
+
+/**
+ * Dados de identificação do boleto gravados como informações personalizadas
+ * do PDF gerado ({@linkplain PdfDocInfo#custom(String, String)}): banco,
+ * nosso número, linha digitável, valor e vencimento.
+ *
+ * <p>
+ * Os valores são gravados em formato de máquina (valor com ponto decimal e
+ * vencimento no formato {@code yyyy-MM-dd}) e podem ser lidos de boletos
+ * arquivados sem analisar as páginas, mesmo com os campos do formulário
+ * removidos, através do {@link org.jrimum.bopepo.pdf.PdfDocInfoReader}.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class BoletoMetadados {
+
+    /**
+     * Código de compensação do banco, ex: {@code 001}.
+     */
+    public static final String BANCO = "BoletoBanco";
+
+    /**
+     * Nosso número com o dígito, quando houver, ex: {@code 12345678-9}.
+     */
+    public static final String NOSSO_NUMERO = "BoletoNossoNumero";
+
+    /**
+     * Linha digitável como impressa no boleto.
+     */
+    public static final String LINHA_DIGITAVEL = "BoletoLinhaDigitavel";
+
+    /**
+     * Valor do título, ex: {@code 1234.56}.
+     */
+    public static final String VALOR = "BoletoValor";
+
+    /**
+     * Vencimento do título, ex: {@code 2020-09-07}.
+     */
+    public static final String VENCIMENTO = "BoletoVencimento";
+
+    private static final DateFormatter FORMATO_VENCIMENTO = DateFormatter.ofPattern("yyyy-MM-dd");
+
+    private final String banco;
+
+    private final String nossoNumero;
+
+    private final String linhaDigitavel;
+
+    private final String valor;
+
+    private final String vencimento;
+
+    private BoletoMetadados(String banco, String nossoNumero, String linhaDigitavel, String valor, String vencimento) {
+        this.banco = banco;
+        this.nossoNumero = nossoNumero;
+        this.linhaDigitavel = linhaDigitavel;
+        this.valor = valor;
+        this.vencimento = vencimento;
+    }
+
+    /**
+     * @param boleto Boleto gerado
+     * @return Metadados do boleto
+     *
+     * @throws IllegalArgumentException Caso o boleto seja nulo
+     */
+    public static BoletoMetadados of(Boleto boleto) {
+
+        Objects.checkNotNull(boleto, "Boleto nulo!");
+
+        Titulo titulo = boleto.getTitulo();
+
+        String nossoNumero = titulo.getNossoNumero();
+
+        if (isNotNull(nossoNumero) && isNotNull(titulo.getDigitoDoNossoNumero()) && !titulo.getDigitoDoNossoNumero().isEmpty()) {
+            nossoNumero = nossoNumero + "-" + titulo.getDigitoDoNossoNumero();
+        }
+
+        return new BoletoMetadados(
+                titulo.getContaBancaria().getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado(),
+                nossoNumero,
+                boleto.getLinhaDigitavel().write(),
+                isNotNull(titulo.getValor()) ? titulo.getValor().toPlainString() : null,
+                isNotNull(titulo.getDataDoVencimento()) ? FORMATO_VENCIMENTO.format(titulo.getDataDoVencimento()) : null);
+    }
+
+    /**
+     * Obtém os metadados de um boleto a partir das informações de um PDF
+     * gerado pelo Bopepo.
+     *
+     * @param info Informações do documento
+     * @return Metadados ou {@code null} caso o documento não os contenha
+     */
+    public static BoletoMetadados from(PdfDocInfo info) {
+
+        Objects.checkNotNull(info, "Informações nulas!");
+
+        if (isNull(info.custom(LINHA_DIGITAVEL))) {
+            return null;
+        }
+
+        return new BoletoMetadados(info.custom(BANCO), info.custom(NOSSO_NUMERO), info.custom(LINHA_DIGITAVEL),
+                info.custom(VALOR), info.custom(VENCIMENTO));
+    }
+
+    /**
+     * Grava os metadados nas informações do documento.
+     *
+     * @param info Informações do documento
+     * @return As próprias {@code info}
+     */
+    public PdfDocInfo writeTo(PdfDocInfo info) {
+        return info.custom(BANCO, banco)
+                .custom(NOSSO_NUMERO, nossoNumero)
+                .custom(LINHA_DIGITAVEL, linhaDigitavel)
+                .custom(VALOR, valor)
+                .custom(VENCIMENTO, vencimento);
+    }
+
+    public String getBanco() {
+        return banco;
+    }
+
+    public String getNossoNumero() {
+        return nossoNumero;
+    }
+
+    public String getLinhaDigitavel() {
+        return linhaDigitavel;
+    }
+
+    /**
+     * @return Valor do título ou {@code null} caso não tenha sido gravado
+     */
+    public BigDecimal getValor() {
+        return isNotNull(valor) ? new BigDecimal(valor) : null;
+    }
+
+    /**
+     * @return Vencimento do título ou {@code null} caso não tenha sido gravado
+     */
+    public Date getVencimento() {
+        return isNotNull(vencimento)
+                ? Date.from(LocalDate.parse(vencimento).atStartOfDay(ZoneId.systemDefault()).toInstant())
+                : null;
+    }
+
+    @Override
+    public String toString() {
+        return "BoletoMetadados [banco=" + banco + ", nossoNumero=" + nossoNumero + ", linhaDigitavel="
+                + linhaDigitavel + ", valor=" + valor + ", vencimento=" + vencimento + "]";
+    }
+}
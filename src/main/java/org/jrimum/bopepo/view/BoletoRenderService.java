@@ -0,0 +1,442 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.PdfOutputBuffer;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Serviço assíncrono de geração de boletos para uso em servidores, com
+ * limite de gerações simultâneas e de pedidos em espera.
+ * </p>
+ *
+ * <p>
+ * As gerações são feitas por um pool fixo de {@code concurrency} threads, com
+ * uma fila de no máximo {@code queueDepth} pedidos. Quando a fila está cheia
+ * o pedido é recusado imediatamente (o {@link CompletableFuture} retornado
+ * falha com {@link RejectedExecutionException}), o que permite ao servidor
+ * responder "tente mais tarde" em vez de acumular gerações e esgotar a
+ * memória. Assim o pico de memória é limitado por {@code concurrency} PDFs em
+ * geração mais {@code queueDepth} pedidos em espera.
+ * </p>
+ *
+ * <p>
+ * Cada thread usa um {@link BoletoViewer} (e portanto um {@code PdfDocMix})
+ * reaproveitado entre os pedidos, como em {@link BoletoBatchRenderer}, e gera
+ * o PDF em um {@link PdfOutputBuffer} do pool. Um pedido pode ser cancelado
+ * ({@linkplain CompletableFuture#cancel(boolean)}) ou expirar
+ * ({@linkplain #withTimeout(long, TimeUnit)}): caso ainda esteja na fila, ele
+ * é removido e não chega a ser gerado.
+ * </p>
+ *
+ * <p>
+ * A escrita do PDF gerado ({@linkplain #renderTo(Boleto, OutputStream)}) é
+ * feita fora do pool de geração, em um executor de I/O que usa "virtual
+ * threads" quando disponíveis (Java 21+), de forma que clientes lentos não
+ * ocupam as threads de geração.
+ * </p>
+ *
+ * <p>
+ * A configuração ({@code with*}) deve ser feita antes do primeiro pedido.
+ * Os pedidos podem ser feitos por várias threads.
+ * </p>
+ *
+ * @since 0.2
+ */
+public class BoletoRenderService implements Closeable {
+
+    private static final Logger LOG = Logger.getLogger(BoletoRenderService.class);
+
+    /**
+     * Pedidos em espera, por thread, quando o limite não é informado.
+     */
+    public static final int DEFAULT_QUEUE_PER_THREAD = 16;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Viewers do template atual. Trocado por inteiro em
+     * {@linkplain #withTemplate(byte[])}, de forma que um viewer sempre volta
+     * para o pool do template com que foi criado.
+     */
+    private volatile ViewerPool viewers = new ViewerPool(null);
+
+    private long timeout;
+
+    private TimeUnit timeoutUnit = TimeUnit.MILLISECONDS;
+
+    private Executor ioExecutor;
+
+    private ExecutorService ownIoExecutor;
+
+    /**
+     * Usa uma thread de geração por processador disponível.
+     */
+    public BoletoRenderService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param concurrency Quantidade máxima de gerações simultâneas
+     */
+    public BoletoRenderService(int concurrency) {
+        this(concurrency, concurrency * DEFAULT_QUEUE_PER_THREAD);
+    }
+
+    /**
+     * @param concurrency Quantidade máxima de gerações simultâneas
+     * @param queueDepth Quantidade máxima de pedidos aguardando geração
+     */
+    public BoletoRenderService(int concurrency, int queueDepth) {
+        Objects.checkArgument(concurrency > 0, "A quantidade de gerações simultâneas deve ser maior que zero!");
+        Objects.checkArgument(queueDepth > 0, "O tamanho da fila deve ser maior que zero!");
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueDepth), threadFactory("bopepo-service-"));
+    }
+
+    /**
+     * Define o template usado na geração dos boletos. Pedidos já aceitos
+     * podem ser gerados com o template anterior.
+     *
+     * @param template Template em bytes ou {@code null} para o template padrão
+     * @return Esta instância após a operação
+     */
+    public BoletoRenderService withTemplate(byte[] template) {
+        this.viewers = new ViewerPool(template);
+        return this;
+    }
+
+    /**
+     * Define o tempo máximo de cada pedido, contado da submissão, incluindo a
+     * espera na fila. Ao expirar, o {@link CompletableFuture} falha com
+     * {@link java.util.concurrent.TimeoutException}.
+     *
+     * @param timeout Tempo máximo ou zero para não expirar
+     * @param unit Unidade do tempo
+     * @return Esta instância após a operação
+     */
+    public BoletoRenderService withTimeout(long timeout, TimeUnit unit) {
+        Objects.checkArgument(timeout >= 0, "O tempo máximo não pode ser negativo!");
+        Objects.checkNotNull(unit, "Unidade de tempo nula!");
+        this.timeout = timeout;
+        this.timeoutUnit = unit;
+        return this;
+    }
+
+    /**
+     * Define o executor das escritas de
+     * {@linkplain #renderTo(Boleto, OutputStream)}, que não é encerrado em
+     * {@linkplain #close()}. Por padrão é usado {@linkplain #newIoExecutor()}.
+     *
+     * @param ioExecutor Executor das escritas
+     * @return Esta instância após a operação
+     */
+    public BoletoRenderService withIoExecutor(Executor ioExecutor) {
+        Objects.checkNotNull(ioExecutor, "Executor nulo!");
+        this.ioExecutor = ioExecutor;
+        return this;
+    }
+
+    /**
+     * Gera o PDF do boleto de forma assíncrona, com o tempo máximo definido
+     * em {@linkplain #withTimeout(long, TimeUnit)}.
+     *
+     * @param boleto Boleto a ser gerado
+     * @return PDF do boleto, ou falha com {@link RejectedExecutionException}
+     * caso a fila esteja cheia
+     */
+    public CompletableFuture<byte[]> render(Boleto boleto) {
+        return render(boleto, timeout, timeoutUnit);
+    }
+
+    /**
+     * Gera o PDF do boleto de forma assíncrona.
+     *
+     * @param boleto Boleto a ser gerado
+     * @param timeout Tempo máximo do pedido ou zero para não expirar
+     * @param unit Unidade do tempo
+     * @return PDF do boleto, ou falha com {@link RejectedExecutionException}
+     * caso a fila esteja cheia
+     */
+    public CompletableFuture<byte[]> render(Boleto boleto, long timeout, TimeUnit unit) {
+
+        return submit(boleto, timeout, unit, new Function<PdfOutputBuffer, byte[]>() {
+
+            @Override
+            public byte[] apply(PdfOutputBuffer pdf) {
+                return pdf.toByteArray();
+            }
+        }, null);
+    }
+
+    /**
+     * Gera o PDF do boleto e o escreve no destino, que não é fechado. A
+     * escrita é feita no executor de I/O. O cancelamento do
+     * {@link CompletableFuture} retornado também cancela a geração, caso ela
+     * ainda não tenha sido concluída.
+     *
+     * @param boleto Boleto a ser gerado
+     * @param output Destino do PDF
+     * @return Conclusão da escrita
+     */
+    public CompletableFuture<Void> renderTo(Boleto boleto, final OutputStream output) {
+
+        Objects.checkNotNull(output, "Destino do PDF nulo!");
+
+        return submit(boleto, timeout, timeoutUnit, new Function<PdfOutputBuffer, Void>() {
+
+            @Override
+            public Void apply(PdfOutputBuffer pdf) {
+                try {
+                    pdf.writeTo(output);
+                    output.flush();
+                    return null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, ioExecutor());
+    }
+
+    /**
+     * @return Quantidade de pedidos aguardando geração
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return Quantidade de gerações em andamento
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Deixa de aceitar pedidos. Os pedidos já aceitos são concluídos.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        viewers.clear();
+        synchronized (this) {
+            if (isNotNull(ownIoExecutor)) {
+                ownIoExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Cria um executor para tarefas de I/O: uma "virtual thread" por tarefa
+     * quando disponível (Java 21+) ou um pool de threads sob demanda.
+     *
+     * @return Novo executor
+     */
+    public static ExecutorService newIoExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (Exception e) {
+            return Executors.newCachedThreadPool(threadFactory("bopepo-io-"));
+        }
+    }
+
+    private synchronized Executor ioExecutor() {
+        if (isNotNull(ioExecutor)) {
+            return ioExecutor;
+        }
+        if (isNull(ownIoExecutor)) {
+            ownIoExecutor = newIoExecutor();
+        }
+        return ownIoExecutor;
+    }
+
+    /**
+     * Submete a geração do boleto e aplica {@code action} ao PDF gerado, no
+     * executor informado ou na própria thread de geração caso ele seja
+     * {@code null}. O buffer do PDF é devolvido ao pool após {@code action}.
+     * A falha ou o cancelamento do resultado cancela a geração.
+     */
+    private <T> CompletableFuture<T> submit(final Boleto boleto, long timeout, TimeUnit unit,
+            final Function<PdfOutputBuffer, T> action, Executor actionExecutor) {
+
+        Objects.checkNotNull(boleto, "Boleto nulo!");
+
+        final CompletableFuture<PdfOutputBuffer> pdf = new CompletableFuture<PdfOutputBuffer>();
+        final CompletableFuture<T> result = new CompletableFuture<T>();
+
+        final ViewerPool pool = viewers;
+
+        final FutureTask<Void> task = new FutureTask<Void>(new Runnable() {
+
+            @Override
+            public void run() {
+                if (pdf.isDone()) {
+                    return;
+                }
+                PdfOutputBuffer buffer = PdfOutputBuffer.acquire();
+                try {
+                    BoletoViewer viewer = pool.acquire();
+                    viewer.setBoleto(boleto).writeTo(buffer);
+                    // Viewer com falha é descartado para não reaproveitar
+                    // um PdfDocMix em estado inconsistente.
+                    pool.release(viewer);
+                } catch (Throwable e) {
+                    buffer.release();
+                    pdf.completeExceptionally(e);
+                    return;
+                }
+                if (!pdf.complete(buffer)) {
+                    buffer.release();
+                }
+            }
+        }, null);
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Geração recusada: fila cheia ou serviço encerrado.");
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        if (timeout > 0) {
+            pdf.orTimeout(timeout, unit);
+        }
+
+        pdf.whenComplete(new BiConsumer<PdfOutputBuffer, Throwable>() {
+
+            @Override
+            public void accept(PdfOutputBuffer buffer, Throwable e) {
+                if (isNotNull(e)) {
+                    task.cancel(false);
+                    // Libera a posição na fila.
+                    executor.remove(task);
+                }
+            }
+        });
+
+        BiConsumer<PdfOutputBuffer, Throwable> apply = new BiConsumer<PdfOutputBuffer, Throwable>() {
+
+            @Override
+            public void accept(PdfOutputBuffer buffer, Throwable e) {
+                if (isNotNull(e)) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                try {
+                    if (!result.isDone()) {
+                        result.complete(action.apply(buffer));
+                    }
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    buffer.release();
+                }
+            }
+        };
+
+        if (isNull(actionExecutor)) {
+            pdf.whenComplete(apply);
+        } else {
+            pdf.whenCompleteAsync(apply, actionExecutor);
+        }
+
+        result.whenComplete(new BiConsumer<T, Throwable>() {
+
+            @Override
+            public void accept(T value, Throwable e) {
+                if (isNotNull(e)) {
+                    pdf.cancel(false);
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Viewers reaproveitáveis de um template.
+     */
+    private static final class ViewerPool {
+
+        private final byte[] template;
+
+        private final Queue<BoletoViewer> viewers = new ConcurrentLinkedQueue<BoletoViewer>();
+
+        ViewerPool(byte[] template) {
+            this.template = template;
+        }
+
+        BoletoViewer acquire() {
+            BoletoViewer viewer = viewers.poll();
+            if (isNull(viewer)) {
+                viewer = new BoletoViewer();
+                if (isNotNull(template)) {
+                    viewer.setTemplate(template);
+                }
+            }
+            return viewer;
+        }
+
+        void release(BoletoViewer viewer) {
+            viewers.offer(viewer);
+        }
+
+        void clear() {
+            viewers.clear();
+        }
+    }
+
+    private static ThreadFactory threadFactory(final String prefix) {
+        return new ThreadFactory() {
+
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, prefix + count.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        };
+    }
+}
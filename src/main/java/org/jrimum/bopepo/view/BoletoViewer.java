@@ -34,8 +34,13 @@ import static org.jrimum.utilix.Objects.isNotNull;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -44,7 +49,9 @@ import java.util.Map.Entry;
 
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.Boleto;
-import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
+import org.jrimum.bopepo.pdf.PdfLayout;
+import org.jrimum.bopepo.pdf.PdfOutputBuffer;
 import org.jrimum.utilix.Collections;
 import org.jrimum.utilix.Exceptions;
 import org.jrimum.utilix.Objects;
@@ -300,6 +307,242 @@ public class BoletoViewer {
         return PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer(), destFile);
     }
 
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único documento PDF escrito
+     * diretamente no destino informado. Cada boleto é gerado e copiado para o
+     * destino antes do próximo, de forma que a memória usada independe da
+     * quantidade de boletos. O destino não é fechado ao final.
+     * </p>
+     *
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param out Destino do PDF gerado com os boletos da lista
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePDF(List<Boleto> boletos, OutputStream out) {
+        checkBoletosList(boletos);
+        checkDestStream(out);
+        PdfViewerMultiProcessor.groupInOnePDF(boletos, new BoletoViewer(), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único documento PDF escrito
+     * diretamente no canal informado. O canal não é fechado ao final.
+     * </p>
+     *
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param channel Destino do PDF gerado com os boletos da lista
+     *
+     * @see #groupInOnePDF(List, OutputStream)
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePDF(List<Boleto> boletos, WritableByteChannel channel) {
+        checkDestStream(channel);
+        groupInOnePDF(boletos, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único arquivo PDF compacto: fontes,
+     * logotipos, imagens e o conteúdo do template, idênticos entre os
+     * boletos, são armazenados uma única vez no arquivo, que usa "full
+     * compression" (PDF 1.5). A geração é um pouco mais lenta que a de
+     * {@linkplain #groupInOnePDF(List)}, pelo cálculo do hash de cada objeto
+     * copiado.
+     * </p>
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @return Arquivo PDF em array de bytes gerado com os boletos da lista
+     *
+     * @since 0.2
+     */
+    public static byte[] groupInOneCompactPdf(List<Boleto> boletos) {
+        checkBoletosList(boletos);
+        PdfOutputBuffer out = PdfOutputBuffer.acquire();
+        try {
+            PdfViewerMultiProcessor.groupInOneCompactPDF(boletos, new BoletoViewer(), out);
+            return out.toByteArray();
+        } finally {
+            out.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único documento PDF compacto, escrito
+     * diretamente no destino informado. O destino não é fechado ao final.
+     * </p>
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param out Destino do PDF gerado com os boletos da lista
+     *
+     * @see #groupInOneCompactPdf(List)
+     *
+     * @since 0.2
+     */
+    public static void groupInOneCompactPdf(List<Boleto> boletos, OutputStream out) {
+        checkBoletosList(boletos);
+        checkDestStream(out);
+        PdfViewerMultiProcessor.groupInOneCompactPDF(boletos, new BoletoViewer(), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único arquivo PDF importando o template
+     * uma única vez. O conteúdo estático do template é armazenado uma só vez
+     * no arquivo e cada página referencia esse conteúdo, recebendo apenas os
+     * dados variáveis do boleto, o que resulta em arquivos bem menores e
+     * geração mais rápida que {@linkplain #groupInOnePDF(List)}.
+     * </p>
+     *
+     * <p>
+     * Os campos não são preenchidos pelo formulário do template: os textos
+     * são desenhados em Helvetica com o tamanho e alinhamento de cada campo.
+     * </p>
+     *
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     *
+     * @return Arquivo PDF em array de bytes gerado com os boletos da lista
+     *
+     * @since 0.2
+     */
+    public static byte[] groupInOnePdfSharingTemplate(List<Boleto> boletos) {
+        checkBoletosList(boletos);
+        PdfOutputBuffer out = PdfOutputBuffer.acquire();
+        try {
+            PdfViewerMultiProcessor.groupInOnePDFSharingTemplate(boletos, new BoletoViewer(), out);
+            return out.toByteArray();
+        } finally {
+            out.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único documento PDF, importando o
+     * template uma única vez, escrito diretamente no destino informado. O
+     * destino não é fechado ao final.
+     * </p>
+     *
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param out Destino do PDF gerado com os boletos da lista
+     *
+     * @see #groupInOnePdfSharingTemplate(List)
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePdfSharingTemplate(List<Boleto> boletos, OutputStream out) {
+        checkBoletosList(boletos);
+        checkDestStream(out);
+        PdfViewerMultiProcessor.groupInOnePDFSharingTemplate(boletos, new BoletoViewer(), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único documento PDF, importando o
+     * template informado uma única vez, escrito diretamente no destino
+     * informado. O destino não é fechado ao final.
+     * </p>
+     *
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param template Template a ser utilizado
+     * @param out Destino do PDF gerado com os boletos da lista
+     *
+     * @see #groupInOnePdfSharingTemplate(List)
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePdfSharingTemplate(List<Boleto> boletos, byte[] template, OutputStream out) {
+        checkBoletosList(boletos);
+        checkTemplateFile(template);
+        checkDestStream(out);
+        PdfViewerMultiProcessor.groupInOnePDFSharingTemplate(boletos, new BoletoViewer().setTemplate(template), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa os boletos da lista em um único documento PDF gerado com o
+     * layout padrão em código ({@link BoletoLayout}), sem template nem
+     * preenchimento de formulário, escrito diretamente no destino informado.
+     * As linhas e rótulos do layout são armazenados uma única vez no arquivo.
+     * O destino não é fechado ao final.
+     * </p>
+     *
+     * @param boletos Lista com os boletos a serem agrupados
+     * @param out Destino do PDF gerado com os boletos da lista
+     *
+     * @see #setLayoutPadrao()
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePdfWithLayout(List<Boleto> boletos, OutputStream out) {
+        checkBoletosList(boletos);
+        checkDestStream(out);
+        PdfViewerMultiProcessor.groupInOnePDFSharingTemplate(boletos, new BoletoViewer().setLayoutPadrao(), out);
+    }
+
+    /**
+     * <p>
+     * Agrupa as parcelas da lista em um carnê, com
+     * {@value CarneLayout#PARCELAS_POR_PAGINA} parcelas por página A4. Ex: Se
+     * a lista contém 12 parcelas, ao final será gerado um único arquivo PDF
+     * com 4 páginas.
+     * </p>
+     *
+     * <p>
+     * Os dados comuns (beneficiário, pagador, banco, instruções) são obtidos
+     * somente da primeira parcela, portanto todas as parcelas devem ser do
+     * mesmo beneficiário e pagador.
+     * </p>
+     *
+     * @param parcelas Lista com as parcelas do carnê
+     * @return Arquivo PDF em array de bytes gerado com as parcelas da lista
+     *
+     * @throws IllegalArgumentException Caso alguma parcela tenha dados comuns
+     * diferentes dos da primeira parcela
+     *
+     * @see CarneLayout
+     *
+     * @since 0.2
+     */
+    public static byte[] groupInCarne(List<Boleto> parcelas) {
+        checkBoletosList(parcelas);
+        PdfOutputBuffer out = PdfOutputBuffer.acquire();
+        try {
+            PdfViewerMultiProcessor.groupInCarne(parcelas, out);
+            return out.toByteArray();
+        } finally {
+            out.release();
+        }
+    }
+
+    /**
+     * <p>
+     * Agrupa as parcelas da lista em um carnê, escrito diretamente no destino
+     * informado. O destino não é fechado ao final.
+     * </p>
+     *
+     * @param parcelas Lista com as parcelas do carnê
+     * @param out Destino do PDF gerado com as parcelas da lista
+     *
+     * @see #groupInCarne(List)
+     *
+     * @since 0.2
+     */
+    public static void groupInCarne(List<Boleto> parcelas, OutputStream out) {
+        checkBoletosList(parcelas);
+        checkDestStream(out);
+        PdfViewerMultiProcessor.groupInCarne(parcelas, out);
+    }
+
     /**
      * <p>
      * Agrupa os boletos da lista em um único arquivo PDF. Ex: Se a lista contém
@@ -550,7 +793,15 @@ public class BoletoViewer {
 
         try {
 
-            return Files.bytesToFile(destFile, PdfViewerMultiProcessor.groupInOnePDF(templatesAndBoletos));
+            OutputStream out = new FileOutputStream(destFile);
+
+            try {
+                PdfViewerMultiProcessor.groupInOnePDF(templatesAndBoletos, out);
+            } finally {
+                out.close();
+            }
+
+            return destFile;
 
         } catch (Exception e) {
 
@@ -558,6 +809,30 @@ public class BoletoViewer {
         }
     }
 
+    /**
+     * <p>
+     * Agrupa os boletos das listas com seus respectivos templates em um único
+     * documento PDF escrito diretamente no destino informado. Caso exista
+     * sequência na coleção, a mesma é mantida. O destino não é fechado ao
+     * final.
+     * </p>
+     *
+     *
+     * @param templatesAndBoletos Coleção de templates e boletos a serem
+     * agrupados
+     *
+     * @param out Destino do PDF gerado com os boletos fornecidos
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePdfWithTemplates(Collection<Entry<byte[], List<Boleto>>> templatesAndBoletos, OutputStream out) {
+
+        checkTemplateBoletosEntries(templatesAndBoletos);
+        checkDestStream(out);
+
+        PdfViewerMultiProcessor.groupInOnePDF(templatesAndBoletos, out);
+    }
+
     /**
      * <p>
      * Agrupa os boletos das listas com seus respectivos templates em um único
@@ -914,13 +1189,13 @@ public class BoletoViewer {
 
     /**
      * Indica se o PDF do boleto gerado deve ser comprimido completamente ou
-     * não, o padrão é <b>true</b>.
+     * não, o padrão é <b>false</b>.
      *
      * <p>
      * "Full compression" foi introduzido no modelo de documento de PDF 1.5, o
-     * que quer dizer que os boletos gerados por padrão pelo Bopepo estão nesse
-     * modelo a menos que se utilize este método informando o contrário: {@code
-     * #setPdfFullCompression(false)}.
+     * que quer dizer que os boletos gerados pelo Bopepo só estarão nesse
+     * modelo caso se utilize este método informando: {@code
+     * #setPdfFullCompression(true)}.
      * </p>
      * <p>
      * Um PDF que seja "fully compressed", só pode ser lido por um visualizador
@@ -1155,6 +1430,65 @@ public class BoletoViewer {
         return this;
     }
 
+    /**
+     * <p>
+     * Define o layout em código que será utilizado na geração no lugar do
+     * template. Layouts dispensam o preenchimento, a geração de aparências e
+     * o "flattening" dos campos de formulário.
+     * </p>
+     *
+     * @param layout Layout a ser utilizado
+     *
+     * @see BoletoLayout
+     *
+     * @since 0.2
+     *
+     * @return Esta instância após a operação
+     */
+    public BoletoViewer setLayout(PdfLayout layout) {
+
+        Objects.checkNotNull(layout, "Layout nulo!");
+
+        pdfViewer.setLayout(layout);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Define que o boleto será gerado com o layout padrão em código
+     * ({@link BoletoLayout}), com ou sem sacador avalista conforme o boleto,
+     * no lugar do template.
+     * </p>
+     *
+     * @since 0.2
+     *
+     * @return Esta instância após a operação
+     */
+    public BoletoViewer setLayoutPadrao() {
+
+        pdfViewer.setLayoutPadrao();
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Caso algum layout tenha sido definido, este método define que após sua
+     * execução o boleto será construído com o template.
+     * </p>
+     *
+     * @since 0.2
+     *
+     * @return Esta instância após a operação
+     */
+    public BoletoViewer removeLayout() {
+
+        pdfViewer.setLayout(null);
+
+        return this;
+    }
+
     /**
      * <p>
      * Caso algum template tenha sido utilizado, este método define que após sua
@@ -1272,6 +1606,72 @@ public class BoletoViewer {
         return pdfViewer.getBytes();
     }
 
+    /**
+     * <p>
+     * Escreve o boleto em PDF diretamente no destino informado, sem cópias
+     * intermediárias em memória (ex: resposta HTTP). O destino não é fechado
+     * ao final.
+     * </p>
+     *
+     * @param out Destino do PDF
+     *
+     * @since 0.2
+     */
+    public void writeTo(OutputStream out) {
+        checkDestStream(out);
+        if (log.isDebugEnabled()) {
+            log.debug("documento instance : " + pdfViewer);
+        }
+        pdfViewer.writeTo(out);
+    }
+
+    /**
+     * <p>
+     * Escreve o boleto em PDF diretamente no canal informado. O canal não é
+     * fechado ao final.
+     * </p>
+     *
+     * @param channel Destino do PDF
+     *
+     * @since 0.2
+     */
+    public void writeTo(WritableByteChannel channel) {
+        checkDestStream(channel);
+        if (log.isDebugEnabled()) {
+            log.debug("documento instance : " + pdfViewer);
+        }
+        pdfViewer.writeTo(channel);
+    }
+
+    /**
+     * <p>
+     * Escreve o boleto em PDF diretamente no arquivo informado.
+     * </p>
+     *
+     * @param path Arquivo de destino
+     *
+     * @since 0.2
+     */
+    public void writeTo(Path path) {
+        checkDestStream(path);
+        if (log.isDebugEnabled()) {
+            log.debug("documento instance : " + pdfViewer);
+        }
+        pdfViewer.writeTo(path);
+    }
+
+    /**
+     * Adiciona o boleto atual ao lote informado.
+     *
+     * @param batch Lote de destino
+     *
+     * @since 0.2
+     */
+    void appendTo(PdfDocBatch batch) {
+
+        pdfViewer.appendTo(batch);
+    }
+
     /**
      * <p>
      * Atualiza o objeto BoletoViewer mantendo as "invariantes".
@@ -1325,6 +1725,11 @@ public class BoletoViewer {
         Objects.checkNotNull(file, "Arquivo destinado a geração do(s) boleto(s) nulo!");
     }
 
+    private static void checkDestStream(Object stream) {
+
+        Objects.checkNotNull(stream, "Destino da geração do(s) boleto(s) nulo!");
+    }
+
     private static void checkBoleto(Boleto boleto) {
 
         Objects.checkNotNull(boleto, "Boleto nulo!");
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.bopepo.pdf.PdfTemplate.Field.ALIGN_CENTER;
+import static org.jrimum.bopepo.pdf.PdfTemplate.Field.ALIGN_LEFT;
+import static org.jrimum.bopepo.pdf.PdfTemplate.Field.AUTO_SIZE;
+import static org.jrimum.bopepo.view.BoletoLayout.FONTE;
+import static org.jrimum.bopepo.view.BoletoLayout.FONTE_NEGRITO;
+import static org.jrimum.bopepo.view.BoletoLayout.TAMANHO_ROTULO;
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.PdfLayout;
+import org.jrimum.utilix.Objects;
+
+import com.itextpdf.text.BaseColor;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.pdf.PdfContentByte;
+
+/**
+ * Layout de carnê: {@value #PARCELAS_POR_PAGINA} parcelas por página A4, cada
+ * uma com o canhoto (recibo do pagador) à esquerda e a ficha de compensação à
+ * direita.
+ *
+ * <p>
+ * Os campos são os mesmos do {@link BoletoCampo}, repetidos em cada posição
+ * da página com o nome dado por {@linkplain #nomeDoCampo(String, int)}.
+ * </p>
+ *
+ * @see BoletoViewer#groupInCarne(java.util.List, java.io.OutputStream)
+ *
+ * @since 0.2
+ */
+public class CarneLayout extends PdfLayout {
+
+    /**
+     * Quantidade de parcelas em cada página.
+     */
+    public static final int PARCELAS_POR_PAGINA = 3;
+
+    private static final float ALTURA_PARCELA = PageSize.A4.getHeight() / PARCELAS_POR_PAGINA;
+
+    private static final float MARGEM_SUPERIOR = 10f;
+
+    private static final float ALTURA_CABECALHO = 28f;
+
+    private static final float ALTURA_LINHA = 18f;
+
+    private static final float ALTURA_LINHA_VALOR = 16f;
+
+    private static final float TAMANHO_TEXTO = 8f;
+
+    private static final float TAMANHO_TEXTO_PEQUENO = 7f;
+
+    private static final float CANHOTO_X0 = 20f;
+
+    private static final float CANHOTO_X1 = 160f;
+
+    private static final float FICHA_X0 = 170f;
+
+    private static final float FICHA_X1 = 575f;
+
+    /**
+     * Início da coluna de vencimento e valores da ficha.
+     */
+    private static final float COLUNA_X = 460f;
+
+    /**
+     * Divisão entre os quadros do pagador e do sacador avalista da ficha.
+     */
+    private static final float SACADOR_AVALISTA_X = 372.5f;
+
+    /**
+     * Layout padrão de carnê, sem sacador avalista.
+     */
+    public static final CarneLayout PADRAO = new CarneLayout(false);
+
+    /**
+     * Layout de carnê com o quadro do sacador avalista ao lado do pagador.
+     */
+    public static final CarneLayout COM_SACADOR_AVALISTA = new CarneLayout(true);
+
+    private final boolean comSacadorAvalista;
+
+    /**
+     * Quadros e textos fixos, registrados junto com os campos e desenhados
+     * por {@linkplain #drawStaticContent(PdfContentByte)}.
+     */
+    private final List<Quadro> quadros = new ArrayList<Quadro>();
+
+    private final List<Texto> textos = new ArrayList<Texto>();
+
+    /**
+     * @param comSacadorAvalista Indica se a ficha de cada parcela tem o quadro
+     * do sacador avalista
+     */
+    protected CarneLayout(boolean comSacadorAvalista) {
+
+        super(PageSize.A4);
+
+        this.comSacadorAvalista = comSacadorAvalista;
+
+        for (int posicao = 0; posicao < PARCELAS_POR_PAGINA; posicao++) {
+            definirCanhoto(posicao, topo(posicao));
+            definirFicha(posicao, topo(posicao));
+        }
+    }
+
+    /**
+     * Retorna o layout adequado às parcelas: com o quadro do sacador avalista
+     * caso alguma delas tenha um.
+     *
+     * @param parcelas Parcelas do carnê
+     * @return Layout de carnê
+     */
+    public static CarneLayout of(List<Boleto> parcelas) {
+
+        Objects.checkNotNull(parcelas, "Parcelas nulas!");
+
+        for (Boleto parcela : parcelas) {
+            if (parcela.getTitulo().hasSacadorAvalista()) {
+                return COM_SACADOR_AVALISTA;
+            }
+        }
+
+        return PADRAO;
+    }
+
+    /**
+     * @return true caso o layout tenha o quadro do sacador avalista
+     */
+    public boolean isComSacadorAvalista() {
+        return comSacadorAvalista;
+    }
+
+    /**
+     * Nome do campo do layout para a parcela em uma posição da página.
+     *
+     * @param campo Nome do campo do boleto (ex: {@code BoletoCampo.txtFcNossoNumero.name()})
+     * @param posicao Posição da parcela na página, de 0 (topo) a
+     * {@value #PARCELAS_POR_PAGINA} - 1
+     * @return Nome do campo no layout
+     */
+    public static String nomeDoCampo(String campo, int posicao) {
+
+        Objects.checkArgument(posicao >= 0 && posicao < PARCELAS_POR_PAGINA, "Posição inválida: " + posicao);
+
+        return campo + "_" + posicao;
+    }
+
+    private static float topo(int posicao) {
+        return PageSize.A4.getHeight() - posicao * ALTURA_PARCELA - MARGEM_SUPERIOR;
+    }
+
+    private void definirCanhoto(int posicao, float topo) {
+
+        moldura(CANHOTO_X0, topo - ALTURA_CABECALHO, 112f, topo);
+        moldura(112f, topo - ALTURA_CABECALHO, CANHOTO_X1, topo);
+        campo(posicao, BoletoCampo.txtRsLogoBanco, CANHOTO_X0 + 2, topo - ALTURA_CABECALHO + 2, 110f, topo - 2, 10f, ALIGN_CENTER, false);
+        campo(posicao, BoletoCampo.txtRsCodBanco, 114f, topo - ALTURA_CABECALHO + 2, CANHOTO_X1 - 2, topo - 2, 14f, ALIGN_CENTER, false);
+
+        float y = topo - ALTURA_CABECALHO;
+
+        y = linha(posicao, BoletoCampo.txtRsDataVencimento, CANHOTO_X0, CANHOTO_X1, y, "Vencimento");
+        y = linha(posicao, BoletoCampo.txtRsAgenciaCodigoCedente, CANHOTO_X0, CANHOTO_X1, y, "Agência / Código do Beneficiário");
+        y = linha(posicao, BoletoCampo.txtRsNossoNumero, CANHOTO_X0, CANHOTO_X1, y, "Nosso Número");
+        y = linha(posicao, BoletoCampo.txtRsNumeroDocumento, CANHOTO_X0, CANHOTO_X1, y, "Nº do Documento");
+        y = linha(posicao, BoletoCampo.txtRsValorDocumento, CANHOTO_X0, CANHOTO_X1, y, "(=) Valor Documento");
+        y = linha(posicao, BoletoCampo.txtRsDescontoAbatimento, CANHOTO_X0, CANHOTO_X1, y, "(-) Descontos / Abatimentos");
+        y = linha(posicao, BoletoCampo.txtRsMoraMulta, CANHOTO_X0, CANHOTO_X1, y, "(+) Mora / Multa");
+        y = linha(posicao, BoletoCampo.txtRsValorCobrado, CANHOTO_X0, CANHOTO_X1, y, "(=) Valor Cobrado");
+
+        quadro(CANHOTO_X0, y - 30f, CANHOTO_X1, y, "Pagador");
+        campo(posicao, BoletoCampo.txtRsSacado, CANHOTO_X0 + 3, y - 29f, CANHOTO_X1 - 3, y - 7.5f, TAMANHO_TEXTO_PEQUENO, ALIGN_LEFT, true);
+
+        y -= 30f;
+
+        textos.add(new Texto(CANHOTO_X0 + 3, y - 12f, true, "RECIBO DO PAGADOR"));
+        textos.add(new Texto(CANHOTO_X0 + 3, y - 22f, false, "Autenticação Mecânica"));
+    }
+
+    private void definirFicha(int posicao, float topo) {
+
+        moldura(FICHA_X0, topo - ALTURA_CABECALHO, 262f, topo);
+        moldura(262f, topo - ALTURA_CABECALHO, 312f, topo);
+        moldura(312f, topo - ALTURA_CABECALHO, FICHA_X1, topo);
+        campo(posicao, BoletoCampo.txtFcLogoBanco, FICHA_X0 + 2, topo - ALTURA_CABECALHO + 2, 260f, topo - 2, 10f, ALIGN_CENTER, false);
+        campo(posicao, BoletoCampo.txtFcCodBanco, 264f, topo - ALTURA_CABECALHO + 2, 310f, topo - 2, 14f, ALIGN_CENTER, false);
+        campo(posicao, BoletoCampo.txtFcLinhaDigitavel, 314f, topo - ALTURA_CABECALHO + 2, FICHA_X1 - 2, topo - 2, AUTO_SIZE, ALIGN_CENTER, false);
+
+        float y = topo - ALTURA_CABECALHO;
+
+        linha(posicao, BoletoCampo.txtFcLocalPagamento, FICHA_X0, COLUNA_X, y, "Local de pagamento");
+        y = linha(posicao, BoletoCampo.txtFcDataVencimento, COLUNA_X, FICHA_X1, y, "Vencimento");
+
+        linha(posicao, BoletoCampo.txtFcCedente, FICHA_X0, COLUNA_X, y, "Beneficiário");
+        y = linha(posicao, BoletoCampo.txtFcAgenciaCodigoCedente, COLUNA_X, FICHA_X1, y, "Agência / Código do Beneficiário");
+
+        linha(posicao, BoletoCampo.txtFcDataDocumento, FICHA_X0, 230f, y, "Data do Documento");
+        linha(posicao, BoletoCampo.txtFcNumeroDocumento, 230f, 300f, y, "Nº do Documento");
+        linha(posicao, BoletoCampo.txtFcEspecieDocumento, 300f, 345f, y, "Espécie Doc.");
+        linha(posicao, BoletoCampo.txtFcAceite, 345f, 380f, y, "Aceite");
+        linha(posicao, BoletoCampo.txtFcDataProcessamento, 380f, COLUNA_X, y, "Data Processamento");
+        y = linha(posicao, BoletoCampo.txtFcNossoNumero, COLUNA_X, FICHA_X1, y, "Nosso Número");
+
+        linha(posicao, BoletoCampo.txtFcUsoBanco, FICHA_X0, 230f, y, "Uso do Banco");
+        linha(posicao, BoletoCampo.txtFcCarteira, 230f, 275f, y, "Carteira");
+        linha(posicao, BoletoCampo.txtFcEspecie, 275f, 320f, y, "Espécie");
+        linha(posicao, BoletoCampo.txtFcQuantidade, 320f, 380f, y, "Quantidade");
+        linha(posicao, BoletoCampo.txtFcValor, 380f, COLUNA_X, y, "Valor");
+        y = linha(posicao, BoletoCampo.txtFcValorDocumento, COLUNA_X, FICHA_X1, y, "(=) Valor Documento");
+
+        definirInstrucoes(posicao, y);
+
+        y = valor(posicao, BoletoCampo.txtFcDescontoAbatimento, y, "(-) Descontos / Abatimentos");
+        y = valor(posicao, BoletoCampo.txtFcOutraDeducao, y, "(-) Outras deduções");
+        y = valor(posicao, BoletoCampo.txtFcMoraMulta, y, "(+) Mora / Multa");
+        y = valor(posicao, BoletoCampo.txtFcOutroAcrescimo, y, "(+) Outros acréscimos");
+        y = valor(posicao, BoletoCampo.txtFcValorCobrado, y, "(=) Valor Cobrado");
+
+        // Sem espaço abaixo do pagador, o sacador avalista divide a faixa com ele.
+        float fimPagador = comSacadorAvalista ? SACADOR_AVALISTA_X : FICHA_X1;
+
+        definirLinhas(posicao, FICHA_X0, fimPagador, y, "Pagador",
+                BoletoCampo.txtFcSacadoL1, BoletoCampo.txtFcSacadoL2, BoletoCampo.txtFcSacadoL3);
+
+        if (comSacadorAvalista) {
+            definirLinhas(posicao, SACADOR_AVALISTA_X, FICHA_X1, y, "Sacador / Avalista",
+                    BoletoCampo.txtFcSacadorAvalistaL1, BoletoCampo.txtFcSacadorAvalistaL2, BoletoCampo.txtFcSacadorAvalistaL3);
+        }
+
+        y -= 38f;
+
+        campo(posicao, BoletoCampo.txtFcCodigoBarra, FICHA_X0 + 2, y - 40f, 440f, y - 4f, AUTO_SIZE, ALIGN_LEFT, false);
+
+        textos.add(new Texto(COLUNA_X + 3, y - 10f, false, "Autenticação Mecânica"));
+        textos.add(new Texto(COLUNA_X + 3, y - 20f, true, "FICHA DE COMPENSAÇÃO"));
+    }
+
+    /**
+     * Quadro de três linhas (pagador ou sacador avalista) da ficha.
+     */
+    private void definirLinhas(int posicao, float x0, float x1, float topo, String rotulo, BoletoCampo... linhas) {
+
+        quadro(x0, topo - 38f, x1, topo, rotulo);
+
+        for (int i = 0; i < linhas.length; i++) {
+            float topoLinha = topo - 7.5f - i * 10f;
+            campo(posicao, linhas[i], x0 + 3, topoLinha - 10f, x1 - 3, topoLinha, TAMANHO_TEXTO_PEQUENO, ALIGN_LEFT, false);
+        }
+    }
+
+    private void definirInstrucoes(int posicao, float topo) {
+
+        quadro(FICHA_X0, topo - 5 * ALTURA_LINHA_VALOR, COLUNA_X, topo, "Instruções (texto de responsabilidade do Beneficiário)");
+
+        BoletoCampo[] instrucoes = {
+            BoletoCampo.txtFcInstrucaoAoCaixa1, BoletoCampo.txtFcInstrucaoAoCaixa2,
+            BoletoCampo.txtFcInstrucaoAoCaixa3, BoletoCampo.txtFcInstrucaoAoCaixa4,
+            BoletoCampo.txtFcInstrucaoAoCaixa5, BoletoCampo.txtFcInstrucaoAoCaixa6,
+            BoletoCampo.txtFcInstrucaoAoCaixa7, BoletoCampo.txtFcInstrucaoAoCaixa8 };
+
+        for (int i = 0; i < instrucoes.length; i++) {
+            float topoLinha = topo - 8f - i * 9f;
+            campo(posicao, instrucoes[i], FICHA_X0 + 3, topoLinha - 9f, COLUNA_X - 3, topoLinha, TAMANHO_TEXTO_PEQUENO, ALIGN_LEFT, false);
+        }
+    }
+
+    /**
+     * Quadro de uma linha com rótulo e campo.
+     *
+     * @return Base do quadro
+     */
+    private float linha(int posicao, BoletoCampo campo, float x0, float x1, float topo, String rotulo) {
+
+        float base = topo - ALTURA_LINHA;
+
+        quadro(x0, base, x1, topo, rotulo);
+        campo(posicao, campo, x0 + 3, base + 1.5f, x1 - 3, topo - 7.5f, TAMANHO_TEXTO, ALIGN_LEFT, false);
+
+        return base;
+    }
+
+    /**
+     * Quadro da coluna de valores da ficha.
+     *
+     * @return Base do quadro
+     */
+    private float valor(int posicao, BoletoCampo campo, float topo, String rotulo) {
+
+        float base = topo - ALTURA_LINHA_VALOR;
+
+        quadro(COLUNA_X, base, FICHA_X1, topo, rotulo);
+        campo(posicao, campo, COLUNA_X + 3, base + 1f, FICHA_X1 - 3, topo - 7f, TAMANHO_TEXTO, ALIGN_LEFT, false);
+
+        return base;
+    }
+
+    private void quadro(float llx, float lly, float urx, float ury, String rotulo) {
+        quadros.add(new Quadro(llx, lly, urx, ury, rotulo));
+    }
+
+    private void moldura(float llx, float lly, float urx, float ury) {
+        quadros.add(new Quadro(llx, lly, urx, ury, null));
+    }
+
+    private void campo(int posicao, BoletoCampo campo, float llx, float lly, float urx, float ury, float tamanho, int alinhamento, boolean multiline) {
+        addField(nomeDoCampo(campo.name(), posicao), llx, lly, urx, ury, tamanho, alinhamento, multiline);
+    }
+
+    @Override
+    protected void drawStaticContent(PdfContentByte cb) {
+
+        for (Quadro q : quadros) {
+            if (isNotNull(q.rotulo)) {
+                BoletoLayout.quadro(cb, q.llx, q.lly, q.urx, q.ury, q.rotulo);
+            } else {
+                BoletoLayout.moldura(cb, q.llx, q.lly, q.urx, q.ury, BaseColor.BLACK);
+            }
+        }
+
+        for (Texto t : textos) {
+            BoletoLayout.texto(cb, t.negrito ? FONTE_NEGRITO : FONTE, t.negrito ? TAMANHO_ROTULO + 1 : TAMANHO_ROTULO, BaseColor.BLACK, t.x, t.y, t.texto);
+        }
+
+        for (int posicao = 0; posicao < PARCELAS_POR_PAGINA; posicao++) {
+
+            float topo = topo(posicao) + MARGEM_SUPERIOR;
+            float base = topo - ALTURA_PARCELA;
+
+            // Separação entre o canhoto e a ficha.
+            BoletoLayout.linhaDeCorte(cb, (CANHOTO_X1 + FICHA_X0) / 2, topo - 5f, (CANHOTO_X1 + FICHA_X0) / 2, base + 5f);
+
+            if (posicao < PARCELAS_POR_PAGINA - 1) {
+                BoletoLayout.linhaDeCorte(cb, CANHOTO_X0 - 5f, base, FICHA_X1 + 5f, base);
+            }
+        }
+    }
+
+    private static final class Quadro {
+
+        private final float llx, lly, urx, ury;
+
+        private final String rotulo;
+
+        private Quadro(float llx, float lly, float urx, float ury, String rotulo) {
+            this.llx = llx;
+            this.lly = lly;
+            this.urx = urx;
+            this.ury = ury;
+            this.rotulo = rotulo;
+        }
+    }
+
+    private static final class Texto {
+
+        private final float x, y;
+
+        private final boolean negrito;
+
+        private final String texto;
+
+        private Texto(float x, float y, boolean negrito, String texto) {
+            this.x = x;
+            this.y = y;
+            this.negrito = negrito;
+            this.texto = texto;
+        }
+    }
+}
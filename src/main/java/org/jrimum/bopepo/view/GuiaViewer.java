@@ -36,13 +36,16 @@ import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.log4j.Logger;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
 
 import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
 
 /**
  *
@@ -162,6 +165,63 @@ public class GuiaViewer {
         return group;
     }
 
+    /**
+     * <p>
+     * Agrupa várias guias em um único pdf escrito diretamente no destino
+     * informado, à medida que cada guia é gerada. O template é lido uma única
+     * vez e o destino não é fechado ao final.
+     * </p>
+     *
+     * @param guias Guias a serem agrupadas
+     * @param out Destino do pdf
+     * @throws RuntimeException
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePDF(List<Guia> guias, OutputStream out) throws RuntimeException {
+
+        if (isNull(out)) {
+            throw new NullPointerException("Destino do pdf nulo!");
+        }
+
+        if (validateGuiasList(guias)) {
+            ViewerPDF.groupInOnePDF(guias, new GuiaViewer(), out);
+        }
+    }
+
+    /**
+     * <p>
+     * Agrupa várias guias em um único pdf escrito diretamente no destino
+     * informado, importando as páginas do template uma única vez. O conteúdo
+     * estático do template é armazenado uma só vez no arquivo e cada página
+     * recebe apenas os dados da guia, o que resulta em arquivos bem menores e
+     * geração mais rápida que {@linkplain #groupInOnePDF(List, OutputStream)}.
+     * O destino não é fechado ao final.
+     * </p>
+     *
+     * <p>
+     * Os campos não são preenchidos pelo formulário do template: os textos
+     * são desenhados em Helvetica com o tamanho e alinhamento de cada campo,
+     * sem o negrito e a cor definidos na aparência dos campos.
+     * </p>
+     *
+     * @param guias Guias a serem agrupadas
+     * @param out Destino do pdf
+     * @throws RuntimeException
+     *
+     * @since 0.2
+     */
+    public static void groupInOnePdfSharingTemplate(List<Guia> guias, OutputStream out) throws RuntimeException {
+
+        if (isNull(out)) {
+            throw new NullPointerException("Destino do pdf nulo!");
+        }
+
+        if (validateGuiasList(guias)) {
+            ViewerPDF.groupInOnePDFSharingTemplate(guias, new GuiaViewer(), out);
+        }
+    }
+
     /**
      * <p>
      * Gera vários arquivos pdf, cada qual com a sua guia.
@@ -390,6 +450,19 @@ public class GuiaViewer {
         return ok;
     }
 
+    /**
+     * <p>
+     * Adiciona a guia atual ao documento informado.
+     * </p>
+     *
+     * @param batch Documento de destino
+     *
+     * @since 0.2
+     */
+    void appendTo(PdfDocBatch batch) {
+        viewerPDF.appendTo(batch);
+    }
+
     private static File groupInOnePDF(String pathName, List<Guia> guias, GuiaViewer guiaViewer) {
 
         return ViewerPDF.groupInOnePDF(pathName, guias, guiaViewer);
@@ -431,7 +504,7 @@ public class GuiaViewer {
     private void updateViewerPDF(Guia guia) {
 
         if (isNotNull(this.viewerPDF)) {
-            this.viewerPDF = new ViewerPDF(guia, this.viewerPDF.getTemplate());
+            this.viewerPDF = new ViewerPDF(guia, this.viewerPDF);
 
         } else {
             this.viewerPDF = new ViewerPDF(guia);
@@ -28,19 +28,32 @@
  */
 package org.jrimum.bopepo.view;
 
+import static org.jrimum.utilix.Collections.hasElement;
+import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
 
+import java.awt.Image;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Map;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.Boleto;
 import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
 import org.jrimum.bopepo.pdf.PdfDocMix;
+import org.jrimum.bopepo.pdf.PdfLayout;
+import org.jrimum.bopepo.pdf.PdfOutputBuffer;
+import org.jrimum.bopepo.pdf.PdfTemplate;
+import org.jrimum.bopepo.pdf.PdfTemplateCache;
 import org.jrimum.utilix.Exceptions;
 
 /**
@@ -67,6 +80,22 @@ class PdfViewer {
     private Boleto boleto;
     private byte[] template;
 
+    /**
+     * Template definido pelo usuário já compilado, resolvido na primeira
+     * geração após {@linkplain #setTemplate(byte[])}.
+     */
+    private PdfTemplate compiledTemplate;
+
+    /**
+     * Layout em código usado no lugar do template, quando definido.
+     */
+    private PdfLayout layout;
+
+    /**
+     * Indica o uso do {@link BoletoLayout} adequado a cada boleto.
+     */
+    private boolean layoutPadrao;
+
     /**
      * Para uso interno do componente
      *
@@ -130,6 +159,10 @@ class PdfViewer {
      */
     protected File getFile(File destFile) {
         try {
+            if (isLayout()) {
+                writeTo(destFile.toPath());
+                return destFile;
+            }
             processarPdf();
             return doc.toFile(destFile);
         } catch (Exception e) {
@@ -148,6 +181,11 @@ class PdfViewer {
      */
     protected ByteArrayOutputStream getStream() {
         try {
+            if (isLayout()) {
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                writeLayout(stream);
+                return stream;
+            }
             processarPdf();
             return doc.toStream();
         } catch (Exception e) {
@@ -166,6 +204,15 @@ class PdfViewer {
      */
     protected byte[] getBytes() {
         try {
+            if (isLayout()) {
+                PdfOutputBuffer buffer = PdfOutputBuffer.acquire();
+                try {
+                    writeLayout(buffer);
+                    return buffer.toByteArray();
+                } finally {
+                    buffer.release();
+                }
+            }
             processarPdf();
             return doc.toBytes();
         } catch (Exception e) {
@@ -174,6 +221,65 @@ class PdfViewer {
         }
     }
 
+    /**
+     * Escreve o boleto em PDF diretamente no destino informado, que não é
+     * fechado ao final.
+     *
+     * @param output Destino do PDF
+     *
+     * @since 0.2
+     */
+    protected void writeTo(OutputStream output) {
+        if (isLayout()) {
+            writeLayout(output);
+            return;
+        }
+        processarPdf();
+        doc.writeTo(output);
+    }
+
+    /**
+     * Escreve o boleto em PDF diretamente no canal informado, que não é
+     * fechado ao final.
+     *
+     * @param channel Destino do PDF
+     *
+     * @since 0.2
+     */
+    protected void writeTo(WritableByteChannel channel) {
+        if (isLayout()) {
+            writeLayout(Channels.newOutputStream(channel));
+            return;
+        }
+        processarPdf();
+        doc.writeTo(channel);
+    }
+
+    /**
+     * Escreve o boleto em PDF diretamente no arquivo informado.
+     *
+     * @param path Arquivo de destino
+     *
+     * @since 0.2
+     */
+    protected void writeTo(Path path) {
+        if (isLayout()) {
+            try {
+                OutputStream output = java.nio.file.Files.newOutputStream(path);
+                try {
+                    writeLayout(output);
+                } finally {
+                    output.close();
+                }
+            } catch (IOException e) {
+                Exceptions.throwIllegalStateException(e);
+            }
+            return;
+        }
+        processarPdf();
+        doc.writeTo(path);
+    }
+
     /**
      * Retorna o template atual do viewer em array de bytes.
      *
@@ -196,6 +302,7 @@ class PdfViewer {
      */
     protected void setTemplate(byte[] template) {
         this.template = template;
+        this.compiledTemplate = null;
     }
 
     /**
@@ -258,6 +365,31 @@ class PdfViewer {
         }
     }
 
+    /**
+     * Define o layout em código que será utilizado no lugar do template,
+     * dispensando o preenchimento de formulário. Com {@code null} volta a ser
+     * usado o template.
+     *
+     * @param layout Layout ou {@code null}
+     *
+     * @since 0.2
+     */
+    protected void setLayout(PdfLayout layout) {
+        this.layout = layout;
+        this.layoutPadrao = false;
+    }
+
+    /**
+     * Usa o layout padrão ({@link BoletoLayout}) adequado a cada boleto no
+     * lugar do template.
+     *
+     * @since 0.2
+     */
+    protected void setLayoutPadrao() {
+        this.layout = null;
+        this.layoutPadrao = true;
+    }
+
     /**
      * Habilita o modo full compression do PDF veja
      * {@link com.lowagie.text.pdf.PdfStamper#setFullCompression()}.
@@ -366,38 +498,118 @@ class PdfViewer {
     }
 
     /**
-     * Processa o PDF colocando os dados do Boleto no PDF.
+     * Processa o PDF colocando os dados do Boleto no PDF, inclusive os
+     * {@link BoletoMetadados}.
      *
      * @since 0.2
      */
     private void processarPdf() {
-        byte[] template = null;
         if (isTemplateFromResource()) {
-            template = getTemplateFromResource();
+            doc.withTemplate(getTemplateFromResource());
         } else {
-            template = getTemplate();
+            doc.withTemplate(getCompiledTemplate());
         }
-        doc.withTemplate(template);
         BoletoInfoViewBuilder builder = new BoletoInfoViewBuilder(this.resourceBundle, this.boleto).build();
+        BoletoMetadados.of(this.boleto).writeTo(doc.getDocInfo());
         doc.putAllTexts(builder.texts());
-        doc.putAllImages(builder.images());
+        Map<String, Image> images = builder.imageFields();
+        if (hasElement(images)) {
+            doc.putAllImages(images);
+        }
+        Map<String, String> barcodes = builder.barcodes();
+        if (hasElement(barcodes)) {
+            doc.putAllBarcodes(barcodes);
+        }
+    }
+
+    /**
+     * Adiciona o boleto ao lote informado, que reaproveita as páginas do
+     * template já importadas e o vínculo dos campos já compilado.
+     *
+     * @param batch Lote de destino
+     *
+     * @since 0.2
+     */
+    protected void appendTo(PdfDocBatch batch) {
+        BoletoInfoViewBuilder builder = new BoletoInfoViewBuilder(this.resourceBundle, this.boleto).build();
+        if (isLayout()) {
+            PdfLayout layout = getLayout();
+            batch.add(layout, layout.bind(BoletoInfoViewBuilder.CAMPOS), builder.campos(),
+                    builder.textosExtras(), builder.imageFields(), builder.barcodes());
+        } else {
+            PdfTemplate pdfTemplate = isTemplateFromResource() ? getTemplateFromResource() : getCompiledTemplate();
+            batch.add(pdfTemplate, pdfTemplate.bind(BoletoInfoViewBuilder.CAMPOS), builder.campos(),
+                    builder.textosExtras(), builder.imageFields(), builder.barcodes());
+        }
+    }
+
+    /**
+     * Gera o boleto com o layout em código diretamente no destino, que não é
+     * fechado.
+     *
+     * @param output Destino do PDF
+     *
+     * @since 0.2
+     */
+    private void writeLayout(OutputStream output) {
+        BoletoMetadados.of(this.boleto).writeTo(doc.getDocInfo());
+        PdfDocBatch batch = new PdfDocBatch(output).withDocInfo(doc.getDocInfo());
+        appendTo(batch);
+        try {
+            batch.close();
+        } catch (IOException e) {
+            Exceptions.throwIllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return true caso o boleto seja gerado com um layout em código
+     *
+     * @since 0.2
+     */
+    private boolean isLayout() {
+        return layoutPadrao || isNotNull(layout);
+    }
+
+    /**
+     * @return Layout definido ou o layout padrão adequado ao boleto
+     *
+     * @since 0.2
+     */
+    private PdfLayout getLayout() {
+        return layoutPadrao ? BoletoLayout.of(boleto) : layout;
     }
 
     /**
      * Retorna o template padrão a ser usado, dependendo se o boleto é com ou
      * sem sacador avalsita.
      *
-     * @return URL do template padrão
+     * @return Template padrão compilado
      *
      * @since 0.2
      *
      */
-    private byte[] getTemplateFromResource() {
+    private PdfTemplate getTemplateFromResource() {
         if (boleto.getTitulo().hasSacadorAvalista()) {
-            return resourceBundle.getTemplateComSacadorAvalista();
+            return resourceBundle.getCompiledTemplateComSacadorAvalista();
         } else {
-            return resourceBundle.getTemplateSemSacadorAvalista();
+            return resourceBundle.getCompiledTemplateSemSacadorAvalista();
+        }
+    }
+
+    /**
+     * Retorna o template definido pelo usuário já compilado, consultando o
+     * {@linkplain PdfTemplateCache} apenas uma vez por template definido.
+     *
+     * @return Template compilado
+     *
+     * @since 0.2
+     */
+    private PdfTemplate getCompiledTemplate() {
+        if (isNull(compiledTemplate)) {
+            compiledTemplate = PdfTemplateCache.get(getTemplate());
         }
+        return compiledTemplate;
     }
 
     /**
@@ -29,15 +29,34 @@
 
 package org.jrimum.bopepo.view;
 
+import static java.lang.String.format;
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.awt.Image;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 import org.jrimum.bopepo.Boleto;
-import org.jrimum.bopepo.pdf.Files;
-import org.jrimum.bopepo.pdf.PDFs;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
+import org.jrimum.bopepo.pdf.PdfOutputBuffer;
+import org.jrimum.bopepo.pdf.PdfStreamMerger;
+import org.jrimum.domkee.banco.Agencia;
+import org.jrimum.domkee.banco.Carteira;
+import org.jrimum.domkee.banco.ContaBancaria;
+import org.jrimum.domkee.banco.EntidadeDeCobranca;
+import org.jrimum.domkee.banco.IBanco;
+import org.jrimum.domkee.banco.NumeroDaConta;
+import org.jrimum.domkee.banco.Titulo;
+import org.jrimum.domkee.pessoa.Endereco;
 import org.jrimum.utilix.Exceptions;
 
 /**
@@ -68,25 +87,13 @@ class PdfViewerMultiProcessor {
 	 */
 	protected static byte[] groupInOnePDF(List<Boleto> boletos, BoletoViewer boletoViewer) {
 		
-		byte[] file = null;
-		
-		List<byte[]> boletosEmBytes = new ArrayList<byte[]>(boletos.size());
-		
-		for (Boleto bop : boletos) {
-			boletosEmBytes.add(boletoViewer.setBoleto(bop).getPdfAsByteArray());
-		}
+		PdfOutputBuffer out = PdfOutputBuffer.acquire();
 		
 		try {
-			
-			file =  PDFs.mergeFiles(boletosEmBytes);
-			
-			boletosEmBytes.clear();
-			
-			return file;
-			
-		} catch (Exception e) {
-			
-			return Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+			groupInOnePDF(boletos, boletoViewer, out);
+			return out.toByteArray();
+		} finally {
+			out.release();
 		}
 	}
 
@@ -108,7 +115,15 @@ class PdfViewerMultiProcessor {
 
 		try {
 			
-			return Files.bytesToFile(fileDest, groupInOnePDF(boletos, boletoViewer));
+			OutputStream out = new FileOutputStream(fileDest);
+			
+			try {
+				groupInOnePDF(boletos, boletoViewer, out);
+			} finally {
+				out.close();
+			}
+			
+			return fileDest;
 			
 		} catch (Exception e) {
 			
@@ -116,6 +131,72 @@ class PdfViewerMultiProcessor {
 		}
 	}
 	
+	/**
+	 * Agrupa os boletos da lista em um único documento PDF escrito no destino
+	 * informado à medida que cada boleto é gerado. Apenas um boleto por vez
+	 * fica em memória. O destino não é fechado.
+	 * 
+	 * 
+	 * @param boletos
+	 *            Lista com os boletos a serem agrupados
+	 * @param boletoViewer
+	 *            Visualizador contendo o template para geração
+	 * @param out
+	 *            Destino do PDF gerado
+	 * 
+	 * @since 0.2
+	 */
+	protected static void groupInOnePDF(List<Boleto> boletos, BoletoViewer boletoViewer, OutputStream out) {
+		
+		try {
+			
+			PdfStreamMerger merger = new PdfStreamMerger(out);
+			
+			append(merger, boletos, boletoViewer);
+			
+			merger.close();
+			
+		} catch (Exception e) {
+			
+			Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+	
+	/**
+	 * Agrupa os boletos da lista em um único documento PDF compacto escrito no
+	 * destino informado à medida que cada boleto é gerado: os objetos
+	 * idênticos entre os boletos (fontes, logotipos, imagens, conteúdo do
+	 * template) são escritos uma única vez e o documento usa "full
+	 * compression". O destino não é fechado.
+	 * 
+	 * 
+	 * @param boletos
+	 *            Lista com os boletos a serem agrupados
+	 * @param boletoViewer
+	 *            Visualizador contendo o template para geração
+	 * @param out
+	 *            Destino do PDF gerado
+	 * 
+	 * @see PdfStreamMerger#withSmartCopy(boolean)
+	 * 
+	 * @since 0.2
+	 */
+	protected static void groupInOneCompactPDF(List<Boleto> boletos, BoletoViewer boletoViewer, OutputStream out) {
+		
+		try {
+			
+			PdfStreamMerger merger = new PdfStreamMerger(out).withSmartCopy(true).withFullCompression(true);
+			
+			append(merger, boletos, boletoViewer);
+			
+			merger.close();
+			
+		} catch (Exception e) {
+			
+			Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+	
 	/**
 	 * Agrupa os boletos das listas com seus respectivos templates em um único
 	 * arquivo PDF. Caso exista sequência na coleção, a mesma é mantida.
@@ -130,22 +211,282 @@ class PdfViewerMultiProcessor {
 	 */
 	protected static byte[] groupInOnePDF(Collection<Entry<byte[],List<Boleto>>> templatesAndBoletos) {
 		
-		byte[] file = null;
+		PdfOutputBuffer out = PdfOutputBuffer.acquire();
 		
-		List<byte[]> toMerge = new ArrayList<byte[]>(templatesAndBoletos.size());
+		try {
+			groupInOnePDF(templatesAndBoletos, out);
+			return out.toByteArray();
+		} finally {
+			out.release();
+		}
+	}
+
+	/**
+	 * Agrupa os boletos das listas com seus respectivos templates em um único
+	 * documento PDF escrito no destino informado à medida que cada boleto é
+	 * gerado. Caso exista sequência na coleção, a mesma é mantida. O destino
+	 * não é fechado.
+	 * 
+	 * 
+	 * @param templatesAndBoletos
+	 *            Coleção de templates e boletos a serem agrupados
+	 * @param out
+	 *            Destino do PDF gerado
+	 * 
+	 * @since 0.2
+	 */
+	protected static void groupInOnePDF(Collection<Entry<byte[],List<Boleto>>> templatesAndBoletos, OutputStream out) {
 		
-		BoletoViewer viewer = new BoletoViewer();
+		try {
+			
+			PdfStreamMerger merger = new PdfStreamMerger(out);
+			
+			BoletoViewer viewer = new BoletoViewer();
+			
+			for(Entry<byte[],List<Boleto>> entry : templatesAndBoletos){
+				
+				append(merger, entry.getValue(), viewer.setTemplate(entry.getKey()));
+			}
+			
+			merger.close();
+			
+		} catch (Exception e) {
+			
+			Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+	
+	/**
+	 * Agrupa os boletos da lista em um único documento PDF, importando as
+	 * páginas do template uma única vez, escrito no destino informado à
+	 * medida que cada boleto é gerado. O destino não é fechado.
+	 * 
+	 * 
+	 * @param boletos
+	 *            Lista com os boletos a serem agrupados
+	 * @param boletoViewer
+	 *            Visualizador contendo o template para geração
+	 * @param out
+	 *            Destino do PDF gerado
+	 * 
+	 * @see PdfDocBatch
+	 * 
+	 * @since 0.2
+	 */
+	protected static void groupInOnePDFSharingTemplate(List<Boleto> boletos, BoletoViewer boletoViewer, OutputStream out) {
 		
-		for(Entry<byte[],List<Boleto>> entry : templatesAndBoletos){
+		try {
 			
-			toMerge.add(groupInOnePDF(entry.getValue(), viewer.setTemplate(entry.getKey())));
+			PdfDocBatch batch = new PdfDocBatch(out);
+			
+			for (Boleto bop : boletos) {
+				boletoViewer.setBoleto(bop).appendTo(batch);
+			}
+			
+			batch.close();
+			
+		} catch (Exception e) {
+			
+			Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
 		}
-
-		file = PDFs.mergeFiles(toMerge);
+	}
+	
+	/**
+	 * Agrupa os boletos da lista em um carnê, com
+	 * {@value CarneLayout#PARCELAS_POR_PAGINA} parcelas por página, escrito no
+	 * destino informado. O destino não é fechado.
+	 * 
+	 * <p>
+	 * Os campos comuns a todas as parcelas (banco, cedente, conta bancária,
+	 * sacado, instruções e local de pagamento) são obtidos da primeira parcela
+	 * uma única vez, sem os campos extras dela, e por isso são comparados com
+	 * os de cada parcela antes da geração. Os demais campos (vencimento,
+	 * valores, datas, espécie, aceite, sacador avalista, etc) e os campos
+	 * extras são preenchidos a partir de cada parcela. Caso alguma parcela
+	 * tenha sacador avalista, o carnê usa o
+	 * {@linkplain CarneLayout#COM_SACADOR_AVALISTA layout com o quadro dele}.
+	 * </p>
+	 * 
+	 * @param parcelas
+	 *            Lista com as parcelas do carnê
+	 * @param out
+	 *            Destino do PDF gerado
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso alguma parcela tenha um campo comum (ex: sacado,
+	 *             instruções) diferente da primeira parcela
+	 * 
+	 * @see CarneLayout
+	 * 
+	 * @since 0.2
+	 */
+	protected static void groupInCarne(List<Boleto> parcelas, OutputStream out) {
+		
+		final ResourceBundle resourceBundle = new ResourceBundle();
+		
+		checkCamposComuns(parcelas);
+		
+		try {
+			
+			final CarneLayout layout = CarneLayout.of(parcelas);
+			final BoletoInfoViewBuilder comum = new BoletoInfoViewBuilder(resourceBundle, parcelas.get(0)).buildComum();
+			
+			final List<Map<String, String>> textosComuns = new ArrayList<Map<String, String>>(CarneLayout.PARCELAS_POR_PAGINA);
+			final List<Map<String, Image>> imagensComuns = new ArrayList<Map<String, Image>>(CarneLayout.PARCELAS_POR_PAGINA);
+			
+			for (int posicao = 0; posicao < CarneLayout.PARCELAS_POR_PAGINA; posicao++) {
+				textosComuns.add(naPosicao(comum.texts(), posicao));
+				imagensComuns.add(naPosicao(comum.imageFields(), posicao));
+			}
+			
+			PdfDocBatch batch = new PdfDocBatch(out);
+			
+			for (int inicio = 0; inicio < parcelas.size(); inicio += CarneLayout.PARCELAS_POR_PAGINA) {
+				
+				Map<String, String> textos = new HashMap<String, String>();
+				Map<String, Image> imagens = new HashMap<String, Image>();
+				Map<String, String> barcodes = new HashMap<String, String>();
+				
+				int fim = Math.min(inicio + CarneLayout.PARCELAS_POR_PAGINA, parcelas.size());
+				
+				for (int i = inicio; i < fim; i++) {
+					
+					int posicao = i - inicio;
+					BoletoInfoViewBuilder parcela = new BoletoInfoViewBuilder(resourceBundle, parcelas.get(i)).buildParcela();
+					
+					textos.putAll(textosComuns.get(posicao));
+					textos.putAll(naPosicao(parcela.texts(), posicao));
+					imagens.putAll(imagensComuns.get(posicao));
+					imagens.putAll(naPosicao(parcela.imageFields(), posicao));
+					barcodes.putAll(naPosicao(parcela.barcodes(), posicao));
+				}
+				
+				batch.add(layout, textos, imagens, barcodes);
+			}
+			
+			batch.close();
+			
+		} catch (Exception e) {
+			
+			Exceptions.throwIllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+	
+	private static void checkCamposComuns(List<Boleto> parcelas) {
 		
-		toMerge.clear();
+		final Boleto primeira = parcelas.get(0);
 		
-		return file;
+		for (int i = 1; i < parcelas.size(); i++) {
+			
+			String campo = campoComumDiferente(primeira, parcelas.get(i));
+			
+			if (isNotNull(campo)) {
+				Exceptions.throwIllegalArgumentException(format("A parcela %d do carnê tem o campo [%s] diferente da primeira parcela! Todas as parcelas devem ter o mesmo cedente, sacado, conta bancária, instruções e local de pagamento.", i + 1, campo));
+			}
+		}
+	}
+	
+	/**
+	 * Compara diretamente nos objetos de domínio os dados que o carnê imprime
+	 * uma única vez, sem preencher os campos do boleto.
+	 * 
+	 * @return Nome do primeiro dado diferente ou {@code null} caso todos sejam
+	 *         iguais
+	 */
+	private static String campoComumDiferente(Boleto primeira, Boleto parcela) {
+		
+		Titulo titulo = primeira.getTitulo();
+		Titulo outro = parcela.getTitulo();
+		
+		if (!Objects.equals(dados(titulo.getCedente()), dados(outro.getCedente()))) {
+			return "cedente";
+		}
+		if (!Objects.equals(dados(titulo.getSacado()), dados(outro.getSacado()))) {
+			return "sacado";
+		}
+		if (!Objects.equals(dados(titulo.getContaBancaria()), dados(outro.getContaBancaria()))) {
+			return "contaBancaria";
+		}
+		if (!Objects.equals(primeira.getLocalPagamento(), parcela.getLocalPagamento())) {
+			return "localPagamento";
+		}
+		if (!Objects.equals(primeira.getInstrucaoAoSacado(), parcela.getInstrucaoAoSacado())) {
+			return "instrucaoAoSacado";
+		}
+		
+		List<String> instrucoes = instrucoes(primeira);
+		List<String> outras = instrucoes(parcela);
+		
+		for (int i = 0; i < instrucoes.size(); i++) {
+			if (!Objects.equals(instrucoes.get(i), outras.get(i))) {
+				return "instrucao" + (i + 1);
+			}
+		}
+		
+		return null;
+	}
+	
+	private static List<String> instrucoes(Boleto boleto) {
+		
+		return Arrays.asList(boleto.getInstrucao1(), boleto.getInstrucao2(), boleto.getInstrucao3(), boleto.getInstrucao4(),
+				boleto.getInstrucao5(), boleto.getInstrucao6(), boleto.getInstrucao7(), boleto.getInstrucao8());
+	}
+	
+	private static List<Object> dados(EntidadeDeCobranca entidade) {
+		
+		if (entidade == null) {
+			return null;
+		}
+		
+		return Arrays.<Object> asList(entidade.getNome(), entidade.getCPRF(), dados(entidade.getNextEndereco()));
+	}
+	
+	private static List<Object> dados(Endereco endereco) {
+		
+		if (endereco == null) {
+			return null;
+		}
+		
+		return Arrays.<Object> asList(endereco.getLogradouro(), endereco.getNumero(), endereco.getComplemento(), endereco.getBairro(),
+				endereco.getLocalidade(), endereco.getUF(), isNotNull(endereco.getCEP()) ? endereco.getCEP().getCep() : null);
+	}
+	
+	private static List<Object> dados(ContaBancaria conta) {
+		
+		if (conta == null) {
+			return null;
+		}
+		
+		IBanco banco = conta.getBanco();
+		Agencia agencia = conta.getAgencia();
+		NumeroDaConta numero = conta.getNumeroDaConta();
+		Carteira carteira = conta.getCarteira();
+		
+		return Arrays.<Object> asList(
+				isNotNull(banco) && isNotNull(banco.getCodigoDeCompensacaoBACEN()) ? banco.getCodigoDeCompensacaoBACEN().getCodigo() : null,
+				isNotNull(agencia) ? agencia.getCodigo() : null,
+				isNotNull(agencia) ? agencia.getDigitoVerificador() : null,
+				isNotNull(numero) ? numero.getCodigoDaConta() : null,
+				isNotNull(numero) ? numero.getDigitoDaConta() : null,
+				isNotNull(carteira) ? carteira.getCodigo() : null);
+	}
+	
+	private static <V> Map<String, V> naPosicao(Map<String, V> campos, int posicao) {
+		
+		Map<String, V> resultado = new HashMap<String, V>(campos.size() * 2);
+		
+		for (Entry<String, V> campo : campos.entrySet()) {
+			resultado.put(CarneLayout.nomeDoCampo(campo.getKey(), posicao), campo.getValue());
+		}
+		
+		return resultado;
+	}
+	
+	private static void append(PdfStreamMerger merger, List<Boleto> boletos, BoletoViewer boletoViewer) {
+		
+		for (Boleto bop : boletos) {
+			merger.add(boletoViewer.setBoleto(bop).getPdfAsByteArray());
+		}
 	}
 
 	/**
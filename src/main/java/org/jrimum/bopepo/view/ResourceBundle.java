@@ -28,24 +28,17 @@
  */
 package org.jrimum.bopepo.view;
 
-import static java.lang.String.format;
 import static org.jrimum.utilix.Objects.isNull;
 
 import java.awt.Image;
-import java.awt.image.BufferedImage;
-import java.io.IOException;
 import java.io.InputStream;
-import java.net.URL;
-import java.util.Map;
-import java.util.TreeMap;
-
-import javax.imageio.ImageIO;
 
 import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PdfImageRegistry;
+import org.jrimum.bopepo.pdf.PdfTemplate;
+import org.jrimum.bopepo.pdf.PdfTemplateCache;
 import org.jrimum.utilix.ClassLoaders;
 import org.jrimum.utilix.Exceptions;
-import org.jrimum.utilix.Objects;
-import org.jrimum.utilix.Strings;
 
 /**
  * Acessa os resources usados pelo Bopepo e os mantém nesta instância para as
@@ -70,25 +63,19 @@ public class ResourceBundle {
     public static final String BOLETO_TEMPLATE_SEM_SACADOR_AVALISTA = "BoletoTemplateSemSacadorAvalista.pdf";
 
     /**
-     * Imagens usadas na instancia.
+     * Template do projeto compartilhado por todas as instâncias.
      */
-    private final Map<String, Image> imagensLogoBanco;
+    private static volatile PdfTemplate defaultTemplateComSacadorAvalista;
 
     /**
-     * Template do projeto usando na isntancia.
+     * Template do projeto compartilhado por todas as instâncias.
      */
-    private byte[] defaultTemplateComSacadorAvalista;
-
-    /**
-     * Template do projeto usando na isntancia.
-     */
-    private byte[] defaultTemplateSemSacadorAvalista;
+    private static volatile PdfTemplate defaultTemplateSemSacadorAvalista;
 
     /**
      * Inicia a instancia com os valores padrões necessários.
      */
     public ResourceBundle() {
-        imagensLogoBanco = new TreeMap<String, Image>();
     }
 
     /**
@@ -97,51 +84,50 @@ public class ResourceBundle {
      * @return template em bytes
      */
     public byte[] getTemplateComSacadorAvalista() {
+        return getCompiledTemplateComSacadorAvalista().getBytes();
+    }
+
+    public byte[] getTemplateSemSacadorAvalista() {
+        return getCompiledTemplateSemSacadorAvalista().getBytes();
+    }
+
+    /**
+     * Template padrão com sacador avalista já compilado, carregado uma única
+     * vez por processo.
+     *
+     * @return template compilado
+     */
+    public PdfTemplate getCompiledTemplateComSacadorAvalista() {
         if (isNull(defaultTemplateComSacadorAvalista)) {
-            defaultTemplateComSacadorAvalista = loadPdf("BoletoTemplateComSacadorAvalista.pdf");
+            defaultTemplateComSacadorAvalista = PdfTemplateCache.get(loadPdf(BOLETO_TEMPLATE_COM_SACADOR_AVALISTA));
         }
-
         return defaultTemplateComSacadorAvalista;
     }
 
-    public byte[] getTemplateSemSacadorAvalista() {
+    /**
+     * Template padrão sem sacador avalista já compilado, carregado uma única
+     * vez por processo.
+     *
+     * @return template compilado
+     */
+    public PdfTemplate getCompiledTemplateSemSacadorAvalista() {
         if (isNull(defaultTemplateSemSacadorAvalista)) {
-            defaultTemplateSemSacadorAvalista = loadPdf("BoletoTemplateSemSacadorAvalista.pdf");
+            defaultTemplateSemSacadorAvalista = PdfTemplateCache.get(loadPdf(BOLETO_TEMPLATE_SEM_SACADOR_AVALISTA));
         }
         return defaultTemplateSemSacadorAvalista;
     }
 
+    /**
+     * Logotipo do banco carregado uma única vez por processo e compartilhado
+     * por todas as instâncias.
+     *
+     * @param codigo Código de compensação do banco
+     * @return Logotipo do banco
+     *
+     * @see PdfImageRegistry#getBankLogo(String)
+     */
     public Image getLogotipoDoBanco(String codigo) {
-        Image logo = imagensLogoBanco.get(codigo);
-        if (isNull(logo)) {
-            logo = loadLogotipoDoBanco(codigo);
-            imagensLogoBanco.put(codigo, logo);
-        }
-        return logo;
-    }
-
-    private BufferedImage loadLogotipoDoBanco(String codigo) {
-
-        final String path = "/img/%s.png";
-
-        Strings.checkNotBlank(codigo, "Codigo do banco não informado!");
-
-        final String logo = format(path, codigo);
-
-        URL url = ClassLoaders.getResource(logo, this.getClass());
-
-        Objects.checkNotNull(url, format("Logo não \"%s\" não encontrada!", logo));
-
-        BufferedImage imageLogo = null;
-
-        try {
-            imageLogo = ImageIO.read(url);
-            Objects.checkNotNull(imageLogo);
-        } catch (IOException e) {
-            Exceptions.throwIllegalStateException("Erro ao tentar ler a imagem logotipo do banco " + codigo, e);
-        }
-
-        return imageLogo;
+        return PdfImageRegistry.getBankLogo(codigo);
     }
 
     private byte[] loadPdf(String fileName) {
@@ -31,7 +31,6 @@ package org.jrimum.bopepo.view;
 import com.itextpdf.text.DocumentException;
 import com.itextpdf.text.Image;
 import com.itextpdf.text.pdf.AcroFields;
-import com.itextpdf.text.pdf.BarcodeInter25;
 import com.itextpdf.text.pdf.PdfContentByte;
 import com.itextpdf.text.pdf.PdfReader;
 import com.itextpdf.text.pdf.PdfStamper;
@@ -40,13 +39,18 @@ import org.jrimum.bopepo.Guia;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-
-import javax.imageio.ImageIO;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -57,13 +61,19 @@ import org.jrimum.domkee.banco.OrgaoRecebedor;
 import org.jrimum.domkee.banco.TipoValorReferencia;
 
 import org.jrimum.bopepo.BancosSuportados;
-import org.jrimum.utilix.DateUtil;
+import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.bopepo.pdf.PDFs;
+import org.jrimum.bopepo.pdf.PdfDocBatch;
+import org.jrimum.bopepo.pdf.PdfImageRegistry;
+import org.jrimum.bopepo.pdf.PdfRectangle;
+import org.jrimum.bopepo.pdf.PdfStreamMerger;
+import org.jrimum.bopepo.pdf.PdfTemplate;
+import org.jrimum.bopepo.pdf.PdfTemplateCache;
+import org.jrimum.utilix.DateFormatter;
 import org.jrimum.utilix.FileUtil;
-import org.jrimum.utilix.MonetaryUtil;
+import org.jrimum.utilix.MoneyFormatter;
 import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
-import org.jrimum.utilix.PDFUtil;
-import org.jrimum.utilix.RectanglePDF;
 
 /**
  *
@@ -98,6 +108,13 @@ class ViewerPDF {
     private static URL TEMPLATE_PADRAO = ViewerPDF.class.getResource("/pdf/GuiaTemplate.pdf");
     private static URL TEMPLATE_PADRAO_SEM_BANCO = ViewerPDF.class.getResource("/pdf/GuiaTemplateSemBanco.pdf");
 
+    /**
+     * Templates padrão já compilados, carregados uma única vez e
+     * compartilhados por todas as instâncias.
+     */
+    private static volatile PdfTemplate templatePadrao;
+    private static volatile PdfTemplate templatePadraoSemBanco;
+
     private PdfReader reader;
     private PdfStamper stamper;
     private AcroFields form;
@@ -108,6 +125,19 @@ class ViewerPDF {
 
     private File template;
 
+    /**
+     * Template definido pelo usuário já compilado, mantido entre as guias de
+     * um mesmo {@link GuiaViewer}.
+     */
+    private PdfTemplate compiledTemplate;
+
+    /**
+     * Valores dos campos da guia: textos, imagens e códigos de barras.
+     */
+    private final Map<String, String> texts = new LinkedHashMap<String, String>();
+    private final Map<String, java.awt.Image> images = new LinkedHashMap<String, java.awt.Image>();
+    private final Map<String, String> barcodes = new HashMap<String, String>();
+
     /**
      * <p>
      * Para uso interno do componente
@@ -125,6 +155,16 @@ class ViewerPDF {
         setTemplate(template);
     }
 
+    /**
+     * Visualizador de outra guia com o mesmo template, já compilado, do
+     * visualizador anterior.
+     */
+    ViewerPDF(Guia guia, ViewerPDF anterior) {
+        this.guia = guia;
+        this.template = anterior.template;
+        this.compiledTemplate = anterior.compiledTemplate;
+    }
+
     /**
      * <p>
      * SOBRE O MÉTODO
@@ -144,26 +184,109 @@ class ViewerPDF {
     protected static File groupInOnePDF(String pathName, List<Guia> guias,
             GuiaViewer guiaViewer) {
 
-        File arq = null;
+        File arq = new File(pathName);
 
-        List<byte[]> guiasEmBytes = new ArrayList<byte[]>(guias.size());
+        try {
 
-        for (Guia guia : guias) {
-            guiasEmBytes.add(guiaViewer.setGuia(guia).getPdfAsByteArray());
+            OutputStream out = new FileOutputStream(arq);
+
+            try {
+                groupInOnePDF(guias, guiaViewer, out);
+            } finally {
+                out.close();
+            }
+
+        } catch (IOException e) {
+
+            log.error("Erro durante geração do PDF." + e.getLocalizedMessage(),
+                    e);
+            throw new RuntimeException(
+                    "Erro durante geração do PDF. Causado por "
+                    + e.getLocalizedMessage(), e);
         }
 
+        return arq;
+    }
+
+    /**
+     * <p>
+     * Agrupa as guias em um único documento PDF escrito no destino informado à
+     * medida que cada guia é gerada. Cada guia é preenchida pelo formulário do
+     * template, como em {@linkplain #getBytes()}, e copiada para o destino
+     * logo em seguida. O destino não é fechado.
+     * </p>
+     *
+     * @param guias a serem agrupadas
+     * @param guiaViewer visualizador
+     * @param out destino do PDF
+     *
+     * @throws RuntimeException Quando ocorrer um problema na geração do PDF que
+     * está fora do controle da biblioteca.
+     *
+     * @see PdfStreamMerger
+     *
+     * @since 0.2
+     */
+    protected static void groupInOnePDF(List<Guia> guias, GuiaViewer guiaViewer,
+            OutputStream out) {
+
         try {
 
-            arq = FileUtil.bytes2File(pathName, PDFUtil
-                    .mergeFiles(guiasEmBytes));
+            PdfStreamMerger merger = new PdfStreamMerger(out);
 
-        } catch (FileNotFoundException e) {
+            for (Guia guia : guias) {
+                merger.add(guiaViewer.setGuia(guia).getPdfAsByteArray());
+            }
+
+            merger.close();
+
+        } catch (IOException e) {
 
             log.error("Erro durante geração do PDF." + e.getLocalizedMessage(),
                     e);
             throw new RuntimeException(
                     "Erro durante geração do PDF. Causado por "
                     + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * <p>
+     * Agrupa as guias em um único documento PDF escrito no destino informado à
+     * medida que cada guia é gerada. As páginas de cada template são
+     * importadas uma única vez e os campos desenhados diretamente sobre elas,
+     * sem preenchimento de formulário. O destino não é fechado.
+     * </p>
+     *
+     * <p>
+     * Os campos não são preenchidos pelo formulário do template: os textos
+     * são desenhados em Helvetica com o tamanho e alinhamento de cada campo,
+     * sem o negrito e a cor definidos na aparência dos campos.
+     * </p>
+     *
+     * @param guias a serem agrupadas
+     * @param guiaViewer visualizador
+     * @param out destino do PDF
+     *
+     * @throws RuntimeException Quando ocorrer um problema na geração do PDF que
+     * está fora do controle da biblioteca.
+     *
+     * @see PdfDocBatch
+     *
+     * @since 0.2
+     */
+    protected static void groupInOnePDFSharingTemplate(List<Guia> guias,
+            GuiaViewer guiaViewer, OutputStream out) {
+
+        try {
+
+            PdfDocBatch batch = new PdfDocBatch(out);
+
+            for (Guia guia : guias) {
+                guiaViewer.setGuia(guia).appendTo(batch);
+            }
+
+            batch.close();
 
         } catch (IOException e) {
 
@@ -173,8 +296,6 @@ class ViewerPDF {
                     "Erro durante geração do PDF. Causado por "
                     + e.getLocalizedMessage(), e);
         }
-
-        return arq;
     }
 
     /**
@@ -320,6 +441,7 @@ class ViewerPDF {
 
     protected void setTemplate(File template) {
         this.template = template;
+        this.compiledTemplate = null;
     }
 
     protected void setTemplate(String pathname) {
@@ -348,9 +470,79 @@ class ViewerPDF {
     private void processarPdf() throws IOException, DocumentException {
         inicializar();
         preencher();
+        aplicar();
         finalizar();
     }
 
+    /**
+     * <p>
+     * Adiciona a guia ao documento informado, desenhando os campos sobre as
+     * páginas do template.
+     * </p>
+     *
+     * @param batch documento de destino
+     *
+     * @since 0.2
+     */
+    protected void appendTo(PdfDocBatch batch) {
+
+        preencher();
+
+        try {
+
+            batch.add(getCompiledTemplate(), texts, images, barcodes);
+
+        } catch (IOException e) {
+            throw new RuntimeException("Erro durante geração do PDF. Causado por "
+                    + e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * <p>
+     * Template a ser utilizado já compilado: o padrão (do resource) ou o
+     * definido pelo usuário, lido uma única vez por visualizador.
+     * </p>
+     *
+     * @return template compilado
+     *
+     * @since 0.2
+     */
+    private PdfTemplate getCompiledTemplate() throws IOException {
+
+        if (isTemplateFromResource()) {
+
+            if (getTemplateFromResource() == TEMPLATE_PADRAO) {
+                if (isNull(templatePadrao)) {
+                    templatePadrao = loadTemplate(TEMPLATE_PADRAO);
+                }
+                return templatePadrao;
+            }
+
+            if (isNull(templatePadraoSemBanco)) {
+                templatePadraoSemBanco = loadTemplate(TEMPLATE_PADRAO_SEM_BANCO);
+            }
+            return templatePadraoSemBanco;
+        }
+
+        if (isNull(compiledTemplate)) {
+            compiledTemplate = PdfTemplateCache.get(Files.toByteArray(getTemplate()));
+        }
+
+        return compiledTemplate;
+    }
+
+    private static PdfTemplate loadTemplate(URL url) throws IOException {
+
+        InputStream input = url.openStream();
+
+        try {
+            return PdfTemplateCache.get(Files.toByteArray(input));
+        } finally {
+            input.close();
+        }
+    }
+
     /**
      * <p>
      * SOBRE O MÉTODO
@@ -400,16 +592,22 @@ class ViewerPDF {
      */
     private void inicializar() throws IOException, DocumentException {
 
-        if (isTemplateFromResource()) {
-            reader = new PdfReader(getTemplateFromResource());
-
-        } else {
-            reader = new PdfReader(getTemplate().getAbsolutePath());
-        }
+        reader = getCompiledTemplate().newReader();
 
         outputStream = new ByteArrayOutputStream();
         stamper = new PdfStamper(reader, outputStream);
+        stamper.setFullCompression();/*
+									 * Sets the document's compression to the
+									 * new 1.5 mode with object streams and xref
+									 * streams. Deve ser definida antes de
+									 * qualquer conteúdo ser acrescentado.
+         */
         form = stamper.getAcroFields();
+
+        // O template define "NeedAppearances", o que faz o iText não gerar a
+        // aparência dos campos preenchidos; sem ela os campos ficam vazios ao
+        // serem "flattened".
+        form.setGenerateAppearances(true);
     }
 
     /**
@@ -442,12 +640,6 @@ class ViewerPDF {
 
         reader.removeFields();/* Removes all the fields from the document. */
 
-        stamper.setFullCompression();/*
-									 * Sets the document's compression to the
-									 * new 1.5 mode with object streams and xref
-									 * streams.
-         */
-
         reader.eliminateSharedStreams();/*
 										 * Eliminates shared streams if they
 										 * exist.
@@ -457,24 +649,23 @@ class ViewerPDF {
         outputStream.flush();
 
         // close All in this order
-        outputStream.close();
-        reader.close();
         stamper.close();
+        reader.close();
+        outputStream.close();
     }
 
     /**
      * <p>
-     * SOBRE O MÉTODO
+     * Obtém os valores de todos os campos da guia.
      * </p>
      *
-     * @throws MalformedURLException
-     * @throws IOException
-     * @throws DocumentException
-     *
      * @since
      */
-    private void preencher() throws MalformedURLException, IOException,
-            DocumentException {
+    private void preencher() {
+
+        texts.clear();
+        images.clear();
+        barcodes.clear();
 
         setLogoBanco();
         setLogoOrgaoRecebedor();
@@ -494,139 +685,155 @@ class ViewerPDF {
         setImagensNosCampos();
     }
 
-    private void setCamposExtra() throws IOException, DocumentException {
+    /**
+     * <p>
+     * Coloca os valores dos campos no formulário do template aberto pelo
+     * {@code stamper}.
+     * </p>
+     *
+     * @throws IOException
+     * @throws DocumentException
+     *
+     * @since 0.2
+     */
+    private void aplicar() throws IOException, DocumentException {
+
+        for (Entry<String, String> e : texts.entrySet()) {
+            form.setField(e.getKey(), e.getValue());
+        }
+
+        Map<java.awt.Image, Image> imagensDoPdf = new IdentityHashMap<java.awt.Image, Image>();
+
+        for (Entry<String, java.awt.Image> e : images.entrySet()) {
+
+            Image imagem = imagensDoPdf.get(e.getValue());
+
+            if (isNull(imagem)) {
+                imagem = getPdfImage(e.getValue());
+                imagensDoPdf.put(e.getValue(), imagem);
+            }
+
+            setImagemNoCampo(e.getKey(), imagem);
+        }
+
+        for (Entry<String, String> e : barcodes.entrySet()) {
+            setCodigoBarraNoCampo(e.getKey(), e.getValue());
+        }
+    }
+
+    private void setCamposExtra() {
 
         if (isNotNull(guia.getTextosExtras())) {
 
             for (String campo : guia.getTextosExtras().keySet()) {
-                form.setField(campo, guia.getTextosExtras().get(campo));
+                texts.put(campo, guia.getTextosExtras().get(campo));
             }
         }
     }
 
-    private void setCodigoBarra() throws DocumentException {
-        // Montando o código de barras.
-        BarcodeInter25 barCode = new BarcodeInter25();
-        barCode.setCode(guia.getCodigoDeBarras().write());
-
-        barCode.setExtended(true);
-        barCode.setBarHeight(40);
-        barCode.setFont(null);
-        barCode.setN(3);
+    private void setCodigoBarra() {
+        barcodes.put("txtCodigoBarra", guia.getCodigoDeBarras().write());
+    }
 
-        PdfContentByte cb = null;
+    private void setCodigoBarraNoCampo(String nomeDoCampo, String codigo) {
+        // Desenhando o código de barras em forma vetorial.
 
-        // Verifcando se existe o field(campo) da imagem no template do boleto.
-        List<AcroFields.FieldPosition> posCampoImgLogo = form.getFieldPositions("txtCodigoBarra");
+        // Verifcando se existe o field(campo) do código de barras no template.
+        List<AcroFields.FieldPosition> posCampoCodigoBarra = form.getFieldPositions(nomeDoCampo);
 
-        if (isNotNull(posCampoImgLogo)) {
-            for (AcroFields.FieldPosition pos : posCampoImgLogo) {
-                RectanglePDF field = new RectanglePDF(pos.position);
-                cb = stamper.getOverContent(field.getPage());
-                Image imgBarCode = barCode.createImageWithBarcode(cb, null, null);
-                PDFUtil.changeField2Image(stamper, field, imgBarCode);
+        if (isNotNull(posCampoCodigoBarra)) {
+            for (AcroFields.FieldPosition pos : posCampoCodigoBarra) {
+                PdfContentByte cb = stamper.getOverContent(pos.page);
+                PDFs.drawBarcode(cb, pos.position, codigo);
             }
         }
     }
 
-    private void setDataDocumento() throws IOException, DocumentException {
-        form.setField("txtDataDocumento", DateUtil.FORMAT_DD_MM_YYYY
+    private void setDataDocumento() {
+        texts.put("txtDataDocumento", DateFormatter.DDMMYYYY_B
                 .format(guia.getArrecadacao().getDataDoDocumento()));
     }
 
-    private void setInstrucaoAoCaixa() throws IOException, DocumentException {
-        form.setField("txtInstrucaoAoCaixa1", guia.getInstrucaoAoCaixa1());
-        form.setField("txtInstrucaoAoCaixa2", guia.getInstrucaoAoCaixa2());
-        form.setField("txtInstrucaoAoCaixa3", guia.getInstrucaoAoCaixa3());
+    private void setInstrucaoAoCaixa() {
+        texts.put("txtInstrucaoAoCaixa1", guia.getInstrucaoAoCaixa1());
+        texts.put("txtInstrucaoAoCaixa2", guia.getInstrucaoAoCaixa2());
+        texts.put("txtInstrucaoAoCaixa3", guia.getInstrucaoAoCaixa3());
     }
 
-    private void setValorDocumento() throws IOException, DocumentException {
+    private void setValorDocumento() {
         String valorStr = null;
 
         if ((guia.getArrecadacao().getTipoValorReferencia() == TipoValorReferencia.VALOR_COBRADO_EM_REAL_COM_DV_MODULO_10)
                 || (guia.getArrecadacao().getTipoValorReferencia() == TipoValorReferencia.VALOR_COBRADO_EM_REAL_COM_DV_MODULO_11)) {
-            valorStr = MonetaryUtil.FORMAT_REAL_COM_PREFIXO.format(guia.getArrecadacao().getValorDocumento());
+            valorStr = MoneyFormatter.REAL_COM_PREFIXO.format(guia.getArrecadacao().getValorDocumento());
         } else {
-            valorStr = MonetaryUtil.FORMAT_REAL.format(guia.getArrecadacao().getValorDocumento());
+            valorStr = MoneyFormatter.REAL.format(guia.getArrecadacao().getValorDocumento());
         }
 
-        form.setField("txtValorDocumento1", valorStr);
-        form.setField("txtValorDocumento2", valorStr);
-        form.setField("txtValorDocumento3", valorStr);
+        texts.put("txtValorDocumento1", valorStr);
+        texts.put("txtValorDocumento2", valorStr);
+        texts.put("txtValorDocumento3", valorStr);
     }
 
-    private void setDataVencimeto() throws IOException, DocumentException {
+    private void setDataVencimeto() {
         // Obtendo uma string com a data de vencimento formatada
         // no padrão "dd/mm/yyyy".
         // Ex: 03/07/2008.
-        String dataFormatada = DateUtil.FORMAT_DD_MM_YYYY.format(guia
+        String dataFormatada = DateFormatter.DDMMYYYY_B.format(guia
                 .getArrecadacao().getDataDoVencimento());
 
-        form.setField("txtDataVencimento", dataFormatada);
-        form.setField("txtDataVencimento1", dataFormatada);
-        form.setField("txtDataVencimento2", dataFormatada);
-        form.setField("txtDataVencimento3", dataFormatada);
+        texts.put("txtDataVencimento", dataFormatada);
+        texts.put("txtDataVencimento1", dataFormatada);
+        texts.put("txtDataVencimento2", dataFormatada);
+        texts.put("txtDataVencimento3", dataFormatada);
 
     }
 
-    private void setContribuinteNome() throws IOException, DocumentException {
-        form.setField("txtContribuinteNome", guia.getArrecadacao()
+    private void setContribuinteNome() {
+        texts.put("txtContribuinteNome", guia.getArrecadacao()
                 .getContribuinte().getNome());
     }
 
-    private void setContribuinteCPF() throws IOException, DocumentException {
-        form.setField("txtContribuinteCPF", guia.getArrecadacao()
+    private void setContribuinteCPF() {
+        texts.put("txtContribuinteCPF", guia.getArrecadacao()
                 .getContribuinte().getCPF().getCodigoFormatado());
     }
 
-    private void setDescricao() throws IOException, DocumentException {
-        form.setField("txtDescricao", guia.getArrecadacao().getDescricao());
+    private void setDescricao() {
+        texts.put("txtDescricao", guia.getArrecadacao().getDescricao());
     }
 
-    private void setTitulo() throws IOException, DocumentException {
-        form.setField("txtTitulo", guia.getArrecadacao().getTitulo());
+    private void setTitulo() {
+        texts.put("txtTitulo", guia.getArrecadacao().getTitulo());
     }
 
-    private void setLinhaDigitavel() throws DocumentException, IOException {
-        form.setField("txtLinhaDigitavel", guia.getLinhaDigitavel().write());
+    private void setLinhaDigitavel() {
+        texts.put("txtLinhaDigitavel", guia.getLinhaDigitavel().write());
     }
 
-    private void setLogoBanco() throws MalformedURLException, IOException,
-            DocumentException {
+    private void setLogoBanco() {
 
         // Através da conta bancária será descoberto a imagem que representa o
         // banco, com base
         // no código do banco.
         Convenio convenio = guia.getArrecadacao().getConvenio();
-        Image imgLogoBanco = null;
 
         // Se há um banco especificado...
         if (isNotNull(convenio) && isNotNull(convenio.getBanco())) {
 
             if (isNotNull(convenio.getBanco().getImgLogo())) {
-                imgLogoBanco = Image.getInstance(convenio.getBanco().getImgLogo(),
-                        null);
-                setImageLogo(imgLogoBanco);
+                setImageLogo(convenio.getBanco().getImgLogo());
 
             } else {
-                if (BancosSuportados.isSuportado(convenio.getBanco()
-                        .getCodigoDeCompensacaoBACEN().getCodigoFormatado())) {
-
-                    URL url = this.getClass().getResource(
-                            "/img/"
-                            + convenio.getBanco()
-                                    .getCodigoDeCompensacaoBACEN()
-                                    .getCodigoFormatado() + ".png");
+                String codigo = convenio.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado();
 
-                    if (isNotNull(url)) {
-                        imgLogoBanco = Image.getInstance(url);
-                    }
+                if (BancosSuportados.isSuportado(codigo)) {
 
-                    if (isNotNull(imgLogoBanco)) {
+                    // Logotipo carregado uma única vez por processo e
+                    // compartilhado por todas as guias.
+                    java.awt.Image imgLogoBanco = PdfImageRegistry.getBankLogo(codigo);
 
-                        // Esta imagem gerada aqui é do tipo java.awt.Image
-                        convenio.getBanco().setImgLogo(ImageIO.read(url));
-                    }
+                    convenio.getBanco().setImgLogo(imgLogoBanco);
 
                     // Se o banco em questão é suportado nativamente pelo
                     // componente,
@@ -644,7 +851,7 @@ class ViewerPDF {
                     // Sem imagem, um alerta é exibido.
                     log.warn("Banco sem imagem definida. O nome da instituição será usado como logo.");
 
-                    form.setField("txtLogoBanco", convenio.getBanco().getNome());
+                    texts.put("txtLogoBanco", convenio.getBanco().getNome());
                 }
             }
 
@@ -652,17 +859,13 @@ class ViewerPDF {
 
     }
 
-    private void setLogoOrgaoRecebedor() throws MalformedURLException, IOException,
-            DocumentException {
+    private void setLogoOrgaoRecebedor() {
 
-        Image imgLogoBanco = null;
         OrgaoRecebedor orgaoRecebedor = guia.getArrecadacao().getOrgaoRecebedor();
 
         if (isNotNull(orgaoRecebedor.getImgLogo())) {
-            imgLogoBanco = Image.getInstance(orgaoRecebedor.getImgLogo(), null);
-
-            setImagemNoCampo("txtLogoOrgaoRecebedor1", imgLogoBanco);
-            setImagemNoCampo("txtLogoOrgaoRecebedor2", imgLogoBanco);
+            images.put("txtLogoOrgaoRecebedor1", orgaoRecebedor.getImgLogo());
+            images.put("txtLogoOrgaoRecebedor2", orgaoRecebedor.getImgLogo());
         }
     }
 
@@ -677,14 +880,34 @@ class ViewerPDF {
      *
      * @since 0.2
      */
-    private void setImagensNosCampos() throws DocumentException, IOException {
+    private void setImagensNosCampos() {
         if (isNotNull(guia.getImagensExtras())) {
+            images.putAll(guia.getImagensExtras());
+        }
+    }
 
-            for (String campo : guia.getImagensExtras().keySet()) {
-                setImagemNoCampo(campo, Image.getInstance(guia
-                        .getImagensExtras().get(campo), null));
-            }
+    /**
+     * <p>
+     * Imagem na forma do PDF: compartilhada caso seja do registro global (ex:
+     * logotipos dos bancos) ou convertida.
+     * </p>
+     *
+     * @param imagem
+     * @return imagem do PDF
+     * @throws IOException
+     * @throws DocumentException
+     *
+     * @since 0.2
+     */
+    private static Image getPdfImage(java.awt.Image imagem) throws IOException, DocumentException {
+
+        Image registrada = PdfImageRegistry.getPdfImage(imagem);
+
+        if (isNotNull(registrada)) {
+            return registrada;
         }
+
+        return Image.getInstance(imagem, null);
     }
 
     /**
@@ -707,7 +930,7 @@ class ViewerPDF {
 
             if (isNotNull(posCampoImgLogo)) {
                 for (AcroFields.FieldPosition fpos : posCampoImgLogo) {
-                    PDFUtil.changeField2Image(stamper, new RectanglePDF(fpos.position), imagem);
+                    PDFs.changeFieldToImage(stamper, new PdfRectangle(fpos.page, fpos.position), imagem);
                 }
             }
         }
@@ -720,16 +943,15 @@ class ViewerPDF {
      * </p>
      *
      * @param imgLogoBanco
-     * @throws DocumentException
      *
      * @since 0.2
      */
-    private void setImageLogo(Image imgLogoBanco) throws DocumentException {
-        setImagemNoCampo("txtLogoBanco", imgLogoBanco);
+    private void setImageLogo(java.awt.Image imgLogoBanco) {
+        images.put("txtLogoBanco", imgLogoBanco);
     }
 
-    private void setNossoNumero() throws IOException, DocumentException {
-        form.setField("txtNossoNumero", guia.getArrecadacao().getNossoNumero());
+    private void setNossoNumero() {
+        texts.put("txtNossoNumero", guia.getArrecadacao().getNossoNumero());
     }
 
     /**
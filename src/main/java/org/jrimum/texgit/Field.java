@@ -38,11 +38,13 @@ import java.text.DecimalFormat;
 import java.text.Format;
 import java.text.NumberFormat;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNumeric;
+import org.jrimum.utilix.DateFormatter;
 import org.jrimum.utilix.Dates;
 import static org.jrimum.utilix.ObjectUtil.isNotNull;
 import org.jrimum.utilix.Objects;
@@ -82,6 +84,15 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
      */
     private Format formatter;
 
+    /**
+     * <p>
+     * Equivalente imutável do {@link #formatter} quando este é um
+     * {@link SimpleDateFormat} numérico, usado na escrita de datas sem
+     * acessar o formatador compartilhado.
+     * </p>
+     */
+    private DateFormatter dateFormatter;
+
     /**
      * Preenchedor do value utilizado na hora da escrita.
      */
@@ -373,6 +384,9 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
 
     private String writeDateField() {
         if (!Dates.equalsInvalidDate((Date) value)) {
+            if (isNotNull(dateFormatter)) {
+                return dateFormatter.format((Date) value);
+            }
             return formatter.format(value);
         }
         return EMPTY;
@@ -448,11 +462,33 @@ public class Field<G> implements org.jrimum.texgit.IField<G>, TextStream {
 
         if (isNotNull(formatter)) {
             this.formatter = formatter;
+            this.dateFormatter = toDateFormatter(formatter);
         } else {
             throw new IllegalArgumentException(format("Formato inválido: [%s]!", formatter));
         }
     }
 
+    /**
+     * <p>
+     * Obtém o {@link DateFormatter} equivalente ao formatador informado,
+     * apenas para padrões numéricos, cujo resultado independe do locale.
+     * </p>
+     *
+     * @param formatter
+     * @return DateFormatter equivalente ou null
+     */
+    private static DateFormatter toDateFormatter(Format formatter) {
+
+        if (formatter instanceof SimpleDateFormat) {
+            SimpleDateFormat sdf = (SimpleDateFormat) formatter;
+            String pattern = sdf.toPattern();
+            if (pattern.matches("[dMyHhms]+")) {
+                return DateFormatter.ofPattern(pattern, sdf.getTimeZone().toZoneId());
+            }
+        }
+        return null;
+    }
+
     public IFiller getFiller() {
         return filler;
     }
@@ -137,8 +137,8 @@ public class BancoUtil {
 				) {
 				throw new JRimumException(new IllegalArgumentException("Para o cálculo do fator de" +
 					" vencimento se faz necessário informar uma data entre" +
-					" " + DateUtil.FORMAT_DD_MM_YYYY.format(DATA_BASE_DO_FATOR_DE_VENCIMENTO) +
-					" e " + DateUtil.FORMAT_DD_MM_YYYY.format(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)));
+					" " + DateFormatter.DDMMYYYY_B.format(DATA_BASE_DO_FATOR_DE_VENCIMENTO) +
+					" e " + DateFormatter.DDMMYYYY_B.format(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)));
 			}
 			else {
 				fator = (int)DateUtil.calculeDiferencaEmDias(DATA_BASE_DO_FATOR_DE_VENCIMENTO, dataVencTruncada);
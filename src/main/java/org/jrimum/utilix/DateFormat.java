@@ -199,19 +199,17 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	HHMMSS_24C("HH:mm:ss"),
 	;
 	
-	private final ThreadLocalFormat<SimpleDateFormat> DATE_FORMAT;
+	private final String pattern;
+
+	/**
+	 * Formatador imutável, compartilhado por todas as threads.
+	 */
+	private final DateFormatter formatter;
 
 	private DateFormat(String format) {
 	
-		DATE_FORMAT = new ThreadLocalFormat<SimpleDateFormat>(format){
-
-			@Override
-			protected SimpleDateFormat initialValue() {
-				
-		       return new SimpleDateFormat(format);
-			}
-	        
-	    };
+		this.pattern = format;
+		this.formatter = DateFormatter.ofPattern(format);
 	}
 
 	/**
@@ -219,7 +217,25 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	 */
 	public String format(Date obj) {
 	
-		return DATE_FORMAT.get().format(obj);
+		return formatter.format(obj);
+	}
+	
+	/**
+	 * Acrescenta a data formatada ao final do {@code destino}.
+	 * 
+	 * @see DateFormatter#appendTo(StringBuilder, Date)
+	 */
+	public StringBuilder appendTo(StringBuilder destino, Date obj) {
+		
+		return formatter.appendTo(destino, obj);
+	}
+	
+	/**
+	 * @return O formatador imutável deste padrão
+	 */
+	public DateFormatter formatter() {
+		
+		return formatter;
 	}
 	
 	/**
@@ -229,7 +245,7 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 		
 		try {
 			
-			return DATE_FORMAT.get().parse(text);
+			return copy().parse(text);
 			
 		} catch (ParseException e) {
 			
@@ -242,6 +258,6 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	 */
 	public SimpleDateFormat copy(){
 			
-		return (SimpleDateFormat) DATE_FORMAT.get().clone();
+		return new SimpleDateFormat(pattern);
 	}
 }
@@ -65,17 +65,29 @@ public class DateUtil {
 
 	/**
 	 * Formatador de datas no padrão dd/MM/yyyy.
+	 * 
+	 * @deprecated Instância compartilhada e não thread-safe. Use
+	 * {@link DateFormatter#DDMMYYYY_B}.
 	 */
+	@Deprecated
 	public static final DateFormat FORMAT_DD_MM_YYYY = new SimpleDateFormat("dd/MM/yyyy");
 	
 	/**
 	 * Formatador de datas no padrão ddMMyy.
+	 * 
+	 * @deprecated Instância compartilhada e não thread-safe. Use
+	 * {@link DateFormatter#DDMMYY}.
 	 */
+	@Deprecated
 	public static final DateFormat FORMAT_DDMMYY = new SimpleDateFormat("ddMMyy");
 	
 	/**
 	 * Formatador de datas no padrão yyMMdd.
+	 * 
+	 * @deprecated Instância compartilhada e não thread-safe. Use
+	 * {@link DateFormatter#YYMMDD}.
 	 */
+	@Deprecated
 	public static final DateFormat FORMAT_YYMMDD = new SimpleDateFormat("yyMMdd");
 	
 	/**
@@ -112,7 +124,7 @@ public class DateUtil {
 	 */
 	public static Date parse(String dateAsString) {
 		
-		return parse(dateAsString, FORMAT_DD_MM_YYYY);
+		return parse(dateAsString, org.jrimum.utilix.DateFormat.DDMMYYYY_B.copy());
 	}
 	
 	/**
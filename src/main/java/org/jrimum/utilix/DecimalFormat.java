@@ -29,6 +29,8 @@
 
 package org.jrimum.utilix;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.text.ParseException;
 
 import org.jrimum.utilix.Exceptions;
@@ -52,7 +54,7 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 * "#,##0.0". Exemplo: "1.500,9".
 	 * </p>
 	 */
-	NUMBER_D_BR("#,##0.0", DecimalFormatSymbols.BRASIL.copy()),
+	NUMBER_D_BR("#,##0.0", DecimalFormatSymbols.BRASIL.copy(), MoneyFormatter.REAL_UMA_CASA_DECIMAL),
 	
 	/**
 	 * <p>
@@ -60,7 +62,7 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 * "#,##0.00". Exemplo: "1.500,99".
 	 * </p>
 	 */
-	NUMBER_DD_BR("#,##0.00", DecimalFormatSymbols.BRASIL.copy()),
+	NUMBER_DD_BR("#,##0.00", DecimalFormatSymbols.BRASIL.copy(), MoneyFormatter.REAL),
 	
 	/**
 	 * <p>
@@ -69,7 +71,7 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 * monetários em real com o prefixo R$, exemplo: R$ 10,0.
 	 * </p>
 	 */
-	MONEY_D_BR("\u00A4 #,##0.0", DecimalFormatSymbols.BRASIL.copy()),
+	MONEY_D_BR("\u00A4 #,##0.0", DecimalFormatSymbols.BRASIL.copy(), MoneyFormatter.REAL_UMA_CASA_DECIMAL_COM_PREFIXO),
 	
 	/**
 	 * <p>
@@ -78,22 +80,26 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 * monetários em real com o prefixo R$, exemplo: R$ 10,00.
 	 * </p>
 	 */
-	MONEY_DD_BR("\u00A4 #,##0.00", DecimalFormatSymbols.BRASIL.copy()),
+	MONEY_DD_BR("\u00A4 #,##0.00", DecimalFormatSymbols.BRASIL.copy(), MoneyFormatter.REAL_COM_PREFIXO),
 	
 	;
 	
-	private final ThreadLocalLocalizedFormat<java.text.DecimalFormat, java.text.DecimalFormatSymbols> DECIMAL_FORMAT;
+	/**
+	 * Formatador de referência, nunca usado diretamente: apenas copiado em
+	 * {@linkplain #copy()}, o que permite o compartilhamento entre threads.
+	 */
+	private final java.text.DecimalFormat prototype;
 
-	private DecimalFormat(String format, java.text.DecimalFormatSymbols formatSymbols) {
-	
-		DECIMAL_FORMAT = new ThreadLocalLocalizedFormat<java.text.DecimalFormat, java.text.DecimalFormatSymbols>(format, formatSymbols){
+	/**
+	 * Formatador imutável usado para valores exatos (inteiros e
+	 * {@code BigDecimal}).
+	 */
+	private final MoneyFormatter formatter;
 
-			@Override
-			protected java.text.DecimalFormat initialValue() {
-				
-				return new java.text.DecimalFormat(format, formatSymbols);
-			}
-	    };
+	private DecimalFormat(String format, java.text.DecimalFormatSymbols formatSymbols, MoneyFormatter formatter) {
+	
+		this.prototype = new java.text.DecimalFormat(format, formatSymbols);
+		this.formatter = formatter;
 	}
 
 	/**
@@ -101,7 +107,29 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 */
 	public String format(Number obj) {
 	
-		return DECIMAL_FORMAT.get().format(obj);
+		if (obj instanceof BigDecimal) {
+			return formatter.format((BigDecimal) obj);
+		}
+		
+		if (obj instanceof Long || obj instanceof Integer || obj instanceof Short || obj instanceof Byte) {
+			return formatter.format(BigDecimal.valueOf(obj.longValue()));
+		}
+		
+		if (obj instanceof BigInteger) {
+			return formatter.format(new BigDecimal((BigInteger) obj));
+		}
+		
+		return copy().format(obj);
+	}
+	
+	/**
+	 * Acrescenta o valor formatado ao final do {@code destino}.
+	 * 
+	 * @see MoneyFormatter#appendTo(StringBuilder, BigDecimal)
+	 */
+	public StringBuilder appendTo(StringBuilder destino, BigDecimal obj) {
+		
+		return formatter.appendTo(destino, obj);
 	}
 	
 	/**
@@ -111,7 +139,7 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 		
 		try {
 			
-			return DECIMAL_FORMAT.get().parse(text);
+			return copy().parse(text);
 			
 		} catch (ParseException e) {
 			
@@ -124,6 +152,6 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 */
 	public java.text.DecimalFormat copy(){
 		
-		return (java.text.DecimalFormat) DECIMAL_FORMAT.get().clone();
+		return (java.text.DecimalFormat) prototype.clone();
 	}
 }
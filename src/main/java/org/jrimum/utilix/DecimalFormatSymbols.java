@@ -52,28 +52,25 @@ public enum DecimalFormatSymbols {
 	 */
 	BRASIL;
 
-	private final ThreadLocal<java.text.DecimalFormatSymbols> DF_SYMBOLS;
+	/**
+	 * Símbolos de referência, nunca alterados: apenas copiados em
+	 * {@linkplain #copy()}, o que permite o compartilhamento entre threads.
+	 */
+	private final java.text.DecimalFormatSymbols prototype;
 
 	private DecimalFormatSymbols() {
 
-		DF_SYMBOLS = new ThreadLocal<java.text.DecimalFormatSymbols>() {
-
-			protected java.text.DecimalFormatSymbols initialValue() {
-
-				java.text.DecimalFormatSymbols dfSymbols = new java.text.DecimalFormatSymbols(
-						Locales.BRASIL);
-
-				dfSymbols.setZeroDigit('0');
-				dfSymbols.setDecimalSeparator(',');
-				dfSymbols.setMonetaryDecimalSeparator(',');
-				dfSymbols.setDigit('#');
-				dfSymbols.setGroupingSeparator('.');
-				dfSymbols.setCurrency(Currency.getInstance(Locales.BRASIL));
+		java.text.DecimalFormatSymbols dfSymbols = new java.text.DecimalFormatSymbols(
+				Locales.BRASIL);
 
-				return dfSymbols;
-			}
+		dfSymbols.setZeroDigit('0');
+		dfSymbols.setDecimalSeparator(',');
+		dfSymbols.setMonetaryDecimalSeparator(',');
+		dfSymbols.setDigit('#');
+		dfSymbols.setGroupingSeparator('.');
+		dfSymbols.setCurrency(Currency.getInstance(Locales.BRASIL));
 
-		};
+		prototype = dfSymbols;
 	}
 
 	/**
@@ -88,6 +85,6 @@ public enum DecimalFormatSymbols {
 	 */
 	public java.text.DecimalFormatSymbols copy() {
 
-		return (java.text.DecimalFormatSymbols) DF_SYMBOLS.get().clone();
+		return (java.text.DecimalFormatSymbols) prototype.clone();
 	}
 }
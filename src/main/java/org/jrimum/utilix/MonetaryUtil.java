@@ -54,17 +54,29 @@ public class MonetaryUtil {
 	
 	/**
 	 * NumberFormat usado para formatar valores monetários em real.
+	 * 
+	 * @deprecated Instância compartilhada e não thread-safe. Use
+	 * {@link MoneyFormatter#REAL}.
 	 */
+	@Deprecated
 	public static final NumberFormat FORMAT_REAL = new DecimalFormat("#,##0.00", BRASIL_DECIMAL_SYMBOLS);
 	
 	/**
 	 * NumberFormat usado para formatar valores monetários em real com apenas UMA casa decimal.
+	 * 
+	 * @deprecated Instância compartilhada e não thread-safe. Use
+	 * {@link MoneyFormatter#REAL_UMA_CASA_DECIMAL}.
 	 */
+	@Deprecated
 	public static final NumberFormat FORMAT_REAL_UMA_CASA_DECIMAL = new DecimalFormat("#,##0.0", BRASIL_DECIMAL_SYMBOLS);
 	
 	/**
 	 * NumberFormat usado para formatar valores monetários em real com o prefixo R$, exemplo: R$ 10,00.
+	 * 
+	 * @deprecated Instância compartilhada e não thread-safe. Use
+	 * {@link MoneyFormatter#REAL_COM_PREFIXO}.
 	 */
+	@Deprecated
 	public static final NumberFormat FORMAT_REAL_COM_PREFIXO = new DecimalFormat("R$ #,##0.00", BRASIL_DECIMAL_SYMBOLS);
 
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.utilix;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * <p>
+ * Formatador de valores monetários em real (ex: {@code 1.234,56} ou
+ * {@code R$ 1.234,56}), equivalente a um {@link java.text.DecimalFormat} com o
+ * padrão {@code "#,##0.00"} e os símbolos do Brasil.
+ * </p>
+ *
+ * <p>
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads sem
+ * sincronização nem {@code ThreadLocal}. A formatação é feita diretamente
+ * sobre o valor sem escala ({@code long}) e pode ser acrescentada a um
+ * {@link StringBuilder} reutilizado pelo chamador, sem objetos
+ * intermediários. O arredondamento é {@link RoundingMode#HALF_EVEN}, o mesmo
+ * do {@code DecimalFormat}.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class MoneyFormatter {
+
+	/**
+	 * Valores com duas casas decimais, ex: {@code 1.234,56}.
+	 */
+	public static final MoneyFormatter REAL = new MoneyFormatter("", 2);
+
+	/**
+	 * Valores com duas casas decimais e o prefixo R$, ex: {@code R$ 1.234,56}.
+	 */
+	public static final MoneyFormatter REAL_COM_PREFIXO = new MoneyFormatter("R$ ", 2);
+
+	/**
+	 * Valores com apenas uma casa decimal, ex: {@code 1.234,5}.
+	 */
+	public static final MoneyFormatter REAL_UMA_CASA_DECIMAL = new MoneyFormatter("", 1);
+
+	/**
+	 * Valores com apenas uma casa decimal e o prefixo R$, ex:
+	 * {@code R$ 1.234,5}.
+	 */
+	public static final MoneyFormatter REAL_UMA_CASA_DECIMAL_COM_PREFIXO = new MoneyFormatter("R$ ", 1);
+
+	private static final char SEPARADOR_DE_MILHAR = '.';
+
+	private static final char SEPARADOR_DECIMAL = ',';
+
+	private final String prefixo;
+
+	private final int casasDecimais;
+
+	private MoneyFormatter(String prefixo, int casasDecimais) {
+		this.prefixo = prefixo;
+		this.casasDecimais = casasDecimais;
+	}
+
+	/**
+	 * @return Quantidade de casas decimais
+	 */
+	public int getCasasDecimais() {
+		return casasDecimais;
+	}
+
+	/**
+	 * @param valor Valor a ser formatado
+	 * @return Valor formatado
+	 *
+	 * @throws IllegalArgumentException Caso o valor seja nulo
+	 */
+	public String format(BigDecimal valor) {
+		return appendTo(new StringBuilder(24), valor).toString();
+	}
+
+	/**
+	 * @param valorSemEscala Valor na menor unidade deste formatador (centavos
+	 * para duas casas decimais), ex: {@code 123456} para {@code 1.234,56}
+	 * @return Valor formatado
+	 */
+	public String formatUnscaled(long valorSemEscala) {
+		return appendUnscaledTo(new StringBuilder(24), valorSemEscala).toString();
+	}
+
+	/**
+	 * Acrescenta o valor formatado ao final do {@code destino}.
+	 *
+	 * @param destino Destino da formatação
+	 * @param valor Valor a ser formatado
+	 * @return O próprio {@code destino}
+	 *
+	 * @throws IllegalArgumentException Caso o valor seja nulo
+	 */
+	public StringBuilder appendTo(StringBuilder destino, BigDecimal valor) {
+
+		Objects.checkNotNull(valor, "Valor nulo!");
+
+		BigInteger semEscala = valor.setScale(casasDecimais, RoundingMode.HALF_EVEN).unscaledValue();
+
+		// Long.MIN_VALUE fica de fora: não tem valor absoluto em long.
+		if (semEscala.bitLength() < Long.SIZE - 1) {
+			return appendUnscaledTo(destino, semEscala.longValue());
+		}
+
+		String digitos = semEscala.abs().toString();
+
+		if (semEscala.signum() < 0) {
+			destino.append('-');
+		}
+
+		destino.append(prefixo);
+
+		int inteiros = digitos.length() - casasDecimais;
+
+		for (int i = 0; i < inteiros; i++) {
+			destino.append(digitos.charAt(i));
+			appendSeparadorDeMilhar(destino, inteiros - i - 1);
+		}
+
+		return destino.append(SEPARADOR_DECIMAL).append(digitos, inteiros, digitos.length());
+	}
+
+	/**
+	 * Acrescenta o valor formatado ao final do {@code destino}.
+	 *
+	 * @param destino Destino da formatação
+	 * @param valorSemEscala Valor na menor unidade deste formatador (centavos
+	 * para duas casas decimais)
+	 * @return O próprio {@code destino}
+	 */
+	public StringBuilder appendUnscaledTo(StringBuilder destino, long valorSemEscala) {
+
+		if (valorSemEscala == Long.MIN_VALUE) {
+			return appendTo(destino, BigDecimal.valueOf(valorSemEscala, casasDecimais));
+		}
+
+		if (valorSemEscala < 0) {
+			destino.append('-');
+			valorSemEscala = -valorSemEscala;
+		}
+
+		destino.append(prefixo);
+
+		// Dígitos em ordem inversa, no máximo 19 para um long.
+		char[] digitos = new char[20];
+		int quantidade = 0;
+
+		do {
+			digitos[quantidade++] = (char) ('0' + valorSemEscala % 10);
+			valorSemEscala /= 10;
+		} while (valorSemEscala > 0);
+
+		// Pelo menos um dígito inteiro e todas as casas decimais.
+		while (quantidade <= casasDecimais) {
+			digitos[quantidade++] = '0';
+		}
+
+		for (int i = quantidade - 1; i >= casasDecimais; i--) {
+			destino.append(digitos[i]);
+			appendSeparadorDeMilhar(destino, i - casasDecimais);
+		}
+
+		destino.append(SEPARADOR_DECIMAL);
+
+		for (int i = casasDecimais - 1; i >= 0; i--) {
+			destino.append(digitos[i]);
+		}
+
+		return destino;
+	}
+
+	/**
+	 * Separador após o dígito inteiro seguido de {@code restantes} dígitos
+	 * inteiros.
+	 */
+	private static void appendSeparadorDeMilhar(StringBuilder destino, int restantes) {
+		if (restantes > 0 && restantes % 3 == 0) {
+			destino.append(SEPARADOR_DE_MILHAR);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "MoneyFormatter[" + prefixo + "#,##0." + "0000000000".substring(0, casasDecimais) + "]";
+	}
+}
@@ -36,12 +36,17 @@ import org.jrimum.utilix.Objects;
  * Abstração para o uso de formatadores thread-safe em enumerações.
  * </p>
  * 
+ * @deprecated Mantém uma instância por thread, que não é liberada em pools
+ *             grandes. Use os formatadores imutáveis {@link DateFormatter} e
+ *             {@link MoneyFormatter}.
+ * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
  * @since 0.2
  * 
  * @version 0.2
  */
+@Deprecated
 public abstract class ThreadLocalFormat<T> extends ThreadLocal<T> {
 
 	protected final String format;
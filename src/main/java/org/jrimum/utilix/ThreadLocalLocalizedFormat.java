@@ -39,12 +39,16 @@ import org.jrimum.utilix.Objects;
  * em enumerações.
  * </p>
  * 
+ * @deprecated Mantém uma instância por thread, que não é liberada em pools
+ *             grandes. Use o {@link MoneyFormatter} imutável.
+ * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
  * @since 0.2
  * 
  * @version 0.2
  */
+@Deprecated
 public abstract class ThreadLocalLocalizedFormat<T, S> extends ThreadLocalFormat<T> {
 
 	protected final Locale locale;
@@ -29,8 +29,6 @@
 
 package org.jrimum.vallia;
 
-import org.apache.commons.lang3.StringUtils;
-
 /**
  * <p>
  * Lógica de cálculo do dígito verificador do código de barras de um boleto.
@@ -69,7 +67,14 @@ public class BoletoCodigoDeBarrasDV extends AbstractDigitoVerificador {
 
 	private static final int TAMANHO_SEM_DV = 43;
 
-	private static final Modulo modulo11 = new Modulo(TipoDeModulo.MODULO11);
+	private static final int TAMANHO = 44;
+
+	/**
+	 * Posição (base zero) do dígito verificador no código de barras.
+	 */
+	private static final int POSICAO_DV = 4;
+
+	private static final CalculadorDeModulo modulo11 = CalculadorDeModulo.MODULO11;
 
 	/**
 	 * <p>
@@ -90,31 +95,113 @@ public class BoletoCodigoDeBarrasDV extends AbstractDigitoVerificador {
 	@Override
 	public int calcule(String numero) throws IllegalArgumentException {
 
-		int dv = 0;
-		int resto = 0;
-
-		if (StringUtils.isNotBlank(numero) && StringUtils.isNumeric(numero)
-				&& (numero.length() == TAMANHO_SEM_DV)) {
-
-			// Realizando o cálculo do dígito verificador utilizando módulo 11.
-			// Obtendo o resto da divisão por 11.
-			resto = modulo11.calcule(numero);
+		int soma = CalculadorDeModulo.INVALIDO;
 
-			// Seguindo as especificações da FEBRABAN, caso o resto seja
-			// (0), (1) ou (10), será atribuído (1) ao digito verificador.
-			if ((resto == 0) || (resto == 1) || (resto == 10))
-				dv = 1;
-			// Caso contrário, dv = 11 - resto.
-			else
-				dv = modulo11.valor() - resto;
+		if (numero != null && numero.length() == TAMANHO_SEM_DV) {
+			soma = modulo11.soma(numero);
+		}
 
-		} else {
+		if (soma == CalculadorDeModulo.INVALIDO) {
 			throw new IllegalArgumentException("O código de barras " + "[ "
 					+ numero + " ] deve conter apenas números e "
 					+ TAMANHO_SEM_DV + " caracteres.");
 		}
 
-		return dv;
+		return dv(soma);
+	}
+
+	/**
+	 * <p>
+	 * Calcula o dígito verificador de um código de barras completo (44
+	 * dígitos), desconsiderando a 5ª posição, sem montar o número sem o
+	 * dígito.
+	 * </p>
+	 * 
+	 * @param codigoDeBarras
+	 *            - código de barras com 44 dígitos.
+	 * @return dígito verificador.
+	 * @throws IllegalArgumentException
+	 *             caso o código não tenha 44 dígitos.
+	 * @since 0.2
+	 */
+	public int calculeDoCodigo(CharSequence codigoDeBarras) throws IllegalArgumentException {
+
+		int soma = CalculadorDeModulo.INVALIDO;
+
+		if (codigoDeBarras != null && codigoDeBarras.length() == TAMANHO) {
+			soma = soma(modulo11.soma(codigoDeBarras, POSICAO_DV + 1, TAMANHO, 0),
+					modulo11.soma(codigoDeBarras, 0, POSICAO_DV, TAMANHO - POSICAO_DV - 1));
+		}
+
+		if (soma == CalculadorDeModulo.INVALIDO) {
+			throw new IllegalArgumentException("O código de barras " + "[ "
+					+ codigoDeBarras + " ] deve conter apenas números e "
+					+ TAMANHO + " caracteres.");
+		}
+
+		return dv(soma);
+	}
+
+	/**
+	 * <p>
+	 * Valida, em lote, códigos de barras completos (44 dígitos em ASCII)
+	 * armazenados em sequência em um único {@code byte[]}, ex: lidos de um
+	 * arquivo de retorno.
+	 * </p>
+	 * 
+	 * @param codigos
+	 *            - códigos em sequência, 44 bytes cada.
+	 * @param quantidade
+	 *            - quantidade de códigos.
+	 * @param validos
+	 *            - destino, com pelo menos <code>quantidade</code> posições,
+	 *            indicando se cada código é válido.
+	 * @return quantidade de códigos válidos.
+	 * @since 0.2
+	 */
+	public static int valide(byte[] codigos, int quantidade, boolean[] validos) {
+
+		int[] direita = new int[quantidade];
+		int[] esquerda = new int[quantidade];
+
+		modulo11.somas(codigos, TAMANHO, quantidade, POSICAO_DV + 1, TAMANHO, 0, direita);
+		modulo11.somas(codigos, TAMANHO, quantidade, 0, POSICAO_DV, TAMANHO - POSICAO_DV - 1, esquerda);
+
+		int total = 0;
+
+		for (int r = 0, p = POSICAO_DV; r < quantidade; r++, p += TAMANHO) {
+			int soma = soma(direita[r], esquerda[r]);
+			validos[r] = soma != CalculadorDeModulo.INVALIDO && codigos[p] - '0' == dv(soma);
+			if (validos[r]) {
+				total++;
+			}
+		}
+
+		return total;
+	}
+
+	private static int soma(int direita, int esquerda) {
+
+		if (direita == CalculadorDeModulo.INVALIDO || esquerda == CalculadorDeModulo.INVALIDO) {
+			return CalculadorDeModulo.INVALIDO;
+		}
+
+		return direita + esquerda;
+	}
+
+	/**
+	 * Seguindo as especificações da FEBRABAN, caso o resto seja (0), (1) ou
+	 * (10), será atribuído (1) ao digito verificador. Caso contrário, dv = 11
+	 * - resto.
+	 */
+	private static int dv(int soma) {
+
+		int resto = soma % 11;
+
+		if ((resto == 0) || (resto == 1) || (resto == 10))
+			return 1;
+
+		return modulo11.valor() - resto;
 	}
 
 }
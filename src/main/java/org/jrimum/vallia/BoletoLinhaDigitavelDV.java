@@ -28,9 +28,6 @@
  */
 package org.jrimum.vallia;
 
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.StringUtils;
 import org.jrimum.texgit.Filler;
 
 /**
@@ -80,11 +77,11 @@ public class BoletoLinhaDigitavelDV extends AbstractDigitoVerificador {
      * Módulo 10 utilizado no cálculo.
      * </p>
      */
-    private static final Modulo modulo10 = new Modulo(TipoDeModulo.MODULO10);
+    private static final CalculadorDeModulo modulo10 = CalculadorDeModulo.MODULO10;
 
     /**
      * <p>
-     * Expressão regular para validação do campo da linha digitável, aceita os
+     * Posição do ponto de separação nos campos formatados, aceitos nos
      * seguintes formatos:
      * </p>
      * <ul type="circle"> <li>#########</li>
@@ -92,7 +89,7 @@ public class BoletoLinhaDigitavelDV extends AbstractDigitoVerificador {
      * <li>##########</li> <li>#####.#####</li> </ul>
      *
      */
-    private static final String REGEX_CAMPO = "(\\d{9})|(\\d{10})|(\\d{5})\\.(\\d{4})|(\\d{5})\\.(\\d{5})";
+    private static final int POSICAO_PONTO = 5;
 
     /**
      * <p>
@@ -124,27 +121,51 @@ public class BoletoLinhaDigitavelDV extends AbstractDigitoVerificador {
     @Override
     public int calcule(String numero) throws IllegalArgumentException {
 
-        int dv = 0;
-        int resto = 0;
-
-        if (StringUtils.isNotBlank(numero)
-                && Pattern.matches(REGEX_CAMPO, numero)) {
-
-            numero = StringUtils.replaceChars(numero, ".", "");
+        int soma = calculeSoma(numero);
 
-            resto = modulo10.calcule(numero);
-
-            if (resto != 0) {
-                dv = modulo10.valor() - resto;
-            }
-        } else {
+        if (soma == CalculadorDeModulo.INVALIDO) {
             throw new IllegalArgumentException(
                     "O campo [ "
                     + numero
                     + " ] da linha digitável deve conter apenas números com 9 ou 10 dígitos !");
         }
 
-        return dv;
+        int resto = soma % modulo10.valor();
+
+        return resto == 0 ? 0 : modulo10.valor() - resto;
+    }
+
+    /**
+     * Soma do módulo 10 do campo, desconsiderando o ponto de separação.
+     */
+    private static int calculeSoma(String numero) {
+
+        if (numero == null) {
+            return CalculadorDeModulo.INVALIDO;
+        }
+
+        int tamanho = numero.length();
+
+        if (tamanho == 9 || tamanho == 10) {
+
+            int soma = modulo10.soma(numero);
+
+            if (soma != CalculadorDeModulo.INVALIDO) {
+                return soma;
+            }
+        }
+
+        if ((tamanho == 10 || tamanho == 11) && numero.charAt(POSICAO_PONTO) == '.') {
+
+            int direita = modulo10.soma(numero, POSICAO_PONTO + 1, tamanho, 0);
+            int esquerda = modulo10.soma(numero, 0, POSICAO_PONTO, tamanho - POSICAO_PONTO - 1);
+
+            if (direita != CalculadorDeModulo.INVALIDO && esquerda != CalculadorDeModulo.INVALIDO) {
+                return direita + esquerda;
+            }
+        }
+
+        return CalculadorDeModulo.INVALIDO;
     }
 
 }
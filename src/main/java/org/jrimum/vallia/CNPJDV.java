@@ -31,8 +31,6 @@ package org.jrimum.vallia;
 import org.apache.commons.lang3.StringUtils;
 import org.jrimum.texgit.Filler;
 
-import java.util.regex.Pattern;
-
 /**
  * <p>
  * O cálculo do dígito verificador do CNPJ é realizado em duas etapas e é
@@ -93,19 +91,18 @@ public class CNPJDV extends AbstractDigitoVerificador {
 
     /**
      * <p>
-     * Expressão regular para validação dos doze primeiros números do CNPJ sem
-     * formatação: "############".
+     * Tamanho dos doze primeiros caracteres do CNPJ sem formatação:
+     * "############".
      * </p>
      */
-    private static final String REGEX_CNPJ_DV = "[A-Z0-9]{12}";
+    private static final int TAMANHO = 12;
 
     /**
      * <p>
-     * Expressão regular para validação dos doze primeiros digitos alfanuméricos do CNPJ
-     * formatado: "##.###.###/####".
+     * Módulo 11 dos CNPJs numéricos, com pesos de 2 a 9.
      * </p>
      */
-    private static final String REGEX_CNPJ_DV_FORMATTED = "[A-Za-z0-9]{2}\\.[A-Za-z0-9]{3}\\.[A-Za-z0-9]{3}/[A-Za-z0-9]{4}";
+    private static final CalculadorDeModulo MODULO11 = CalculadorDeModulo.de(TipoDeModulo.MODULO11, LIMITE_MINIMO, LIMITE_MAXIMO);
 
     /**
      * @see br.com.nordestefomento.jrimum.vallia.digitoverificador.AbstractDigitoVerificador#calcule(long)
@@ -141,19 +138,50 @@ public class CNPJDV extends AbstractDigitoVerificador {
                     "O CNPJ esta vazio ou invalido");
         }
 
-        String base12 = numero.toUpperCase().replaceAll("[^0-9A-Z]", "");
+        char[] base12 = new char[TAMANHO + 1];
+        int tamanho = 0;
+        boolean isNumerico = true;
+
+        for (int i = 0; i < numero.length(); i++) {
+
+            char c = Character.toUpperCase(numero.charAt(i));
+
+            if ((c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')) {
+
+                if (tamanho == TAMANHO) {
+                    tamanho++;
+                    break;
+                }
 
-        if (!Pattern.matches(REGEX_CNPJ_DV, base12)) {
+                base12[tamanho++] = c;
+                isNumerico &= c <= '9';
+            }
+        }
+
+        if (tamanho != TAMANHO) {
             throw new IllegalArgumentException(
                     "O CNPJ [ "
                             + numero
                             + " ] é invalido");
         }
 
-        boolean isNumerico = base12.matches("[0-9]{12}");
+        int dv1;
+        int dv2;
+
+        if (isNumerico) {
 
-        int dv1 = calculeDigito(base12, 12, isNumerico);
-        int dv2 = calculeDigito(base12 + dv1, 13, isNumerico);
+            dv1 = dv(MODULO11.soma(base12, 0, TAMANHO, 0));
+
+            // O segundo dígito considera também o primeiro, com peso 2.
+            dv2 = dv(MODULO11.soma(base12, 0, TAMANHO, 1) + dv1 * LIMITE_MINIMO);
+
+        } else {
+
+            String base = new String(base12, 0, TAMANHO);
+
+            dv1 = calculeDigito(base, TAMANHO, false);
+            dv2 = calculeDigito(base + dv1, TAMANHO + 1, false);
+        }
 
         if (dv1 < 0 || (dv2 < 0)) {
             throw new IllegalArgumentException(
@@ -162,10 +190,14 @@ public class CNPJDV extends AbstractDigitoVerificador {
                             + " ] é invalido");
         }
 
-        return Integer.parseInt(dv1 + "" + dv2);
+        return dv1 * 10 + dv2;
 
     }
 
+    private static int dv(int soma) {
+        int resto = soma % 11;
+        return (resto < 2) ? 0 : (11 - resto);
+    }
 
     private static int calculeDigito(String cnpj, int tamanho, boolean isNumerico) {
         int soma = 0;
@@ -29,8 +29,6 @@
 
 package org.jrimum.vallia;
 
-import java.util.regex.Pattern;
-
 import org.apache.commons.lang3.StringUtils;
 import org.jrimum.texgit.Filler;
 
@@ -92,19 +90,31 @@ public class CPFDV extends AbstractDigitoVerificador {
 
 	/**
 	 * <p>
-	 * Expressão regular para validação dos nove primeiros números do CPF sem
-	 * formatação: "#########".
+	 * Tamanho dos nove primeiros números do CPF sem formatação: "#########".
+	 * </p>
+	 */
+	private static final int TAMANHO = 9;
+
+	/**
+	 * <p>
+	 * Tamanho dos nove primeiros números do CPF formatado: "###.###.###".
 	 * </p>
 	 */
-	private static final String REGEX_CPF_DV = "\\d{9}";
+	private static final int TAMANHO_FORMATADO = 11;
 
 	/**
 	 * <p>
-	 * Expressão regular para validação dos nove primeiros números do CPF
-	 * formatado: "###.###.###".
+	 * Módulo 11 do primeiro dígito, com pesos de 2 a 10.
 	 * </p>
 	 */
-	private static final String REGEX_CPF_DV_FORMATTED = "\\d{3}\\.\\d{3}\\.\\d{3}";
+	private static final CalculadorDeModulo PRIMEIRO_DV = CalculadorDeModulo.de(TipoDeModulo.MODULO11, LIMITE_MINIMO, 10);
+
+	/**
+	 * <p>
+	 * Módulo 11 do segundo dígito, com pesos de 2 a 11.
+	 * </p>
+	 */
+	private static final CalculadorDeModulo SEGUNDO_DV = CalculadorDeModulo.de(TipoDeModulo.MODULO11, LIMITE_MINIMO, 11);
 
 	/**
 	 * @see br.com.nordestefomento.jrimum.vallia.digitoverificador.AbstractDigitoVerificador#calcule(long)
@@ -125,68 +135,91 @@ public class CPFDV extends AbstractDigitoVerificador {
 
 		int dv1 = 0;
 		int dv2 = 0;
-		boolean isFormatoValido = false;
+		int soma = CalculadorDeModulo.INVALIDO;
 
-		validacao: {
+		if (StringUtils.isNotBlank(numero)) {
 
-			if (StringUtils.isNotBlank(numero)) {
+			boolean formatado = numero.length() == TAMANHO_FORMATADO
+					&& numero.charAt(3) == '.' && numero.charAt(7) == '.';
 
-				isFormatoValido = (Pattern.matches(REGEX_CPF_DV, numero) || Pattern
-						.matches(REGEX_CPF_DV_FORMATTED, numero));
+			if (formatado || numero.length() == TAMANHO) {
 
-				if (isFormatoValido) {
+				soma = soma(PRIMEIRO_DV, numero, formatado, 0);
 
-					numero = StringUtils.replaceChars(numero, ".", "");
+				if (soma != CalculadorDeModulo.INVALIDO) {
 
-					dv1 = calcule(numero, 10);
-					dv2 = calcule(numero + dv1, 11);
+					dv1 = dv(soma);
 
-					break validacao;
+					// O segundo dígito considera também o primeiro, com peso 2.
+					dv2 = dv(soma(SEGUNDO_DV, numero, formatado, 1) + dv1 * LIMITE_MINIMO);
 				}
 			}
+		}
 
+		if (soma == CalculadorDeModulo.INVALIDO) {
 			throw new IllegalArgumentException(
 					"O CPF [ "
 							+ numero
 							+ " ] deve conter apenas números, sendo eles no formato ###.###.### ou ######### !");
-
 		}
 
-		return Integer.parseInt(dv1 + "" + dv2);
+		return dv1 * 10 + dv2;
 
 	}
 
 	/**
 	 * <p>
-	 * Método auxiliar para o cálculo do dígito verificador.
-	 * </p>
-	 * <p>
-	 * Calcula os dígitos separadamente.
+	 * Soma do módulo 11 dos nove primeiros números, formatados ou não.
 	 * </p>
 	 * 
+	 * @param calculador
+	 *            - módulo 11 com o limite máximo do dígito.
 	 * @param numero
-	 *            - número a partir do qual será extraído o dígito verificador.
-	 * @param limiteMaximoDoModulo
-	 *            - limite máximo do módulo utilizado, no caso, módulo 11.
-	 * @return um número que faz parte de um dígito verificador.
-	 * @throws IllegalArgumentException
-	 *             caso o número não esteja no formatador desejável.
+	 *            - os nove primeiros números.
+	 * @param formatado
+	 *            - indica se o número está no formato ###.###.###.
+	 * @param deslocamento
+	 *            - quantidade de dígitos à direita dos nove primeiros.
+	 * @return soma ou {@link CalculadorDeModulo#INVALIDO}.
 	 * @since 0.2
 	 */
-	private int calcule(String numero, int limiteMaximoDoModulo)
-			throws IllegalArgumentException {
+	private static int soma(CalculadorDeModulo calculador, String numero, boolean formatado, int deslocamento) {
 
-		int dv = 0;
-		int resto = 0;
+		if (!formatado) {
+			return calculador.soma(numero, 0, TAMANHO, deslocamento);
+		}
+
+		int soma = 0;
+
+		for (int bloco = 2; bloco >= 0; bloco--) {
+
+			int parcial = calculador.soma(numero, bloco * 4, bloco * 4 + 3, deslocamento);
+
+			if (parcial == CalculadorDeModulo.INVALIDO) {
+				return CalculadorDeModulo.INVALIDO;
+			}
+
+			soma += parcial;
+			deslocamento += 3;
+		}
+
+		return soma;
+	}
+
+	/**
+	 * <p>
+	 * Dígito a partir da soma: zero para os restos 0 e 1, senão 11 - resto.
+	 * </p>
+	 */
+	private static int dv(int soma) {
 
-		resto = Modulo
-				.calculeMod11(numero, LIMITE_MINIMO, limiteMaximoDoModulo);
+		int resto = soma % TipoDeModulo.MODULO11.valor();
 
 		if (resto >= 2) {
 
-			dv = TipoDeModulo.MODULO11.valor() - resto;
+			return TipoDeModulo.MODULO11.valor() - resto;
 		}
 
-		return dv;
+		return 0;
 	}
 }
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.vallia;
+
+import java.util.Arrays;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Cálculo tabelado da soma ponderada dos módulos 10 e 11, sobre intervalos de
+ * {@link CharSequence}, {@code char[]} ou {@code byte[]} (ex: linhas CNAB em
+ * ASCII), sem criação de objetos.
+ * </p>
+ *
+ * <p>
+ * Os pesos são aplicados da direita para a esquerda como em
+ * {@link Modulo#calculeSomaSequencialMod11(String, int, int)} (do limite
+ * mínimo ao máximo, ciclicamente) e
+ * {@link Modulo#calculeSomaSequencialMod10(String, int, int)} (alternando o
+ * limite máximo e o mínimo, somando os algarismos dos produtos maiores que
+ * 9). Na criação, a contribuição de cada dígito em cada peso do ciclo é
+ * calculada uma única vez, de forma que a soma se reduz a uma consulta à
+ * tabela por dígito.
+ * </p>
+ *
+ * <p>
+ * Os métodos de soma retornam um valor negativo quando o intervalo é vazio
+ * ou contém algo diferente de '0' a '9', deixando a mensagem de erro a cargo
+ * de quem chama. Instâncias são imutáveis e podem ser compartilhadas entre
+ * threads; as mais comuns são obtidas por
+ * {@linkplain #de(TipoDeModulo, int, int)}.
+ * </p>
+ *
+ * @since 0.2
+ */
+public final class CalculadorDeModulo {
+
+    /**
+     * Valor retornado pelas somas quando o intervalo é inválido.
+     */
+    public static final int INVALIDO = -1;
+
+    /**
+     * Limite (exclusivo) dos pesos das instâncias guardadas por
+     * {@linkplain #de(TipoDeModulo, int, int)}.
+     */
+    private static final int LIMITE_CACHE = 16;
+
+    /**
+     * Instâncias já criadas, por tipo e limites. Como as instâncias são
+     * imutáveis, uma eventual criação em duplicidade entre threads é inócua.
+     */
+    private static final CalculadorDeModulo[] CACHE = new CalculadorDeModulo[2 * LIMITE_CACHE * LIMITE_CACHE];
+
+    /**
+     * Módulo 10 com os pesos padrões 2 e 1.
+     */
+    public static final CalculadorDeModulo MODULO10 = de(TipoDeModulo.MODULO10, 1, 2);
+
+    /**
+     * Módulo 11 com os pesos padrões 2 a 9.
+     */
+    public static final CalculadorDeModulo MODULO11 = de(TipoDeModulo.MODULO11, 2, 9);
+
+    private final TipoDeModulo tipo;
+
+    private final int limiteMinimo;
+
+    private final int limiteMaximo;
+
+    /**
+     * Quantidade de pesos do ciclo.
+     */
+    private final int ciclo;
+
+    /**
+     * Contribuição do dígito {@code d} no peso {@code k} do ciclo (contado da
+     * direita), na posição {@code k * 10 + d}.
+     */
+    private final int[] tabela;
+
+    private CalculadorDeModulo(TipoDeModulo tipo, int limiteMinimo, int limiteMaximo) {
+
+        this.tipo = tipo;
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+
+        int[] pesos;
+
+        if (tipo == TipoDeModulo.MODULO10) {
+            pesos = new int[] { limiteMaximo, limiteMinimo };
+        } else {
+            pesos = new int[Math.max(limiteMaximo - limiteMinimo + 1, 1)];
+            for (int k = 0; k < pesos.length; k++) {
+                pesos[k] = limiteMinimo + k;
+            }
+        }
+
+        this.ciclo = pesos.length;
+        this.tabela = new int[ciclo * 10];
+
+        for (int k = 0; k < ciclo; k++) {
+            for (int d = 0; d < 10; d++) {
+                int produto = pesos[k] * d;
+                if (tipo == TipoDeModulo.MODULO10 && produto > 9) {
+                    produto = produto / 10 + produto % 10;
+                }
+                tabela[k * 10 + d] = produto;
+            }
+        }
+    }
+
+    /**
+     * Obtém o calculador do módulo com os limites informados, reaproveitando
+     * as instâncias de limites pequenos.
+     *
+     * @param tipo Tipo do módulo
+     * @param limiteMinimo Peso mínimo
+     * @param limiteMaximo Peso máximo
+     * @return Calculador
+     */
+    public static CalculadorDeModulo de(TipoDeModulo tipo, int limiteMinimo, int limiteMaximo) {
+
+        Objects.checkNotNull(tipo, "Tipo de módulo nulo!");
+
+        if (limiteMinimo < 0 || limiteMinimo >= LIMITE_CACHE || limiteMaximo < 0 || limiteMaximo >= LIMITE_CACHE) {
+            return new CalculadorDeModulo(tipo, limiteMinimo, limiteMaximo);
+        }
+
+        int indice = ((tipo == TipoDeModulo.MODULO10 ? 0 : 1) * LIMITE_CACHE + limiteMinimo) * LIMITE_CACHE + limiteMaximo;
+
+        CalculadorDeModulo calculador = CACHE[indice];
+
+        if (calculador == null) {
+            calculador = new CalculadorDeModulo(tipo, limiteMinimo, limiteMaximo);
+            CACHE[indice] = calculador;
+        }
+
+        return calculador;
+    }
+
+    /**
+     * @param numero Número
+     * @return Soma ponderada de todos os dígitos ou {@link #INVALIDO}
+     */
+    public int soma(CharSequence numero) {
+        return numero == null ? INVALIDO : soma(numero, 0, numero.length(), 0);
+    }
+
+    /**
+     * @param numero Número
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim Posição final (exclusiva)
+     * @return Soma ponderada dos dígitos do intervalo ou {@link #INVALIDO}
+     */
+    public int soma(CharSequence numero, int inicio, int fim) {
+        return soma(numero, inicio, fim, 0);
+    }
+
+    /**
+     * Soma ponderada de um intervalo que não termina no último dígito do
+     * número, ex: as posições antes de um dígito verificador no meio do
+     * número.
+     *
+     * @param numero Número
+     * @param inicio Posição inicial (inclusiva)
+     * @param fim Posição final (exclusiva)
+     * @param deslocamento Quantidade de dígitos já ponderados à direita do
+     * intervalo
+     * @return Soma ponderada dos dígitos do intervalo ou {@link #INVALIDO}
+     */
+    public int soma(CharSequence numero, int inicio, int fim, int deslocamento) {
+
+        if (fim <= inicio) {
+            return INVALIDO;
+        }
+
+        int soma = 0;
+        int k = deslocamento % ciclo;
+
+        for (int i = fim - 1; i >= inicio; i--) {
+            int d = numero.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return INVALIDO;
+            }
+            soma += tabela[k * 10 + d];
+            if (++k == ciclo) {
+                k = 0;
+            }
+        }
+
+        return soma;
+    }
+
+    /**
+     * @see #soma(CharSequence, int, int, int)
+     */
+    public int soma(char[] numero, int inicio, int fim, int deslocamento) {
+
+        if (fim <= inicio) {
+            return INVALIDO;
+        }
+
+        int soma = 0;
+        int k = deslocamento % ciclo;
+
+        for (int i = fim - 1; i >= inicio; i--) {
+            int d = numero[i] - '0';
+            if (d < 0 || d > 9) {
+                return INVALIDO;
+            }
+            soma += tabela[k * 10 + d];
+            if (++k == ciclo) {
+                k = 0;
+            }
+        }
+
+        return soma;
+    }
+
+    /**
+     * Soma sobre bytes em ASCII, ex: um trecho de uma linha CNAB.
+     *
+     * @see #soma(CharSequence, int, int, int)
+     */
+    public int soma(byte[] numero, int inicio, int fim, int deslocamento) {
+
+        if (fim <= inicio) {
+            return INVALIDO;
+        }
+
+        int soma = 0;
+        int k = deslocamento % ciclo;
+
+        for (int i = fim - 1; i >= inicio; i--) {
+            int d = numero[i] - '0';
+            if (d < 0 || d > 9) {
+                return INVALIDO;
+            }
+            soma += tabela[k * 10 + d];
+            if (++k == ciclo) {
+                k = 0;
+            }
+        }
+
+        return soma;
+    }
+
+    /**
+     * Calcula, em lote, a soma ponderada de um mesmo intervalo em vários
+     * registros de tamanho fixo armazenados em sequência em um único
+     * {@code byte[]} (ex: códigos de barras ou linhas CNAB lidos de um
+     * arquivo).
+     *
+     * <p>
+     * O laço percorre o intervalo uma vez por peso do ciclo, somando em todos
+     * os registros as posições que recebem aquele peso. Assim o peso (e a
+     * linha da tabela) é constante no laço interno, sem desvios por dígito,
+     * e um dígito inválido apenas marca o registro.
+     * </p>
+     *
+     * @param registros Registros em sequência
+     * @param tamanho Tamanho de cada registro
+     * @param quantidade Quantidade de registros
+     * @param inicio Posição inicial do intervalo no registro (inclusiva)
+     * @param fim Posição final do intervalo no registro (exclusiva)
+     * @param deslocamento Quantidade de dígitos já ponderados à direita do
+     * intervalo
+     * @param somas Destino, com pelo menos {@code quantidade} posições, da
+     * soma de cada registro ou de {@link #INVALIDO}
+     */
+    public void somas(byte[] registros, int tamanho, int quantidade, int inicio, int fim, int deslocamento, int[] somas) {
+
+        Objects.checkNotNull(registros, "Registros nulos!");
+        Objects.checkNotNull(somas, "Destino nulo!");
+        Objects.checkArgument(inicio >= 0 && inicio < fim && fim <= tamanho, "Intervalo inválido!");
+        Objects.checkArgument(quantidade >= 0 && (long) tamanho * quantidade <= registros.length && somas.length >= quantidade, "Quantidade de registros inválida!");
+
+        Arrays.fill(somas, 0, quantidade, 0);
+
+        for (int k = 0; k < ciclo; k++) {
+
+            int linha = ((k + deslocamento) % ciclo) * 10;
+
+            for (int i = fim - 1 - k; i >= inicio; i -= ciclo) {
+                for (int r = 0, p = i; r < quantidade; r++, p += tamanho) {
+                    int d = registros[p] - '0';
+                    if (d < 0 || d > 9) {
+                        somas[r] = Integer.MIN_VALUE;
+                    } else {
+                        somas[r] += tabela[linha + d];
+                    }
+                }
+            }
+        }
+
+        for (int r = 0; r < quantidade; r++) {
+            if (somas[r] < 0) {
+                somas[r] = INVALIDO;
+            }
+        }
+    }
+
+    /**
+     * @return Valor do módulo (10 ou 11)
+     */
+    public int valor() {
+        return tipo.valor();
+    }
+
+    public TipoDeModulo getTipo() {
+        return tipo;
+    }
+
+    public int getLimiteMinimo() {
+        return limiteMinimo;
+    }
+
+    public int getLimiteMaximo() {
+        return limiteMaximo;
+    }
+}
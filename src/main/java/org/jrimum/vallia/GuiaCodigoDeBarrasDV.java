@@ -29,9 +29,6 @@
 
 package org.jrimum.vallia;
 
-import org.apache.commons.lang3.StringUtils;
-
-
 public class GuiaCodigoDeBarrasDV extends AbstractDigitoVerificador {
 
 	private static final long serialVersionUID = -560089440368821000L;
@@ -62,11 +59,16 @@ public class GuiaCodigoDeBarrasDV extends AbstractDigitoVerificador {
 		int dv = 0;
 		int resto = 0;
 
-		if (StringUtils.isNotBlank(numero) && StringUtils.isNumeric(numero)
-				&& (numero.length() == TAMANHO_SEM_DV)) {
+		int soma = CalculadorDeModulo.INVALIDO;
+
+		if (numero != null && numero.length() == TAMANHO_SEM_DV) {
+			soma = modulo.calculador().soma(numero);
+		}
+
+		if (soma != CalculadorDeModulo.INVALIDO) {
 
 			// Realizando o cálculo do dígito verificador.
-			resto = modulo.calcule(numero);
+			resto = soma % modulo.valor();
 			
 			if (modulo.getMod() == TipoDeModulo.MODULO11) {
 				// Seguindo as especificações da FEBRABAN, caso o resto seja
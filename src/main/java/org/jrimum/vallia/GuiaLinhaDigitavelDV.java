@@ -31,9 +31,6 @@ package org.jrimum.vallia;
 
 import java.io.Serializable;
 
-import org.apache.commons.lang3.StringUtils;
-
-
 public class GuiaLinhaDigitavelDV extends AbstractDigitoVerificador implements Serializable {
 
 	private static final long serialVersionUID = -1093744246886652909L;
@@ -67,13 +64,16 @@ public class GuiaLinhaDigitavelDV extends AbstractDigitoVerificador implements S
 		int dv = 0;
 		int resto = 0;
 
-		if (
-			 StringUtils.isNotBlank(numeroStr)
-			 && StringUtils.isNumeric(numeroStr)
-			 && (numeroStr.length() == 11)
-		   ) {
+		int soma = CalculadorDeModulo.INVALIDO;
+
+		if (numeroStr != null && numeroStr.length() == 11) {
+			soma = modulo.calculador().soma(numeroStr);
+		}
+
+		if (soma != CalculadorDeModulo.INVALIDO) {
 
-			resto = modulo.calcule(numeroStr);
+			// Realizando o cálculo do dígito verificador.
+			resto = soma % modulo.valor();
 			
 			
 			if (modulo.getMod() == TipoDeModulo.MODULO11) {
@@ -32,8 +32,6 @@ package org.jrimum.vallia;
 import static org.jrimum.vallia.TipoDeModulo.MODULO10;
 import static org.jrimum.vallia.TipoDeModulo.MODULO11;
 
-import org.apache.commons.lang3.StringUtils;
-
 import org.jrimum.utilix.ObjectUtil;
 import static org.jrimum.utilix.ObjectUtil.isNotNull;
 
@@ -235,31 +233,7 @@ public class Modulo {
     public static int calculeSomaSequencialMod11(String numero, int limiteMin,
             int limiteMax) throws IllegalArgumentException {
 
-        int peso = 0;
-        int soma = 0;
-
-        if (StringUtils.isNotBlank(numero) && StringUtils.isNumeric(numero)) {
-
-            StringBuilder sb = new StringBuilder(numero);
-            sb.reverse();
-
-            peso = limiteMin;
-
-            for (char c : sb.toString().toCharArray()) {
-                soma += peso * Character.getNumericValue(c);
-                peso++;
-
-                if (peso > limiteMax) {
-                    peso = limiteMin;
-                }
-            }
-
-        } else {
-            throw new IllegalArgumentException(
-                    O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
-        }
-
-        return soma;
+        return checkSoma(CalculadorDeModulo.de(MODULO11, limiteMin, limiteMax).soma(numero));
     }
 
     /**
@@ -354,33 +328,12 @@ public class Modulo {
     public static int calculeSomaSequencialMod10(String numero, int limiteMin,
             int limiteMax) throws IllegalArgumentException {
 
-        int produto = 0;
-        int peso = 0;
-        int soma = 0;
-
-        if (StringUtils.isNotBlank(numero) && StringUtils.isNumeric(numero)) {
-
-            StringBuilder sb = new StringBuilder(numero);
-            sb.reverse();
-
-            peso = limiteMax;
-
-            for (char c : sb.toString().toCharArray()) {
-
-                produto = peso * Character.getNumericValue(c);
-
-                if (produto > 9) {
-
-                    soma += produto / 10;
-                    soma += produto % 10;
-                } else {
-                    soma += produto;
-                }
+        return checkSoma(CalculadorDeModulo.de(MODULO10, limiteMin, limiteMax).soma(numero));
+    }
 
-                peso = (peso == limiteMax) ? limiteMin : limiteMax;
-            }
+    private static int checkSoma(int soma) {
 
-        } else {
+        if (soma == CalculadorDeModulo.INVALIDO) {
             throw new IllegalArgumentException(
                     O_ARGUMENTO_DEVE_CONTER_APENAS_NUMEROS);
         }
@@ -388,6 +341,21 @@ public class Modulo {
         return soma;
     }
 
+    /**
+     * <p>
+     * Retorna o calculador tabelado correspondente ao tipo e aos limites
+     * atuais do módulo.
+     * </p>
+     *
+     * @return calculador do módulo
+     *
+     * @since 0.2
+     */
+    public CalculadorDeModulo calculador() {
+
+        return CalculadorDeModulo.de(mod, getLimiteMinimo(), getLimiteMaximo());
+    }
+
     /**
      * <p>
      * Executa o cáculo do módulo da instância.
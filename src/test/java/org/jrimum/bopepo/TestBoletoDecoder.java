@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Teste unitário de {@link BoletoDecoder}.
+ */
+public class TestBoletoDecoder {
+
+	private static final String CODIGO = "23792100000000100231234051234567890100067890";
+
+	private static final String LINHA = "23791.23405 51234.567892 01000.678902 2 10000000010023";
+
+	private static final String LINHA_NUMERICA = "23791234055123456789201000678902210000000010023";
+
+	@Test
+	public void seDecodificaOsTresFormatos() {
+
+		BoletoDecoder.Resultado resultado = BoletoDecoder.decode(new CharSequence[] { CODIGO, " " + LINHA + " ", LINHA_NUMERICA });
+
+		assertEquals(3, resultado.getQuantidadeDeValidos());
+		assertEquals(BoletoDecoder.TIPO_CODIGO_DE_BARRAS, resultado.getTipo(0));
+		assertEquals(BoletoDecoder.TIPO_LINHA_FORMATADA, resultado.getTipo(1));
+		assertEquals(BoletoDecoder.TIPO_LINHA_NUMERICA, resultado.getTipo(2));
+
+		for (int i = 0; i < resultado.size(); i++) {
+			assertEquals(237, resultado.getBanco(i));
+			assertEquals(9, resultado.getMoeda(i));
+			assertEquals(1000, resultado.getFator(i));
+			assertEquals(10023L, resultado.getValorEmCentavos(i));
+			assertEquals("1234051234567890100067890", resultado.getCampoLivre(i));
+		}
+	}
+
+	@Test
+	public void seIdentificaOErroDeCadaEntrada() {
+
+		BoletoDecoder.Resultado resultado = BoletoDecoder.decode(new CharSequence[] {
+				null,
+				"   ",
+				"23791-23405 51234.567892 01000.678902 2 10000000010023",
+				"23791.23406 51234.567892 01000.678902 2 10000000010023",
+				"23791.23405 51234.567893 01000.678902 2 10000000010023",
+				"23791.23405 51234.567892 01000.678903 2 10000000010023",
+				"23791.23405 51234.567892 01000.678902 3 10000000010023",
+				CODIGO.substring(1) });
+
+		byte[] esperados = { BoletoDecoder.ERRO_VAZIO, BoletoDecoder.ERRO_VAZIO, BoletoDecoder.ERRO_FORMATO,
+				BoletoDecoder.ERRO_DV_CAMPO1, BoletoDecoder.ERRO_DV_CAMPO2, BoletoDecoder.ERRO_DV_CAMPO3,
+				BoletoDecoder.ERRO_DV_GERAL, BoletoDecoder.ERRO_FORMATO };
+
+		for (int i = 0; i < esperados.length; i++) {
+			assertEquals("entrada " + i, esperados[i], resultado.getErro(i));
+			assertFalse(resultado.isValido(i));
+		}
+	}
+
+	@Test
+	public void seDecodificacaoParalelaIgualASequencial() {
+
+		CharSequence[] entradas = new CharSequence[BoletoDecoder.LIMITE_TAREFA * 3 + 7];
+		char[] codigo = new char[CodigoDeBarrasCodec.TAMANHO_CODIGO_DE_BARRAS];
+
+		for (int i = 0; i < entradas.length; i++) {
+			CodigoDeBarrasCodec.codigoDeBarras(codigo, i % 1000, 9, i % 10000, i * 37L, "1234051234567890100067890");
+			entradas[i] = i % 2 == 0 ? new String(codigo) : CodigoDeBarrasCodec.linhaDigitavel(new String(codigo));
+		}
+		entradas[5] = "invalido";
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			BoletoDecoder.Resultado paralelo = BoletoDecoder.decodeParallel(entradas, pool);
+			BoletoDecoder.Resultado sequencial = BoletoDecoder.decode(Arrays.asList(entradas));
+
+			assertEquals(entradas.length - 1, paralelo.getQuantidadeDeValidos());
+
+			for (int i = 0; i < entradas.length; i++) {
+				assertEquals(sequencial.getErro(i), paralelo.getErro(i));
+				assertEquals(sequencial.getBanco(i), paralelo.getBanco(i));
+				assertEquals(sequencial.getValorEmCentavos(i), paralelo.getValorEmCentavos(i));
+			}
+
+			assertTrue(Arrays.equals(sequencial.getCamposLivres(), paralelo.getCamposLivres()));
+
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
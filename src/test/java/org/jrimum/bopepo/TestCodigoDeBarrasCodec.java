@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.jrimum.vallia.BoletoCodigoDeBarrasDV;
+import org.junit.Test;
+
+/**
+ * Teste unitário de {@link CodigoDeBarrasCodec}.
+ */
+public class TestCodigoDeBarrasCodec {
+
+	private static final String CAMPO_LIVRE = "1234051234567890100067890";
+
+	private static final String CODIGO = "23792100000000100231234051234567890100067890";
+
+	private static final String LINHA = "23791.23405 51234.567892 01000.678902 2 10000000010023";
+
+	@Test
+	public void seCompoeCodigoDeBarrasComDigitoVerificador() {
+
+		char[] destino = new char[CodigoDeBarrasCodec.TAMANHO_CODIGO_DE_BARRAS];
+
+		CodigoDeBarrasCodec.codigoDeBarras(destino, 237, 9, 1000, 10023L, CAMPO_LIVRE);
+
+		assertEquals(CODIGO, new String(destino));
+	}
+
+	@Test
+	public void seDigitoVerificadorIgualAoDoCalculador() {
+
+		char[] destino = new char[CodigoDeBarrasCodec.TAMANHO_CODIGO_DE_BARRAS];
+		BoletoCodigoDeBarrasDV calculador = new BoletoCodigoDeBarrasDV();
+
+		for (int fator = 0; fator < 10000; fator += 37) {
+			CodigoDeBarrasCodec.codigoDeBarras(destino, 1, 9, fator, fator * 1234L, CAMPO_LIVRE);
+			String codigo = new String(destino);
+			int esperado = calculador.calcule(codigo.substring(0, 4) + codigo.substring(5));
+			assertEquals(esperado, codigo.charAt(4) - '0');
+			assertEquals(esperado, CodigoDeBarrasCodec.digitoVerificador(codigo));
+		}
+	}
+
+	@Test
+	public void seCompoeLinhaDigitavel() {
+
+		assertEquals(LINHA, CodigoDeBarrasCodec.linhaDigitavel(CODIGO));
+	}
+
+	@Test
+	public void seLinhaDigitavelIgualAoBoletoUtil() {
+
+		String numerica = BoletoUtil.codigoDeBarrasEmLinhaDigitavelNumerica(CODIGO);
+
+		assertEquals(numerica, CodigoDeBarrasCodec.linhaDigitavel(CODIGO).replace(".", "").replace(" ", ""));
+	}
+
+	@Test
+	public void seReaproveitaDestinoDaLinhaDigitavel() {
+
+		StringBuilder destino = new StringBuilder();
+
+		CodigoDeBarrasCodec.linhaDigitavel(CODIGO, destino);
+		destino.setLength(0);
+		CodigoDeBarrasCodec.linhaDigitavel(CODIGO, destino);
+
+		assertEquals(LINHA, destino.toString());
+	}
+
+	@Test
+	public void seCentavosTruncaCasasDecimais() {
+
+		assertEquals(10023L, CodigoDeBarrasCodec.centavos(new BigDecimal("100.239")));
+		assertEquals(10000L, CodigoDeBarrasCodec.centavos(new BigDecimal("100")));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteValorComMaisDeDezDigitos() {
+
+		CodigoDeBarrasCodec.codigoDeBarras(new char[44], 237, 9, 1000, 10000000000L, CAMPO_LIVRE);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteCampoLivreComLetras() {
+
+		CodigoDeBarrasCodec.codigoDeBarras(new char[44], 237, 9, 1000, 10023L, "12340512345678901000678AB");
+	}
+}
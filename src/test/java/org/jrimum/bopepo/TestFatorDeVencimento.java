@@ -30,6 +30,7 @@ package org.jrimum.bopepo;
 
 import static org.junit.Assert.assertEquals;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -104,4 +105,36 @@ public class TestFatorDeVencimento {
 		date = DateUtils.truncate(data.getTime() ,Calendar.DATE);
 		assertEquals(date, FatorDeVencimento.toDate(9999));
 	}
+
+	@Test
+	public final void testToFatorComAnoMesDiaELocalDate() {
+
+		assertEquals(1000, FatorDeVencimento.toFator(2000, 7, 3));
+		assertEquals(1667, FatorDeVencimento.toFator(2002, 5, 1));
+		assertEquals(9999, FatorDeVencimento.toFatorDaData(LocalDate.of(2025, 2, 21)));
+		assertEquals(1000, FatorDeVencimento.toFatorDaData(LocalDate.of(2025, 2, 22)));
+		assertEquals(10000, FatorDeVencimento.toFatorReal(2025, 2, 22));
+		assertEquals(FatorDeVencimento.FATOR_REAL_LIMITE, FatorDeVencimento.toFatorReal(2200, 2, 21));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testToFatorComDataInexistente() {
+
+		FatorDeVencimento.toFator(2025, 2, 29);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testToFatorComAnoMaiorQueAnoLimite() {
+
+		FatorDeVencimento.toFator(2201, 1, 1);
+	}
+
+	@Test
+	public final void testToLocalDateEToAnoMesDia() {
+
+		assertEquals(LocalDate.of(1997, 10, 7), FatorDeVencimento.toLocalDate(0));
+		assertEquals(LocalDate.of(2025, 2, 21), FatorDeVencimento.toLocalDate(9999));
+		assertEquals(20000705, FatorDeVencimento.toAnoMesDia(1002));
+		assertEquals(22000220, FatorDeVencimento.toAnoMesDia(FatorDeVencimento.FATOR_REAL_LIMITE - 1));
+	}
 }
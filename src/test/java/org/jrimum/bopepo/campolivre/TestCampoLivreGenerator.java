@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.campolivre;
+
+import static org.jrimum.bopepo.parametro.ParametroBancoSicredi.POSTO_DA_AGENCIA;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.banco.Agencia;
+import org.jrimum.domkee.banco.Carteira;
+import org.jrimum.domkee.banco.Cedente;
+import org.jrimum.domkee.banco.ContaBancaria;
+import org.jrimum.domkee.banco.NumeroDaConta;
+import org.jrimum.domkee.banco.ParametrosBancariosMap;
+import org.jrimum.domkee.banco.Sacado;
+import org.jrimum.domkee.banco.TipoDeCobranca;
+import org.jrimum.domkee.banco.Titulo;
+import org.junit.Test;
+
+/**
+ * Teste unitário de {@link CampoLivreGenerator}.
+ */
+public class TestCampoLivreGenerator {
+
+	@Test
+	public void seGeraIgualAoCaminhoComumBradesco() {
+
+		ContaBancaria conta = new ContaBancaria(BancosSuportados.BANCO_BRADESCO.create());
+		conta.setAgencia(new Agencia(1234, "1"));
+		conta.setNumeroDaConta(new NumeroDaConta(6789));
+		conta.setCarteira(new Carteira(5));
+
+		Titulo titulo = titulo(conta);
+		titulo.setNossoNumero("12345678901");
+
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(titulo);
+
+		assertEquals("1234051234567890100067890", gerador.generate(titulo).write());
+
+		for (String nossoNumero : new String[] { "00000000000", "98765432109", "10000000001" }) {
+			assertGeraIgualAoCaminhoComum(gerador, titulo(conta, nossoNumero));
+		}
+	}
+
+	@Test
+	public void seGeraIgualAoCaminhoComumComDigitosVerificadores() {
+
+		ContaBancaria caixa = new ContaBancaria(BancosSuportados.CAIXA_ECONOMICA_FEDERAL.create());
+		caixa.setNumeroDaConta(new NumeroDaConta(5507, "7"));
+		caixa.setCarteira(new Carteira(24, TipoDeCobranca.COM_REGISTRO));
+
+		CampoLivreGenerator sigcb = CampoLivreFactory.createGenerator(titulo(caixa, "000000000000019"));
+
+		assertEquals("0055077000100040000000190", sigcb.generate(titulo(caixa, "000000000000019")).write());
+
+		ContaBancaria banrisul = new ContaBancaria(BancosSuportados.BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL.create());
+		banrisul.setAgencia(new Agencia(1102));
+		banrisul.setNumeroDaConta(new NumeroDaConta(9000150));
+		banrisul.setCarteira(new Carteira(1, TipoDeCobranca.SEM_REGISTRO));
+
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(titulo(banrisul, "22832563"));
+
+		for (int i = 0; i < 200; i++) {
+			String nossoNumero = String.format("%015d", i * 7919L * 104729L);
+			assertGeraIgualAoCaminhoComum(sigcb, titulo(caixa, nossoNumero));
+			assertGeraIgualAoCaminhoComum(gerador, titulo(banrisul, nossoNumero.substring(7)));
+		}
+	}
+
+	@Test
+	public void seGeraIgualAoCaminhoComumComParametrosBancarios() {
+
+		ContaBancaria conta = new ContaBancaria(BancosSuportados.BANCO_SICREDI.create());
+		conta.setAgencia(new Agencia(165));
+		conta.setCarteira(new Carteira(1, TipoDeCobranca.SEM_REGISTRO));
+		conta.setNumeroDaConta(new NumeroDaConta(623));
+
+		Titulo titulo = sicredi(conta, "07200003", 2, "150.35");
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(titulo);
+
+		assertEquals("3107200003101650200623101", gerador.generate(titulo).write());
+
+		assertGeraIgualAoCaminhoComum(gerador, sicredi(conta, "12345678", 99, "0"));
+		assertGeraIgualAoCaminhoComum(gerador, sicredi(conta, "00000001", 0, "1.00"));
+	}
+
+	@Test
+	public void seEscreveNoDestinoAPartirDaPosicaoInicial() {
+
+		ContaBancaria conta = new ContaBancaria(BancosSuportados.BANCO_BRADESCO.create());
+		conta.setAgencia(new Agencia(1234, "1"));
+		conta.setNumeroDaConta(new NumeroDaConta(6789));
+		conta.setCarteira(new Carteira(5));
+
+		Titulo titulo = titulo(conta, "12345678901");
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(titulo);
+
+		char[] destino = new char[44];
+		Arrays.fill(destino, '#');
+
+		gerador.generate(titulo, destino, 19);
+
+		assertEquals("###################1234051234567890100067890", new String(destino));
+	}
+
+	@Test
+	public void seTituloDeOutraContaUsaOCaminhoComum() {
+
+		ContaBancaria conta = new ContaBancaria(BancosSuportados.BANCO_BRADESCO.create());
+		conta.setAgencia(new Agencia(1234, "1"));
+		conta.setNumeroDaConta(new NumeroDaConta(6789));
+		conta.setCarteira(new Carteira(5));
+
+		ContaBancaria outra = new ContaBancaria(BancosSuportados.BANCO_BRADESCO.create());
+		outra.setAgencia(new Agencia(4321, "1"));
+		outra.setNumeroDaConta(new NumeroDaConta(9876));
+		outra.setCarteira(new Carteira(6));
+
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(titulo(conta, "12345678901"));
+		Titulo titulo = titulo(outra, "12345678901");
+
+		assertTrue(gerador.escreva(titulo(conta, "12345678901"), new char[25], 0));
+		assertFalse(gerador.escreva(titulo, new char[25], 0));
+		assertEquals("4321061234567890100098760", gerador.generate(titulo).write());
+	}
+
+	@Test
+	public void seLancaAsMesmasExcecoesDoCaminhoComum() {
+
+		ContaBancaria conta = new ContaBancaria(BancosSuportados.BANCO_BRADESCO.create());
+		conta.setAgencia(new Agencia(1234, "1"));
+		conta.setNumeroDaConta(new NumeroDaConta(6789));
+		conta.setCarteira(new Carteira(5));
+
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(titulo(conta, "12345678901"));
+
+		for (String nossoNumero : new String[] { null, "1234567890", "123456789012", "1234567890A" }) {
+			assertGeraIgualAoCaminhoComum(gerador, titulo(conta, nossoNumero));
+		}
+	}
+
+	private static void assertGeraIgualAoCaminhoComum(CampoLivreGenerator gerador, Titulo titulo) {
+
+		assertEquals(gere(null, titulo), gere(gerador, titulo));
+	}
+
+	private static String gere(CampoLivreGenerator gerador, Titulo titulo) {
+
+		try {
+			CampoLivre campoLivre = gerador == null ? CampoLivreFactory.create(titulo) : gerador.generate(titulo);
+			return campoLivre.write();
+		} catch (RuntimeException e) {
+			return e.getClass().getName() + ": " + e.getMessage();
+		}
+	}
+
+	private static Titulo sicredi(ContaBancaria conta, String nossoNumero, int posto, String valor) {
+
+		Titulo titulo = titulo(conta, nossoNumero);
+		titulo.setDigitoDoNossoNumero("1");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(POSTO_DA_AGENCIA, posto));
+		titulo.setValor(new BigDecimal(valor));
+
+		return titulo;
+	}
+
+	private static Titulo titulo(ContaBancaria conta, String nossoNumero) {
+
+		Titulo titulo = titulo(conta);
+		titulo.setNossoNumero(nossoNumero);
+
+		return titulo;
+	}
+
+	private static Titulo titulo(ContaBancaria conta) {
+
+		return new Titulo(conta, new Sacado("S"), new Cedente("C"));
+	}
+}
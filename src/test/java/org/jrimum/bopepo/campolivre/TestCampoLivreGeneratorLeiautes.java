@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.campolivre;
+
+import static org.jrimum.bopepo.BancosSuportados.BANCOOB;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_ABN_AMRO_REAL;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_BRADESCO;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_DAYCOVAL;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_DE_BRASILIA;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_DO_BRASIL;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_DO_ESTADO_DO_ESPIRITO_SANTO;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_DO_NORDESTE_DO_BRASIL;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_INTEMEDIUM;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_ITAU;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_RURAL;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_SAFRA;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_SANTANDER;
+import static org.jrimum.bopepo.BancosSuportados.BANCO_SICREDI;
+import static org.jrimum.bopepo.BancosSuportados.CAIXA_ECONOMICA_FEDERAL;
+import static org.jrimum.bopepo.BancosSuportados.CECRED;
+import static org.jrimum.bopepo.BancosSuportados.HSBC;
+import static org.jrimum.bopepo.BancosSuportados.MERCANTIL_DO_BRASIL;
+import static org.jrimum.bopepo.BancosSuportados.UNIBANCO;
+import static org.jrimum.bopepo.BancosSuportados.UNICRED;
+import static org.jrimum.bopepo.parametro.ParametroBancoRural.CODIGO_REDUZIDO;
+import static org.jrimum.bopepo.parametro.ParametroBancoRural.VALOR_IOS;
+import static org.jrimum.bopepo.parametro.ParametroBancoSicredi.POSTO_DA_AGENCIA;
+import static org.jrimum.bopepo.parametro.ParametroBancoob.MODALIDADE_DE_COBRANCA;
+import static org.jrimum.bopepo.parametro.ParametroBancoob.NUMERO_DA_PARCELA;
+import static org.jrimum.bopepo.parametro.ParametroCECRED.CODIGO_DO_CONVENIO;
+import static org.jrimum.bopepo.parametro.ParametroCaixaEconomicaFederal.CODIGO_OPERACAO;
+import static org.jrimum.bopepo.parametro.ParametroHSBC.IDENTIFICADOR_CNR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.bopepo.parametro.ParametroBancoDaycoval;
+import org.jrimum.domkee.banco.Agencia;
+import org.jrimum.domkee.banco.Carteira;
+import org.jrimum.domkee.banco.Cedente;
+import org.jrimum.domkee.banco.ContaBancaria;
+import org.jrimum.domkee.banco.NumeroDaConta;
+import org.jrimum.domkee.banco.ParametroBancario;
+import org.jrimum.domkee.banco.ParametrosBancariosMap;
+import org.jrimum.domkee.banco.Sacado;
+import org.jrimum.domkee.banco.TipoDeCobranca;
+import org.jrimum.domkee.banco.TipoIdentificadorCNR;
+import org.jrimum.domkee.banco.Titulo;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Teste unitário de {@link CampoLivreGenerator}: para cada leiaute escrito
+ * pelo gerador, compara o campo livre (ou a exceção) de títulos variados com o
+ * de {@linkplain AbstractCampoLivre#create(Titulo)}.
+ */
+@RunWith(Parameterized.class)
+public class TestCampoLivreGeneratorLeiautes {
+
+	private static final int VARIACOES = 500;
+
+	private final Class<? extends CampoLivre> leiaute;
+
+	private final Titulo modelo;
+
+	public TestCampoLivreGeneratorLeiautes(String nome, Class<? extends CampoLivre> leiaute, Titulo modelo) {
+		this.leiaute = leiaute;
+		this.modelo = modelo;
+	}
+
+	@Parameters(name = "{0}")
+	public static Collection<Object[]> leiautes() {
+
+		List<Object[]> leiautes = new ArrayList<Object[]>();
+
+		Titulo titulo = modelo(BANCO_BRADESCO, new Agencia(1234, "1"), new NumeroDaConta(6789), new Carteira(5));
+		titulo.setNossoNumero("12345678901");
+		adicione(leiautes, CLBradesco.class, titulo);
+
+		titulo = modelo(BANCO_DO_BRASIL, null, new NumeroDaConta(6789), new Carteira(5));
+		titulo.setNossoNumero("1234567890");
+		adicione(leiautes, CLBancoDoBrasilNN10.class, titulo);
+
+		titulo = modelo(BANCO_DO_BRASIL, new Agencia(1234, "1"), new NumeroDaConta(6789), new Carteira(5));
+		titulo.setNossoNumero("12345678901");
+		adicione(leiautes, CLBancoDoBrasilNN11.class, titulo);
+
+		titulo = modelo(BANCO_DO_BRASIL, null, new NumeroDaConta(123456), null);
+		titulo.setNossoNumero("12345678901234567");
+		adicione(leiautes, CLBancoDoBrasilNN17Convenio6.class, titulo);
+
+		titulo = modelo(BANCO_DO_BRASIL, null, new NumeroDaConta(1234567), new Carteira(23));
+		titulo.setNossoNumero("12345678901234567");
+		adicione(leiautes, CLBancoDoBrasilNN17Convenio7.class, titulo);
+
+		titulo = modelo(BANCO_INTEMEDIUM, new Agencia(54, "0"), new NumeroDaConta(149666, "6"), new Carteira(5));
+		titulo.setNossoNumero("5611002");
+		adicione(leiautes, CLBancoIntermedium.class, titulo);
+
+		titulo = modelo(BANCO_SAFRA, new Agencia(1730, "0"), new NumeroDaConta(12110, "0"), new Carteira(6, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("12345678901234567");
+		adicione(leiautes, CLBancoSafraCobrancaNaoRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_SAFRA, new Agencia(100, "0"), new NumeroDaConta(727469, "8"), new Carteira(70, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("960900152");
+		adicione(leiautes, CLBancoSafraCobrancaRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_DAYCOVAL, new Agencia(4, "3"), new NumeroDaConta(6002006), new Carteira(121));
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(ParametroBancoDaycoval.OPERACAO, 1234567));
+		titulo.setNossoNumero("1234567890");
+		titulo.setDigitoDoNossoNumero("0");
+		adicione(leiautes, CLBancoDaycoval.class, titulo);
+
+		titulo = modelo(BANCO_DE_BRASILIA, new Agencia(58), new NumeroDaConta(6002006), new Carteira(1, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("000001");
+		adicione(leiautes, CLBancoDeBrasilia.class, titulo);
+
+		titulo = modelo(BANCO_DO_NORDESTE_DO_BRASIL, new Agencia(16), new NumeroDaConta(1234567, "8"), new Carteira(21));
+		titulo.setNossoNumero("0000007");
+		titulo.setDigitoDoNossoNumero("3");
+		adicione(leiautes, CLBancoDoNordesteDoBrasil.class, titulo);
+
+		titulo = modelo(BANCO_ABN_AMRO_REAL, new Agencia(1018), new NumeroDaConta(16324), null);
+		titulo.setNumeroDoDocumento("1234567890123");
+		titulo.setNossoNumero("1234567890123");
+		adicione(leiautes, CLBancoReal.class, titulo);
+
+		titulo = modelo(BANCO_RURAL, new Agencia(133, "1"), new NumeroDaConta(6789), new Carteira(5, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("123456789012345");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(CODIGO_REDUZIDO, 123));
+		adicione(leiautes, CLBancoRuralCobrancaNaoRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_RURAL, new Agencia(155, "1"), new NumeroDaConta(1625462, "9"), new Carteira(101, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("0000022569");
+		titulo.setDigitoDoNossoNumero("7");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(VALOR_IOS, new BigDecimal("40.77")).adicione(CODIGO_REDUZIDO, 1));
+		adicione(leiautes, CLBancoRuralCobrancaNaoRegistradaSeguradora.class, titulo);
+
+		titulo = modelo(BANCO_RURAL, new Agencia(133, "1"), new NumeroDaConta(6789, "1"), new Carteira(5, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("1234567");
+		titulo.setDigitoDoNossoNumero("1");
+		adicione(leiautes, CLBancoRuralCobrancaRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_SANTANDER, null, new NumeroDaConta(162546, "9"), new Carteira(101, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("00000000002");
+		titulo.setDigitoDoNossoNumero("7");
+		adicione(leiautes, CLBancoSantander.class, titulo);
+
+		titulo = modelo(BANCOOB, new Agencia(4340), new NumeroDaConta(1, "0"), new Carteira(1));
+		titulo.setNossoNumero("0200000");
+		titulo.setDigitoDoNossoNumero("1");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(MODALIDADE_DE_COBRANCA, 2).adicione(NUMERO_DA_PARCELA, 3));
+		adicione(leiautes, CLBancoobCobrancaNaoRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_DO_ESTADO_DO_ESPIRITO_SANTO, null, new NumeroDaConta(7730070), new Carteira(4, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("10297");
+		adicione(leiautes, CLBanestes.class, titulo);
+
+		titulo = modelo(BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL, new Agencia(1102), new NumeroDaConta(9000150), new Carteira(1, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("22832563");
+		adicione(leiautes, CLBanrisulCobrancaNaoRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL, new Agencia(1102), new NumeroDaConta(9000150), new Carteira(1, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("22832563");
+		adicione(leiautes, CLBanrisulCobrancaRegistrada.class, titulo);
+
+		titulo = modelo(CAIXA_ECONOMICA_FEDERAL, new Agencia(1234), new NumeroDaConta(12345678), new Carteira(11));
+		titulo.setNossoNumero("3123456789");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(CODIGO_OPERACAO, 870));
+		adicione(leiautes, CLCaixaEconomicaFederalSICOBNossoNumero10.class, titulo);
+
+		titulo = modelo(CAIXA_ECONOMICA_FEDERAL, new Agencia(255, "5"), new NumeroDaConta(78), new Carteira(8));
+		titulo.setNossoNumero("00000000113732");
+		adicione(leiautes, CLCaixaEconomicaFederalSICOBNossoNumero14.class, titulo);
+
+		titulo = modelo(CAIXA_ECONOMICA_FEDERAL, null, new NumeroDaConta(5507, "7"), new Carteira(24, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("000000000000019");
+		adicione(leiautes, CLCaixaEconomicaFederalSIGCB.class, titulo);
+
+		titulo = modelo(CAIXA_ECONOMICA_FEDERAL, null, new NumeroDaConta(2), null);
+		titulo.setNossoNumero("10000000020061732");
+		adicione(leiautes, CLCaixaEconomicaFederalSINCO.class, titulo);
+
+		titulo = modelo(CECRED, null, new NumeroDaConta(12345678), new Carteira(1));
+		titulo.setNossoNumero("12345678000123456");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(CODIGO_DO_CONVENIO, 654321));
+		adicione(leiautes, CLCecred.class, titulo);
+
+		titulo = modelo(HSBC, new Agencia(1234, "1"), new NumeroDaConta(8351202, "2"), new Carteira(1, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("0000239104761");
+		titulo.setDataDoVencimento(new GregorianCalendar(2008, Calendar.JULY, 4).getTime());
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(IDENTIFICADOR_CNR, TipoIdentificadorCNR.COM_VENCIMENTO.getConstante()));
+		adicione(leiautes, CLHSBCCobrancaNaoRegistrada.class, titulo);
+
+		titulo = modelo(HSBC, new Agencia(1234, "1"), new NumeroDaConta(8351202, "2"), new Carteira(1, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("0000239104");
+		titulo.setDigitoDoNossoNumero("7");
+		adicione(leiautes, CLHSBCCobrancaRegistrada.class, titulo);
+
+		titulo = modelo(BANCO_ITAU, new Agencia(57, "1"), new NumeroDaConta(12345), new Carteira(110));
+		titulo.setNumeroDoDocumento("1234567");
+		titulo.setNossoNumero("12345678");
+		adicione(leiautes, CLItauPadrao.class, titulo);
+
+		titulo = modelo(BANCO_ITAU, new Agencia(57, "1"), new NumeroDaConta(12345), new Carteira(198));
+		titulo.setNumeroDoDocumento("1234567");
+		titulo.setNossoNumero("12345678");
+		adicione(leiautes, CLItauComCarteirasEspeciais.class, titulo);
+
+		titulo = modelo(MERCANTIL_DO_BRASIL, new Agencia(1234, "1"), new NumeroDaConta(123456789), null);
+		titulo.setNossoNumero("1234567890");
+		titulo.setDigitoDoNossoNumero("5");
+		adicione(leiautes, CLMercantilDoBrasil.class, titulo);
+
+		titulo = modelo(BANCO_SICREDI, new Agencia(165), new NumeroDaConta(623), new Carteira(1, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNossoNumero("07200003");
+		titulo.setDigitoDoNossoNumero("1");
+		titulo.setParametrosBancarios(new ParametrosBancariosMap(POSTO_DA_AGENCIA, 2));
+		titulo.setValor(new BigDecimal("150.35"));
+		adicione(leiautes, CLSicredi.class, titulo);
+
+		titulo = modelo(UNICRED, new Agencia(1234), new NumeroDaConta(12345), new Carteira(1, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNossoNumero("1234567890");
+		titulo.setDigitoDoNossoNumero("1");
+		titulo.setValor(new BigDecimal("150.35"));
+		adicione(leiautes, CLUnicred.class, titulo);
+
+		titulo = modelo(UNIBANCO, new Agencia(1234, "1"), new NumeroDaConta(123456, "1"), new Carteira(123, TipoDeCobranca.SEM_REGISTRO));
+		titulo.setNumeroDoDocumento("1234567");
+		titulo.setNossoNumero("11223344556677");
+		titulo.setDigitoDoNossoNumero("7");
+		adicione(leiautes, CLUnibancoCobrancaNaoRegistrada.class, titulo);
+
+		titulo = modelo(UNIBANCO, new Agencia(1, "9"), null, new Carteira(123, TipoDeCobranca.COM_REGISTRO));
+		titulo.setNumeroDoDocumento("1234567");
+		titulo.setNossoNumero("11223344554");
+		titulo.setDataDoVencimento(new GregorianCalendar(2001, Calendar.DECEMBER, 31).getTime());
+		adicione(leiautes, CLUnibancoCobrancaRegistrada.class, titulo);
+
+		return leiautes;
+	}
+
+	@Test
+	public void seGeraIgualAoCaminhoComum() {
+
+		assertEquals(leiaute, AbstractCampoLivre.create(modelo).getClass());
+
+		CampoLivreGenerator gerador = CampoLivreFactory.createGenerator(modelo);
+
+		assertTrue(gerador.escreva(modelo, new char[CampoLivre.STRING_LENGTH], 0));
+
+		Random random = new Random(leiaute.getName().hashCode());
+
+		int escritos = 0;
+
+		for (int i = 0; i < VARIACOES; i++) {
+
+			long semente = random.nextLong();
+
+			Titulo comum = variacao(modelo, new Random(semente));
+			Titulo lote = variacao(modelo, new Random(semente));
+
+			assertEquals(comum.getNossoNumero(), gere(null, comum), gere(gerador, lote));
+			assertEquals(comum.getNossoNumero(), parametros(comum), parametros(lote));
+
+			if (gerador.escreva(variacao(modelo, new Random(semente)), new char[CampoLivre.STRING_LENGTH], 0)) {
+				escritos++;
+			}
+		}
+
+		// Boa parte das variações deve passar pelo gerador e não pelo
+		// caminho comum.
+		assertTrue(escritos + " de " + VARIACOES, escritos > VARIACOES / 4);
+	}
+
+	private static String gere(CampoLivreGenerator gerador, Titulo titulo) {
+
+		try {
+			CampoLivre campoLivre = gerador == null ? AbstractCampoLivre.create(titulo) : gerador.generate(titulo);
+			return campoLivre.write();
+		} catch (RuntimeException e) {
+			return e.getClass().getName() + ": " + e.getMessage();
+		}
+	}
+
+	/**
+	 * Parâmetros bancários do título após a geração, já que alguns leiautes
+	 * os preenchem (ex: chave ASBACE do Banco de Brasília).
+	 */
+	private static String parametros(Titulo titulo) {
+
+		ParametrosBancariosMap parametros = titulo.getParametrosBancarios();
+
+		if (parametros == null) {
+			return null;
+		}
+
+		List<String> entradas = new ArrayList<String>();
+
+		for (Entry<ParametroBancario<?>, Number> entrada : parametros.entradas()) {
+			entradas.add(entrada.getKey() + "=" + entrada.getValue());
+		}
+
+		java.util.Collections.sort(entradas);
+
+		return entradas.toString();
+	}
+
+	/**
+	 * Título da conta do modelo com o nosso número, os dígitos, o valor, o
+	 * vencimento e os parâmetros bancários variados. Em geral os dados mantêm o
+	 * formato do modelo, mas às vezes ficam com tamanho diferente, para
+	 * exercitar também as exceções do caminho comum.
+	 */
+	private static Titulo variacao(Titulo modelo, Random random) {
+
+		Titulo titulo = new Titulo(modelo.getContaBancaria(), modelo.getSacado(), modelo.getCedente());
+
+		titulo.setNossoNumero(digitos(modelo.getNossoNumero(), random));
+		titulo.setDigitoDoNossoNumero(digitos(modelo.getDigitoDoNossoNumero(), random));
+		titulo.setNumeroDoDocumento(digitos(modelo.getNumeroDoDocumento(), random));
+		titulo.setValor(random.nextInt(4) == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(random.nextInt(100000000), 2));
+		titulo.setDesconto(random.nextInt(3) == 0 ? null : BigDecimal.valueOf(random.nextInt(3) == 0 ? 0 : random.nextInt(1000000), 2));
+
+		if (modelo.getDataDoVencimento() != null) {
+			titulo.setDataDoVencimento(new GregorianCalendar(2000 + random.nextInt(25), random.nextInt(12), 1 + random.nextInt(28)).getTime());
+		}
+
+		ParametrosBancariosMap parametros = modelo.getParametrosBancarios();
+
+		if (parametros != null) {
+
+			ParametrosBancariosMap variados = new ParametrosBancariosMap();
+
+			for (Entry<ParametroBancario<?>, Number> entrada : parametros.entradas()) {
+				variados.adicione(entrada.getKey(), numero(entrada.getValue(), random));
+			}
+
+			titulo.setParametrosBancarios(variados);
+		}
+
+		return titulo;
+	}
+
+	private static String digitos(String modelo, Random random) {
+
+		if (modelo == null) {
+			return null;
+		}
+
+		int tamanho = modelo.length();
+
+		switch (random.nextInt(20)) {
+			case 0:
+				tamanho++;
+				break;
+			case 1:
+				tamanho = Math.max(0, tamanho - 1);
+				break;
+			default:
+				break;
+		}
+
+		// Mantém o início do modelo na metade das vezes, para os leiautes em
+		// que ele identifica a carteira (ex: SICOB).
+		int mantidos = random.nextBoolean() ? Math.max(0, Math.min(2, Math.min(tamanho, modelo.length()) - 1)) : 0;
+
+		StringBuilder digitos = new StringBuilder(modelo.substring(0, mantidos));
+
+		while (digitos.length() < tamanho) {
+			digitos.append((char) ('0' + random.nextInt(10)));
+		}
+
+		return digitos.toString();
+	}
+
+	/**
+	 * Número com a mesma quantidade de dígitos e de casas decimais do modelo
+	 * ou o próprio modelo, para os parâmetros que são constantes do leiaute.
+	 */
+	private static Number numero(Number modelo, Random random) {
+
+		if (random.nextBoolean()) {
+			return modelo;
+		}
+
+		if (modelo instanceof BigDecimal) {
+			BigDecimal decimal = (BigDecimal) modelo;
+			return BigDecimal.valueOf(random.nextInt((int) Math.pow(10, Math.min(9, decimal.precision()))), decimal.scale());
+		}
+
+		return Integer.valueOf(random.nextInt((int) Math.pow(10, Math.min(9, String.valueOf(modelo).length()))));
+	}
+
+	private static void adicione(List<Object[]> leiautes, Class<? extends CampoLivre> leiaute, Titulo modelo) {
+
+		leiautes.add(new Object[] { leiaute.getSimpleName(), leiaute, modelo });
+	}
+
+	private static Titulo modelo(BancosSuportados banco, Agencia agencia, NumeroDaConta numeroDaConta, Carteira carteira) {
+
+		ContaBancaria conta = new ContaBancaria(banco.create());
+		conta.setAgencia(agencia);
+		conta.setNumeroDaConta(numeroDaConta);
+		conta.setCarteira(carteira);
+
+		Titulo titulo = new Titulo(conta, new Sacado("S"), new Cedente("C"));
+		titulo.setValor(BigDecimal.ZERO);
+
+		return titulo;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.excludes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.view.BoletoBatchRenderer;
+
+/**
+ * Mede a vazão (boletos/s) da geração em lote agrupada em um único PDF,
+ * variando a quantidade de threads de 1 até a quantidade de processadores.
+ *
+ * <p>
+ * Não é um teste unitário; execute manualmente:
+ * {@code java ... BoletoBatchRendererBenchmark [boletos] [repeticoes] [threads]},
+ * onde {@code threads} é o máximo de threads (padrão: processadores).
+ * </p>
+ */
+public class BoletoBatchRendererBenchmark {
+
+	public static void main(String[] args) throws Exception {
+
+		int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+		int processadores = Runtime.getRuntime().availableProcessors();
+		int maximo = args.length > 2 ? Integer.parseInt(args[2]) : processadores;
+
+		List<Boleto> boletos = new ArrayList<Boleto>(quantidade);
+		Boleto boleto = BoletoBuilder.defaultValue();
+		for (int i = 0; i < quantidade; i++) {
+			boletos.add(boleto);
+		}
+
+		System.out.println("boletos=" + quantidade + " processadores=" + processadores);
+		System.out.println("threads\tboletos/s\tspeedup");
+
+		double base = 0;
+
+		for (int threads = 1; threads <= maximo; threads = proximo(threads, maximo)) {
+
+			BoletoBatchRenderer renderer = new BoletoBatchRenderer(threads);
+
+			try {
+
+				// aquecimento
+				renderer.groupInOnePDF(boletos.subList(0, Math.min(200, quantidade)), new Descarte());
+
+				double melhor = 0;
+
+				for (int r = 0; r < repeticoes; r++) {
+					long inicio = System.nanoTime();
+					renderer.groupInOnePDF(boletos, new Descarte());
+					double vazao = quantidade / ((System.nanoTime() - inicio) / 1e9);
+					melhor = Math.max(melhor, vazao);
+				}
+
+				if (threads == 1) {
+					base = melhor;
+				}
+
+				System.out.printf("%d\t%.1f\t%.2fx%n", threads, melhor, melhor / base);
+
+			} finally {
+				renderer.close();
+			}
+		}
+	}
+
+	private static int proximo(int threads, int processadores) {
+		return threads < processadores && threads * 2 > processadores ? processadores : threads * 2;
+	}
+
+	/**
+	 * Destino que apenas descarta os bytes, para medir somente a geração.
+	 */
+	private static class Descarte extends OutputStream {
+
+		@Override
+		public void write(int b) throws IOException {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+		}
+	}
+}
@@ -30,6 +30,7 @@
 package org.jrimum.bopepo.excludes;
 
 import org.jrimum.bopepo.Boleto;
+import org.jrimum.domkee.banco.Titulo;
 import org.jrimum.utilix.DateFormat;
 
 /**
@@ -49,6 +50,14 @@ public class BoletoBuilder {
 		return newDefaultValue();
 	}
 
+	public static Boleto defaultValue(String nossoNumero){
+		Titulo titulo = TituloBuilder.defaultValue();
+		titulo.setNossoNumero(nossoNumero);
+		Boleto boleto = new Boleto(titulo);
+		setDefaultValues(boleto);
+		return boleto;
+	}
+
 	public static Boleto defaultValueSacadorAvalista(){
 		return newDefaultValueSacadorAvalista();
 	}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.excludes;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.view.BoletoViewer;
+
+/**
+ * Compara tamanho e tempo do PDF agrupado com a junção simples
+ * ({@code BoletoViewer.groupInOnePDF}), com a junção compacta
+ * ({@code BoletoViewer.groupInOneCompactPdf}), com o template compartilhado
+ * ({@code BoletoViewer.groupInOnePdfSharingTemplate}), com o layout sem
+ * template ({@code BoletoViewer.groupInOnePdfWithLayout}) e em carnê
+ * ({@code BoletoViewer.groupInCarne}).
+ *
+ * <p>
+ * Não é um teste unitário; execute manualmente:
+ * {@code java ... BoletoMergeBenchmark [boletos] [repeticoes]}
+ * </p>
+ */
+public class BoletoMergeBenchmark {
+
+	public static void main(String[] args) throws Exception {
+
+		int quantidade = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+		List<Boleto> boletos = new ArrayList<Boleto>(quantidade);
+		// Um nosso número por boleto, como em um lote real: cada página tem
+		// o seu código de barras e a sua linha digitável.
+		for (int i = 0; i < quantidade; i++) {
+			boletos.add(BoletoBuilder.defaultValue(String.format("%011d", 10000000000L + i)));
+		}
+
+		String[] modos = { "simples", "compacto", "template", "layout", "carne" };
+
+		// aquecimento
+		for (String modo : modos) {
+			gere(modo, boletos.subList(0, Math.min(100, quantidade)), new ByteArrayOutputStream());
+		}
+
+		System.out.println("boletos=" + quantidade);
+		System.out.println("modo\tbytes\tms");
+
+		for (String modo : modos) {
+
+			long melhor = Long.MAX_VALUE;
+			int tamanho = 0;
+
+			for (int r = 0; r < repeticoes; r++) {
+
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				long inicio = System.nanoTime();
+
+				gere(modo, boletos, out);
+
+				melhor = Math.min(melhor, (System.nanoTime() - inicio) / 1000000);
+				tamanho = out.size();
+			}
+
+			System.out.printf("%s\t%d\t%d%n", modo, tamanho, melhor);
+		}
+	}
+
+	private static void gere(String modo, List<Boleto> boletos, ByteArrayOutputStream out) {
+
+		if ("compacto".equals(modo)) {
+			BoletoViewer.groupInOneCompactPdf(boletos, out);
+		} else if ("template".equals(modo)) {
+			BoletoViewer.groupInOnePdfSharingTemplate(boletos, out);
+		} else if ("layout".equals(modo)) {
+			BoletoViewer.groupInOnePdfWithLayout(boletos, out);
+		} else if ("carne".equals(modo)) {
+			BoletoViewer.groupInCarne(boletos, out);
+		} else {
+			BoletoViewer.groupInOnePDF(boletos, out);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.excludes;
+
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+
+import org.jrimum.bopepo.BoletoUtil;
+import org.jrimum.bopepo.CodigoDeBarrasCodec;
+import org.jrimum.texgit.Fillers;
+import org.jrimum.texgit.FixedField;
+import org.jrimum.utilix.DecimalFormat;
+import org.jrimum.vallia.BoletoCodigoDeBarrasDV;
+
+/**
+ * Compara a composição do código de barras e da linha digitável pelos campos
+ * ({@link FixedField} e calculadores de {@code vallia}, como era feito antes
+ * de {@link CodigoDeBarrasCodec}) com a composição pelo codec, reaproveitando
+ * o {@code char[]} e o {@link StringBuilder} de destino.
+ *
+ * <p>
+ * Não é um teste unitário; execute manualmente, de preferência com
+ * {@code -verbose:gc} para observar as coletas:
+ * {@code java ... CodigoDeBarrasBenchmark [iteracoes] [repeticoes]}
+ * </p>
+ */
+public class CodigoDeBarrasBenchmark {
+
+	private static final String CAMPO_LIVRE = "1234051234567890100067890";
+
+	private static final BigDecimal VALOR = new BigDecimal("100.23");
+
+	/**
+	 * Evita que o JIT elimine o trabalho medido.
+	 */
+	private static long consumo;
+
+	public static void main(String[] args) {
+
+		int iteracoes = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		int repeticoes = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		System.out.println("iteracoes=" + iteracoes);
+		System.out.println("repeticao\tcampos (ns/op)\tcodec (ns/op)");
+
+		// aquecimento
+		campos(iteracoes / 10);
+		codec(iteracoes / 10);
+
+		for (int r = 1; r <= repeticoes; r++) {
+			double campos = campos(iteracoes);
+			double codec = codec(iteracoes);
+			System.out.printf("%d\t%.1f\t%.1f%n", r, campos, codec);
+		}
+
+		System.out.println(consumo);
+	}
+
+	private static double campos(int iteracoes) {
+
+		long inicio = System.nanoTime();
+
+		for (int i = 0; i < iteracoes; i++) {
+
+			FixedField<String> banco = new FixedField<String>("237", 3, Fillers.ZERO_LEFT);
+			FixedField<Integer> moeda = new FixedField<Integer>(9, 1, Fillers.ZERO_LEFT);
+			FixedField<Integer> fator = new FixedField<Integer>(i % 10000, 4, Fillers.ZERO_LEFT);
+			FixedField<BigDecimal> valor = new FixedField<BigDecimal>(VALOR, 10, DecimalFormat.NUMBER_DD_BR.copy(), Fillers.ZERO_LEFT);
+			FixedField<String> campoLivre = new FixedField<String>(CAMPO_LIVRE, 25);
+
+			String semDV = banco.write() + moeda.write() + fator.write() + valor.write() + campoLivre.write();
+			int dv = new BoletoCodigoDeBarrasDV().calcule(semDV);
+			String codigo = semDV.substring(0, 4) + dv + semDV.substring(4);
+
+			consumo += BoletoUtil.codigoDeBarrasEmLinhaDigitavelNumerica(codigo).length();
+		}
+
+		return (System.nanoTime() - inicio) / (double) iteracoes;
+	}
+
+	private static double codec(int iteracoes) {
+
+		char[] codigo = new char[CodigoDeBarrasCodec.TAMANHO_CODIGO_DE_BARRAS];
+		StringBuilder linha = new StringBuilder(CodigoDeBarrasCodec.TAMANHO_LINHA_DIGITAVEL);
+		CharBuffer codigoSeq = CharBuffer.wrap(codigo);
+		long centavos = CodigoDeBarrasCodec.centavos(VALOR);
+
+		long inicio = System.nanoTime();
+
+		for (int i = 0; i < iteracoes; i++) {
+
+			CodigoDeBarrasCodec.codigoDeBarras(codigo, 237, 9, i % 10000, centavos, CAMPO_LIVRE);
+
+			linha.setLength(0);
+			consumo += CodigoDeBarrasCodec.linhaDigitavel(codigoSeq, linha).length();
+		}
+
+		return (System.nanoTime() - inicio) / (double) iteracoes;
+	}
+}
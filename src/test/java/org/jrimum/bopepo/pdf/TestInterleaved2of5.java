@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Teste unitário da classe Interleaved2of5.
+ */
+public class TestInterleaved2of5 {
+
+	private static final String CODIGO = "10499898100000214032006561000100040099726390";
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteCodigoNull() {
+		Interleaved2of5.forEachBar(null, Interleaved2of5.DEFAULT_N, new Barras());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteCodigoNaoNumerico() {
+		Interleaved2of5.forEachBar("12A4", Interleaved2of5.DEFAULT_N, new Barras());
+	}
+
+	@Test
+	public void seLarguraTotalCorrespondeAoCalculo() {
+
+		float largura = Interleaved2of5.forEachBar(CODIGO, Interleaved2of5.DEFAULT_N, new Barras());
+
+		assertEquals(405f, largura, 0f);
+		assertEquals(Interleaved2of5.widthInModules(CODIGO.length(), Interleaved2of5.DEFAULT_N), largura, 0f);
+	}
+
+	@Test
+	public void seGeraCincoBarrasPorParMaisStartEStop() {
+
+		Barras barras = new Barras();
+
+		Interleaved2of5.forEachBar(CODIGO, Interleaved2of5.DEFAULT_N, barras);
+
+		assertEquals(2 + 22 * 5 + 2, barras.larguras.size());
+	}
+
+	@Test
+	public void seGeraBarrasDoParConformePadrao() {
+
+		Barras barras = new Barras();
+
+		// "38": barras de 3 (wwnnn) intercaladas com espaços de 8 (wnnwn)
+		Interleaved2of5.forEachBar("38", 2f, barras);
+
+		assertEquals(9, barras.larguras.size());
+		assertEquals(2f, barras.larguras.get(2), 0f);
+		assertEquals(2f, barras.larguras.get(3), 0f);
+		assertEquals(1f, barras.larguras.get(4), 0f);
+		assertEquals(4f, barras.posicoes.get(2), 0f);
+		assertEquals(8f, barras.posicoes.get(3), 0f);
+		assertEquals(11f, barras.posicoes.get(4), 0f);
+	}
+
+	private static class Barras implements Interleaved2of5.BarHandler {
+
+		private final List<Float> posicoes = new ArrayList<Float>();
+		private final List<Float> larguras = new ArrayList<Float>();
+
+		@Override
+		public void bar(float x, float width) {
+			posicoes.add(x);
+			larguras.add(width);
+		}
+	}
+}
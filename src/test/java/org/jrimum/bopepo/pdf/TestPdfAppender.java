@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+
+/**
+ * Teste unitário da classe PdfAppender.
+ */
+public class TestPdfAppender {
+
+	private byte[] documento;
+
+	private int paginas;
+
+	private Path arquivo;
+
+	@Before
+	public void setup() throws IOException {
+		documento = Files.toByteArray(Resources.crieInputStreamParaArquivoSemCampos());
+		paginas = new PdfReader(documento).getNumberOfPages();
+		arquivo = java.nio.file.Files.createTempFile("bopepo", ".pdf");
+		java.nio.file.Files.delete(arquivo);
+	}
+
+	@After
+	public void close() throws IOException {
+		java.nio.file.Files.deleteIfExists(arquivo);
+	}
+
+	@Test
+	public void seAcrescentaPaginasSemReescreverOArquivo() throws IOException {
+
+		assertEquals(paginas, PdfAppender.append(arquivo, documento));
+
+		byte[] original = java.nio.file.Files.readAllBytes(arquivo);
+
+		assertEquals(3 * paginas, PdfAppender.append(arquivo, Arrays.asList(documento, documento)));
+
+		byte[] acrescido = java.nio.file.Files.readAllBytes(arquivo);
+
+		assertArrayEquals(original, Arrays.copyOf(acrescido, original.length));
+		assertEquals(3 * paginas, new PdfReader(acrescido).getNumberOfPages());
+	}
+
+	@Test
+	public void seMantemOArquivoEmCasoDeFalha() throws IOException {
+
+		PdfAppender.append(arquivo, documento);
+
+		long tamanho = java.nio.file.Files.size(arquivo);
+
+		try {
+			PdfAppender.append(arquivo, new byte[] { 1, 2, 3 });
+			fail();
+		} catch (IOException e) {
+			assertEquals(tamanho, java.nio.file.Files.size(arquivo));
+		}
+	}
+
+	@Test
+	public void seRejeitaAcrescimoConcorrenteNaMesmaJvm() throws IOException {
+
+		PdfAppender.append(arquivo, documento);
+
+		long tamanho = java.nio.file.Files.size(arquivo);
+
+		FileChannel channel = FileChannel.open(arquivo, StandardOpenOption.WRITE);
+
+		try {
+			FileLock lock = channel.lock();
+
+			try {
+				PdfAppender.append(arquivo, documento);
+				fail();
+			} catch (IllegalStateException e) {
+				assertEquals(tamanho, java.nio.file.Files.size(arquivo));
+			} finally {
+				lock.release();
+			}
+
+		} finally {
+			channel.close();
+		}
+	}
+}
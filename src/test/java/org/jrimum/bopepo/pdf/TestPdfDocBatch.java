@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfDictionary;
+import com.itextpdf.text.pdf.PdfName;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+
+/**
+ * Teste unitário da classe PdfDocBatch.
+ */
+public class TestPdfDocBatch {
+
+	private PdfTemplate template;
+
+	@Before
+	public void setup() throws IOException {
+		template = PdfTemplate.compile(Files.toByteArray(Resources.crieInputStreamParaArquivoComCampos()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteTemplateNull() {
+		new PdfDocBatch(new ByteArrayOutputStream()).add((PdfTemplate) null, null, null, null);
+	}
+
+	@Test
+	public void seGeraUmaPaginaPorPaginaDoTemplateParaCadaDocumento() throws IOException {
+
+		PdfReader reader = new PdfReader(gerar(5));
+
+		assertEquals(5 * template.getNumberOfPages(), reader.getNumberOfPages());
+	}
+
+	@Test
+	public void seCompartilhaConteudoDoTemplateEntreAsPaginas() throws IOException {
+
+		PdfReader reader = new PdfReader(gerar(3));
+
+		int paginas = template.getNumberOfPages();
+
+		assertEquals(xobjectDaPagina(reader, 1), xobjectDaPagina(reader, 1 + paginas));
+		assertEquals(xobjectDaPagina(reader, 1), xobjectDaPagina(reader, 1 + 2 * paginas));
+	}
+
+	@Test
+	public void seDesenhaTextosDosCampos() throws IOException {
+
+		PdfReader reader = new PdfReader(gerar(1));
+
+		assertTrue(PdfTextExtractor.getTextFromPage(reader, 1).contains("Fulano de Tal"));
+	}
+
+	@Test
+	public void seDesenhaTextosPeloVinculoDosCampos() throws IOException {
+
+		String[] campos = { "nomeDoTestador", "campoInexistente", "nomeDoTeste" };
+
+		PdfFieldBinding binding = template.bind(campos);
+
+		assertSame(binding, template.bind(campos));
+		assertNull(binding.get(1));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		PdfDocBatch batch = new PdfDocBatch(out);
+		batch.add(template, binding, new String[] { "Fulano de Tal", "Ignorado", null }, null, null, null);
+		batch.close();
+
+		PdfReader reader = new PdfReader(out.toByteArray());
+
+		assertTrue(PdfTextExtractor.getTextFromPage(reader, 1).contains("Fulano de Tal"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteVinculoDeOutroTemplate() throws IOException {
+
+		String[] campos = { "nomeDoTestador" };
+
+		PdfTemplate outro = PdfTemplate.compile(template.getBytes());
+
+		new PdfDocBatch(new ByteArrayOutputStream()).add(template, outro.bind(campos), new String[1], null, null, null);
+	}
+
+	private byte[] gerar(int documentos) throws IOException {
+
+		Map<String, String> textos = new HashMap<String, String>();
+		textos.put("nomeDoTestador", "Fulano de Tal");
+		textos.put("funcaoDoTestador", "Testador");
+		textos.put("nomeDoTeste", "TestPdfDocBatch");
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		PdfDocBatch batch = new PdfDocBatch(out);
+		for (int i = 0; i < documentos; i++) {
+			batch.add(template, textos, null, null);
+		}
+		batch.close();
+
+		return out.toByteArray();
+	}
+
+	private static Object xobjectDaPagina(PdfReader reader, int pagina) {
+		PdfDictionary xobjects = reader.getPageResources(pagina).getAsDict(PdfName.XOBJECT);
+		PdfName nome = xobjects.getKeys().iterator().next();
+		return xobjects.getAsIndirectObject(nome).getNumber();
+	}
+}
@@ -231,5 +231,20 @@ public class TestPdfDocInfo {
 		
 		assertEquals(info, docInfo.toMap());
 	}
+	
+	@Test
+	public void customInfo(){
+		
+		PdfDocInfo docInfo = PdfDocInfo.create().custom("NossoNumero", "123");
+		
+		assertEquals("123", docInfo.custom("NossoNumero"));
+		assertEquals(null, docInfo.custom("NossoNumero", null).custom("NossoNumero"));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void customInfoComChavePadrao(){
+		
+		PdfDocInfo.create().custom("Title", TITLE);
+	}
 
 }
@@ -31,14 +31,17 @@ package org.jrimum.bopepo.pdf;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Image;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
@@ -47,6 +50,8 @@ import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.junit.Test;
 
+import com.itextpdf.text.pdf.PdfReader;
+
 /**
  * Teste unitário da classe PdfDocMix.
  * 
@@ -241,6 +246,49 @@ public class TestPdfDocMix {
 		readerArqNovo.close();
 	}
 	
+	@Test
+	public void seSoComprimeCompletamenteQuandoHabilitado() throws IOException{
+		
+		PdfReader padrao = new PdfReader(createDoc().toBytes());
+		PdfReader comprimido = new PdfReader(createDoc().withFullCompression(true).toBytes());
+		
+		assertFalse(padrao.isNewXrefType());
+		assertTrue(comprimido.isNewXrefType());
+		
+		padrao.close();
+		comprimido.close();
+	}
+	
+	@Test
+	public void seEscreveDocumentoDiretamenteNoDestinoSemFecharODestino() throws IOException{
+		
+		doc = createDoc();
+		
+		final boolean[] fechado = {false};
+		
+		ByteArrayOutputStream destino = new ByteArrayOutputStream(){
+			@Override
+			public void close() throws IOException {
+				fechado[0] = true;
+			}
+		};
+		
+		doc.writeTo(destino);
+		
+		PdfDocReader readerArqNovo = new PdfDocReader(destino.toByteArray());
+		
+		assertEquals(Resources.DOCUMENT_TITLE, readerArqNovo.getInfo().title());
+		assertFalse(fechado[0]);
+		
+		readerArqNovo.close();
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void seNaoPermiteEscreverEmDestinoNulo(){
+		
+		createDoc().writeTo((OutputStream) null);
+	}
+	
 	@Test
 	public void seRemoveCamposDeTextoCorretamente(){
 		
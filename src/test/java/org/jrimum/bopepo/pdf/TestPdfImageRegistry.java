@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.itextpdf.text.Image;
+
+/**
+ * Teste unitário da classe PdfImageRegistry.
+ */
+public class TestPdfImageRegistry {
+
+	@After
+	public void limparRegistro() {
+		PdfImageRegistry.setMaxImages(PdfImageRegistry.DEFAULT_MAX_IMAGES);
+		PdfImageRegistry.clear();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteCodigoDoBancoEmBranco() {
+		PdfImageRegistry.getBankLogo(" ");
+	}
+
+	@Test
+	public void seRetornaMesmoLogotipoParaMesmoBanco() {
+
+		java.awt.Image logo = PdfImageRegistry.getBankLogo("001");
+
+		assertSame(logo, PdfImageRegistry.getBankLogo("001"));
+		assertTrue(PdfImageRegistry.isRegistered(logo));
+		assertEquals(1, PdfImageRegistry.size());
+	}
+
+	@Test
+	public void seRegistraUmaUnicaVezImagensComMesmoConteudo() throws IOException {
+
+		byte[] png = logotipo("104");
+
+		java.awt.Image imagem = PdfImageRegistry.register(png);
+
+		assertSame(imagem, PdfImageRegistry.register(png.clone()));
+		assertSame(imagem, PdfImageRegistry.get(PdfImageRegistry.keyOf(png)));
+		assertEquals(1, PdfImageRegistry.size());
+	}
+
+	@Test
+	public void seLimitaAsImagensDoUsuarioMantidasNoRegistro() throws IOException {
+
+		PdfImageRegistry.setMaxImages(1);
+
+		byte[] png = logotipo("104");
+		java.awt.Image imagem = PdfImageRegistry.register(png);
+		PdfImageRegistry.register(logotipo("237"));
+		PdfImageRegistry.getBankLogo("001");
+
+		assertEquals(2, PdfImageRegistry.size());
+		assertNull(PdfImageRegistry.get(PdfImageRegistry.keyOf(png)));
+		// Ainda em uso: continua reconhecida na geração do PDF.
+		assertTrue(PdfImageRegistry.isRegistered(imagem));
+		assertNotNull(PdfImageRegistry.getPdfImage(imagem));
+	}
+
+	@Test
+	public void seRetornaCopiasDaImagemDoPdfParaImagemRegistrada() {
+
+		java.awt.Image logo = PdfImageRegistry.getBankLogo("001");
+
+		Image i1 = PdfImageRegistry.getPdfImage(logo);
+		Image i2 = PdfImageRegistry.getPdfImage(logo);
+
+		assertNotNull(i1);
+		assertNotSame(i1, i2);
+		assertEquals(logo.getWidth(null), (int) i1.getWidth());
+	}
+
+	@Test
+	public void seNaoRetornaImagemDoPdfParaImagemNaoRegistrada() {
+
+		BufferedImage imagem = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+
+		assertFalse(PdfImageRegistry.isRegistered(imagem));
+		assertNull(PdfImageRegistry.getPdfImage(imagem));
+	}
+
+	private byte[] logotipo(String codigo) throws IOException {
+		return Files.toByteArray(getClass().getResourceAsStream("/img/" + codigo + ".png"));
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import org.junit.Test;
+
+/**
+ * Teste unitário da classe PdfOutputBuffer.
+ */
+public class TestPdfOutputBuffer {
+
+	@Test
+	public void seCresceAlemDaCapacidadeInicial() {
+
+		PdfOutputBuffer buffer = new PdfOutputBuffer(2);
+
+		buffer.write(1);
+		buffer.write(new byte[] { 2, 3, 4, 5 }, 1, 3);
+
+		assertEquals(4, buffer.size());
+		assertArrayEquals(new byte[] { 1, 3, 4, 5 }, buffer.toByteArray());
+	}
+
+	@Test
+	public void seEscreveConteudoNoStreamENoCanal() throws IOException {
+
+		PdfOutputBuffer buffer = new PdfOutputBuffer();
+		buffer.write(new byte[] { 7, 8, 9 }, 0, 3);
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		buffer.writeTo(stream);
+
+		ByteArrayOutputStream canal = new ByteArrayOutputStream();
+		buffer.writeTo(Channels.newChannel(canal));
+
+		assertArrayEquals(buffer.toByteArray(), stream.toByteArray());
+		assertArrayEquals(buffer.toByteArray(), canal.toByteArray());
+	}
+
+	@Test
+	public void seReutilizaBufferDevolvido() {
+
+		PdfOutputBuffer buffer = PdfOutputBuffer.acquire();
+		buffer.write(1);
+		buffer.release();
+
+		PdfOutputBuffer reutilizado = PdfOutputBuffer.acquire();
+
+		assertSame(buffer, reutilizado);
+		assertEquals(0, reutilizado.size());
+		assertNotSame(reutilizado, PdfOutputBuffer.acquire());
+
+		reutilizado.release();
+	}
+
+	@Test
+	public void seNaoMantemBuffersMaioresQueOLimite() {
+
+		PdfOutputBuffer buffer = PdfOutputBuffer.acquire();
+		buffer.write(new byte[PdfOutputBuffer.MAX_POOLED_CAPACITY + 1], 0, PdfOutputBuffer.MAX_POOLED_CAPACITY + 1);
+		buffer.release();
+
+		PdfOutputBuffer reutilizado = PdfOutputBuffer.acquire();
+
+		assertSame(buffer, reutilizado);
+		assertTrue(reutilizado.capacity() <= PdfOutputBuffer.MAX_POOLED_CAPACITY);
+
+		reutilizado.release();
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+
+/**
+ * Teste unitário da classe PdfStreamMerger.
+ */
+public class TestPdfStreamMerger {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteDestinoNull() {
+		new PdfStreamMerger((ByteArrayOutputStream) null);
+	}
+
+	@Test
+	public void seJuntaTodasAsPaginasNoDestino() throws IOException {
+
+		byte[] pdf = Files.toByteArray(Resources.crieInputStreamParaArquivoComCampos());
+		int paginas = new PdfReader(pdf).getNumberOfPages();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		PdfStreamMerger merger = new PdfStreamMerger(out);
+		merger.add(pdf).add(pdf).add(pdf);
+		merger.close();
+
+		assertEquals(3, merger.getNumberOfDocuments());
+		assertEquals(3 * paginas, new PdfReader(out.toByteArray()).getNumberOfPages());
+	}
+
+	@Test
+	public void seNaoFechaDestino() throws IOException {
+
+		byte[] pdf = Files.toByteArray(Resources.crieInputStreamParaArquivoSemCampos());
+
+		DestinoMonitorado out = new DestinoMonitorado();
+
+		PdfStreamMerger merger = new PdfStreamMerger(out);
+		merger.add(pdf);
+		merger.close();
+
+		assertFalse(out.fechado);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void seNaoPermiteAdicionarAposFinalizar() throws IOException {
+
+		byte[] pdf = Files.toByteArray(Resources.crieInputStreamParaArquivoSemCampos());
+
+		PdfStreamMerger merger = new PdfStreamMerger(new ByteArrayOutputStream());
+		merger.add(pdf);
+		merger.close();
+		merger.add(pdf);
+	}
+
+	@Test
+	public void seEscreveObjetosIdenticosUmaUnicaVezComSmartCopy() throws IOException {
+
+		byte[] pdf = Files.toByteArray(Resources.crieInputStreamParaArquivoComCampos());
+
+		ByteArrayOutputStream simples = new ByteArrayOutputStream();
+		ByteArrayOutputStream compacto = new ByteArrayOutputStream();
+
+		PdfStreamMerger merger = new PdfStreamMerger(simples);
+		PdfStreamMerger smart = new PdfStreamMerger(compacto).withSmartCopy(true).withFullCompression(true);
+
+		for (int i = 0; i < 5; i++) {
+			merger.add(pdf);
+			smart.add(pdf);
+		}
+
+		merger.close();
+		smart.close();
+
+		assertEquals(new PdfReader(simples.toByteArray()).getNumberOfPages(), new PdfReader(compacto.toByteArray()).getNumberOfPages());
+		assertTrue(compacto.size() < simples.size());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void seNaoPermiteMudarOpcoesAposAdicionar() throws IOException {
+
+		byte[] pdf = Files.toByteArray(Resources.crieInputStreamParaArquivoSemCampos());
+
+		new PdfStreamMerger(new ByteArrayOutputStream()).add(pdf).withSmartCopy(true);
+	}
+
+	private static class DestinoMonitorado extends ByteArrayOutputStream {
+
+		private boolean fechado;
+
+		@Override
+		public void close() throws IOException {
+			fechado = true;
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Teste unitário das classes PdfTemplate e PdfTemplateCache.
+ */
+public class TestPdfTemplateCache {
+
+	@After
+	public void limparCache() {
+		PdfTemplateCache.setMaxSizeInBytes(PdfTemplateCache.DEFAULT_MAX_SIZE_IN_BYTES);
+		PdfTemplateCache.clear();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteTemplateNull() {
+		PdfTemplateCache.get(null);
+	}
+
+	@Test
+	public void seRetornaMesmoTemplateCompiladoParaMesmoConteudo() throws IOException {
+
+		PdfTemplate t1 = PdfTemplateCache.get(templateComCampos());
+		PdfTemplate t2 = PdfTemplateCache.get(templateComCampos());
+
+		assertSame(t1, t2);
+		assertEquals(1, PdfTemplateCache.size());
+	}
+
+	@Test
+	public void seCompilaCamposDoTemplate() throws IOException {
+
+		PdfTemplate template = PdfTemplateCache.get(templateComCampos());
+
+		assertTrue(template.hasField("nomeDoTestador"));
+		assertTrue(template.hasField("funcaoDoTestador"));
+		assertTrue(template.hasField("nomeDoTeste"));
+		assertFalse(template.hasField("campoInexistente"));
+		assertFalse(template.getField("nomeDoTeste").getPositions().isEmpty());
+	}
+
+	@Test
+	public void seCriaReadersIndependentes() throws IOException {
+
+		PdfTemplate template = PdfTemplateCache.get(templateComCampos());
+
+		assertNotNull(template.newReader());
+		assertNotSame(template.newReader(), template.newReader());
+	}
+
+	@Test
+	public void seRemoveTemplatesQuandoExcedeLimite() throws IOException {
+
+		PdfTemplate template = PdfTemplateCache.get(templateComCampos());
+
+		PdfTemplateCache.setMaxSizeInBytes(template.size() - 1);
+
+		assertEquals(0, PdfTemplateCache.size());
+		assertEquals(0, PdfTemplateCache.getSizeInBytes());
+	}
+
+	private byte[] templateComCampos() throws IOException {
+		return Files.toByteArray(Resources.crieInputStreamParaArquivoComCampos());
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.pdf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Test;
+
+/**
+ * Teste unitário da classe ZipStreamWriter.
+ */
+public class TestZipStreamWriter {
+
+	@Test
+	public void seGeraZipLegivelNaOrdemDeAdicao() throws IOException {
+
+		byte[] repetido = new byte[4096];
+		Arrays.fill(repetido, (byte) 'a');
+
+		byte[] aleatorio = new byte[4096];
+		new Random(1).nextBytes(aleatorio);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ZipStreamWriter writer = new ZipStreamWriter(out);
+		ZipStreamWriter.Entry comprimida = ZipStreamWriter.deflate("repetido.pdf", repetido, Deflater.BEST_SPEED);
+		writer.add(comprimida);
+		writer.add("aleatório.pdf", aleatorio);
+		writer.close();
+
+		assertTrue(comprimida.getCompressedSize() < comprimida.getSize());
+
+		ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+		ZipEntry entry = zip.getNextEntry();
+		assertEquals("repetido.pdf", entry.getName());
+		assertArrayEquals(repetido, zip.readAllBytes());
+
+		entry = zip.getNextEntry();
+		assertEquals("aleatório.pdf", entry.getName());
+		assertEquals(ZipEntry.STORED, entry.getMethod());
+		assertArrayEquals(aleatorio, zip.readAllBytes());
+
+		assertNull(zip.getNextEntry());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteEntradasDuplicadas() throws IOException {
+
+		ZipStreamWriter writer = new ZipStreamWriter(new ByteArrayOutputStream());
+
+		writer.add("boleto.pdf", new byte[1]);
+		writer.add("boleto.pdf", new byte[1]);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void seNaoPermiteEntradasAposFinalizar() throws IOException {
+
+		ZipStreamWriter writer = new ZipStreamWriter(new ByteArrayOutputStream());
+
+		writer.close();
+		writer.add("boleto.pdf", new byte[1]);
+	}
+}
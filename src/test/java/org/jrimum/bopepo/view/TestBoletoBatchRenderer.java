@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+
+/**
+ * Teste unitário da classe BoletoBatchRenderer.
+ */
+public class TestBoletoBatchRenderer {
+
+	private static final int QUANTIDADE = 8;
+
+	private BoletoBatchRenderer renderer;
+
+	private List<Boleto> boletos;
+
+	@Before
+	public void setup() {
+		renderer = new BoletoBatchRenderer(2).withMaxInFlight(3);
+		boletos = Collections.nCopies(QUANTIDADE, BoletoBuilder.defaultValue());
+	}
+
+	@After
+	public void close() {
+		renderer.close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteListaVazia() {
+		renderer.onePerPDF(new ArrayList<Boleto>());
+	}
+
+	@Test
+	public void seEntregaResultadosNaOrdemDaLista() {
+
+		final List<Integer> indices = new ArrayList<Integer>();
+
+		renderer.render(boletos, new BoletoBatchRenderer.Sink<byte[]>() {
+
+			@Override
+			public void accept(int index, byte[] pdf) {
+				assertTrue(pdf.length > 0);
+				indices.add(index);
+			}
+		});
+
+		assertEquals(QUANTIDADE, indices.size());
+		for (int i = 0; i < QUANTIDADE; i++) {
+			assertEquals(Integer.valueOf(i), indices.get(i));
+		}
+	}
+
+	@Test
+	public void seInformaAPosicaoDoBoletoComFalhaNaGeracao() {
+
+		List<Boleto> comFalha = new ArrayList<Boleto>(boletos);
+		comFalha.set(0, mock(Boleto.class));
+
+		try {
+			renderer.groupInOnePDF(comFalha);
+			fail();
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Erro durante a geração do boleto 1 do lote!"));
+		}
+	}
+
+	@Test
+	public void seInformaAPosicaoDoBoletoComFalhaNaEntrega() {
+
+		try {
+			renderer.render(boletos, new BoletoBatchRenderer.Sink<byte[]>() {
+
+				@Override
+				public void accept(int index, byte[] pdf) throws IOException {
+					if (index == 2) {
+						throw new IOException("Disco cheio");
+					}
+				}
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().startsWith("Erro durante a entrega do boleto 3 do lote!"));
+		}
+	}
+
+	@Test
+	public void seAgrupaTodosOsBoletosEmUmPdf() throws IOException {
+
+		int paginas = new PdfReader(renderer.onePerPDF(boletos.subList(0, 1)).get(0)).getNumberOfPages();
+
+		byte[] pdf = renderer.groupInOnePDF(boletos);
+
+		assertEquals(QUANTIDADE * paginas, new PdfReader(pdf).getNumberOfPages());
+	}
+
+	@Test
+	public void seGeraUmZipComUmPdfPorBoletoNaOrdemDaLista() throws IOException {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		renderer.zip(boletos, out, "boleto-", "");
+
+		ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+		for (int i = 1; i <= QUANTIDADE; i++) {
+			ZipEntry entry = zip.getNextEntry();
+			assertEquals("boleto-" + i + ".pdf", entry.getName());
+			assertEquals(1, new PdfReader(zip.readAllBytes()).getNumberOfPages());
+		}
+
+		assertNull(zip.getNextEntry());
+	}
+
+	@Test
+	public void seAgrupaEmPartesComManifesto() throws IOException {
+
+		Path dir = java.nio.file.Files.createTempDirectory("bopepo");
+
+		try {
+			List<File> partes = renderer.groupInChunks(boletos, new BoletoChunkWriter(dir.toFile(), "boletos-").withMaxBoletos(3));
+
+			assertEquals(3, partes.size());
+			assertEquals("boletos-00001.pdf", partes.get(0).getName());
+			int paginas = new PdfReader(BoletoViewer.create(boletos.get(0)).getPdfAsByteArray()).getNumberOfPages();
+
+			assertEquals(2 * paginas, new PdfReader(partes.get(2).getPath()).getNumberOfPages());
+
+			List<String> manifesto = java.nio.file.Files.readAllLines(dir.resolve(BoletoChunkWriter.MANIFESTO));
+
+			assertEquals(4, manifesto.size());
+			assertTrue(manifesto.get(3).startsWith("boletos-00003.pdf;7;8;"));
+
+		} finally {
+			for (Path file : java.nio.file.Files.newDirectoryStream(dir)) {
+				java.nio.file.Files.delete(file);
+			}
+			java.nio.file.Files.delete(dir);
+		}
+	}
+
+	@Test
+	public void seRetomaGeracaoInterrompidaAPartirDaUltimaParte() throws IOException {
+
+		Path dir = java.nio.file.Files.createTempDirectory("bopepo");
+
+		try {
+			byte[] pdf = BoletoViewer.create(boletos.get(0)).getPdfAsByteArray();
+
+			// Geração interrompida no meio da terceira parte.
+			BoletoChunkWriter interrompida = new BoletoChunkWriter(dir.toFile(), "boletos-").withMaxBoletos(2);
+			for (int i = 0; i < 5; i++) {
+				interrompida.add(boletos.get(i), pdf);
+			}
+			java.nio.file.Files.write(dir.resolve(BoletoChunkWriter.MANIFESTO), "boletos-00003.pdf;5".getBytes(), StandardOpenOption.APPEND);
+
+			BoletoChunkWriter retomada = BoletoChunkWriter.resume(dir.toFile(), "boletos-").withMaxBoletos(2);
+
+			assertEquals(4, retomada.getTotalDeBoletos());
+			assertFalse(java.nio.file.Files.exists(dir.resolve("boletos-00003.pdf.part")));
+
+			List<File> partes = renderer.groupInChunks(boletos, retomada);
+
+			assertEquals(4, partes.size());
+
+			List<String> manifesto = java.nio.file.Files.readAllLines(dir.resolve(BoletoChunkWriter.MANIFESTO));
+
+			assertEquals(5, manifesto.size());
+			assertTrue(manifesto.get(3).startsWith("boletos-00003.pdf;5;6;"));
+
+		} finally {
+			for (Path file : java.nio.file.Files.newDirectoryStream(dir)) {
+				java.nio.file.Files.delete(file);
+			}
+			java.nio.file.Files.delete(dir);
+		}
+	}
+
+	@Test
+	public void seInformaAPosicaoNoLoteDoBoletoComFalhaAposRetomada() throws IOException {
+
+		Path dir = java.nio.file.Files.createTempDirectory("bopepo");
+
+		try {
+			byte[] pdf = BoletoViewer.create(boletos.get(0)).getPdfAsByteArray();
+
+			BoletoChunkWriter interrompida = new BoletoChunkWriter(dir.toFile(), "boletos-").withMaxBoletos(2);
+			for (int i = 0; i < 4; i++) {
+				interrompida.add(boletos.get(i), pdf);
+			}
+
+			BoletoChunkWriter retomada = BoletoChunkWriter.resume(dir.toFile(), "boletos-").withMaxBoletos(2);
+
+			assertEquals(4, retomada.getTotalDeBoletos());
+
+			List<Boleto> comFalha = new ArrayList<Boleto>(boletos);
+			comFalha.set(5, mock(Boleto.class));
+
+			try {
+				renderer.groupInChunks(comFalha, retomada);
+				fail();
+			} catch (IllegalStateException e) {
+				assertTrue(e.getMessage(), e.getMessage().startsWith("Erro durante a geração do boleto 6 do lote!"));
+			}
+
+		} finally {
+			for (Path file : java.nio.file.Files.newDirectoryStream(dir)) {
+				java.nio.file.Files.delete(file);
+			}
+			java.nio.file.Files.delete(dir);
+		}
+	}
+}
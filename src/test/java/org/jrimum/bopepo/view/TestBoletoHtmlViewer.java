@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.jrimum.bopepo.pdf.Interleaved2of5;
+import org.junit.Test;
+
+/**
+ * Teste unitário da geração em HTML com a classe BoletoHtmlViewer.
+ */
+public class TestBoletoHtmlViewer {
+
+	@Test
+	public void seGeraFragmentoComOsTextosDoBoleto() {
+
+		Boleto boleto = BoletoBuilder.defaultValue();
+
+		String html = new BoletoHtmlViewer(boleto).getHtml();
+
+		String linhaDigitavel = new BoletoInfoViewBuilder(new ResourceBundle(), boleto).build().texts().get(BoletoCampo.txtFcLinhaDigitavel.name());
+
+		assertTrue(html.startsWith(BoletoHtmlViewer.ESTILO + "<div class=\"bpp-boleto\">"));
+		assertTrue(html.endsWith("</svg></div>"));
+		assertTrue(html.contains(linhaDigitavel));
+		assertFalse(new BoletoHtmlViewer(boleto).withEstilo(false).getHtml().contains("<style>"));
+	}
+
+	@Test
+	public void seDesenhaUmaBarraDoSvgPorBarraDoCodigo() throws IOException {
+
+		String codigo = BoletoBuilder.defaultValue().getCodigoDeBarras().write();
+
+		StringWriter out = new StringWriter();
+
+		BoletoHtmlViewer.codigoDeBarras(out, codigo);
+
+		// start (2) + 5 barras por par de dígitos + stop (2)
+		int barras = 2 + codigo.length() / 2 * 5 + 2;
+
+		assertEquals(barras, out.toString().split("M", -1).length - 1);
+		assertTrue(out.toString().contains("viewBox=\"0 0 " + (int) Interleaved2of5.widthInModules(codigo.length(), Interleaved2of5.DEFAULT_N) + " 50\""));
+	}
+
+	@Test
+	public void seEscapaCaracteresEspeciais() throws IOException {
+
+		StringWriter out = new StringWriter();
+
+		BoletoHtmlViewer.texto(out, "<b>\"A&B\"</b>");
+
+		assertEquals("&lt;b&gt;&quot;A&amp;B&quot;&lt;/b&gt;", out.toString());
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.jrimum.bopepo.pdf.PdfTemplate;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+
+/**
+ * Teste unitário da geração com a classe BoletoLayout.
+ */
+public class TestBoletoLayout {
+
+	@Test
+	public void seTemOsMesmosCamposDoTemplatePadrao() {
+
+		PdfTemplate template = new ResourceBundle().getCompiledTemplateSemSacadorAvalista();
+
+		for (String campo : template.getFieldNames()) {
+			assertTrue(campo, BoletoLayout.SEM_SACADOR_AVALISTA.hasField(campo));
+		}
+	}
+
+	@Test
+	public void seDefineQuadroDoSacadorAvalistaSomenteNoLayoutComSacador() {
+
+		assertTrue(BoletoLayout.COM_SACADOR_AVALISTA.hasField(BoletoCampo.txtFcSacadorAvalistaL1.name()));
+		assertFalse(BoletoLayout.SEM_SACADOR_AVALISTA.hasField(BoletoCampo.txtFcSacadorAvalistaL1.name()));
+	}
+
+	@Test
+	public void seGeraBoletoSemFormularioComOsDadosDoBoleto() throws IOException {
+
+		Boleto boleto = BoletoBuilder.defaultValue();
+
+		byte[] pdf = new BoletoViewer(boleto).setLayoutPadrao().getPdfAsByteArray();
+
+		String linhaDigitavel = new BoletoInfoViewBuilder(new ResourceBundle(), boleto).build().texts().get(BoletoCampo.txtFcLinhaDigitavel.name());
+
+		PdfReader reader = new PdfReader(pdf);
+
+		assertEquals(1, reader.getNumberOfPages());
+		assertTrue(reader.getAcroFields().getFields().isEmpty());
+		assertTrue(PdfTextExtractor.getTextFromPage(reader, 1).contains(linhaDigitavel));
+
+		reader.close();
+	}
+
+	@Test
+	public void seAgrupaBoletosComOLayout() throws IOException {
+
+		List<Boleto> boletos = Collections.nCopies(3, BoletoBuilder.defaultValue());
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		BoletoViewer.groupInOnePdfWithLayout(boletos, out);
+
+		PdfReader reader = new PdfReader(out.toByteArray());
+
+		assertEquals(3, reader.getNumberOfPages());
+
+		reader.close();
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.jrimum.bopepo.pdf.PdfDocInfo;
+import org.jrimum.bopepo.pdf.PdfDocInfoReader;
+import org.junit.Test;
+
+/**
+ * Teste unitário dos metadados do boleto gravados no PDF.
+ */
+public class TestBoletoMetadados {
+
+	@Test
+	public void seGravaOsMetadadosNoPdfDoBoleto() throws IOException {
+
+		Boleto boleto = BoletoBuilder.defaultValue();
+
+		BoletoMetadados metadados = BoletoMetadados.from(PdfDocInfoReader.read(new BoletoViewer(boleto).getPdfAsByteArray()));
+
+		assertNotNull(metadados);
+		assertEquals(boleto.getLinhaDigitavel().write(), metadados.getLinhaDigitavel());
+		assertEquals(0, boleto.getTitulo().getValor().compareTo(metadados.getValor()));
+	}
+
+	@Test
+	public void seGravaOsMetadadosNoPdfComLayout() throws IOException {
+
+		Boleto boleto = BoletoBuilder.defaultValue();
+
+		BoletoMetadados metadados = BoletoMetadados.from(PdfDocInfoReader.read(new BoletoViewer(boleto).setLayoutPadrao().getPdfAsByteArray()));
+
+		assertEquals(BoletoMetadados.of(boleto).toString(), metadados.toString());
+	}
+
+	@Test
+	public void seRetornaNuloSemMetadados() {
+
+		assertNull(BoletoMetadados.from(PdfDocInfo.create()));
+	}
+
+	@Test
+	public void seLeOsMetadadosDeUmDiretorio() throws IOException {
+
+		Path dir = Files.createTempDirectory("bopepo");
+
+		try {
+			byte[] pdf = new BoletoViewer(BoletoBuilder.defaultValue()).getPdfAsByteArray();
+
+			for (int i = 0; i < 10; i++) {
+				Files.write(dir.resolve(i + ".pdf"), pdf);
+			}
+			Files.write(dir.resolve("invalido.pdf"), new byte[] { 1, 2, 3 });
+			Files.write(dir.resolve("ignorado.txt"), pdf);
+
+			final Map<Path, BoletoMetadados> lidos = new ConcurrentHashMap<Path, BoletoMetadados>();
+			final Map<Path, Exception> falhas = new ConcurrentHashMap<Path, Exception>();
+
+			int total = PdfDocInfoReader.readAll(dir, 4, new PdfDocInfoReader.Handler() {
+
+				@Override
+				public void read(Path file, PdfDocInfo info) {
+					lidos.put(file, BoletoMetadados.from(info));
+				}
+
+				@Override
+				public void failed(Path file, Exception e) {
+					falhas.put(file, e);
+				}
+			});
+
+			assertEquals(11, total);
+			assertEquals(10, lidos.size());
+			assertTrue(falhas.containsKey(dir.resolve("invalido.pdf")));
+
+		} finally {
+			for (Path file : Files.newDirectoryStream(dir)) {
+				Files.delete(file);
+			}
+			Files.delete(dir);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.itextpdf.text.pdf.PdfReader;
+
+/**
+ * Teste unitário da classe BoletoRenderService.
+ */
+public class TestBoletoRenderService {
+
+	private BoletoRenderService service;
+
+	private Boleto boleto;
+
+	@Before
+	public void setup() {
+		service = new BoletoRenderService(2, 4).withTimeout(1, TimeUnit.MINUTES);
+		boleto = BoletoBuilder.defaultValue();
+	}
+
+	@After
+	public void close() {
+		service.close();
+	}
+
+	@Test
+	public void seGeraOPdfDeFormaAssincrona() throws Exception {
+
+		byte[] pdf = service.render(boleto).get();
+
+		assertTrue(new PdfReader(pdf).getNumberOfPages() > 0);
+	}
+
+	@Test
+	public void seEscreveOPdfNoDestino() throws Exception {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		service.renderTo(boleto, out).get();
+
+		assertTrue(out.size() > 0);
+	}
+
+	@Test
+	public void seCancelarAEscritaCancelaAGeracao() throws Exception {
+
+		service.close();
+		service = new BoletoRenderService(1, 4);
+
+		final CountDownLatch gerando = new CountDownLatch(1);
+		final CountDownLatch liberado = new CountDownLatch(1);
+
+		Boleto lento = spy(BoletoBuilder.defaultValue());
+
+		doAnswer(new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				gerando.countDown();
+				liberado.await();
+				return invocation.callRealMethod();
+			}
+		}).when(lento).getTitulo();
+
+		CompletableFuture<byte[]> ocupado = service.render(lento);
+		gerando.await();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CompletableFuture<Void> escrita = service.renderTo(boleto, out);
+
+		assertEquals(1, service.getQueueSize());
+
+		escrita.cancel(true);
+
+		assertEquals(0, service.getQueueSize());
+
+		liberado.countDown();
+		ocupado.get();
+
+		assertTrue(escrita.isCancelled());
+		assertEquals(0, out.size());
+	}
+
+	@Test
+	public void seRecusaPedidosAposEncerrar() throws InterruptedException {
+
+		service.close();
+
+		CompletableFuture<byte[]> pdf = service.render(boleto);
+
+		try {
+			pdf.get();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof RejectedExecutionException);
+			return;
+		}
+		throw new AssertionError("Pedido aceito após encerrar o serviço!");
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.commons.lang3.StringUtils;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.jrimum.utilix.DateFormat;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.PdfTextExtractor;
+
+/**
+ * Teste unitário da geração de carnês com a classe CarneLayout.
+ */
+public class TestCarneLayout {
+
+	@Test
+	public void seDefineOsCamposEmTodasAsPosicoes() {
+
+		for (int posicao = 0; posicao < CarneLayout.PARCELAS_POR_PAGINA; posicao++) {
+			assertTrue(CarneLayout.PADRAO.hasField(CarneLayout.nomeDoCampo(BoletoCampo.txtFcCodigoBarra.name(), posicao)));
+			assertTrue(CarneLayout.PADRAO.hasField(CarneLayout.nomeDoCampo(BoletoCampo.txtRsNossoNumero.name(), posicao)));
+		}
+
+		assertFalse(CarneLayout.PADRAO.hasField(BoletoCampo.txtFcCodigoBarra.name()));
+	}
+
+	@Test
+	public void seSomenteOLayoutComSacadorAvalistaTemOsCamposDele() {
+
+		for (int posicao = 0; posicao < CarneLayout.PARCELAS_POR_PAGINA; posicao++) {
+			assertTrue(CarneLayout.COM_SACADOR_AVALISTA.hasField(CarneLayout.nomeDoCampo(BoletoCampo.txtFcSacadorAvalistaL1.name(), posicao)));
+			assertTrue(CarneLayout.COM_SACADOR_AVALISTA.hasField(CarneLayout.nomeDoCampo(BoletoCampo.txtFcSacadoL1.name(), posicao)));
+			assertFalse(CarneLayout.PADRAO.hasField(CarneLayout.nomeDoCampo(BoletoCampo.txtFcSacadorAvalistaL1.name(), posicao)));
+		}
+	}
+
+	@Test
+	public void seEscolheOLayoutComSacadorAvalistaCasoAlgumaParcelaTenha() {
+
+		assertEquals(CarneLayout.PADRAO, CarneLayout.of(Arrays.asList(BoletoBuilder.defaultValue(), BoletoBuilder.defaultValue())));
+		assertEquals(CarneLayout.COM_SACADOR_AVALISTA, CarneLayout.of(Arrays.asList(BoletoBuilder.defaultValue(), BoletoBuilder.defaultValueSacadorAvalista())));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermitePosicaoForaDaPagina() {
+
+		CarneLayout.nomeDoCampo(BoletoCampo.txtFcCodigoBarra.name(), CarneLayout.PARCELAS_POR_PAGINA);
+	}
+
+	@Test
+	public void seAgrupaAsParcelasPorPagina() throws IOException {
+
+		byte[] pdf = BoletoViewer.groupInCarne(Collections.nCopies(7, BoletoBuilder.defaultValue()));
+
+		PdfReader reader = new PdfReader(pdf);
+
+		assertEquals(3, reader.getNumberOfPages());
+		assertTrue(reader.getAcroFields().getFields().isEmpty());
+
+		reader.close();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seNaoPermiteParcelasComSacadoOuInstrucoesDiferentes() {
+
+		Boleto outra = BoletoBuilder.defaultValue();
+		outra.setInstrucaoAoSacado("Outra instrução");
+
+		BoletoViewer.groupInCarne(Arrays.asList(BoletoBuilder.defaultValue(), BoletoBuilder.defaultValue(), outra));
+	}
+
+	@Test
+	public void seOsCamposExtrasDeUmaParcelaNaoSaoCopiadosParaAsOutras() throws IOException {
+
+		Boleto primeira = BoletoBuilder.defaultValue();
+		primeira.sobrescrevaCampo(BoletoCampo.txtFcLocalPagamento, "EXTRA DA PRIMEIRA");
+
+		Boleto segunda = BoletoBuilder.defaultValue();
+		segunda.sobrescrevaCampo(BoletoCampo.txtFcInstrucaoAoCaixa1, "EXTRA DA SEGUNDA");
+
+		PdfReader reader = new PdfReader(BoletoViewer.groupInCarne(Arrays.asList(primeira, segunda)));
+
+		String pagina = PdfTextExtractor.getTextFromPage(reader, 1);
+
+		assertEquals(1, StringUtils.countMatches(pagina, "EXTRA DA PRIMEIRA"));
+		assertEquals(1, StringUtils.countMatches(pagina, "EXTRA DA SEGUNDA"));
+
+		reader.close();
+	}
+
+	@Test
+	public void seImprimeOSacadorAvalistaDasParcelas() throws IOException {
+
+		PdfReader reader = new PdfReader(BoletoViewer.groupInCarne(Arrays.asList(BoletoBuilder.defaultValue(), BoletoBuilder.defaultValueSacadorAvalista())));
+
+		String pagina = PdfTextExtractor.getTextFromPage(reader, 1);
+
+		assertEquals(CarneLayout.PARCELAS_POR_PAGINA, StringUtils.countMatches(pagina, "Sacador / Avalista"));
+		assertEquals(1, StringUtils.countMatches(pagina, "Mastermum"));
+
+		reader.close();
+	}
+
+	@Test
+	public void seImprimeOsDadosDoDocumentoDeCadaParcela() throws IOException {
+
+		Boleto segunda = BoletoBuilder.defaultValue();
+		segunda.getTitulo().setDataDoDocumento(DateFormat.DDMMYYYY_B.parse("02/02/2020"));
+		segunda.setDataDeProcessamento(DateFormat.DDMMYYYY_B.parse("03/03/2020"));
+
+		PdfReader reader = new PdfReader(BoletoViewer.groupInCarne(Arrays.asList(BoletoBuilder.defaultValue(), segunda)));
+
+		String pagina = PdfTextExtractor.getTextFromPage(reader, 1);
+
+		assertEquals(1, StringUtils.countMatches(pagina, "01/01/2020"));
+		assertEquals(1, StringUtils.countMatches(pagina, "02/02/2020"));
+		assertEquals(1, StringUtils.countMatches(pagina, "14/01/2020"));
+		assertEquals(1, StringUtils.countMatches(pagina, "03/03/2020"));
+
+		reader.close();
+	}
+}
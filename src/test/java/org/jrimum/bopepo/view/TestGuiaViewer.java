@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.bopepo.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.Guia;
+import org.jrimum.bopepo.excludes.BoletoBuilder;
+import org.jrimum.domkee.banco.Arrecadacao;
+import org.jrimum.domkee.banco.Contribuinte;
+import org.jrimum.domkee.banco.Convenio;
+import org.jrimum.domkee.banco.OrgaoRecebedor;
+import org.jrimum.domkee.banco.TipoSeguimento;
+import org.jrimum.domkee.banco.TipoValorReferencia;
+import org.junit.Test;
+
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.parser.ImageRenderInfo;
+import com.itextpdf.text.pdf.parser.PdfReaderContentParser;
+import com.itextpdf.text.pdf.parser.RenderListener;
+import com.itextpdf.text.pdf.parser.TextRenderInfo;
+
+/**
+ * Teste unitário da geração de guias com a classe GuiaViewer.
+ */
+public class TestGuiaViewer {
+
+	@Test
+	public void seAgrupaAsGuiasComOMesmoTextoFonteECorDaGuiaUnica() throws IOException {
+
+		List<Guia> guias = Arrays.asList(newGuia("Contribuinte Um"), newGuia("Contribuinte Dois"));
+
+		ByteArrayOutputStream grupo = new ByteArrayOutputStream();
+		GuiaViewer.groupInOnePDF(guias, grupo);
+
+		PdfReader agrupadas = new PdfReader(grupo.toByteArray());
+
+		assertEquals(guias.size(), agrupadas.getNumberOfPages());
+
+		for (int i = 0; i < guias.size(); i++) {
+
+			PdfReader unica = new PdfReader(new GuiaViewer(guias.get(i)).getPdfAsByteArray());
+
+			List<String> esperados = textos(unica, 1);
+
+			assertTrue(esperados.toString().contains("Helvetica-Bold"));
+			assertEquals(esperados, textos(agrupadas, i + 1));
+
+			unica.close();
+		}
+
+		agrupadas.close();
+	}
+
+	private static Guia newGuia(String nomeDoContribuinte) {
+
+		Boleto boleto = BoletoBuilder.defaultValue();
+
+		Arrecadacao arrecadacao = new Arrecadacao(new OrgaoRecebedor("Prefeitura Municipal", TipoSeguimento.PREFEITURA),
+				new Contribuinte(nomeDoContribuinte, "222.333.666-38"), new Convenio(BancosSuportados.BANCO_DO_BRASIL.create(), 1234567));
+
+		arrecadacao.setTitulo("Taxa de Serviços");
+		arrecadacao.setDescricao("Descrição da taxa");
+		arrecadacao.setNossoNumero("12345678901");
+		arrecadacao.setValorDocumento(new BigDecimal("150.35"));
+		arrecadacao.setDataDoDocumento(new Date());
+		arrecadacao.setDataDoVencimento(new Date());
+		arrecadacao.setTipoValorReferencia(TipoValorReferencia.VALOR_COBRADO_EM_REAL_COM_DV_MODULO_10);
+
+		Guia guia = new Guia();
+		guia.setArrecadacao(arrecadacao);
+		guia.setCodigoDeBarras(boleto.getCodigoDeBarras());
+		guia.setLinhaDigitavel(boleto.getLinhaDigitavel());
+		guia.setInstrucaoAoCaixa1("Não receber após o vencimento");
+
+		return guia;
+	}
+
+	/**
+	 * Textos da página com a fonte e a cor de preenchimento de cada um.
+	 */
+	private static List<String> textos(PdfReader reader, int pagina) throws IOException {
+
+		final List<String> textos = new ArrayList<String>();
+
+		new PdfReaderContentParser(reader).processContent(pagina, new RenderListener() {
+
+			public void renderText(TextRenderInfo info) {
+				textos.add(info.getText() + " | " + info.getFont().getPostscriptFontName() + " | " + info.getFillColor());
+			}
+
+			public void renderImage(ImageRenderInfo info) {
+			}
+
+			public void endTextBlock() {
+			}
+
+			public void beginTextBlock() {
+			}
+		});
+
+		return textos;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.utilix;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.junit.Test;
+
+/**
+ * <p>
+ * Teste unitário dos formatadores imutáveis de valores e datas.
+ * </p>
+ *
+ * @since 0.2
+ */
+public class TestMoneyFormatter {
+
+	@Test
+	public void seFormataComSeparadoresDoBrasil() {
+
+		assertEquals("1.234,56", MoneyFormatter.REAL.format(new BigDecimal("1234.56")));
+		assertEquals("R$ 0,05", MoneyFormatter.REAL_COM_PREFIXO.format(new BigDecimal("0.05")));
+		assertEquals("1.234.567,0", MoneyFormatter.REAL_UMA_CASA_DECIMAL.format(new BigDecimal("1234567")));
+		assertEquals("123,45", MoneyFormatter.REAL.formatUnscaled(12345L));
+	}
+
+	@Test
+	public void seFormataIgualAoDecimalFormat() {
+
+		java.text.DecimalFormat df = new java.text.DecimalFormat("#,##0.00", DecimalFormatSymbols.BRASIL.copy());
+
+		String[] valores = { "0", "0.005", "0.015", "-1.5", "999.999", "1000", "-1234567.891", "12345678901234567890.125" };
+
+		for (String valor : valores) {
+			assertEquals(valor, df.format(new BigDecimal(valor)), MoneyFormatter.REAL.format(new BigDecimal(valor)));
+		}
+	}
+
+	@Test
+	public void seFormataValoresNegativosComSinalAntesDoPrefixo() {
+
+		assertEquals("-R$ 1.000,00", MoneyFormatter.REAL_COM_PREFIXO.format(new BigDecimal("-1000")));
+		assertEquals(DecimalFormat.MONEY_DD_BR.copy().format(new BigDecimal("-1000")), DecimalFormat.MONEY_DD_BR.format(new BigDecimal("-1000")));
+	}
+
+	@Test
+	public void seArredondaMetadeParaPar() {
+
+		assertEquals("0,02", MoneyFormatter.REAL.format(new BigDecimal("0.025")));
+		assertEquals("0,04", MoneyFormatter.REAL.format(new BigDecimal("0.035")));
+	}
+
+	@Test
+	public void seFormataValoresForaDoIntervaloDeLong() {
+
+		assertEquals("-92.233.720.368.547.758,08", MoneyFormatter.REAL.formatUnscaled(Long.MIN_VALUE));
+		assertEquals("100.000.000.000.000.000.000,00", MoneyFormatter.REAL.format(new BigDecimal("1E+20")));
+	}
+
+	@Test
+	public void seAcrescentaAoBufferDoChamador() {
+
+		StringBuilder sb = new StringBuilder("Valor: ");
+
+		assertSame(sb, MoneyFormatter.REAL.appendTo(sb, BigDecimal.TEN));
+		assertEquals("Valor: 10,00", sb.toString());
+	}
+
+	@Test
+	public void seDateFormatterFormataIgualAoSimpleDateFormat() {
+
+		Calendar c = Calendar.getInstance();
+		c.set(2020, Calendar.SEPTEMBER, 7, 23, 59, 59);
+		Date data = c.getTime();
+
+		for (String pattern : new String[] { "dd/MM/yyyy", "ddMMyy", "yyMMdd", "HHmmss" }) {
+			assertEquals(new SimpleDateFormat(pattern).format(data), DateFormatter.ofPattern(pattern).format(data));
+		}
+
+		assertSame(DateFormatter.DDMMYYYY_B, DateFormatter.ofPattern("dd/MM/yyyy"));
+		assertEquals("07/09/2020", DateFormat.DDMMYYYY_B.format(data));
+	}
+}
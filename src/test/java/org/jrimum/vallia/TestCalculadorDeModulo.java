@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Projeto JRimum.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jrimum.vallia;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Teste unitário de {@link CalculadorDeModulo} e dos dígitos verificadores
+ * construídos sobre ele.
+ */
+public class TestCalculadorDeModulo {
+
+	private static final String CODIGO = "23792100000000100231234051234567890100067890";
+
+	@Test
+	public void seSomaModulo11ComPesosDaDireitaParaEsquerda() {
+
+		// 6x7 + 5x6 + 4x5 + 3x4 + 2x3 + 1x2
+		assertEquals(112, CalculadorDeModulo.MODULO11.soma("654321"));
+		assertEquals(112, Modulo.calculeSomaSequencialMod11("654321", 2, 9));
+	}
+
+	@Test
+	public void seSomaModulo10ComAlgarismosDosProdutos() {
+
+		// 1 + 4 + 3 + 8 + 5 + (1 + 2)
+		assertEquals(24, CalculadorDeModulo.MODULO10.soma("123456"));
+		assertEquals(24, Modulo.calculeSomaSequencialMod10("123456", 1, 2));
+	}
+
+	@Test
+	public void seSomaDeIntervalosComDeslocamentoIgualASomaDoTodo() {
+
+		String numero = "9876543210987654321";
+
+		for (int corte = 1; corte < numero.length(); corte++) {
+			int partes = CalculadorDeModulo.MODULO11.soma(numero, corte, numero.length(), 0)
+					+ CalculadorDeModulo.MODULO11.soma(numero, 0, corte, numero.length() - corte);
+			assertEquals(CalculadorDeModulo.MODULO11.soma(numero), partes);
+		}
+	}
+
+	@Test
+	public void seIntervaloInvalidoRetornaInvalido() {
+
+		assertEquals(CalculadorDeModulo.INVALIDO, CalculadorDeModulo.MODULO11.soma("12a4"));
+		assertEquals(CalculadorDeModulo.INVALIDO, CalculadorDeModulo.MODULO10.soma(""));
+		assertEquals(CalculadorDeModulo.INVALIDO, CalculadorDeModulo.MODULO10.soma(null));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void seModuloNaoPermiteLetras() {
+
+		Modulo.calculeSomaSequencialMod11("12a4", 2, 9);
+	}
+
+	@Test
+	public void seReaproveitaCalculadoresDeLimitesPequenos() {
+
+		assertSame(CalculadorDeModulo.MODULO11, CalculadorDeModulo.de(TipoDeModulo.MODULO11, 2, 9));
+		assertSame(CalculadorDeModulo.de(TipoDeModulo.MODULO11, 2, 7), CalculadorDeModulo.de(TipoDeModulo.MODULO11, 2, 7));
+	}
+
+	@Test
+	public void seSomasEmLoteIguaisAsSomasIndividuais() {
+
+		String[] numeros = { "0123456789", "9999999999", "1234a67890", "1010101010" };
+		byte[] registros = String.join("", numeros).getBytes(StandardCharsets.US_ASCII);
+
+		int[] somas = new int[numeros.length];
+		int[] esperadas = new int[numeros.length];
+
+		for (CalculadorDeModulo calculador : new CalculadorDeModulo[] { CalculadorDeModulo.MODULO10, CalculadorDeModulo.MODULO11 }) {
+
+			calculador.somas(registros, 10, numeros.length, 2, 9, 1, somas);
+
+			for (int i = 0; i < numeros.length; i++) {
+				esperadas[i] = calculador.soma(numeros[i], 2, 9, 1);
+			}
+
+			assertArrayEquals(esperadas, somas);
+		}
+	}
+
+	@Test
+	public void seValidaCodigosDeBarrasEmLote() {
+
+		String invalido = CODIGO.substring(0, 4) + "3" + CODIGO.substring(5);
+		byte[] codigos = (CODIGO + invalido + CODIGO).getBytes(StandardCharsets.US_ASCII);
+		boolean[] validos = new boolean[3];
+
+		assertEquals(2, BoletoCodigoDeBarrasDV.valide(codigos, 3, validos));
+		assertArrayEquals(new boolean[] { true, false, true }, validos);
+		assertEquals(2, new BoletoCodigoDeBarrasDV().calculeDoCodigo(CODIGO));
+	}
+
+	@Test
+	public void seDigitosDeCPFECNPJ() {
+
+		assertEquals(35, new CPFDV().calcule("111444777"));
+		assertEquals(35, new CPFDV().calcule("111.444.777"));
+		assertEquals(81, new CNPJDV().calcule("112223330001"));
+		assertEquals(81, new CNPJDV().calcule("11.222.333/0001"));
+	}
+
+	@Test
+	public void seDigitoDaLinhaDigitavelComOuSemPonto() {
+
+		assertEquals(5, new BoletoLinhaDigitavelDV().calcule("237912340"));
+		assertEquals(5, new BoletoLinhaDigitavelDV().calcule("23791.2340"));
+		assertEquals(2, new BoletoLinhaDigitavelDV().calcule("51234.56789"));
+	}
+}